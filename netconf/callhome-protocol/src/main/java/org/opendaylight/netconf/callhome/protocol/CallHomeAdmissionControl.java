@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.callhome.protocol;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.security.PublicKey;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Admission control of incoming call-home connections. It is consulted before an SSH key exchange is started and
+ * limits the number of concurrently running handshakes and remembers recently rejected host keys, so that repeated
+ * attempts of rejected devices are not reported again.
+ *
+ * <p>
+ * Optionally, the rate of connections from a single source address can be limited, and source addresses of rejected
+ * devices can be remembered, so that their repeated attempts are dropped without a key exchange. Both are disabled by
+ * default, as devices behind a NAT or a concentrator share their source address.
+ */
+public final class CallHomeAdmissionControl {
+    private static final Logger LOG = LoggerFactory.getLogger(CallHomeAdmissionControl.class);
+
+    public static final double DEFAULT_CONNECTIONS_PER_SECOND = 0;
+    public static final int DEFAULT_CONNECTION_BURST = 10;
+    public static final int DEFAULT_MAX_CONCURRENT_HANDSHAKES = 256;
+    public static final long DEFAULT_REJECTED_TTL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    public static final boolean DEFAULT_REJECT_ADDRESSES = false;
+
+    private static final int MAX_REJECTED_ENTRIES = 65536;
+    private static final int BUCKET_CLEANUP_THRESHOLD = 4096;
+
+    private final ConcurrentMap<InetAddress, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger handshakes = new AtomicInteger();
+    private final Cache<PublicKey, Boolean> rejectedKeys;
+    private final Cache<InetAddress, Boolean> rejectedAddresses;
+    private final Ticker ticker;
+    private final double connectionsPerSecond;
+    private final int connectionBurst;
+    private final int maxConcurrentHandshakes;
+    private final boolean rejectAddresses;
+
+    public CallHomeAdmissionControl() {
+        this(DEFAULT_CONNECTIONS_PER_SECOND, DEFAULT_CONNECTION_BURST, DEFAULT_MAX_CONCURRENT_HANDSHAKES,
+            DEFAULT_REJECTED_TTL_MILLIS, DEFAULT_REJECT_ADDRESSES);
+    }
+
+    /**
+     * Create admission control with specified limits.
+     *
+     * @param connectionsPerSecond    sustained rate of accepted connections from a single source address, zero
+     *                                disables limiting the rate
+     * @param connectionBurst         number of connections from a single source address accepted in a burst
+     * @param maxConcurrentHandshakes maximum number of connections which have not finished authentication yet
+     * @param rejectedTtlMillis       time for which rejected host keys and addresses are remembered, zero disables
+     *                                remembering
+     * @param rejectAddresses         whether connections from source addresses of rejected devices are dropped
+     */
+    public CallHomeAdmissionControl(final double connectionsPerSecond, final int connectionBurst,
+            final int maxConcurrentHandshakes, final long rejectedTtlMillis, final boolean rejectAddresses) {
+        this(connectionsPerSecond, connectionBurst, maxConcurrentHandshakes, rejectedTtlMillis, rejectAddresses,
+            Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    CallHomeAdmissionControl(final double connectionsPerSecond, final int connectionBurst,
+            final int maxConcurrentHandshakes, final long rejectedTtlMillis, final boolean rejectAddresses,
+            final Ticker ticker) {
+        checkArgument(connectionsPerSecond >= 0, "Invalid connection rate %s", connectionsPerSecond);
+        checkArgument(connectionBurst > 0, "Invalid connection burst %s", connectionBurst);
+        checkArgument(maxConcurrentHandshakes > 0, "Invalid handshake limit %s", maxConcurrentHandshakes);
+        checkArgument(rejectedTtlMillis >= 0, "Invalid rejection TTL %s", rejectedTtlMillis);
+        this.connectionsPerSecond = connectionsPerSecond;
+        this.connectionBurst = connectionBurst;
+        this.maxConcurrentHandshakes = maxConcurrentHandshakes;
+        this.rejectAddresses = rejectAddresses;
+        this.ticker = ticker;
+        rejectedKeys = CacheBuilder.newBuilder().ticker(ticker).maximumSize(MAX_REJECTED_ENTRIES)
+                .expireAfterWrite(rejectedTtlMillis, TimeUnit.MILLISECONDS).build();
+        rejectedAddresses = CacheBuilder.newBuilder().ticker(ticker).maximumSize(MAX_REJECTED_ENTRIES)
+                .expireAfterWrite(rejectedTtlMillis, TimeUnit.MILLISECONDS).build();
+    }
+
+    /**
+     * Decide whether a newly accepted connection may proceed with the SSH handshake. If this method returns
+     * {@code true}, caller is required to invoke {@link #handshakeFinished()} once the handshake is completed or
+     * the connection is closed.
+     *
+     * @param remoteAddress address of the connecting device
+     * @return {@code true} if the connection is admitted
+     */
+    public boolean admitConnection(final SocketAddress remoteAddress) {
+        final InetAddress address = inetAddress(remoteAddress);
+        if (address != null) {
+            if (rejectAddresses && rejectedAddresses.getIfPresent(address) != null) {
+                LOG.debug("Connection from {} dropped, address was recently rejected", remoteAddress);
+                return false;
+            }
+            if (connectionsPerSecond > 0 && !bucketFor(address).tryAcquire(ticker.read())) {
+                LOG.debug("Connection from {} dropped, connection rate exceeded", remoteAddress);
+                return false;
+            }
+        }
+
+        while (true) {
+            final int current = handshakes.get();
+            if (current >= maxConcurrentHandshakes) {
+                LOG.debug("Connection from {} dropped, {} handshakes are already in progress", remoteAddress,
+                    current);
+                return false;
+            }
+            if (handshakes.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release the handshake slot acquired by {@link #admitConnection(SocketAddress)}.
+     */
+    public void handshakeFinished() {
+        handshakes.decrementAndGet();
+    }
+
+    /**
+     * Check whether the host key has been rejected recently.
+     *
+     * @param serverKey host key of the device
+     * @return {@code true} if the host key has been rejected recently
+     */
+    public boolean isRejected(final PublicKey serverKey) {
+        return rejectedKeys.getIfPresent(serverKey) != null;
+    }
+
+    /**
+     * Remember rejection of a device. Its source address is remembered only if rejecting addresses is enabled.
+     *
+     * @param remoteAddress address of the device
+     * @param serverKey     host key of the device
+     * @return {@code true} if the host key has not been rejected recently, i.e. the rejection should be reported
+     */
+    public boolean reject(final SocketAddress remoteAddress, final PublicKey serverKey) {
+        final InetAddress address = inetAddress(remoteAddress);
+        if (rejectAddresses && address != null) {
+            rejectedAddresses.put(address, Boolean.TRUE);
+        }
+        return rejectedKeys.asMap().putIfAbsent(serverKey, Boolean.TRUE) == null;
+    }
+
+    /**
+     * Forget all recorded rejections, for example as a reaction to a change of allowed devices.
+     */
+    public void clearRejections() {
+        rejectedKeys.invalidateAll();
+        rejectedAddresses.invalidateAll();
+    }
+
+    @VisibleForTesting
+    int activeHandshakes() {
+        return handshakes.get();
+    }
+
+    private TokenBucket bucketFor(final InetAddress address) {
+        if (buckets.size() > BUCKET_CLEANUP_THRESHOLD) {
+            // Full buckets carry no state, remove them so we do not grow without bounds
+            final long now = ticker.read();
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+        return buckets.computeIfAbsent(address, key -> new TokenBucket(ticker.read()));
+    }
+
+    private static InetAddress inetAddress(final SocketAddress remoteAddress) {
+        return remoteAddress instanceof InetSocketAddress ? ((InetSocketAddress) remoteAddress).getAddress() : null;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("connectionsPerSecond", connectionsPerSecond)
+                .add("connectionBurst", connectionBurst)
+                .add("maxConcurrentHandshakes", maxConcurrentHandshakes)
+                .add("rejectAddresses", rejectAddresses)
+                .add("activeHandshakes", handshakes.get())
+                .toString();
+    }
+
+    private final class TokenBucket {
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(final long now) {
+            tokens = connectionBurst;
+            lastRefill = now;
+        }
+
+        synchronized boolean tryAcquire(final long now) {
+            refill(now);
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+
+        synchronized boolean isFull(final long now) {
+            refill(now);
+            return tokens >= connectionBurst;
+        }
+
+        private void refill(final long now) {
+            final long elapsed = now - lastRefill;
+            if (elapsed > 0) {
+                tokens = Math.min(connectionBurst,
+                    tokens + elapsed * connectionsPerSecond / TimeUnit.SECONDS.toNanos(1));
+                lastRefill = now;
+            }
+        }
+    }
+}
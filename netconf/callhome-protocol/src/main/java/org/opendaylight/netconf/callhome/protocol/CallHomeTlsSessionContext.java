@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.callhome.protocol;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.Promise;
+import java.net.InetSocketAddress;
+import java.security.PublicKey;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.Consumer;
+import org.opendaylight.netconf.client.NetconfClientSession;
+import org.opendaylight.netconf.client.NetconfClientSessionListener;
+import org.opendaylight.netconf.client.NetconfClientSessionNegotiatorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Call Home session running over TLS. Unlike SSH sessions, NETCONF messages are carried directly by the Netty channel
+ * which accepted the connection, hence activation only completes the channel pipeline.
+ */
+final class CallHomeTlsSessionContext implements CallHomeProtocolSessionContext {
+    private static final Logger LOG = LoggerFactory.getLogger(CallHomeTlsSessionContext.class);
+
+    static final String HOLD_HANDLER = "callhomeHold";
+
+    private final Channel channel;
+    private final CallHomeAuthorization authorization;
+    private final NetconfClientSessionNegotiatorFactory negotiatorFactory;
+    private final PublicKey serverKey;
+    private final InetSocketAddress remoteAddress;
+    private final Consumer<CallHomeTlsSessionContext> onRemove;
+
+    private boolean activated;
+
+    CallHomeTlsSessionContext(final Channel channel, final CallHomeAuthorization authorization,
+            final NetconfClientSessionNegotiatorFactory negotiatorFactory, final PublicKey serverKey,
+            final Consumer<CallHomeTlsSessionContext> onRemove) {
+        this.channel = requireNonNull(channel);
+        this.authorization = requireNonNull(authorization);
+        this.negotiatorFactory = requireNonNull(negotiatorFactory);
+        this.serverKey = requireNonNull(serverKey);
+        this.onRemove = requireNonNull(onRemove);
+        this.remoteAddress = (InetSocketAddress) channel.remoteAddress();
+    }
+
+    synchronized Promise<NetconfClientSession> activate(final NetconfClientSessionListener listener) {
+        final Promise<NetconfClientSession> promise = channel.eventLoop().newPromise();
+        if (activated) {
+            return promise.setFailure(new IllegalStateException("Session already activated."));
+        }
+
+        activated = true;
+        LOG.info("Activating Netconf channel for {} with {}", remoteAddress, listener);
+        channel.eventLoop().execute(() -> {
+            final ChannelHandlerContext holdCtx = channel.pipeline().context(HOLD_HANDLER);
+            if (holdCtx == null) {
+                promise.tryFailure(new IllegalStateException("Channel " + channel + " was already closed"));
+                return;
+            }
+
+            ReverseSshChannelInitializer.create(negotiatorFactory, listener).initialize(channel, promise);
+            // The channel is already active, hence the negotiator has to be kicked off explicitly. Data held while
+            // we were waiting for activation is released once the hold handler is removed.
+            holdCtx.fireChannelActive();
+            channel.pipeline().remove(HOLD_HANDLER);
+            channel.config().setAutoRead(true);
+        });
+        return promise;
+    }
+
+    @Override
+    public String getSessionId() {
+        return authorization.getSessionName();
+    }
+
+    @Override
+    public PublicKey getRemoteServerKey() {
+        return serverKey;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    @Override
+    public void terminate() {
+        channel.close();
+        onRemove.accept(this);
+    }
+
+    @Override
+    public TransportType getTransportType() {
+        return TransportType.TLS;
+    }
+
+    @Override
+    public String toString() {
+        return "CallHomeTlsSessionContext{channel=" + channel + ", session=" + getSessionId() + "}";
+    }
+
+    /**
+     * Handler holding data received from the device until the NETCONF session is activated, so that the device's
+     * hello message is not lost.
+     */
+    static final class HoldHandler extends ChannelInboundHandlerAdapter {
+        private final Queue<Object> held = new ArrayDeque<>();
+
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            if (msg instanceof ByteBuf) {
+                held.add(msg);
+            } else {
+                ctx.fireChannelRead(msg);
+            }
+        }
+
+        @Override
+        public void channelReadComplete(final ChannelHandlerContext ctx) {
+            // Suppressed until data is released
+        }
+
+        @Override
+        public void handlerRemoved(final ChannelHandlerContext ctx) {
+            if (held.isEmpty()) {
+                return;
+            }
+            Object msg;
+            while ((msg = held.poll()) != null) {
+                ctx.fireChannelRead(msg);
+            }
+            ctx.fireChannelReadComplete();
+        }
+
+        @Override
+        public void channelInactive(final ChannelHandlerContext ctx) {
+            Object msg;
+            while ((msg = held.poll()) != null) {
+                ReferenceCountUtil.release(msg);
+            }
+            ctx.fireChannelInactive();
+        }
+    }
+}
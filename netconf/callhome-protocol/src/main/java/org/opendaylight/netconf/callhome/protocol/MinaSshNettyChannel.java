@@ -47,7 +47,8 @@ class MinaSshNettyChannel extends AbstractServerChannel {
         this.session = requireNonNull(session);
         this.sshChannel = requireNonNull(sshChannel);
         this.sshReadHandler = new AsyncSshHandlerReader(
-            new ConnectionClosedDuringRead(), new FireReadMessage(), "netconf", sshChannel.getAsyncOut());
+            new ConnectionClosedDuringRead(), new FireReadMessage(), "netconf", sshChannel.getAsyncOut(),
+            config.getAllocator());
         this.sshWriteAsyncHandler = new AsyncSshHandlerWriter(sshChannel.getAsyncIn());
         pipeline().addFirst(createChannelAdapter());
     }
@@ -144,7 +145,8 @@ class MinaSshNettyChannel extends AbstractServerChannel {
 
     @Override
     protected void doBeginRead() {
-        // Intentional NOOP - read is started by AsyncSshHandlerReader
+        // Reads are started by AsyncSshHandlerReader, we only need to resume them if they were suspended
+        sshReadHandler.resume();
     }
 
     @Override
@@ -155,7 +157,12 @@ class MinaSshNettyChannel extends AbstractServerChannel {
     private final class FireReadMessage implements ReadMsgHandler {
         @Override
         public void onMessageRead(final ByteBuf msg) {
-            pipeline().fireChannelRead(msg);
+            pipeline().fireChannelRead(msg).fireChannelReadComplete();
+        }
+
+        @Override
+        public boolean shouldContinueReading() {
+            return config.isAutoRead();
         }
     }
 
@@ -15,6 +15,8 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.security.PublicKey;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.opendaylight.netconf.callhome.protocol.CallHomeSessionContext.Factory;
 import org.opendaylight.netconf.shaded.sshd.client.SshClient;
 import org.opendaylight.netconf.shaded.sshd.client.future.AuthFuture;
@@ -23,9 +25,12 @@ import org.opendaylight.netconf.shaded.sshd.client.session.ClientSession;
 import org.opendaylight.netconf.shaded.sshd.client.session.SessionFactory;
 import org.opendaylight.netconf.shaded.sshd.common.future.SshFutureListener;
 import org.opendaylight.netconf.shaded.sshd.common.io.IoAcceptor;
+import org.opendaylight.netconf.shaded.sshd.common.io.IoHandler;
 import org.opendaylight.netconf.shaded.sshd.common.io.IoServiceFactory;
+import org.opendaylight.netconf.shaded.sshd.common.io.IoSession;
 import org.opendaylight.netconf.shaded.sshd.common.session.Session;
 import org.opendaylight.netconf.shaded.sshd.common.session.SessionListener;
+import org.opendaylight.netconf.shaded.sshd.common.util.Readable;
 import org.opendaylight.netconf.shaded.sshd.netty.NettyIoServiceFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,12 +44,20 @@ public class NetconfCallHomeServer implements AutoCloseable, ServerKeyVerifier {
     private final InetSocketAddress bindAddress;
     private final StatusRecorder recorder;
     private final Factory sessionFactory;
+    private final CallHomeAdmissionControl admissionControl;
+    private final Set<IoSession> pendingHandshakes = ConcurrentHashMap.newKeySet();
     private final IoAcceptor acceptor;
     private final SshClient client;
 
     NetconfCallHomeServer(final SshClient sshClient, final CallHomeAuthorizationProvider authProvider,
             final Factory factory, final InetSocketAddress socketAddress, final StatusRecorder recorder) {
-        this(sshClient, authProvider, factory, socketAddress, recorder,
+        this(sshClient, authProvider, factory, socketAddress, recorder, new CallHomeAdmissionControl());
+    }
+
+    NetconfCallHomeServer(final SshClient sshClient, final CallHomeAuthorizationProvider authProvider,
+            final Factory factory, final InetSocketAddress socketAddress, final StatusRecorder recorder,
+            final CallHomeAdmissionControl admissionControl) {
+        this(sshClient, authProvider, factory, socketAddress, recorder, admissionControl,
             new NettyIoServiceFactory(factory.getNettyGroup()));
     }
 
@@ -52,17 +65,26 @@ public class NetconfCallHomeServer implements AutoCloseable, ServerKeyVerifier {
     NetconfCallHomeServer(final SshClient sshClient, final CallHomeAuthorizationProvider authProvider,
             final Factory factory, final InetSocketAddress socketAddress, final StatusRecorder recorder,
             final IoServiceFactory serviceFactory) {
+        this(sshClient, authProvider, factory, socketAddress, recorder, new CallHomeAdmissionControl(),
+            serviceFactory);
+    }
+
+    @VisibleForTesting
+    NetconfCallHomeServer(final SshClient sshClient, final CallHomeAuthorizationProvider authProvider,
+            final Factory factory, final InetSocketAddress socketAddress, final StatusRecorder recorder,
+            final CallHomeAdmissionControl admissionControl, final IoServiceFactory serviceFactory) {
         this.client = requireNonNull(sshClient);
         this.authProvider = requireNonNull(authProvider);
         this.sessionFactory = requireNonNull(factory);
         this.bindAddress = socketAddress;
         this.recorder = recorder;
+        this.admissionControl = requireNonNull(admissionControl);
         this.serviceFactory = requireNonNull(serviceFactory);
 
         sshClient.setServerKeyVerifier(this);
         sshClient.addSessionListener(createSessionListener());
 
-        acceptor = serviceFactory.createAcceptor(new SessionFactory(sshClient));
+        acceptor = serviceFactory.createAcceptor(new AdmissionIoHandler(new SessionFactory(sshClient)));
     }
 
     @VisibleForTesting
@@ -81,6 +103,7 @@ public class NetconfCallHomeServer implements AutoCloseable, ServerKeyVerifier {
                         doAuth(clientSession);
                         break;
                     case Authenticated:
+                        handshakeFinished(clientSession.getIoSession());
                         CallHomeSessionContext.getFrom(clientSession).openNetconfChannel();
                         break;
                     default:
@@ -137,7 +160,10 @@ public class NetconfCallHomeServer implements AutoCloseable, ServerKeyVerifier {
 
             private void onFailure(final Throwable throwable) {
                 LOG.error("Authorize failed for session {}", session, throwable);
-                recorder.reportFailedAuth(serverKey);
+                // Repeated failures of the same device are reported only once per rejection period
+                if (admissionControl.reject(session.getIoSession().getRemoteAddress(), serverKey)) {
+                    recorder.reportFailedAuth(serverKey);
+                }
                 session.close(true);
             }
 
@@ -151,10 +177,16 @@ public class NetconfCallHomeServer implements AutoCloseable, ServerKeyVerifier {
     @Override
     public boolean verifyServerKey(final ClientSession sshClientSession, final SocketAddress remoteAddress,
             final PublicKey serverKey) {
+        // server was rejected recently, do not consult Authorization Provider again
+        if (admissionControl.isRejected(serverKey)) {
+            LOG.debug("Incoming session {} was rejected, server key was recently rejected.", sshClientSession);
+            return false;
+        }
         final CallHomeAuthorization authorization = authProvider.provideAuth(remoteAddress, serverKey);
         // server is not authorized
         if (!authorization.isServerAllowed()) {
             LOG.info("Incoming session {} was rejected by Authorization Provider.", sshClientSession);
+            admissionControl.reject(remoteAddress, serverKey);
             return false;
         }
         CallHomeSessionContext session = sessionFactory.createIfNotExists(
@@ -169,6 +201,12 @@ public class NetconfCallHomeServer implements AutoCloseable, ServerKeyVerifier {
         return false;
     }
 
+    private void handshakeFinished(final IoSession ioSession) {
+        if (ioSession != null && pendingHandshakes.remove(ioSession)) {
+            admissionControl.handshakeFinished();
+        }
+    }
+
     public void bind() throws IOException {
         try {
             client.start();
@@ -184,4 +222,53 @@ public class NetconfCallHomeServer implements AutoCloseable, ServerKeyVerifier {
         acceptor.close(true);
         serviceFactory.close(true);
     }
+
+    /**
+     * {@link IoHandler} consulting {@link CallHomeAdmissionControl} before an accepted connection is handed over to
+     * SSH. Connections which are not admitted are closed before the key exchange is started.
+     */
+    private final class AdmissionIoHandler implements IoHandler {
+        // Refused connections do not have an SSH session attached, hence their events must not reach the delegate
+        private final Set<IoSession> refused = ConcurrentHashMap.newKeySet();
+        private final IoHandler delegate;
+
+        AdmissionIoHandler(final IoHandler delegate) {
+            this.delegate = requireNonNull(delegate);
+        }
+
+        @Override
+        public void sessionCreated(final IoSession ioSession) throws Exception {
+            if (!admissionControl.admitConnection(ioSession.getRemoteAddress())) {
+                refused.add(ioSession);
+                ioSession.close(true);
+                return;
+            }
+            pendingHandshakes.add(ioSession);
+            delegate.sessionCreated(ioSession);
+        }
+
+        @Override
+        public void sessionClosed(final IoSession ioSession) throws Exception {
+            if (!refused.remove(ioSession)) {
+                handshakeFinished(ioSession);
+                delegate.sessionClosed(ioSession);
+            }
+        }
+
+        @Override
+        public void exceptionCaught(final IoSession ioSession, final Throwable cause) throws Exception {
+            if (refused.contains(ioSession)) {
+                LOG.debug("Refused connection {} failed", ioSession, cause);
+            } else {
+                delegate.exceptionCaught(ioSession, cause);
+            }
+        }
+
+        @Override
+        public void messageReceived(final IoSession ioSession, final Readable message) throws Exception {
+            if (!refused.contains(ioSession)) {
+                delegate.messageReceived(ioSession, message);
+            }
+        }
+    }
 }
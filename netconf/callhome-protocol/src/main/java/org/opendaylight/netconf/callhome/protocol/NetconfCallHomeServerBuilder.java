@@ -27,6 +27,7 @@ public class NetconfCallHomeServerBuilder implements Builder<NetconfCallHomeServ
     private EventLoopGroup nettyGroup;
     private NetconfClientSessionNegotiatorFactory negotiationFactory;
     private InetSocketAddress bindAddress;
+    private CallHomeAdmissionControl admissionControl;
 
     private final CallHomeAuthorizationProvider authProvider;
     private final CallHomeNetconfSubsystemListener subsystemListener;
@@ -43,7 +44,8 @@ public class NetconfCallHomeServerBuilder implements Builder<NetconfCallHomeServ
     public NetconfCallHomeServer build() {
         Factory factory =
                 new CallHomeSessionContext.Factory(nettyGroup(), negotiatorFactory(), subsystemListener());
-        return new NetconfCallHomeServer(sshClient(), authProvider(), factory, bindAddress(), this.recorder);
+        return new NetconfCallHomeServer(sshClient(), authProvider(), factory, bindAddress(), this.recorder,
+                admissionControl());
     }
 
     public SshClient getSshClient() {
@@ -78,6 +80,14 @@ public class NetconfCallHomeServerBuilder implements Builder<NetconfCallHomeServ
         this.bindAddress = bindAddress;
     }
 
+    public CallHomeAdmissionControl getAdmissionControl() {
+        return admissionControl;
+    }
+
+    public void setAdmissionControl(final CallHomeAdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
     public CallHomeAuthorizationProvider getAuthProvider() {
         return authProvider;
     }
@@ -102,10 +112,18 @@ public class NetconfCallHomeServerBuilder implements Builder<NetconfCallHomeServ
         return authProvider;
     }
 
+    private CallHomeAdmissionControl admissionControl() {
+        return admissionControl != null ? admissionControl : defaultAdmissionControl();
+    }
+
     private SshClient sshClient() {
         return sshClient != null ? sshClient : defaultSshClient();
     }
 
+    private static CallHomeAdmissionControl defaultAdmissionControl() {
+        return new CallHomeAdmissionControl();
+    }
+
     private static SshClient defaultSshClient() {
         return SshClient.setUpDefaultClient();
     }
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.callhome.protocol;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslHandshakeCompletionEvent;
+import io.netty.util.AttributeKey;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import org.opendaylight.netconf.client.NetconfClientSessionNegotiatorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * RFC 8071 Call Home server accepting NETCONF over TLS connections. The device initiates the TCP connection, while
+ * this server acts as the TLS client. Devices are identified by the public key of their certificate, which is looked
+ * up through the same {@link CallHomeAuthorizationProvider} as SSH host keys.
+ *
+ * <p>
+ * TLS sessions are resumed whenever the {@link SslContext} allows it, as each connection is keyed by the remote peer.
+ */
+public class NetconfCallHomeTlsServer implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(NetconfCallHomeTlsServer.class);
+    private static final String SSL_HANDLER = "sslHandler";
+    private static final AttributeKey<Boolean> HANDSHAKE_PENDING =
+        AttributeKey.valueOf(NetconfCallHomeTlsServer.class, "handshakePending");
+
+    private final CallHomeAuthorizationProvider authProvider;
+    private final CallHomeNetconfSubsystemListener subsystemListener;
+    private final NetconfClientSessionNegotiatorFactory negotiatorFactory;
+    private final Supplier<SslContext> sslContext;
+    private final CallHomeAdmissionControl admissionControl;
+    private final InetSocketAddress bindAddress;
+    private final EventLoopGroup nettyGroup;
+    private final ConcurrentMap<String, CallHomeTlsSessionContext> sessions = new ConcurrentHashMap<>();
+
+    private volatile Channel serverChannel;
+
+    NetconfCallHomeTlsServer(final CallHomeAuthorizationProvider authProvider,
+            final CallHomeNetconfSubsystemListener subsystemListener,
+            final NetconfClientSessionNegotiatorFactory negotiatorFactory, final Supplier<SslContext> sslContext,
+            final CallHomeAdmissionControl admissionControl, final InetSocketAddress bindAddress,
+            final EventLoopGroup nettyGroup) {
+        this.authProvider = requireNonNull(authProvider);
+        this.subsystemListener = requireNonNull(subsystemListener);
+        this.negotiatorFactory = requireNonNull(negotiatorFactory);
+        this.sslContext = requireNonNull(sslContext);
+        this.admissionControl = requireNonNull(admissionControl);
+        this.bindAddress = requireNonNull(bindAddress);
+        this.nettyGroup = requireNonNull(nettyGroup);
+    }
+
+    public void bind() throws IOException {
+        final ChannelFuture future = new ServerBootstrap()
+                .group(nettyGroup)
+                .channel(NioServerSocketChannel.class)
+                .childOption(ChannelOption.TCP_NODELAY, Boolean.TRUE)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(final SocketChannel ch) {
+                        initializeChannel(ch);
+                    }
+                })
+                .bind(bindAddress)
+                .awaitUninterruptibly();
+        if (!future.isSuccess()) {
+            LOG.error("Unable to start NETCONF CallHome TLS Service on {}", bindAddress, future.cause());
+            throw new IOException("Failed to bind " + bindAddress, future.cause());
+        }
+        serverChannel = future.channel();
+    }
+
+    private void initializeChannel(final SocketChannel ch) {
+        final InetSocketAddress remoteAddress = ch.remoteAddress();
+        if (!admissionControl.admitConnection(remoteAddress)) {
+            ch.close();
+            return;
+        }
+        ch.attr(HANDSHAKE_PENDING).set(Boolean.TRUE);
+        ch.closeFuture().addListener(future -> handshakeFinished(ch));
+
+        final SslHandler sslHandler;
+        try {
+            // Peer host and port allow the TLS session to be resumed on reconnect
+            sslHandler = sslContext.get().newHandler(ch.alloc(), remoteAddress.getHostString(),
+                remoteAddress.getPort());
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to set up TLS for incoming connection from {}", remoteAddress, e);
+            ch.close();
+            return;
+        }
+
+        // Hold all reads until we have a NETCONF session to deliver them to
+        ch.pipeline()
+            .addLast(SSL_HANDLER, sslHandler)
+            .addLast(new HandshakeHandler())
+            .addLast(CallHomeTlsSessionContext.HOLD_HANDLER, new CallHomeTlsSessionContext.HoldHandler());
+    }
+
+    private void handshakeFinished(final Channel channel) {
+        if (channel.attr(HANDSHAKE_PENDING).getAndSet(null) != null) {
+            admissionControl.handshakeFinished();
+        }
+    }
+
+    private void onHandshakeCompleted(final Channel channel, final SslHandler sslHandler) {
+        final InetSocketAddress remoteAddress = (InetSocketAddress) channel.remoteAddress();
+        final PublicKey serverKey;
+        try {
+            final Certificate[] certificates = sslHandler.engine().getSession().getPeerCertificates();
+            serverKey = certificates[0].getPublicKey();
+        } catch (SSLPeerUnverifiedException e) {
+            LOG.info("Incoming TLS session from {} was rejected, peer was not verified", remoteAddress, e);
+            channel.close();
+            return;
+        }
+
+        // server was rejected recently, do not consult Authorization Provider again
+        if (admissionControl.isRejected(serverKey)) {
+            LOG.debug("Incoming TLS session from {} was rejected, server key was recently rejected.", remoteAddress);
+            channel.close();
+            return;
+        }
+        final CallHomeAuthorization authorization = authProvider.provideAuth(remoteAddress, serverKey);
+        if (!authorization.isServerAllowed()) {
+            LOG.info("Incoming TLS session from {} was rejected by Authorization Provider.", remoteAddress);
+            admissionControl.reject(remoteAddress, serverKey);
+            channel.close();
+            return;
+        }
+
+        final String sessionName = authorization.getSessionName();
+        final CallHomeTlsSessionContext session = new CallHomeTlsSessionContext(channel, authorization,
+            negotiatorFactory, serverKey, this::removeSession);
+        final CallHomeTlsSessionContext preexisting = sessions.putIfAbsent(sessionName, session);
+        if (preexisting != null) {
+            LOG.info("Incoming TLS session from {} was rejected. Session with same name {} is already active.",
+                remoteAddress, sessionName);
+            channel.close();
+            return;
+        }
+        channel.closeFuture().addListener(future -> removeSession(session));
+
+        // Stop reading until the session is activated, data already received is held in the pipeline
+        channel.config().setAutoRead(false);
+        handshakeFinished(channel);
+        subsystemListener.onNetconfSubsystemOpened(session, session::activate);
+    }
+
+    private void removeSession(final CallHomeTlsSessionContext session) {
+        sessions.remove(session.getSessionId(), session);
+    }
+
+    @Override
+    public void close() {
+        final Channel local = serverChannel;
+        if (local != null) {
+            local.close().awaitUninterruptibly();
+            serverChannel = null;
+        }
+        sessions.values().forEach(CallHomeTlsSessionContext::terminate);
+    }
+
+    /**
+     * Handler waiting for the TLS handshake to complete, at which point the peer certificate is available.
+     */
+    private final class HandshakeHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void userEventTriggered(final ChannelHandlerContext ctx, final Object evt) throws Exception {
+            if (evt instanceof SslHandshakeCompletionEvent) {
+                final SslHandshakeCompletionEvent completion = (SslHandshakeCompletionEvent) evt;
+                ctx.pipeline().remove(this);
+                if (completion.isSuccess()) {
+                    onHandshakeCompleted(ctx.channel(), (SslHandler) ctx.pipeline().get(SSL_HANDLER));
+                } else {
+                    LOG.info("TLS handshake with {} failed", ctx.channel().remoteAddress(), completion.cause());
+                    ctx.close();
+                }
+            }
+            super.userEventTriggered(ctx, evt);
+        }
+    }
+}
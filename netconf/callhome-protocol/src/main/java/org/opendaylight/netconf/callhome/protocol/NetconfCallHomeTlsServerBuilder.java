@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.callhome.protocol;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.HashedWheelTimer;
+import java.net.InetSocketAddress;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.opendaylight.netconf.client.NetconfClientSessionNegotiatorFactory;
+import org.opendaylight.yangtools.concepts.Builder;
+
+public class NetconfCallHomeTlsServerBuilder implements Builder<NetconfCallHomeTlsServer> {
+
+    private static final long DEFAULT_SESSION_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    // RFC 8071 section 5.2: netconf-ch-tls
+    private static final int DEFAULT_CALL_HOME_TLS_PORT = 4335;
+
+    private EventLoopGroup nettyGroup;
+    private NetconfClientSessionNegotiatorFactory negotiationFactory;
+    private InetSocketAddress bindAddress;
+    private CallHomeAdmissionControl admissionControl;
+
+    private final CallHomeAuthorizationProvider authProvider;
+    private final CallHomeNetconfSubsystemListener subsystemListener;
+    private final Supplier<SslContext> sslContext;
+
+    /**
+     * Create a new builder.
+     *
+     * @param authProvider      authorization provider, devices are looked up by public key of their certificate
+     * @param subsystemListener listener notified about established sessions
+     * @param sslContext        supplier of client-side {@link SslContext}, invoked for each incoming connection. It
+     *                          should return the same instance for as long as its configuration does not change, so
+     *                          TLS sessions can be resumed.
+     */
+    public NetconfCallHomeTlsServerBuilder(final CallHomeAuthorizationProvider authProvider,
+            final CallHomeNetconfSubsystemListener subsystemListener, final Supplier<SslContext> sslContext) {
+        this.authProvider = authProvider;
+        this.subsystemListener = subsystemListener;
+        this.sslContext = requireNonNull(sslContext);
+    }
+
+    @Override
+    public NetconfCallHomeTlsServer build() {
+        return new NetconfCallHomeTlsServer(authProvider, subsystemListener, negotiatorFactory(), sslContext,
+                admissionControl(), bindAddress(), nettyGroup());
+    }
+
+    public EventLoopGroup getNettyGroup() {
+        return nettyGroup;
+    }
+
+    public void setNettyGroup(final EventLoopGroup nettyGroup) {
+        this.nettyGroup = nettyGroup;
+    }
+
+    public NetconfClientSessionNegotiatorFactory getNegotiationFactory() {
+        return negotiationFactory;
+    }
+
+    public void setNegotiationFactory(final NetconfClientSessionNegotiatorFactory negotiationFactory) {
+        this.negotiationFactory = negotiationFactory;
+    }
+
+    public InetSocketAddress getBindAddress() {
+        return bindAddress;
+    }
+
+    public void setBindAddress(final InetSocketAddress bindAddress) {
+        this.bindAddress = bindAddress;
+    }
+
+    public CallHomeAdmissionControl getAdmissionControl() {
+        return admissionControl;
+    }
+
+    public void setAdmissionControl(final CallHomeAdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    public CallHomeAuthorizationProvider getAuthProvider() {
+        return authProvider;
+    }
+
+    private InetSocketAddress bindAddress() {
+        return bindAddress != null ? bindAddress : new InetSocketAddress(DEFAULT_CALL_HOME_TLS_PORT);
+    }
+
+    private EventLoopGroup nettyGroup() {
+        return nettyGroup != null ? nettyGroup : new NioEventLoopGroup();
+    }
+
+    private NetconfClientSessionNegotiatorFactory negotiatorFactory() {
+        return negotiationFactory != null ? negotiationFactory
+            : new NetconfClientSessionNegotiatorFactory(new HashedWheelTimer(), Optional.empty(),
+                DEFAULT_SESSION_TIMEOUT_MILLIS);
+    }
+
+    private CallHomeAdmissionControl admissionControl() {
+        return admissionControl != null ? admissionControl : new CallHomeAdmissionControl();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.callhome.protocol;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.base.Ticker;
+import java.net.InetSocketAddress;
+import java.security.PublicKey;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class CallHomeAdmissionControlTest {
+    private static final InetSocketAddress DEVICE_A = new InetSocketAddress("127.0.0.1", 1234);
+    private static final InetSocketAddress DEVICE_A_OTHER_PORT = new InetSocketAddress("127.0.0.1", 4321);
+    private static final InetSocketAddress DEVICE_B = new InetSocketAddress("127.0.0.2", 1234);
+
+    private final FakeTicker ticker = new FakeTicker();
+
+    @Test
+    public void connectionRateIsLimitedPerAddress() {
+        final CallHomeAdmissionControl control = new CallHomeAdmissionControl(1, 2, 100, 0, false, ticker);
+
+        assertTrue(control.admitConnection(DEVICE_A));
+        assertTrue(control.admitConnection(DEVICE_A_OTHER_PORT));
+        assertFalse(control.admitConnection(DEVICE_A));
+        // other addresses are not affected
+        assertTrue(control.admitConnection(DEVICE_B));
+
+        ticker.advance(1, TimeUnit.SECONDS);
+        assertTrue(control.admitConnection(DEVICE_A));
+        assertFalse(control.admitConnection(DEVICE_A));
+    }
+
+    @Test
+    public void connectionRateIsNotLimitedByDefault() {
+        final CallHomeAdmissionControl control = new CallHomeAdmissionControl();
+
+        for (int i = 0; i < CallHomeAdmissionControl.DEFAULT_CONNECTION_BURST * 2; i++) {
+            assertTrue(control.admitConnection(DEVICE_A));
+        }
+    }
+
+    @Test
+    public void concurrentHandshakesAreLimited() {
+        final CallHomeAdmissionControl control = new CallHomeAdmissionControl(0, 10, 2, 0, false, ticker);
+
+        assertTrue(control.admitConnection(DEVICE_A));
+        assertTrue(control.admitConnection(DEVICE_B));
+        assertFalse(control.admitConnection(DEVICE_A));
+        assertEquals(2, control.activeHandshakes());
+
+        control.handshakeFinished();
+        assertTrue(control.admitConnection(DEVICE_A));
+    }
+
+    @Test
+    public void rejectionsAreRememberedForLimitedTime() {
+        final CallHomeAdmissionControl control = new CallHomeAdmissionControl(0, 10, 100,
+            TimeUnit.SECONDS.toMillis(30), false, ticker);
+        final PublicKey key = mock(PublicKey.class);
+
+        assertFalse(control.isRejected(key));
+        assertTrue(control.reject(DEVICE_A, key));
+        // second rejection is not reported
+        assertFalse(control.reject(DEVICE_A, key));
+        assertTrue(control.isRejected(key));
+        // other devices sharing the address are still admitted
+        assertTrue(control.admitConnection(DEVICE_A_OTHER_PORT));
+
+        ticker.advance(31, TimeUnit.SECONDS);
+        assertFalse(control.isRejected(key));
+    }
+
+    @Test
+    public void rejectedAddressesAreDroppedIfEnabled() {
+        final CallHomeAdmissionControl control = new CallHomeAdmissionControl(0, 10, 100,
+            TimeUnit.SECONDS.toMillis(30), true, ticker);
+
+        control.reject(DEVICE_A, mock(PublicKey.class));
+        assertFalse(control.admitConnection(DEVICE_A_OTHER_PORT));
+        assertTrue(control.admitConnection(DEVICE_B));
+
+        ticker.advance(31, TimeUnit.SECONDS);
+        assertTrue(control.admitConnection(DEVICE_A));
+    }
+
+    @Test
+    public void clearedRejectionsAreForgotten() {
+        final CallHomeAdmissionControl control = new CallHomeAdmissionControl();
+        final PublicKey key = mock(PublicKey.class);
+
+        control.reject(DEVICE_A, key);
+        control.clearRejections();
+        assertFalse(control.isRejected(key));
+        assertTrue(control.admitConnection(DEVICE_A));
+    }
+
+    private static final class FakeTicker extends Ticker {
+        private long nanos;
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+        void advance(final long time, final TimeUnit unit) {
+            nanos += unit.toNanos(time);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.callhome.protocol;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class CallHomeTlsSessionContextTest {
+    @Test
+    public void holdHandlerReleasesDataOnRemoval() {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        channel.pipeline().addLast(CallHomeTlsSessionContext.HOLD_HANDLER,
+            new CallHomeTlsSessionContext.HoldHandler());
+
+        final ByteBuf hello = Unpooled.copiedBuffer("<hello/>", StandardCharsets.UTF_8);
+        channel.writeInbound(hello);
+        assertNull(channel.readInbound());
+
+        channel.pipeline().remove(CallHomeTlsSessionContext.HOLD_HANDLER);
+        assertSame(hello, channel.readInbound());
+        hello.release();
+    }
+
+    @Test
+    public void holdHandlerReleasesDataOnClose() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new CallHomeTlsSessionContext.HoldHandler());
+
+        final ByteBuf hello = Unpooled.copiedBuffer("<hello/>", StandardCharsets.UTF_8);
+        channel.writeInbound(hello);
+        channel.close();
+        assertEquals(0, hello.refCnt());
+    }
+}
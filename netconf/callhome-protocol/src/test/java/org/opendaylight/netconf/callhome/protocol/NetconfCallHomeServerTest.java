@@ -166,6 +166,24 @@ public class NetconfCallHomeServerTest {
         assertFalse(instance.verifyServerKey(mockClientSession, mockSocketAddr, mockPublicKey));
     }
 
+    @Test
+    public void recentlyRejectedServerKeyShouldNotBeAuthorizedAgain() {
+        // given
+        ClientSessionImpl mockClientSession = mock(ClientSessionImpl.class);
+        SocketAddress mockSocketAddr = mock(SocketAddress.class);
+        PublicKey mockPublicKey = mock(PublicKey.class);
+
+        Mockito.doReturn(false).when(mockAuth).isServerAllowed();
+        Mockito.doReturn(mockAuth).when(mockCallHomeAuthProv).provideAuth(mockSocketAddr, mockPublicKey);
+        Mockito.doReturn("").when(mockClientSession).toString();
+
+        // when
+        assertFalse(instance.verifyServerKey(mockClientSession, mockSocketAddr, mockPublicKey));
+        assertFalse(instance.verifyServerKey(mockClientSession, mockSocketAddr, mockPublicKey));
+        // then
+        verify(mockCallHomeAuthProv, times(1)).provideAuth(mockSocketAddr, mockPublicKey);
+    }
+
     @Test
     public void bindShouldStartTheClientAndBindTheAddress() throws IOException {
         // given
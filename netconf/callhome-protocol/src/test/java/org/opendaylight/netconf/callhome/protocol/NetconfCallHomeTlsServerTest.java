@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.callhome.protocol;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.StrictStubs.class)
+public class NetconfCallHomeTlsServerTest {
+    private static EventLoopGroup EVENT_LOOP_GROUP;
+    private static SelfSignedCertificate DEVICE_CERTIFICATE;
+
+    @Mock
+    private CallHomeAuthorizationProvider authProvider;
+    @Mock
+    private CallHomeNetconfSubsystemListener subsystemListener;
+
+    private NetconfCallHomeTlsServer server;
+    private InetSocketAddress bindAddress;
+    private Channel device;
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        EVENT_LOOP_GROUP = new NioEventLoopGroup();
+        DEVICE_CERTIFICATE = new SelfSignedCertificate();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        EVENT_LOOP_GROUP.shutdownGracefully();
+        EVENT_LOOP_GROUP = null;
+        DEVICE_CERTIFICATE.delete();
+        DEVICE_CERTIFICATE = null;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        final SslContext clientContext = SslContextBuilder.forClient()
+            .trustManager(InsecureTrustManagerFactory.INSTANCE)
+            .build();
+        bindAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(), freePort());
+
+        final NetconfCallHomeTlsServerBuilder builder = new NetconfCallHomeTlsServerBuilder(authProvider,
+            subsystemListener, () -> clientContext);
+        builder.setBindAddress(bindAddress);
+        builder.setNettyGroup(EVENT_LOOP_GROUP);
+        server = builder.build();
+        server.bind();
+    }
+
+    @After
+    public void tearDown() {
+        if (device != null) {
+            device.close().awaitUninterruptibly();
+        }
+        server.close();
+    }
+
+    @Test
+    public void testHandshakeWithDeviceCertificate() throws Exception {
+        doReturn(CallHomeAuthorization.serverAccepted("device", "user").build())
+            .when(authProvider).provideAuth(any(InetSocketAddress.class),
+                eq(DEVICE_CERTIFICATE.cert().getPublicKey()));
+
+        // The device initiates the connection, but acts as the TLS server presenting its certificate
+        final SslContext deviceContext = SslContextBuilder.forServer(DEVICE_CERTIFICATE.certificate(),
+            DEVICE_CERTIFICATE.privateKey()).build();
+        device = new Bootstrap()
+            .group(EVENT_LOOP_GROUP)
+            .channel(NioSocketChannel.class)
+            .handler(new ChannelInitializer<SocketChannel>() {
+                @Override
+                protected void initChannel(final SocketChannel ch) {
+                    ch.pipeline().addLast(deviceContext.newHandler(ch.alloc()));
+                }
+            })
+            .connect(bindAddress).sync().channel();
+        assertTrue(device.pipeline().get(SslHandler.class).handshakeFuture().await(10, TimeUnit.SECONDS));
+        assertTrue(device.pipeline().get(SslHandler.class).handshakeFuture().isSuccess());
+
+        final ArgumentCaptor<CallHomeProtocolSessionContext> session =
+            ArgumentCaptor.forClass(CallHomeProtocolSessionContext.class);
+        verify(subsystemListener, timeout(10000)).onNetconfSubsystemOpened(session.capture(),
+            any(CallHomeChannelActivator.class));
+        assertEquals("device", session.getValue().getSessionId());
+        assertEquals(TransportType.TLS, session.getValue().getTransportType());
+        assertEquals(DEVICE_CERTIFICATE.cert().getPublicKey(), session.getValue().getRemoteServerKey());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+}
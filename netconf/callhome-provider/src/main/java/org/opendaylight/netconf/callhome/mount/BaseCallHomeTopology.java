@@ -19,7 +19,7 @@ import org.opendaylight.netconf.sal.connect.api.SchemaResourceManager;
 import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.BaseNetconfSchemas;
 import org.opendaylight.netconf.topology.spi.AbstractNetconfTopology;
 
-abstract class BaseCallHomeTopology extends AbstractNetconfTopology {
+abstract class BaseCallHomeTopology extends AbstractNetconfTopology implements AutoCloseable {
     BaseCallHomeTopology(final String topologyId, final NetconfClientDispatcher clientDispatcher,
                          final EventExecutor eventExecutor,
                          final ScheduledThreadPool keepaliveExecutor,
@@ -34,4 +34,9 @@ abstract class BaseCallHomeTopology extends AbstractNetconfTopology {
               processingExecutor, schemaRepositoryProvider, dataBroker, mountPointService,
               encryptionService, deviceActionFactory, baseSchemas);
     }
+
+    @Override
+    public void close() {
+        keepaliveScheduler.close();
+    }
 }
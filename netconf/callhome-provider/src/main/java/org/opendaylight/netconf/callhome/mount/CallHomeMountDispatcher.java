@@ -34,7 +34,8 @@ import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class CallHomeMountDispatcher implements NetconfClientDispatcher, CallHomeNetconfSubsystemListener {
+public class CallHomeMountDispatcher implements NetconfClientDispatcher, CallHomeNetconfSubsystemListener,
+        AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(CallHomeMountDispatcher.class);
 
@@ -128,4 +129,11 @@ public class CallHomeMountDispatcher implements NetconfClientDispatcher, CallHom
     public CallHomeMountSessionManager getSessionManager() {
         return sessionManager;
     }
+
+    @Override
+    public void close() {
+        if (topology != null) {
+            topology.close();
+        }
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.callhome.mount;
+
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Collection;
+import java.util.function.Supplier;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.TrustManagerFactory;
+import org.opendaylight.mdsal.binding.api.ClusteredDataTreeChangeListener;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataTreeIdentifier;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.netconf.sal.connect.netconf.sal.NetconfKeystoreAdapter;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.keystore.rev171017.Keystore;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Supplier of the {@link SslContext} used by TLS Call Home. The context is built from the NETCONF keystore and reused
+ * until the keystore changes, so that TLS sessions established with devices can be resumed.
+ */
+final class CallHomeSslContextSupplier implements Supplier<SslContext>, ClusteredDataTreeChangeListener<Keystore>,
+        AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(CallHomeSslContextSupplier.class);
+    private static final long SESSION_CACHE_SIZE = 4096;
+    private static final long SESSION_TIMEOUT_SECONDS = 3600;
+
+    private final NetconfKeystoreAdapter keystoreAdapter;
+    private final ListenerRegistration<?> registration;
+
+    private volatile SslContext sslContext;
+
+    CallHomeSslContextSupplier(final DataBroker dataBroker) {
+        keystoreAdapter = new NetconfKeystoreAdapter(dataBroker);
+        registration = dataBroker.registerDataTreeChangeListener(DataTreeIdentifier.create(
+            LogicalDatastoreType.CONFIGURATION, InstanceIdentifier.create(Keystore.class)), this);
+    }
+
+    @Override
+    public SslContext get() {
+        SslContext local = sslContext;
+        if (local == null) {
+            synchronized (this) {
+                local = sslContext;
+                if (local == null) {
+                    sslContext = local = createSslContext();
+                }
+            }
+        }
+        return local;
+    }
+
+    @Override
+    public void onDataTreeChanged(final Collection<DataTreeModification<Keystore>> changes) {
+        // Rebuild lazily, the keystore adapter may not have seen the change yet
+        LOG.debug("Keystore changed, TLS context will be recreated");
+        sslContext = null;
+    }
+
+    @Override
+    public void close() {
+        registration.close();
+    }
+
+    private SslContext createSslContext() {
+        try {
+            final KeyStore keyStore = keystoreAdapter.getJavaKeyStore();
+
+            final KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            kmf.init(keyStore, "".toCharArray());
+
+            final TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            tmf.init(keyStore);
+
+            return SslContextBuilder.forClient()
+                .keyManager(kmf)
+                .trustManager(tmf)
+                .sessionCacheSize(SESSION_CACHE_SIZE)
+                .sessionTimeout(SESSION_TIMEOUT_SECONDS)
+                .build();
+        } catch (GeneralSecurityException | IOException e) {
+            throw new IllegalStateException("Failed to create TLS context from keystore", e);
+        }
+    }
+}
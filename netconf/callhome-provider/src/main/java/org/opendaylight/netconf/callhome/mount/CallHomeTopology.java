@@ -21,6 +21,7 @@ import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfSessionPrefe
 import org.opendaylight.netconf.sal.connect.netconf.sal.NetconfDeviceSalFacade;
 import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.BaseNetconfSchemas;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode;
 
 public class CallHomeTopology extends BaseCallHomeTopology {
 
@@ -51,4 +52,11 @@ public class CallHomeTopology extends BaseCallHomeTopology {
     protected RemoteDeviceHandler<NetconfSessionPreferences> createSalFacade(final RemoteDeviceId id) {
         return new NetconfDeviceSalFacade(id, mountPointService, dataBroker, topologyId);
     }
+
+    @Override
+    protected RemoteDeviceHandler<NetconfSessionPreferences> createSalFacade(final RemoteDeviceId id,
+            final NetconfNode node) {
+        return new NetconfDeviceSalFacade(id, mountPointService, dataBroker, topologyId,
+            getConfigCacheMaxAgeMillis(node), getConfigCacheMaxEntries(node));
+    }
 }
@@ -30,9 +30,12 @@ import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
 import org.opendaylight.mdsal.binding.api.WriteTransaction;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.netconf.callhome.protocol.CallHomeAdmissionControl;
 import org.opendaylight.netconf.callhome.protocol.CallHomeAuthorizationProvider;
 import org.opendaylight.netconf.callhome.protocol.NetconfCallHomeServer;
 import org.opendaylight.netconf.callhome.protocol.NetconfCallHomeServerBuilder;
+import org.opendaylight.netconf.callhome.protocol.NetconfCallHomeTlsServer;
+import org.opendaylight.netconf.callhome.protocol.NetconfCallHomeTlsServerBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.callhome.device.status.rev170112.Device1;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.callhome.device.status.rev170112.Device1Builder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.netconf.callhome.server.rev161109.NetconfCallhomeServer;
@@ -57,12 +60,23 @@ public class IetfZeroTouchCallHomeServerProvider implements AutoCloseable, DataT
     private final CallHomeAuthProviderImpl authProvider;
 
     protected NetconfCallHomeServer server;
+    protected NetconfCallHomeTlsServer tlsServer;
 
     private ListenerRegistration<IetfZeroTouchCallHomeServerProvider> listenerReg = null;
 
     private static final String CALL_HOME_PORT_KEY = "DefaultCallHomePort";
     private int port = 0; // 0 = use default in NetconfCallHomeBuilder
+    private int tlsPort = 0; // 0 = TLS Call Home is disabled
+    private CallHomeSslContextSupplier sslContext;
     private final CallhomeStatusReporter statusReporter;
+    private double connectionsPerSecond = CallHomeAdmissionControl.DEFAULT_CONNECTIONS_PER_SECOND;
+    private int connectionBurst = CallHomeAdmissionControl.DEFAULT_CONNECTION_BURST;
+    private int maxConcurrentHandshakes = CallHomeAdmissionControl.DEFAULT_MAX_CONCURRENT_HANDSHAKES;
+    private long rejectedTtlMillis = CallHomeAdmissionControl.DEFAULT_REJECTED_TTL_MILLIS;
+    private boolean rejectAddresses = CallHomeAdmissionControl.DEFAULT_REJECT_ADDRESSES;
+    private CallHomeAdmissionControl admissionControl;
+    // Shared by SSH and TLS Call Home servers
+    private final NioEventLoopGroup nettyGroup = new NioEventLoopGroup();
 
     public IetfZeroTouchCallHomeServerProvider(final DataBroker dataBroker,
             final CallHomeMountDispatcher mountDispacher) {
@@ -96,25 +110,75 @@ public class IetfZeroTouchCallHomeServerProvider implements AutoCloseable, DataT
         }
     }
 
+    public void setTlsPort(final String portStr) {
+        try {
+            Configuration configuration = new Configuration();
+            configuration.set(CALL_HOME_PORT_KEY, portStr);
+            tlsPort = configuration.getAsPort(CALL_HOME_PORT_KEY);
+            LOG.info("Setting port for TLS call home server to {}", portStr);
+        } catch (Configuration.ConfigurationException e) {
+            LOG.error("Problem trying to set port for TLS call home server {}", portStr, e);
+        }
+    }
+
+    public void setConnectionsPerSecond(final double connectionsPerSecond) {
+        this.connectionsPerSecond = connectionsPerSecond;
+    }
+
+    public void setConnectionBurst(final int connectionBurst) {
+        this.connectionBurst = connectionBurst;
+    }
+
+    public void setMaxConcurrentHandshakes(final int maxConcurrentHandshakes) {
+        this.maxConcurrentHandshakes = maxConcurrentHandshakes;
+    }
+
+    public void setRejectedTtlMillis(final long rejectedTtlMillis) {
+        this.rejectedTtlMillis = rejectedTtlMillis;
+    }
+
+    public void setRejectAddresses(final boolean rejectAddresses) {
+        this.rejectAddresses = rejectAddresses;
+    }
+
     private CallHomeAuthorizationProvider getCallHomeAuthorization() {
         return new CallHomeAuthProviderImpl(dataBroker);
     }
 
     private void initializeServer() throws IOException {
         LOG.info("Initializing Call Home server instance");
+        admissionControl = new CallHomeAdmissionControl(connectionsPerSecond, connectionBurst,
+            maxConcurrentHandshakes, rejectedTtlMillis, rejectAddresses);
+        LOG.debug("Using {}", admissionControl);
         CallHomeAuthorizationProvider provider = this.getCallHomeAuthorization();
         NetconfCallHomeServerBuilder builder = new NetconfCallHomeServerBuilder(provider, mountDispacher,
                                                                                 statusReporter);
         if (port > 0) {
             builder.setBindAddress(new InetSocketAddress(port));
         }
-        builder.setNettyGroup(new NioEventLoopGroup());
+        builder.setAdmissionControl(admissionControl);
+        builder.setNettyGroup(nettyGroup);
         server = builder.build();
         server.bind();
+        if (tlsPort > 0) {
+            initializeTlsServer(provider);
+        }
         mountDispacher.createTopology();
         LOG.info("Initialization complete for Call Home server instance");
     }
 
+    private void initializeTlsServer(final CallHomeAuthorizationProvider provider) throws IOException {
+        LOG.info("Initializing TLS Call Home server instance on port {}", tlsPort);
+        sslContext = new CallHomeSslContextSupplier(dataBroker);
+        NetconfCallHomeTlsServerBuilder builder = new NetconfCallHomeTlsServerBuilder(provider, mountDispacher,
+                                                                                      sslContext);
+        builder.setBindAddress(new InetSocketAddress(tlsPort));
+        builder.setAdmissionControl(admissionControl);
+        builder.setNettyGroup(nettyGroup);
+        tlsServer = builder.build();
+        tlsServer.bind();
+    }
+
     @VisibleForTesting
     void assertValid(final Object obj, final String description) {
         if (obj == null) {
@@ -135,6 +199,13 @@ public class IetfZeroTouchCallHomeServerProvider implements AutoCloseable, DataT
         if (server != null) {
             server.close();
         }
+        if (tlsServer != null) {
+            tlsServer.close();
+        }
+        if (sslContext != null) {
+            sslContext.close();
+        }
+        nettyGroup.shutdownGracefully();
 
         LOG.info("Successfully closed provider for {}", APPNAME);
     }
@@ -146,6 +217,9 @@ public class IetfZeroTouchCallHomeServerProvider implements AutoCloseable, DataT
         // its created under CallHomeAuthorizationProvider.
         // Will have to redesign a bit here.
         // CallHomeAuthorization.
+        // Devices may have been allowed, give them a chance without waiting for their rejection to expire.
+        admissionControl.clearRejections();
+
         final ListenableFuture<Optional<AllowedDevices>> devicesFuture;
         try (ReadTransaction roConfigTx = dataBroker.newReadOnlyTransaction()) {
             devicesFuture = roConfigTx.read(LogicalDatastoreType.CONFIGURATION,
@@ -145,4 +145,11 @@ public class CallHomeMountDispatcherTest {
         // then
         verify(instance.topology, times(1)).connectNode(any(NodeId.class), any(Node.class));
     }
+
+    @Test
+    public void topologyIsClosedWithDispatcher() {
+        instance.createTopology();
+        instance.close();
+        verify(mockTopology).close();
+    }
 }
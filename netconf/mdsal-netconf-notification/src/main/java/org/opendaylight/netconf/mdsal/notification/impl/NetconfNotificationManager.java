@@ -11,19 +11,40 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multiset;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.netty.util.concurrent.Future;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.netconf.api.xml.XmlUtil;
 import org.opendaylight.netconf.mdsal.notification.impl.ops.NotificationsTransformUtil;
 import org.opendaylight.netconf.notifications.BaseNotificationPublisherRegistration;
 import org.opendaylight.netconf.notifications.NetconfNotification;
@@ -45,10 +66,14 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.not
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionStart;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.library.rev190104.YangLibraryChange;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.library.rev190104.YangLibraryUpdate;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
 import org.opendaylight.yangtools.yang.binding.Notification;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
 
 /**
  *  A thread-safe implementation NetconfNotificationRegistry.
@@ -66,16 +91,21 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
                 .build();
 
     private static final Logger LOG = LoggerFactory.getLogger(NetconfNotificationManager.class);
+    private static final int REPLAY_BATCH_SIZE = 64;
 
     // TODO excessive synchronization provides thread safety but is most likely not optimal
     // (combination of concurrent collections might improve performance)
     // And also calling callbacks from a synchronized block is dangerous
-    // since the listeners/publishers can block the whole notification processing
+    // since the listeners/publishers can block the whole notification processing.
+    // Notifications are therefore dispatched outside of the lock, using a snapshot of registered listeners.
 
     @GuardedBy("this")
     private final Multimap<StreamNameType, GenericNotificationListenerReg> notificationListeners =
             HashMultimap.create();
 
+    // Snapshot of notificationListeners for BASE_STREAM_NAME, updated whenever they change
+    private volatile ImmutableList<GenericNotificationListenerReg> baseStreamListeners = ImmutableList.of();
+
     @GuardedBy("this")
     private final Set<NetconfNotificationStreamListener> streamListeners = new HashSet<>();
 
@@ -88,22 +118,69 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
     @GuardedBy("this")
     private final Set<GenericNotificationPublisherReg> notificationPublishers = new HashSet<>();
     private final NotificationsTransformUtil transformUtil;
+    private final @Nullable NotificationReplayLog replayLog;
+    private final @Nullable ScheduledExecutorService replayExecutor;
 
     @Inject
     public NetconfNotificationManager(final NotificationsTransformUtil transformUtil) {
+        this(transformUtil, null);
+    }
+
+    /**
+     * Create a manager which logs notifications into a replay log kept in a subdirectory of
+     * {@code replayLogDirectory}, allowing subscriptions to request replay of past notifications.
+     *
+     * @param transformUtil notification transformation utility
+     * @param replayLogDirectory replay log directory, empty to disable notification replay
+     * @param replayLogSegmentSize size of a single replay log segment, in bytes
+     * @param replayLogSegments maximum number of replay log segments
+     * @throws IOException if the replay log cannot be opened
+     */
+    public NetconfNotificationManager(final NotificationsTransformUtil transformUtil,
+            final String replayLogDirectory, final int replayLogSegmentSize, final int replayLogSegments)
+                throws IOException {
+        this(transformUtil, replayLogDirectory.isEmpty() ? null : new NotificationReplayLog(
+            Paths.get(replayLogDirectory).resolve(BASE_STREAM_NAME.getValue()), replayLogSegmentSize,
+            replayLogSegments));
+    }
+
+    @VisibleForTesting
+    NetconfNotificationManager(final NotificationsTransformUtil transformUtil,
+            final @Nullable NotificationReplayLog replayLog) {
         this.transformUtil = requireNonNull(transformUtil);
+        this.replayLog = replayLog;
+        replayExecutor = replayLog == null ? null : Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("netconf-notification-replay-%d").setDaemon(true).build());
     }
 
     @Override
-    public synchronized void onNotification(final StreamNameType stream, final NetconfNotification notification) {
+    public void onNotification(final StreamNameType stream, final NetconfNotification notification) {
         LOG.debug("Notification of type {} detected", stream);
         if (LOG.isTraceEnabled()) {
             LOG.debug("Notification of type {} detected: {}", stream, notification);
         }
 
-        for (final GenericNotificationListenerReg listenerReg : notificationListeners.get(BASE_STREAM_NAME)) {
-            listenerReg.getListener().onNotification(BASE_STREAM_NAME, notification);
+        final long sequence = logNotification(notification);
+        for (final GenericNotificationListenerReg listenerReg : baseStreamListeners) {
+            listenerReg.onNotification(notification, sequence);
+        }
+    }
+
+    private long logNotification(final NetconfNotification notification) {
+        if (replayLog == null) {
+            return 0;
+        }
+
+        // Log only the notification content, the envelope is recreated on replay
+        final Element root = notification.getDocument().getDocumentElement();
+        for (Node child = root.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element && !NetconfNotification.EVENT_TIME.equals(child.getLocalName())) {
+                return replayLog.append(notification.getEventTime().getTime(),
+                    XmlUtil.toString((Element) child).getBytes(StandardCharsets.UTF_8));
+            }
         }
+        LOG.debug("Notification {} has no content, not logging it", notification);
+        return 0;
     }
 
     @Override
@@ -127,9 +204,41 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
         };
 
         notificationListeners.put(BASE_STREAM_NAME, genericNotificationListenerReg);
+        updateBaseStreamListeners();
         return genericNotificationListenerReg;
     }
 
+    @Override
+    public NotificationListenerRegistration registerNotificationListener(final StreamNameType stream,
+            final NetconfNotificationListener listener, final Date startTime, final Date stopTime) {
+        requireNonNull(stream);
+        requireNonNull(listener);
+        requireNonNull(startTime);
+        if (replayLog == null) {
+            throw new UnsupportedOperationException("Notification replay is not enabled");
+        }
+
+        LOG.trace("Notification listener registered for stream: {} with replay from {} to {}", stream, startTime,
+            stopTime);
+
+        final ReplayingListenerReg reg = new ReplayingListenerReg(listener, startTime.getTime(),
+            stopTime == null ? Long.MAX_VALUE : stopTime.getTime());
+        synchronized (this) {
+            notificationListeners.put(BASE_STREAM_NAME, reg);
+            updateBaseStreamListeners();
+        }
+
+        // Anything logged up to now is replayed, anything after that is delivered live
+        reg.start(replayLog.lastSequence());
+        return reg;
+    }
+
+    @Override
+    public boolean isReplaySupported(final StreamNameType streamNameType) {
+        // All streams are funneled into the base stream, which is logged
+        return replayLog != null;
+    }
+
     @Override
     public synchronized Streams getNotificationPublishers() {
         return new StreamsBuilder().setStream(Maps.uniqueIndex(streamMetadata.values(), Stream::key)).build();
@@ -164,6 +273,7 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
             genericNotificationListenerReg.close();
         }
         notificationListeners.clear();
+        updateBaseStreamListeners();
 
         // Unregister all publishers
         for (final GenericNotificationPublisherReg notificationPublisher : notificationPublishers) {
@@ -173,11 +283,24 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
 
         // Clear stream Listeners
         streamListeners.clear();
+
+        if (replayExecutor != null) {
+            replayExecutor.shutdownNow();
+        }
+        if (replayLog != null) {
+            replayLog.close();
+        }
     }
 
     @Override
-    public synchronized NotificationPublisherRegistration registerNotificationPublisher(final Stream stream) {
-        final StreamNameType streamName = requireNonNull(stream).getName();
+    public synchronized NotificationPublisherRegistration registerNotificationPublisher(final Stream publishedStream) {
+        final StreamNameType streamName = requireNonNull(publishedStream).getName();
+        final Stream stream = replayLog == null || !BASE_STREAM_NAME.equals(streamName) ? publishedStream
+            : new StreamBuilder(publishedStream)
+                .setReplaySupport(true)
+                .setReplayLogCreationTime(new DateAndTime(
+                    NetconfNotification.RFC3339_DATE_FORMATTER.apply(replayLog.getCreationTime())))
+                .build();
 
         LOG.debug("Notification publisher registered for stream: {}", streamName);
         if (LOG.isTraceEnabled()) {
@@ -209,6 +332,11 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
         return genericNotificationPublisherReg;
     }
 
+    @GuardedBy("this")
+    private void updateBaseStreamListeners() {
+        baseStreamListeners = ImmutableList.copyOf(notificationListeners.get(BASE_STREAM_NAME));
+    }
+
     @SuppressFBWarnings(value = "UPM_UNCALLED_PRIVATE_METHOD",
             justification = "https://github.com/spotbugs/spotbugs/issues/811")
     private void unregisterNotificationPublisher(
@@ -360,9 +488,181 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
             return listener;
         }
 
+        void onNotification(final NetconfNotification notification, final long sequence) {
+            listener.onNotification(BASE_STREAM_NAME, notification);
+        }
+
         @Override
         public void close() {
             notificationListeners.remove(BASE_STREAM_NAME, this);
+            updateBaseStreamListeners();
+        }
+    }
+
+    /**
+     * Listener registration which first replays logged notifications. Notifications published while replay is in
+     * progress are held back until it completes, those which were replayed are skipped.
+     *
+     * <p>
+     * Replay proceeds in batches of at most {@link #REPLAY_BATCH_SIZE} notifications. The next batch is scheduled only
+     * once the listener has accepted the last notification of the previous one, so that a slow subscriber does not
+     * accumulate unsent notifications. Batches of all subscribers take turns on the replay executor, which is never
+     * blocked waiting for any of them.
+     */
+    private final class ReplayingListenerReg extends GenericNotificationListenerReg {
+        private final long startTime;
+        private final long stopTime;
+
+        // Non-null while replay is in progress
+        @GuardedBy("this")
+        private List<Entry<Long, NetconfNotification>> pending = new ArrayList<>();
+        private volatile long replayedSequence = Long.MAX_VALUE;
+        private volatile ScheduledFuture<?> stopFuture;
+        private volatile boolean closed;
+
+        // Replay progress, accessed only from batches, which run one after another
+        private long replayPosition;
+        private int batchSize;
+        private Future<Void> lastReplayed;
+
+        ReplayingListenerReg(final NetconfNotificationListener listener, final long startTime, final long stopTime) {
+            super(listener);
+            this.startTime = startTime;
+            this.stopTime = stopTime;
+        }
+
+        void start(final long maxSequence) {
+            replayedSequence = maxSequence;
+            replayExecutor.execute(this::replay);
+        }
+
+        @Override
+        void onNotification(final NetconfNotification notification, final long sequence) {
+            synchronized (this) {
+                if (pending != null) {
+                    pending.add(new SimpleImmutableEntry<>(sequence, notification));
+                    return;
+                }
+            }
+            deliver(notification, sequence);
+        }
+
+        private void deliver(final NetconfNotification notification, final long sequence) {
+            if (!closed && (sequence == 0 || sequence > replayedSequence)
+                    && notification.getEventTime().getTime() <= stopTime) {
+                super.onNotification(notification, sequence);
+            }
+        }
+
+        @SuppressWarnings("checkstyle:IllegalCatch")
+        private void replay() {
+            if (closed) {
+                return;
+            }
+
+            batchSize = 0;
+            lastReplayed = null;
+            try {
+                replayLog.replay(startTime, stopTime, replayPosition, replayedSequence, this::replayRecord);
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to replay notifications to {}", getListener(), e);
+                batchSize = 0;
+            }
+            if (closed) {
+                return;
+            }
+
+            if (batchSize == REPLAY_BATCH_SIZE) {
+                // Batch is full, continue once the listener is ready, giving other subscribers a chance meanwhile
+                final Future<Void> last = lastReplayed;
+                if (last == null) {
+                    resumeReplay();
+                } else {
+                    last.addListener(future -> resumeReplay());
+                }
+                return;
+            }
+
+            getListener().onReplayComplete(BASE_STREAM_NAME);
+            final long delay = stopTime - System.currentTimeMillis();
+            if (delay <= 0) {
+                complete();
+                return;
+            }
+
+            drainPending();
+            if (stopTime != Long.MAX_VALUE) {
+                stopFuture = replayExecutor.schedule(this::complete, delay, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private boolean replayRecord(final long sequence, final long eventTime, final ByteBuffer content) {
+            if (closed) {
+                return false;
+            }
+            replayPosition = sequence;
+            final NetconfNotification notification = readNotification(eventTime, content);
+            if (notification != null) {
+                lastReplayed = getListener().onReplayedNotification(BASE_STREAM_NAME, notification);
+            }
+            return ++batchSize < REPLAY_BATCH_SIZE;
+        }
+
+        private void resumeReplay() {
+            try {
+                replayExecutor.execute(this::replay);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Replay to {} stopped by manager shutdown", getListener(), e);
+            }
+        }
+
+        private void drainPending() {
+            while (true) {
+                final List<Entry<Long, NetconfNotification>> batch;
+                synchronized (this) {
+                    if (pending.isEmpty()) {
+                        pending = null;
+                        return;
+                    }
+                    batch = pending;
+                    pending = new ArrayList<>();
+                }
+                for (Entry<Long, NetconfNotification> entry : batch) {
+                    deliver(entry.getValue(), entry.getKey());
+                }
+            }
+        }
+
+        private void complete() {
+            if (!closed) {
+                getListener().onNotificationComplete(BASE_STREAM_NAME);
+                close();
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            synchronized (NetconfNotificationManager.this) {
+                LOG.trace("Replaying notification listener {} unregistered", getListener());
+                super.close();
+            }
+            final ScheduledFuture<?> future = stopFuture;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    private static @Nullable NetconfNotification readNotification(final long eventTime, final ByteBuffer content) {
+        final byte[] bytes = new byte[content.remaining()];
+        content.get(bytes);
+        try {
+            return new NetconfNotification(XmlUtil.readXmlToDocument(new ByteArrayInputStream(bytes)),
+                new Date(eventTime));
+        } catch (SAXException | IOException e) {
+            LOG.warn("Skipping unreadable logged notification from {}", new Date(eventTime), e);
+            return null;
         }
     }
 }
@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.mdsal.notification.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded, append-only log of notifications, used to replay them to subscriptions which specify a start time. The log
+ * is kept in fixed-size, memory-mapped segment files. Once the configured number of segments is exceeded, the oldest
+ * segment is discarded.
+ *
+ * <p>
+ * Each record consists of its sequence number, event time in milliseconds, content length and the content itself.
+ * A zero sequence number marks the end of data in a segment. Each segment keeps a time index of blocks of records, so
+ * that replay skips blocks which cannot contain requested notifications without reading them. Event times are not
+ * required to be monotonic.
+ */
+final class NotificationReplayLog implements AutoCloseable {
+    @FunctionalInterface
+    interface RecordConsumer {
+        /**
+         * Accept a logged record.
+         *
+         * @param sequence record sequence number
+         * @param eventTime event time in milliseconds since epoch
+         * @param content read-only view of the record content, valid only for the duration of this call
+         * @return {@code true} if replay should continue
+         */
+        boolean accept(long sequence, long eventTime, ByteBuffer content);
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationReplayLog.class);
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int HEADER_SIZE = Long.BYTES + Long.BYTES + Integer.BYTES;
+    // Number of records covered by a single time index entry
+    @VisibleForTesting
+    static final int INDEX_BLOCK_RECORDS = 64;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final Date creationTime;
+
+    @GuardedBy("this")
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    @GuardedBy("this")
+    private long lastSequence;
+
+    NotificationReplayLog(final Path directory, final int segmentSize, final int maxSegments) throws IOException {
+        checkArgument(segmentSize > HEADER_SIZE, "Segment size %s is too small", segmentSize);
+        checkArgument(maxSegments > 0, "At least one segment is required");
+        this.directory = requireNonNull(directory);
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+
+        Files.createDirectories(directory);
+        recover();
+
+        long created = System.currentTimeMillis();
+        if (!segments.isEmpty()) {
+            created = Math.min(created, segments.getFirst().minTime);
+        }
+        creationTime = new Date(created);
+        LOG.info("Notification replay log in {} opened with {} segments, last sequence {}", directory,
+            segments.size(), lastSequence);
+    }
+
+    /**
+     * Return the time since which notifications are available, modulo those discarded with old segments.
+     *
+     * @return Log creation time
+     */
+    Date getCreationTime() {
+        return new Date(creationTime.getTime());
+    }
+
+    synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Append a notification to the log.
+     *
+     * @param eventTime event time in milliseconds since epoch
+     * @param content notification content
+     * @return Sequence number assigned to the notification, or 0 if it could not be logged
+     */
+    synchronized long append(final long eventTime, final byte[] content) {
+        final int size = HEADER_SIZE + content.length;
+        if (size > segmentSize) {
+            LOG.warn("Notification of {} bytes does not fit into a replay log segment, not logging it",
+                content.length);
+            return 0;
+        }
+
+        Segment current = segments.peekLast();
+        if (current == null || current.remaining() < size) {
+            try {
+                current = newSegment(lastSequence + 1);
+            } catch (IOException e) {
+                LOG.warn("Failed to create replay log segment in {}, notification not logged", directory, e);
+                return 0;
+            }
+        }
+
+        final long sequence = ++lastSequence;
+        current.append(sequence, eventTime, content);
+        return sequence;
+    }
+
+    /**
+     * Replay logged records whose event time is between {@code startTime} and {@code stopTime}, inclusive, up to
+     * {@code maxSequence}. Records are read directly from the mapped segments, only the records being delivered are
+     * touched.
+     *
+     * @param startTime start time in milliseconds since epoch
+     * @param stopTime stop time in milliseconds since epoch
+     * @param maxSequence highest sequence number to replay
+     * @param consumer record consumer
+     */
+    void replay(final long startTime, final long stopTime, final long maxSequence, final RecordConsumer consumer) {
+        replay(startTime, stopTime, 0, maxSequence, consumer);
+    }
+
+    /**
+     * Replay logged records whose event time is between {@code startTime} and {@code stopTime}, inclusive, with
+     * sequence numbers greater than {@code afterSequence} and up to {@code maxSequence}. This allows a replay stopped
+     * by its consumer to be resumed where it left off.
+     *
+     * @param startTime start time in milliseconds since epoch
+     * @param stopTime stop time in milliseconds since epoch
+     * @param afterSequence sequence number of the last record already replayed, 0 to replay from the first one
+     * @param maxSequence highest sequence number to replay
+     * @param consumer record consumer
+     */
+    void replay(final long startTime, final long stopTime, final long afterSequence, final long maxSequence,
+            final RecordConsumer consumer) {
+        final List<SegmentView> views = new ArrayList<>();
+        synchronized (this) {
+            for (Segment segment : segments) {
+                if (segment.firstSequence > maxSequence) {
+                    break;
+                }
+                if (segment.firstSequence <= afterSequence + 1) {
+                    // All records of preceding segments have already been replayed
+                    views.clear();
+                }
+                if (segment.maxTime >= startTime && segment.minTime <= stopTime) {
+                    views.add(segment.view());
+                }
+            }
+        }
+
+        for (SegmentView view : views) {
+            if (!view.replay(startTime, stopTime, afterSequence, maxSequence, consumer)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            segment.buffer.force();
+        }
+        segments.clear();
+    }
+
+    @GuardedBy("this")
+    private void recover() throws IOException {
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(Comparator.comparingLong(NotificationReplayLog::firstSequence));
+
+        for (Path file : files) {
+            final Segment segment;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                segment = new Segment(file, firstSequence(file), channel.map(MapMode.READ_WRITE, 0, channel.size()));
+            }
+            lastSequence = Math.max(lastSequence, segment.recover());
+            segments.addLast(segment);
+        }
+        trimSegments();
+    }
+
+    @GuardedBy("this")
+    private Segment newSegment(final long firstSequence) throws IOException {
+        final Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence,
+            SEGMENT_SUFFIX));
+        final Segment segment;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            segment = new Segment(file, firstSequence, channel.map(MapMode.READ_WRITE, 0, segmentSize));
+        }
+        LOG.debug("Created replay log segment {}", file);
+
+        final Segment previous = segments.peekLast();
+        if (previous != null) {
+            previous.buffer.force();
+        }
+        segments.addLast(segment);
+        trimSegments();
+        return segment;
+    }
+
+    @GuardedBy("this")
+    private void trimSegments() {
+        while (segments.size() > maxSegments) {
+            final Segment oldest = segments.removeFirst();
+            LOG.debug("Discarding replay log segment {}", oldest.file);
+            try {
+                // Any replay still reading the segment keeps its mapping
+                Files.delete(oldest.file);
+            } catch (IOException e) {
+                LOG.warn("Failed to delete replay log segment {}", oldest.file, e);
+            }
+        }
+    }
+
+    private static long firstSequence(final Path file) {
+        final String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Malformed replay log segment name " + file, e);
+        }
+    }
+
+    private static final class Segment {
+        final Path file;
+        final long firstSequence;
+        final MappedByteBuffer buffer;
+
+        long minTime = Long.MAX_VALUE;
+        long maxTime = Long.MIN_VALUE;
+
+        // Time index: start offset of each block, along with minimum and maximum event time in it
+        private int[] blockOffsets = new int[16];
+        private long[] blockMinTimes = new long[16];
+        private long[] blockMaxTimes = new long[16];
+        private int blocks;
+        private int recordsInBlock;
+
+        Segment(final Path file, final long firstSequence, final MappedByteBuffer buffer) {
+            this.file = requireNonNull(file);
+            this.firstSequence = firstSequence;
+            this.buffer = requireNonNull(buffer);
+        }
+
+        int remaining() {
+            return buffer.remaining();
+        }
+
+        void append(final long sequence, final long eventTime, final byte[] content) {
+            index(buffer.position(), eventTime);
+            buffer.putLong(sequence).putLong(eventTime).putInt(content.length).put(content);
+        }
+
+        /**
+         * Rebuild the index of a segment read from disk and position it at the end of its data.
+         *
+         * @return last sequence number in this segment
+         */
+        long recover() {
+            long last = 0;
+            while (buffer.remaining() >= HEADER_SIZE) {
+                final int offset = buffer.position();
+                final long sequence = buffer.getLong(offset);
+                final long eventTime = buffer.getLong(offset + Long.BYTES);
+                final int length = buffer.getInt(offset + 2 * Long.BYTES);
+                if (sequence <= last || length < 0 || length > buffer.remaining() - HEADER_SIZE) {
+                    // End of data or a torn write
+                    break;
+                }
+
+                index(offset, eventTime);
+                buffer.position(offset + HEADER_SIZE + length);
+                last = sequence;
+            }
+            return last;
+        }
+
+        private void index(final int offset, final long eventTime) {
+            if (blocks == 0 || recordsInBlock == INDEX_BLOCK_RECORDS) {
+                if (blocks == blockOffsets.length) {
+                    final int newLength = blocks * 2;
+                    blockOffsets = Arrays.copyOf(blockOffsets, newLength);
+                    blockMinTimes = Arrays.copyOf(blockMinTimes, newLength);
+                    blockMaxTimes = Arrays.copyOf(blockMaxTimes, newLength);
+                }
+                blockOffsets[blocks] = offset;
+                blockMinTimes[blocks] = eventTime;
+                blockMaxTimes[blocks] = eventTime;
+                blocks++;
+                recordsInBlock = 0;
+            }
+
+            final int block = blocks - 1;
+            blockMinTimes[block] = Math.min(blockMinTimes[block], eventTime);
+            blockMaxTimes[block] = Math.max(blockMaxTimes[block], eventTime);
+            recordsInBlock++;
+            minTime = Math.min(minTime, eventTime);
+            maxTime = Math.max(maxTime, eventTime);
+        }
+
+        SegmentView view() {
+            return new SegmentView(buffer.asReadOnlyBuffer(), buffer.position(),
+                Arrays.copyOf(blockOffsets, blocks), Arrays.copyOf(blockMinTimes, blocks),
+                Arrays.copyOf(blockMaxTimes, blocks));
+        }
+    }
+
+    /**
+     * Snapshot of a segment, taken while holding the log lock and safe to use without it.
+     */
+    private static final class SegmentView {
+        private final ByteBuffer buffer;
+        private final int limit;
+        private final int[] blockOffsets;
+        private final long[] blockMinTimes;
+        private final long[] blockMaxTimes;
+
+        SegmentView(final ByteBuffer buffer, final int limit, final int[] blockOffsets, final long[] blockMinTimes,
+                final long[] blockMaxTimes) {
+            this.buffer = buffer;
+            this.limit = limit;
+            this.blockOffsets = blockOffsets;
+            this.blockMinTimes = blockMinTimes;
+            this.blockMaxTimes = blockMaxTimes;
+        }
+
+        boolean replay(final long startTime, final long stopTime, final long afterSequence, final long maxSequence,
+                final RecordConsumer consumer) {
+            for (int block = 0; block < blockOffsets.length; ++block) {
+                if (blockMaxTimes[block] < startTime || blockMinTimes[block] > stopTime) {
+                    continue;
+                }
+
+                final int end = block + 1 < blockOffsets.length ? blockOffsets[block + 1] : limit;
+                int offset = blockOffsets[block];
+                while (offset < end) {
+                    final long sequence = buffer.getLong(offset);
+                    if (sequence > maxSequence) {
+                        return false;
+                    }
+                    final long eventTime = buffer.getLong(offset + Long.BYTES);
+                    final int length = buffer.getInt(offset + 2 * Long.BYTES);
+                    final int contentOffset = offset + HEADER_SIZE;
+                    if (sequence > afterSequence && eventTime >= startTime && eventTime <= stopTime) {
+                        final ByteBuffer content = buffer.duplicate();
+                        content.limit(contentOffset + length).position(contentOffset);
+                        if (!consumer.accept(sequence, eventTime, content.slice())) {
+                            return false;
+                        }
+                    }
+                    offset = contentOffset + length;
+                }
+            }
+            return true;
+        }
+    }
+}
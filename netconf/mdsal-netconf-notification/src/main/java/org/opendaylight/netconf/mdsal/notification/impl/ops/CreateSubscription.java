@@ -7,17 +7,25 @@
  */
 package org.opendaylight.netconf.mdsal.notification.impl.ops;
 
-import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import io.netty.channel.ChannelFuture;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.netconf.api.DocumentedException;
+import org.opendaylight.netconf.api.DocumentedException.ErrorSeverity;
+import org.opendaylight.netconf.api.DocumentedException.ErrorTag;
+import org.opendaylight.netconf.api.DocumentedException.ErrorType;
 import org.opendaylight.netconf.api.NetconfSession;
 import org.opendaylight.netconf.api.xml.XmlElement;
 import org.opendaylight.netconf.api.xml.XmlNetconfConstants;
+import org.opendaylight.netconf.api.xml.XmlUtil;
 import org.opendaylight.netconf.mapping.api.SessionAwareNetconfOperation;
 import org.opendaylight.netconf.mdsal.notification.impl.NetconfNotificationManager;
 import org.opendaylight.netconf.notifications.NetconfNotification;
@@ -25,9 +33,12 @@ import org.opendaylight.netconf.notifications.NetconfNotificationListener;
 import org.opendaylight.netconf.notifications.NetconfNotificationRegistry;
 import org.opendaylight.netconf.notifications.NotificationListenerRegistration;
 import org.opendaylight.netconf.util.mapping.AbstractSingletonNetconfOperation;
-import org.opendaylight.netconf.util.messages.SubtreeFilter;
+import org.opendaylight.netconf.util.messages.CompiledSubtreeFilter;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.CreateSubscriptionInput;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.StreamNameType;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.NotificationComplete;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.ReplayComplete;
+import org.opendaylight.yangtools.yang.common.QName;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
@@ -64,19 +75,16 @@ public class CreateSubscription extends AbstractSingletonNetconfOperation
         // Binding doesn't support anyxml nodes yet, so filter could not be retrieved
         // xml -> normalized node -> CreateSubscriptionInput conversion could be slower than current approach
 
-        final Optional<XmlElement> filter = operationElement.getOnlyChildElementWithSameNamespaceOptionally("filter");
-
-        // Replay not supported
-        final Optional<XmlElement> startTime =
-                operationElement.getOnlyChildElementWithSameNamespaceOptionally("startTime");
-        checkArgument(!startTime.isPresent(), "StartTime element not yet supported");
-
-        // Stop time not supported
-        final Optional<XmlElement> stopTime =
-                operationElement.getOnlyChildElementWithSameNamespaceOptionally("stopTime");
-        checkArgument(!stopTime.isPresent(), "StopTime element not yet supported");
+        // Filter is compiled once, subscriptions with identical filters share it
+        final Optional<SharedNotificationFilter> filter = operationElement
+                .getOnlyChildElementWithSameNamespaceOptionally("filter")
+                .flatMap(CompiledSubtreeFilter::compile)
+                .map(SharedNotificationFilter::of);
 
+        final Optional<Date> startTime = parseTimeIfPresent(operationElement, "startTime");
+        final Optional<Date> stopTime = parseTimeIfPresent(operationElement, "stopTime");
         final StreamNameType streamNameType = parseStreamIfPresent(operationElement);
+        checkReplay(streamNameType, startTime, stopTime);
 
         requireNonNull(netconfSession);
         // Premature streams are allowed (meaning listener can register even if no provider is available yet)
@@ -85,13 +93,56 @@ public class CreateSubscription extends AbstractSingletonNetconfOperation
                     getNetconfSessionIdForReporting());
         }
 
-        final NotificationListenerRegistration notificationListenerRegistration = notifications
-                .registerNotificationListener(streamNameType, new NotificationSubscription(netconfSession, filter));
+        final NotificationSubscription subscription = new NotificationSubscription(netconfSession, filter);
+        final NotificationListenerRegistration notificationListenerRegistration = startTime.isPresent()
+                ? notifications.registerNotificationListener(streamNameType, subscription, startTime.get(),
+                    stopTime.orElse(null))
+                : notifications.registerNotificationListener(streamNameType, subscription);
         subscriptions.add(notificationListenerRegistration);
 
         return document.createElement(XmlNetconfConstants.OK);
     }
 
+    private void checkReplay(final StreamNameType streamNameType, final Optional<Date> startTime,
+            final Optional<Date> stopTime) throws DocumentedException {
+        if (stopTime.isPresent()) {
+            if (!startTime.isPresent()) {
+                throw new DocumentedException("stopTime requires startTime to be specified", ErrorType.PROTOCOL,
+                    ErrorTag.MISSING_ELEMENT, ErrorSeverity.ERROR);
+            }
+            if (stopTime.get().before(startTime.get())) {
+                throw new DocumentedException("stopTime must not be earlier than startTime", ErrorType.PROTOCOL,
+                    ErrorTag.BAD_ELEMENT, ErrorSeverity.ERROR);
+            }
+        }
+        if (startTime.isPresent()) {
+            if (startTime.get().after(new Date())) {
+                throw new DocumentedException("startTime must not be in the future", ErrorType.PROTOCOL,
+                    ErrorTag.BAD_ELEMENT, ErrorSeverity.ERROR);
+            }
+            if (!notifications.isReplaySupported(streamNameType)) {
+                throw new DocumentedException("Stream " + streamNameType.getValue() + " does not support replay",
+                    ErrorType.PROTOCOL, ErrorTag.OPERATION_FAILED, ErrorSeverity.ERROR);
+            }
+        }
+    }
+
+    private static Optional<Date> parseTimeIfPresent(final XmlElement operationElement, final String name)
+            throws DocumentedException {
+        final Optional<XmlElement> element = operationElement.getOnlyChildElementWithSameNamespaceOptionally(name);
+        if (!element.isPresent()) {
+            return Optional.empty();
+        }
+
+        final String value = element.get().getTextContent();
+        try {
+            return Optional.of(NetconfNotification.RFC3339_DATE_PARSER.apply(value));
+        } catch (DateTimeParseException e) {
+            throw new DocumentedException("Invalid " + name + " " + value, e, ErrorType.PROTOCOL,
+                ErrorTag.BAD_ELEMENT, ErrorSeverity.ERROR);
+        }
+    }
+
     private static StreamNameType parseStreamIfPresent(final XmlElement operationElement) throws DocumentedException {
         final Optional<XmlElement> stream = operationElement.getOnlyChildElementWithSameNamespaceOptionally("stream");
         return stream.isPresent() ? new StreamNameType(stream.get().getTextContent())
@@ -124,30 +175,56 @@ public class CreateSubscription extends AbstractSingletonNetconfOperation
 
     private static class NotificationSubscription implements NetconfNotificationListener {
         private final NetconfSession currentSession;
-        private final Optional<XmlElement> filter;
+        private final Optional<SharedNotificationFilter> filter;
 
-        NotificationSubscription(final NetconfSession currentSession, final Optional<XmlElement> filter) {
+        NotificationSubscription(final NetconfSession currentSession,
+                final Optional<SharedNotificationFilter> filter) {
             this.currentSession = currentSession;
             this.filter = filter;
         }
 
         @Override
         public void onNotification(final StreamNameType stream, final NetconfNotification notification) {
+            send(notification);
+        }
+
+        @Override
+        public Future<Void> onReplayedNotification(final StreamNameType stream,
+                final NetconfNotification notification) {
+            // Replay is paced on the session, continuing only once the notification has been written out
+            final ChannelFuture future = send(notification);
+            return future != null ? future : ImmediateEventExecutor.INSTANCE.newSucceededFuture(null);
+        }
+
+        private @Nullable ChannelFuture send(final NetconfNotification notification) {
             if (filter.isPresent()) {
                 try {
-                    final Optional<Document> filtered =
-                            SubtreeFilter.applySubtreeNotificationFilter(this.filter.get(), notification.getDocument());
-                    if (filtered.isPresent()) {
-                        final Date eventTime = notification.getEventTime();
-                        currentSession.sendMessage(new NetconfNotification(filtered.get(), eventTime));
-                    }
+                    // Filtered notification is shared by all subscriptions with the same filter
+                    final Optional<NetconfNotification> filtered = filter.get().filter(notification);
+                    return filtered.isPresent() ? currentSession.sendMessage(filtered.get()) : null;
                 } catch (DocumentedException e) {
                     LOG.warn("Failed to process notification {}", notification, e);
-                    currentSession.sendMessage(notification);
+                    return currentSession.sendMessage(notification);
                 }
-            } else {
-                currentSession.sendMessage(notification);
             }
+            // Unfiltered notification is encoded only once and shared by all such subscriptions
+            return currentSession.sendMessage(notification);
+        }
+
+        @Override
+        public void onReplayComplete(final StreamNameType stream) {
+            currentSession.sendMessage(completionNotification(ReplayComplete.QNAME));
+        }
+
+        @Override
+        public void onNotificationComplete(final StreamNameType stream) {
+            currentSession.sendMessage(completionNotification(NotificationComplete.QNAME));
+        }
+
+        private static NetconfNotification completionNotification(final QName qname) {
+            final Document document = XmlUtil.newDocument();
+            document.appendChild(document.createElementNS(qname.getNamespace().toString(), qname.getLocalName()));
+            return new NetconfNotification(document);
         }
     }
 }
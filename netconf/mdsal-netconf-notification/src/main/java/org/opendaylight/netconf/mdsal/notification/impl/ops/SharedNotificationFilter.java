@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.mdsal.notification.impl.ops;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.util.Optional;
+import org.opendaylight.netconf.api.DocumentedException;
+import org.opendaylight.netconf.notifications.NetconfNotification;
+import org.opendaylight.netconf.util.messages.CompiledSubtreeFilter;
+import org.w3c.dom.Document;
+
+/**
+ * A notification filter shared by all subscriptions using an identical filter. Notifications are delivered to all
+ * subscriptions one after another, hence the result of the last evaluation is remembered and handed out to subsequent
+ * subscriptions. They end up sending the same message, which is encoded only once.
+ */
+final class SharedNotificationFilter {
+    private static final class Result {
+        final NetconfNotification source;
+        final Optional<NetconfNotification> filtered;
+
+        Result(final NetconfNotification source, final Optional<NetconfNotification> filtered) {
+            this.source = source;
+            this.filtered = filtered;
+        }
+    }
+
+    private static final Interner<SharedNotificationFilter> INTERNER = Interners.newWeakInterner();
+
+    private final CompiledSubtreeFilter filter;
+
+    private volatile Result lastResult;
+
+    private SharedNotificationFilter(final CompiledSubtreeFilter filter) {
+        this.filter = requireNonNull(filter);
+    }
+
+    static SharedNotificationFilter of(final CompiledSubtreeFilter filter) {
+        return INTERNER.intern(new SharedNotificationFilter(filter));
+    }
+
+    Optional<NetconfNotification> filter(final NetconfNotification notification) throws DocumentedException {
+        final Result last = lastResult;
+        if (last != null && last.source == notification) {
+            return last.filtered;
+        }
+
+        // Concurrent evaluations of the same notification are harmless, they only lose the sharing benefit
+        final Optional<Document> filtered = filter.filterNotification(notification.getDocument());
+        final Optional<NetconfNotification> result = filtered.map(
+            document -> new NetconfNotification(document, notification.getEventTime()));
+        lastResult = new Result(notification, result);
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return filter.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || obj instanceof SharedNotificationFilter
+            && filter.equals(((SharedNotificationFilter) obj).filter);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("filter", filter).toString();
+    }
+}
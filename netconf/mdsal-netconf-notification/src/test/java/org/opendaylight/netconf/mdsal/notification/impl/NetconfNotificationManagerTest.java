@@ -8,14 +8,23 @@
 package org.opendaylight.netconf.mdsal.notification.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import com.google.common.collect.Lists;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
@@ -23,12 +32,17 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.Iterator;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opendaylight.mdsal.binding.dom.codec.impl.DefaultBindingDOMCodecFactory;
 import org.opendaylight.mdsal.binding.generator.impl.DefaultBindingRuntimeGenerator;
+import org.opendaylight.netconf.api.xml.XmlUtil;
 import org.opendaylight.netconf.mdsal.notification.impl.ops.NotificationsTransformUtil;
 import org.opendaylight.netconf.notifications.BaseNotificationPublisherRegistration;
 import org.opendaylight.netconf.notifications.NetconfNotification;
@@ -48,6 +62,8 @@ public class NetconfNotificationManagerTest {
     public static final String RFC3339_DATE_FORMAT_WITH_MILLIS_BLUEPRINT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
     @Mock
     private NetconfNotificationRegistry notificationRegistry;
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
 
     @Test
     public void testEventTime() throws Exception {
@@ -216,6 +232,76 @@ public class NetconfNotificationManagerTest {
         verify(streamListener).onStreamUnregistered(NetconfNotificationManager.BASE_STREAM_NAME);
     }
 
+    @Test
+    public void testReplay() throws Exception {
+        final NotificationReplayLog log = new NotificationReplayLog(folder.getRoot().toPath(), 65536, 2);
+        final NetconfNotificationManager netconfNotificationManager = new NetconfNotificationManager(
+            new NotificationsTransformUtil(new YangParserFactoryImpl(), new DefaultBindingRuntimeGenerator(),
+                new DefaultBindingDOMCodecFactory()), log);
+        final StreamNameType stream = NetconfNotificationManager.BASE_STREAM_NAME;
+        assertTrue(netconfNotificationManager.isReplaySupported(stream));
+
+        netconfNotificationManager.onNotification(stream, testNotification("first", 1000));
+        netconfNotificationManager.onNotification(stream, testNotification("second", 2000));
+
+        final NetconfNotificationListener listener = mock(NetconfNotificationListener.class, CALLS_REAL_METHODS);
+        final NotificationListenerRegistration reg = netconfNotificationManager.registerNotificationListener(stream,
+            listener, new Date(1500), null);
+        netconfNotificationManager.onNotification(stream, testNotification("third", 3000));
+
+        final ArgumentCaptor<NetconfNotification> captor = ArgumentCaptor.forClass(NetconfNotification.class);
+        final InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener, timeout(5000)).onNotification(any(StreamNameType.class), captor.capture());
+        inOrder.verify(listener, timeout(5000)).onReplayComplete(stream);
+        inOrder.verify(listener, timeout(5000)).onNotification(any(StreamNameType.class), captor.capture());
+
+        assertEquals("second", captor.getAllValues().get(0).getDocument().getDocumentElement().getFirstChild()
+            .getLocalName());
+        assertEquals(new Date(2000), captor.getAllValues().get(0).getEventTime());
+        assertEquals("third", captor.getAllValues().get(1).getDocument().getDocumentElement().getFirstChild()
+            .getLocalName());
+
+        reg.close();
+        netconfNotificationManager.close();
+    }
+
+    @Test
+    public void testReplayPacedPerSubscriber() throws Exception {
+        final NotificationReplayLog log = new NotificationReplayLog(folder.getRoot().toPath(), 65536, 2);
+        final NetconfNotificationManager netconfNotificationManager = new NetconfNotificationManager(
+            new NotificationsTransformUtil(new YangParserFactoryImpl(), new DefaultBindingRuntimeGenerator(),
+                new DefaultBindingDOMCodecFactory()), log);
+        final StreamNameType stream = NetconfNotificationManager.BASE_STREAM_NAME;
+        for (int i = 1; i <= 100; ++i) {
+            netconfNotificationManager.onNotification(stream, testNotification("notification", i));
+        }
+
+        // Slow subscriber does not finish sending until told to
+        final Promise<Void> sent = ImmediateEventExecutor.INSTANCE.newPromise();
+        final NetconfNotificationListener slow = mock(NetconfNotificationListener.class);
+        doReturn(sent).when(slow).onReplayedNotification(any(StreamNameType.class), any(NetconfNotification.class));
+        final NetconfNotificationListener fast = mock(NetconfNotificationListener.class, CALLS_REAL_METHODS);
+        netconfNotificationManager.registerNotificationListener(stream, slow, new Date(0), null);
+        netconfNotificationManager.registerNotificationListener(stream, fast, new Date(0), null);
+
+        // Fast subscriber gets the complete replay, the slow one only its first batch
+        verify(fast, timeout(5000)).onReplayComplete(stream);
+        verify(fast, times(100)).onNotification(any(StreamNameType.class), any(NetconfNotification.class));
+        verify(slow, times(64)).onReplayedNotification(any(StreamNameType.class), any(NetconfNotification.class));
+        verify(slow, never()).onReplayComplete(stream);
+
+        sent.setSuccess(null);
+        verify(slow, timeout(5000)).onReplayComplete(stream);
+        verify(slow, times(100)).onReplayedNotification(any(StreamNameType.class), any(NetconfNotification.class));
+
+        netconfNotificationManager.close();
+    }
+
+    private static NetconfNotification testNotification(final String name, final long eventTime) throws Exception {
+        return new NetconfNotification(XmlUtil.readXmlToDocument("<" + name + " xmlns=\"urn:test\"/>"),
+            new Date(eventTime));
+    }
+
     private static NetconfNotificationManager createManager() {
         return new NetconfNotificationManager(new NotificationsTransformUtil(new YangParserFactoryImpl(),
             new DefaultBindingRuntimeGenerator(), new DefaultBindingDOMCodecFactory()));
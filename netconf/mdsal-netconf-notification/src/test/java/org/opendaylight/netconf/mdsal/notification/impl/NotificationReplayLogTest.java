@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.mdsal.notification.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class NotificationReplayLogTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReplayTimeRange() throws IOException {
+        try (NotificationReplayLog log = new NotificationReplayLog(folder.getRoot().toPath(), 4096, 4)) {
+            for (int i = 1; i <= 200; ++i) {
+                assertEquals(i, log.append(i * 10L, content(i)));
+            }
+
+            assertEquals(Arrays.asList("10", "11", "12"), replay(log, 100, 120, Long.MAX_VALUE));
+            assertEquals(Arrays.asList("199", "200"), replay(log, 1990, Long.MAX_VALUE, Long.MAX_VALUE));
+            assertEquals(Arrays.asList("1", "2", "3"), replay(log, 0, Long.MAX_VALUE, 3));
+        }
+    }
+
+    @Test
+    public void testOutOfOrderEventTimes() throws IOException {
+        try (NotificationReplayLog log = new NotificationReplayLog(folder.getRoot().toPath(), 65536, 1)) {
+            for (int i = 1; i <= NotificationReplayLog.INDEX_BLOCK_RECORDS * 3; ++i) {
+                // Every other notification comes from the distant past
+                log.append(i % 2 == 0 ? i : 1_000_000 + i, content(i));
+            }
+
+            assertEquals(Arrays.asList("2", "4"), replay(log, 0, 5, Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    public void testRecovery() throws IOException {
+        final Path directory = folder.getRoot().toPath();
+        try (NotificationReplayLog log = new NotificationReplayLog(directory, 4096, 4)) {
+            for (int i = 1; i <= 10; ++i) {
+                log.append(i, content(i));
+            }
+        }
+
+        try (NotificationReplayLog log = new NotificationReplayLog(directory, 4096, 4)) {
+            assertEquals(10, log.lastSequence());
+            assertEquals(11, log.append(11, content(11)));
+            assertEquals(Arrays.asList("9", "10", "11"), replay(log, 9, 11, Long.MAX_VALUE));
+            assertEquals(1, log.getCreationTime().getTime());
+        }
+    }
+
+    @Test
+    public void testOldSegmentsDiscarded() throws IOException {
+        try (NotificationReplayLog log = new NotificationReplayLog(folder.getRoot().toPath(), 256, 2)) {
+            for (int i = 1; i <= 100; ++i) {
+                log.append(i, content(i));
+            }
+
+            final List<String> replayed = replay(log, 0, Long.MAX_VALUE, Long.MAX_VALUE);
+            assertEquals("100", replayed.get(replayed.size() - 1));
+            assertEquals(2, folder.getRoot().list().length);
+        }
+    }
+
+    @Test
+    public void testOversizedNotificationNotLogged() throws IOException {
+        try (NotificationReplayLog log = new NotificationReplayLog(folder.getRoot().toPath(), 256, 2)) {
+            assertEquals(0, log.append(1, new byte[256]));
+            assertEquals(1, log.append(2, content(2)));
+        }
+    }
+
+    private static byte[] content(final int index) {
+        return Integer.toString(index).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> replay(final NotificationReplayLog log, final long startTime, final long stopTime,
+            final long maxSequence) {
+        final List<String> ret = new ArrayList<>();
+        log.replay(startTime, stopTime, maxSequence, (sequence, eventTime, content) -> {
+            ret.add(StandardCharsets.UTF_8.decode(content).toString());
+            return true;
+        });
+        return ret;
+    }
+}
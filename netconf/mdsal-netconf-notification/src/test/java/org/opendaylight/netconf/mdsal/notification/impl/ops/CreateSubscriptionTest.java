@@ -9,18 +9,25 @@ package org.opendaylight.netconf.mdsal.notification.impl.ops;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opendaylight.netconf.api.NetconfSession;
 import org.opendaylight.netconf.api.xml.XmlElement;
 import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.opendaylight.netconf.mdsal.notification.impl.NetconfNotificationManager;
+import org.opendaylight.netconf.notifications.NetconfNotification;
 import org.opendaylight.netconf.notifications.NetconfNotificationListener;
 import org.opendaylight.netconf.notifications.NetconfNotificationRegistry;
 import org.opendaylight.netconf.notifications.NotificationListenerRegistration;
@@ -36,6 +43,11 @@ public class CreateSubscriptionTest {
             + "<stream>TESTSTREAM</stream>"
             + "</create-subscription>";
 
+    private static final String FILTERED_SUBSCRIPTION_XML = "<create-subscription\n"
+            + "xmlns=\"urn:ietf:params:xml:ns:netconf:notification:1.0\">\n"
+            + "<filter type=\"subtree\"><test-notification xmlns=\"urn:test\"/></filter>"
+            + "</create-subscription>";
+
     @Mock
     private NetconfNotificationRegistry notificationRegistry;
 
@@ -59,4 +71,55 @@ public class CreateSubscriptionTest {
 
         assertThat(XmlUtil.toString(element), containsString("ok"));
     }
+
+    @Test
+    public void testFilteredSubscriptionDoesNotModifyNotification() throws Exception {
+        final CreateSubscription createSubscription = new CreateSubscription("id", notificationRegistry);
+        final NetconfSession session = mock(NetconfSession.class);
+        createSubscription.setSession(session);
+        createSubscription.handleWithNoSubsequentOperations(XmlUtil.newDocument(),
+            XmlElement.fromDomElement(XmlUtil.readXmlToElement(FILTERED_SUBSCRIPTION_XML)));
+
+        final ArgumentCaptor<NetconfNotificationListener> listener =
+                ArgumentCaptor.forClass(NetconfNotificationListener.class);
+        verify(notificationRegistry).registerNotificationListener(any(StreamNameType.class), listener.capture());
+
+        // The notification is shared with other subscriptions, filtering must not touch it
+        final NetconfNotification notification = new NetconfNotification(
+            XmlUtil.readXmlToDocument("<test-notification xmlns=\"urn:test\"/>"));
+        final String original = XmlUtil.toString(notification.getDocument());
+        listener.getValue().onNotification(NetconfNotificationManager.BASE_STREAM_NAME, notification);
+
+        assertEquals(original, XmlUtil.toString(notification.getDocument()));
+        verify(session).sendMessage(any(NetconfNotification.class));
+    }
+
+    @Test
+    public void testIdenticalFiltersShareResult() throws Exception {
+        final NetconfSession first = mock(NetconfSession.class);
+        final NetconfSession second = mock(NetconfSession.class);
+        for (NetconfSession session : new NetconfSession[] { first, second }) {
+            final CreateSubscription createSubscription = new CreateSubscription("id", notificationRegistry);
+            createSubscription.setSession(session);
+            createSubscription.handleWithNoSubsequentOperations(XmlUtil.newDocument(),
+                XmlElement.fromDomElement(XmlUtil.readXmlToElement(FILTERED_SUBSCRIPTION_XML)));
+        }
+
+        final ArgumentCaptor<NetconfNotificationListener> listener =
+                ArgumentCaptor.forClass(NetconfNotificationListener.class);
+        verify(notificationRegistry, times(2)).registerNotificationListener(any(StreamNameType.class),
+            listener.capture());
+
+        final NetconfNotification notification = new NetconfNotification(
+            XmlUtil.readXmlToDocument("<test-notification xmlns=\"urn:test\"/>"));
+        for (NetconfNotificationListener subscription : listener.getAllValues()) {
+            subscription.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, notification);
+        }
+
+        final ArgumentCaptor<NetconfNotification> firstSent = ArgumentCaptor.forClass(NetconfNotification.class);
+        final ArgumentCaptor<NetconfNotification> secondSent = ArgumentCaptor.forClass(NetconfNotification.class);
+        verify(first).sendMessage(firstSent.capture());
+        verify(second).sendMessage(secondSent.capture());
+        assertSame(firstSent.getValue(), secondSent.getValue());
+    }
 }
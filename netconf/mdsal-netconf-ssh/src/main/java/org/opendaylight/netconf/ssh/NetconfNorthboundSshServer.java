@@ -43,29 +43,81 @@ public class NetconfNorthboundSshServer {
                                       final String bindingAddress,
                                       final String portNumber,
                                       final AuthProvider authProvider) {
+        this(netconfServerDispatcher, workerGroup, eventExecutor, bindingAddress, portNumber, authProvider, false);
+    }
 
-        final LocalAddress localAddress = new LocalAddress(portNumber);
+    /**
+     * Create a new server.
+     *
+     * @param netconfServerDispatcher NETCONF server dispatcher
+     * @param workerGroup worker group
+     * @param eventExecutor executor for SSH I/O
+     * @param bindingAddress address to listen on
+     * @param portNumber port to listen on
+     * @param authProvider user authentication provider
+     * @param directSubsystem {@code true} to attach NETCONF sessions directly to SSH subsystem channels, {@code false}
+     *                        to proxy them over an internal connection to a local NETCONF server
+     */
+    public NetconfNorthboundSshServer(final NetconfServerDispatcher netconfServerDispatcher,
+                                      final EventLoopGroup workerGroup,
+                                      final EventExecutor eventExecutor,
+                                      final String bindingAddress,
+                                      final String portNumber,
+                                      final AuthProvider authProvider,
+                                      final boolean directSubsystem) {
+        this(netconfServerDispatcher, workerGroup, eventExecutor, bindingAddress, portNumber, authProvider,
+            directSubsystem, false);
+    }
 
-        localServer = netconfServerDispatcher.createLocalServer(localAddress);
-        sshProxyServer = new SshProxyServer(Executors.newScheduledThreadPool(1), workerGroup, eventExecutor);
+    /**
+     * Create a new server.
+     *
+     * @param netconfServerDispatcher NETCONF server dispatcher
+     * @param workerGroup worker group
+     * @param eventExecutor executor for SSH I/O, unless it runs on the worker group
+     * @param bindingAddress address to listen on
+     * @param portNumber port to listen on
+     * @param authProvider user authentication provider
+     * @param directSubsystem {@code true} to attach NETCONF sessions directly to SSH subsystem channels, {@code false}
+     *                        to proxy them over an internal connection to a local NETCONF server
+     * @param sshOnEventLoop {@code true} to perform SSH I/O on the worker group instead of the event executor
+     */
+    public NetconfNorthboundSshServer(final NetconfServerDispatcher netconfServerDispatcher,
+                                      final EventLoopGroup workerGroup,
+                                      final EventExecutor eventExecutor,
+                                      final String bindingAddress,
+                                      final String portNumber,
+                                      final AuthProvider authProvider,
+                                      final boolean directSubsystem,
+                                      final boolean sshOnEventLoop) {
+
+        sshProxyServer = sshOnEventLoop
+            ? SshProxyServer.createOnEventLoop(Executors.newScheduledThreadPool(1), workerGroup, workerGroup)
+            : new SshProxyServer(Executors.newScheduledThreadPool(1), workerGroup, eventExecutor);
 
         final InetSocketAddress inetAddress = getInetAddress(bindingAddress, portNumber);
         final SshProxyServerConfigurationBuilder sshProxyServerConfigurationBuilder =
                 new SshProxyServerConfigurationBuilder();
         sshProxyServerConfigurationBuilder.setBindingAddress(inetAddress);
-        sshProxyServerConfigurationBuilder.setLocalAddress(localAddress);
         sshProxyServerConfigurationBuilder.setAuthenticator(authProvider);
         sshProxyServerConfigurationBuilder.setIdleTimeout(Integer.MAX_VALUE);
         sshProxyServerConfigurationBuilder.setKeyPairProvider(new SimpleGeneratorHostKeyProvider());
 
+        if (directSubsystem) {
+            localServer = null;
+            sshProxyServerConfigurationBuilder.setServerDispatcher(netconfServerDispatcher);
+            bindSshServer(sshProxyServerConfigurationBuilder, bindingAddress);
+            return;
+        }
+
+        final LocalAddress localAddress = new LocalAddress(portNumber);
+
+        localServer = netconfServerDispatcher.createLocalServer(localAddress);
+        sshProxyServerConfigurationBuilder.setLocalAddress(localAddress);
+
         localServer.addListener(future -> {
             if (future.isDone() && !future.isCancelled()) {
-                try {
-                    sshProxyServer.bind(sshProxyServerConfigurationBuilder.createSshProxyServerConfiguration());
-                    LOG.info("Netconf SSH endpoint started successfully at {}", bindingAddress);
-                } catch (final IOException e) {
-                    throw new RuntimeException("Unable to start SSH netconf server", e);
-                }
+                bindSshServer(sshProxyServerConfigurationBuilder, bindingAddress);
             } else {
                 LOG.warn("Unable to start SSH netconf server at {}", bindingAddress, future.cause());
                 throw new RuntimeException("Unable to start SSH netconf server", future.cause());
@@ -73,6 +125,16 @@ public class NetconfNorthboundSshServer {
         });
     }
 
+    private void bindSshServer(final SshProxyServerConfigurationBuilder sshProxyServerConfigurationBuilder,
+            final String bindingAddress) {
+        try {
+            sshProxyServer.bind(sshProxyServerConfigurationBuilder.createSshProxyServerConfiguration());
+            LOG.info("Netconf SSH endpoint started successfully at {}", bindingAddress);
+        } catch (final IOException e) {
+            throw new RuntimeException("Unable to start SSH netconf server", e);
+        }
+    }
+
     private static InetSocketAddress getInetAddress(final String bindingAddress, final String portNumber) {
         IpAddress ipAddress = IpAddressBuilder.getDefaultInstance(bindingAddress);
         final InetAddress inetAd = IetfInetUtil.INSTANCE.inetAddressFor(ipAddress);
@@ -82,6 +144,9 @@ public class NetconfNorthboundSshServer {
     public void close() throws IOException {
         sshProxyServer.close();
 
+        if (localServer == null) {
+            return;
+        }
         if (localServer.isDone()) {
             localServer.channel().close();
         } else {
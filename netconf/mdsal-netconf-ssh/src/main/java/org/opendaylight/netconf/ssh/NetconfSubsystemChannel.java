@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.ssh;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.AbstractServerChannel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelMetadata;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultChannelConfig;
+import io.netty.channel.EventLoop;
+import java.net.SocketAddress;
+import org.opendaylight.netconf.nettyutil.handler.ssh.client.AsyncSshHandlerReader;
+import org.opendaylight.netconf.nettyutil.handler.ssh.client.AsyncSshHandlerReader.ReadMsgHandler;
+import org.opendaylight.netconf.nettyutil.handler.ssh.client.AsyncSshHandlerWriter;
+import org.opendaylight.netconf.shaded.sshd.common.io.IoInputStream;
+import org.opendaylight.netconf.shaded.sshd.common.io.IoOutputStream;
+import org.opendaylight.netconf.shaded.sshd.common.io.IoSession;
+import org.opendaylight.netconf.shaded.sshd.server.ExitCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Netty channel backed by the streams of an SSH {@code netconf} subsystem. NETCONF server pipeline is attached directly
+ * to this channel, hence data flows between SSH and NETCONF without going through an internal connection.
+ */
+final class NetconfSubsystemChannel extends AbstractServerChannel {
+    private static final Logger LOG = LoggerFactory.getLogger(NetconfSubsystemChannel.class);
+    private static final ChannelMetadata METADATA = new ChannelMetadata(false);
+
+    private final ChannelConfig config = new DefaultChannelConfig(this);
+    private final IoSession ioSession;
+    private final IoInputStream in;
+    private final ExitCallback callback;
+    private final String channelId;
+    private final AsyncSshHandlerWriter sshWriteHandler;
+
+    private AsyncSshHandlerReader sshReadHandler;
+    private volatile boolean open = true;
+
+    NetconfSubsystemChannel(final IoSession ioSession, final IoInputStream in, final IoOutputStream out,
+            final ExitCallback callback, final String channelId) {
+        this.ioSession = requireNonNull(ioSession);
+        this.in = requireNonNull(in);
+        this.callback = requireNonNull(callback);
+        this.channelId = requireNonNull(channelId);
+        this.sshWriteHandler = new AsyncSshHandlerWriter(requireNonNull(out));
+        pipeline().addFirst(new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+                sshWriteHandler.write(ctx, msg, promise);
+            }
+        });
+    }
+
+    @Override
+    public ChannelConfig config() {
+        return config;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public boolean isActive() {
+        return open;
+    }
+
+    @Override
+    public ChannelMetadata metadata() {
+        return METADATA;
+    }
+
+    @Override
+    protected AbstractUnsafe newUnsafe() {
+        return new SubsystemUnsafe();
+    }
+
+    @Override
+    protected boolean isCompatible(final EventLoop loop) {
+        return true;
+    }
+
+    @Override
+    protected SocketAddress localAddress0() {
+        return ioSession.getLocalAddress();
+    }
+
+    @Override
+    protected SocketAddress remoteAddress0() {
+        return ioSession.getRemoteAddress();
+    }
+
+    @Override
+    protected void doRegister() {
+        // Start reading only once we have an event loop to deliver the data to
+        sshReadHandler = new AsyncSshHandlerReader(this::close, new FireReadMessage(), channelId, in,
+            config.getAllocator());
+    }
+
+    @Override
+    protected void doBind(final SocketAddress localAddress) {
+        throw new UnsupportedOperationException("Bind not supported.");
+    }
+
+    @Override
+    protected void doDisconnect() {
+        doClose();
+    }
+
+    @Override
+    protected void doClose() {
+        if (open) {
+            open = false;
+            LOG.debug("Closing NETCONF subsystem channel {}", channelId);
+            if (sshReadHandler != null) {
+                sshReadHandler.close();
+            }
+            sshWriteHandler.close();
+            // Terminates the SSH channel, unless it is already going down
+            callback.onExit(0, "NETCONF session closed");
+        }
+    }
+
+    @Override
+    protected void doBeginRead() {
+        // Reads are started by AsyncSshHandlerReader, we only need to resume them if they were suspended
+        if (sshReadHandler != null) {
+            sshReadHandler.resume();
+        }
+    }
+
+    @Override
+    protected void doWrite(final ChannelOutboundBuffer outbound) {
+        throw new IllegalStateException("Outbound writes to SSH should be done by SSH Write handler");
+    }
+
+    private final class FireReadMessage implements ReadMsgHandler {
+        @Override
+        public void onMessageRead(final ByteBuf msg) {
+            pipeline().fireChannelRead(msg).fireChannelReadComplete();
+        }
+
+        @Override
+        public boolean shouldContinueReading() {
+            return config.isAutoRead();
+        }
+    }
+
+    private final class SubsystemUnsafe extends AbstractUnsafe {
+        @Override
+        public void connect(final SocketAddress remoteAddress, final SocketAddress localAddress,
+                final ChannelPromise promise) {
+            throw new UnsupportedOperationException("Unsafe is not supported.");
+        }
+    }
+}
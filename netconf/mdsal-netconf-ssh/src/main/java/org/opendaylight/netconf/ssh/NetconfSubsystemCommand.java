@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.ssh;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.opendaylight.netconf.api.NetconfServerDispatcher;
+import org.opendaylight.netconf.api.messages.NetconfHelloMessageAdditionalHeader;
+import org.opendaylight.netconf.shaded.sshd.common.io.IoInputStream;
+import org.opendaylight.netconf.shaded.sshd.common.io.IoOutputStream;
+import org.opendaylight.netconf.shaded.sshd.server.Environment;
+import org.opendaylight.netconf.shaded.sshd.server.ExitCallback;
+import org.opendaylight.netconf.shaded.sshd.server.channel.ChannelSession;
+import org.opendaylight.netconf.shaded.sshd.server.command.AsyncCommand;
+import org.opendaylight.netconf.shaded.sshd.server.command.Command;
+import org.opendaylight.netconf.shaded.sshd.server.session.ServerSession;
+import org.opendaylight.netconf.shaded.sshd.server.subsystem.SubsystemFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This command attaches a NETCONF server session directly to the SSH subsystem, without the internal connection used
+ * by {@link RemoteNetconfCommand}. Client's user name and address are handed to the NETCONF server along with the
+ * channel, hence no additional header needs to be sent.
+ */
+public class NetconfSubsystemCommand implements AsyncCommand {
+    private static final Logger LOG = LoggerFactory.getLogger(NetconfSubsystemCommand.class);
+
+    private final NetconfServerDispatcher serverDispatcher;
+
+    private IoInputStream in;
+    private IoOutputStream out;
+    private ExitCallback callback;
+    private NetconfSubsystemChannel nettyChannel;
+
+    public NetconfSubsystemCommand(final NetconfServerDispatcher serverDispatcher) {
+        this.serverDispatcher = requireNonNull(serverDispatcher);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:hiddenField")
+    public void setIoInputStream(final IoInputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:hiddenField")
+    public void setIoOutputStream(final IoOutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void setIoErrorStream(final IoOutputStream err) {
+        // Not used by NETCONF
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:hiddenField")
+    public void setInputStream(final InputStream in) {
+        throw new UnsupportedOperationException("Synchronous IO is unsupported");
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:hiddenField")
+    public void setOutputStream(final OutputStream out) {
+        throw new UnsupportedOperationException("Synchronous IO is unsupported");
+    }
+
+    @Override
+    public void setErrorStream(final OutputStream err) {
+        throw new UnsupportedOperationException("Synchronous IO is unsupported");
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:hiddenField")
+    public void setExitCallback(final ExitCallback callback) {
+        this.callback = callback;
+    }
+
+    @Override
+    public void start(final ChannelSession channel, final Environment env) {
+        final ServerSession session = channel.getServerSession();
+        final NetconfHelloMessageAdditionalHeader header = RemoteNetconfCommand.createAdditionalHeader(session);
+        LOG.trace("Starting NETCONF session for client: {}", header.getAddress());
+
+        nettyChannel = new NetconfSubsystemChannel(session.getIoSession(), in, out,
+            requireNonNull(callback, "Exit callback must be set"), "ssh" + header.getAddress());
+        serverDispatcher.registerChannel(nettyChannel, header).addListener(future -> {
+            // Failed registration closes the channel, which in turn terminates the subsystem
+            if (!future.isSuccess()) {
+                LOG.warn("Unable to start NETCONF session for client: {}", header.getAddress(), future.cause());
+            }
+        });
+    }
+
+    @Override
+    public void destroy(final ChannelSession channel) {
+        LOG.trace("Releasing NETCONF session on channel: {}", nettyChannel);
+        if (nettyChannel != null) {
+            nettyChannel.close();
+        }
+    }
+
+    public static class NetconfSubsystemFactory implements SubsystemFactory {
+        private final NetconfServerDispatcher serverDispatcher;
+
+        public NetconfSubsystemFactory(final NetconfServerDispatcher serverDispatcher) {
+            this.serverDispatcher = requireNonNull(serverDispatcher);
+        }
+
+        @Override
+        public String getName() {
+            return RemoteNetconfCommand.NetconfCommandFactory.NETCONF;
+        }
+
+        @Override
+        public Command createSubsystem(final ChannelSession channel) {
+            return new NetconfSubsystemCommand(serverDispatcher);
+        }
+    }
+}
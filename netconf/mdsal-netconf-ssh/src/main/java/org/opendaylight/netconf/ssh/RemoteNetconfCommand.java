@@ -104,19 +104,7 @@ public class RemoteNetconfCommand implements AsyncCommand {
 
     @Override
     public void start(final ChannelSession channel, final Environment env) {
-        final ServerSession session = channel.getServerSession();
-        final SocketAddress remoteAddress = session.getIoSession().getRemoteAddress();
-        final String hostName;
-        final String port;
-        if (remoteAddress instanceof InetSocketAddress) {
-            hostName = ((InetSocketAddress) remoteAddress).getAddress().getHostAddress();
-            port = Integer.toString(((InetSocketAddress) remoteAddress).getPort());
-        } else {
-            hostName = "";
-            port = "";
-        }
-        netconfHelloMessageAdditionalHeader = new NetconfHelloMessageAdditionalHeader(session.getUsername(), hostName,
-            port, "ssh", "client");
+        netconfHelloMessageAdditionalHeader = createAdditionalHeader(channel.getServerSession());
 
         LOG.trace("Establishing internal connection to netconf server for client: {}", getClientAddress());
 
@@ -159,6 +147,20 @@ public class RemoteNetconfCommand implements AsyncCommand {
         }
     }
 
+    static NetconfHelloMessageAdditionalHeader createAdditionalHeader(final ServerSession session) {
+        final SocketAddress remoteAddress = session.getIoSession().getRemoteAddress();
+        final String hostName;
+        final String port;
+        if (remoteAddress instanceof InetSocketAddress) {
+            hostName = ((InetSocketAddress) remoteAddress).getAddress().getHostAddress();
+            port = Integer.toString(((InetSocketAddress) remoteAddress).getPort());
+        } else {
+            hostName = "";
+            port = "";
+        }
+        return new NetconfHelloMessageAdditionalHeader(session.getUsername(), hostName, port, "ssh", "client");
+    }
+
     private String getClientAddress() {
         return netconfHelloMessageAdditionalHeader.getAddress();
     }
@@ -8,12 +8,14 @@
 
 package org.opendaylight.netconf.ssh;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import java.nio.charset.StandardCharsets;
 import org.opendaylight.netconf.api.messages.NetconfHelloMessageAdditionalHeader;
 import org.opendaylight.netconf.nettyutil.handler.ssh.client.AsyncSshHandlerReader;
+import org.opendaylight.netconf.nettyutil.handler.ssh.client.AsyncSshHandlerReader.ReadMsgHandler;
 import org.opendaylight.netconf.nettyutil.handler.ssh.client.AsyncSshHandlerWriter;
 import org.opendaylight.netconf.shaded.sshd.common.io.IoInputStream;
 import org.opendaylight.netconf.shaded.sshd.common.io.IoOutputStream;
@@ -59,15 +61,24 @@ final class SshProxyClientHandler extends ChannelInboundHandlerAdapter {
             ctx.close();
             asyncSshHandlerReader.close();
             asyncSshHandlerWriter.close();
-        }, msg -> {
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("Forwarding message for client: {} on channel: {}, message: {}",
-                        netconfHelloMessageAdditionalHeader.getAddress(), ctx.channel(),
-                        AsyncSshHandlerWriter.byteBufToString(msg));
+        }, new ReadMsgHandler() {
+            @Override
+            public void onMessageRead(final ByteBuf msg) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Forwarding message for client: {} on channel: {}, message: {}",
+                            netconfHelloMessageAdditionalHeader.getAddress(), ctx.channel(),
+                            AsyncSshHandlerWriter.byteBufToString(msg));
+                }
+                // Just forward to delegate
+                ctx.writeAndFlush(msg);
             }
-            // Just forward to delegate
-            ctx.writeAndFlush(msg);
-        }, "ssh" + netconfHelloMessageAdditionalHeader.getAddress(), in);
+
+            @Override
+            public boolean shouldContinueReading() {
+                // Stop reading from the client while the delegate server is not keeping up
+                return ctx.channel().isWritable();
+            }
+        }, "ssh" + netconfHelloMessageAdditionalHeader.getAddress(), in, ctx.alloc());
 
 
         super.channelActive(ctx);
@@ -83,6 +94,14 @@ final class SshProxyClientHandler extends ChannelInboundHandlerAdapter {
         asyncSshHandlerWriter.write(ctx, msg, ctx.newPromise());
     }
 
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable() && asyncSshHandlerReader != null) {
+            asyncSshHandlerReader.resume();
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
     @Override
     public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
         LOG.debug("Internal connection to netconf server was dropped for client: {} on channel: {}",
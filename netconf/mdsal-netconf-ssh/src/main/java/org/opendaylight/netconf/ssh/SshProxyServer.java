@@ -34,8 +34,10 @@ import org.opendaylight.netconf.shaded.sshd.common.io.nio2.Nio2Acceptor;
 import org.opendaylight.netconf.shaded.sshd.common.io.nio2.Nio2Connector;
 import org.opendaylight.netconf.shaded.sshd.common.io.nio2.Nio2ServiceFactoryFactory;
 import org.opendaylight.netconf.shaded.sshd.common.util.closeable.AbstractCloseable;
+import org.opendaylight.netconf.shaded.sshd.netty.NettyIoServiceFactoryFactory;
 import org.opendaylight.netconf.shaded.sshd.server.ServerFactoryManager;
 import org.opendaylight.netconf.shaded.sshd.server.SshServer;
+import org.opendaylight.netconf.shaded.sshd.server.subsystem.SubsystemFactory;
 
 /**
  * Proxy SSH server that just delegates decrypted content to a delegate server within same VM.
@@ -71,6 +73,22 @@ public class SshProxyServer implements AutoCloseable {
         this(minaTimerExecutor, clientGroup, new SharedNioServiceFactoryFactory(group));
     }
 
+    /**
+     * Create a server which performs its I/O on a Netty {@link EventLoopGroup} rather than on a dedicated NIO2
+     * thread pool. Using the same group as {@code clientGroup} keeps both the SSH and the delegate NETCONF traffic on
+     * the same set of threads.
+     *
+     * @param minaTimerExecutor executor for SSH timers
+     * @param clientGroup group used to connect to the delegate NETCONF server
+     * @param ioGroup group used for SSH socket I/O
+     * @return A new server
+     */
+    public static SshProxyServer createOnEventLoop(final ScheduledExecutorService minaTimerExecutor,
+            final EventLoopGroup clientGroup, final EventLoopGroup ioGroup) {
+        return new SshProxyServer(minaTimerExecutor, clientGroup,
+            new NettyIoServiceFactoryFactory(requireNonNull(ioGroup)));
+    }
+
     public void bind(final SshProxyServerConfiguration sshProxyServerConfiguration) throws IOException {
         sshServer.setHost(sshProxyServerConfiguration.getBindingAddress().getHostString());
         sshServer.setPort(sshProxyServerConfiguration.getBindingAddress().getPort());
@@ -94,9 +112,10 @@ public class SshProxyServer implements AutoCloseable {
         sshServer.getProperties().put(ServerFactoryManager.AUTH_TIMEOUT,
             String.valueOf(sshProxyServerConfiguration.getIdleTimeout()));
 
-        final RemoteNetconfCommand.NetconfCommandFactory netconfCommandFactory =
-                new RemoteNetconfCommand.NetconfCommandFactory(clientGroup,
-                        sshProxyServerConfiguration.getLocalAddress());
+        final SubsystemFactory netconfCommandFactory = sshProxyServerConfiguration.getServerDispatcher()
+                .<SubsystemFactory>map(NetconfSubsystemCommand.NetconfSubsystemFactory::new)
+                .orElseGet(() -> new RemoteNetconfCommand.NetconfCommandFactory(clientGroup,
+                        sshProxyServerConfiguration.getLocalAddress()));
         sshServer.setSubsystemFactories(ImmutableList.of(netconfCommandFactory));
         sshServer.start();
     }
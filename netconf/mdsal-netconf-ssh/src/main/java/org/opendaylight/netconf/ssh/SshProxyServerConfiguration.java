@@ -13,6 +13,7 @@ import static java.util.Objects.requireNonNull;
 import io.netty.channel.local.LocalAddress;
 import java.net.InetSocketAddress;
 import java.util.Optional;
+import org.opendaylight.netconf.api.NetconfServerDispatcher;
 import org.opendaylight.netconf.auth.AuthProvider;
 import org.opendaylight.netconf.shaded.sshd.common.keyprovider.KeyPairProvider;
 import org.opendaylight.netconf.shaded.sshd.server.auth.pubkey.PublickeyAuthenticator;
@@ -24,18 +25,24 @@ public final class SshProxyServerConfiguration {
     private final KeyPairProvider keyPairProvider;
     private final int idleTimeout;
     private final Optional<PublickeyAuthenticator> publickeyAuthenticator;
+    private final Optional<NetconfServerDispatcher> serverDispatcher;
 
     SshProxyServerConfiguration(final InetSocketAddress bindingAddress, final LocalAddress localAddress,
                                 final AuthProvider authenticator, final PublickeyAuthenticator publickeyAuthenticator,
-                                final KeyPairProvider keyPairProvider, final int idleTimeout) {
+                                final KeyPairProvider keyPairProvider, final int idleTimeout,
+                                final NetconfServerDispatcher serverDispatcher) {
         this.bindingAddress = requireNonNull(bindingAddress);
-        this.localAddress = requireNonNull(localAddress);
+        // Local address is not needed when sessions are attached directly to the server dispatcher
+        checkArgument(localAddress != null || serverDispatcher != null,
+            "Either local address or server dispatcher has to be set");
+        this.localAddress = localAddress;
         this.authenticator = requireNonNull(authenticator);
         this.keyPairProvider = requireNonNull(keyPairProvider);
         // Idle timeout cannot be disabled in the sshd by using =< 0 value
         checkArgument(idleTimeout > 0, "Idle timeout has to be > 0");
         this.idleTimeout = idleTimeout;
         this.publickeyAuthenticator = Optional.ofNullable(publickeyAuthenticator);
+        this.serverDispatcher = Optional.ofNullable(serverDispatcher);
     }
 
     public InetSocketAddress getBindingAddress() {
@@ -61,4 +68,14 @@ public final class SshProxyServerConfiguration {
     public Optional<PublickeyAuthenticator> getPublickeyAuthenticator() {
         return publickeyAuthenticator;
     }
+
+    /**
+     * Return the dispatcher to which NETCONF subsystem channels are attached directly. If not present, each subsystem
+     * is proxied over an internal connection to the server listening on {@link #getLocalAddress()}.
+     *
+     * @return Server dispatcher, if present
+     */
+    public Optional<NetconfServerDispatcher> getServerDispatcher() {
+        return serverDispatcher;
+    }
 }
@@ -9,6 +9,7 @@ package org.opendaylight.netconf.ssh;
 
 import io.netty.channel.local.LocalAddress;
 import java.net.InetSocketAddress;
+import org.opendaylight.netconf.api.NetconfServerDispatcher;
 import org.opendaylight.netconf.auth.AuthProvider;
 import org.opendaylight.netconf.shaded.sshd.common.keyprovider.KeyPairProvider;
 import org.opendaylight.netconf.shaded.sshd.server.auth.pubkey.PublickeyAuthenticator;
@@ -20,6 +21,7 @@ public final class SshProxyServerConfigurationBuilder {
     private KeyPairProvider keyPairProvider;
     private int idleTimeout;
     private PublickeyAuthenticator publickeyAuthenticator = null;
+    private NetconfServerDispatcher serverDispatcher = null;
 
     public SshProxyServerConfigurationBuilder setBindingAddress(final InetSocketAddress bindingAddress) {
         this.bindingAddress = bindingAddress;
@@ -52,9 +54,14 @@ public final class SshProxyServerConfigurationBuilder {
         return this;
     }
 
+    public SshProxyServerConfigurationBuilder setServerDispatcher(final NetconfServerDispatcher serverDispatcher) {
+        this.serverDispatcher = serverDispatcher;
+        return this;
+    }
+
     public SshProxyServerConfiguration createSshProxyServerConfiguration() {
         return new SshProxyServerConfiguration(bindingAddress, localAddress, authenticator, publickeyAuthenticator,
-                keyPairProvider, idleTimeout);
+                keyPairProvider, idleTimeout, serverDispatcher);
     }
 
     public static SshProxyServerConfigurationBuilder create() {
@@ -11,9 +11,14 @@ package org.opendaylight.netconf.netty;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.base.Stopwatch;
 import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -29,9 +34,12 @@ import java.util.concurrent.TimeUnit;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.opendaylight.netconf.api.NetconfServerDispatcher;
+import org.opendaylight.netconf.api.messages.NetconfHelloMessageAdditionalHeader;
 import org.opendaylight.netconf.netty.EchoClientHandler.State;
 import org.opendaylight.netconf.nettyutil.handler.ssh.authentication.LoginPasswordHandler;
 import org.opendaylight.netconf.nettyutil.handler.ssh.client.AsyncSshHandler;
+import org.opendaylight.netconf.nettyutil.handler.ssh.client.NetconfSshClient;
 import org.opendaylight.netconf.shaded.sshd.common.util.security.SecurityUtils;
 import org.opendaylight.netconf.ssh.SshProxyServer;
 import org.opendaylight.netconf.ssh.SshProxyServerConfigurationBuilder;
@@ -103,12 +111,83 @@ public class SSHTest {
         }
     }
 
+    @Test
+    public void testDirectSubsystem() throws Exception {
+        // Echo handler attached directly to the SSH subsystem channel, instead of a server behind local address
+        final NetconfServerDispatcher dispatcher = echoDispatcher();
+        testEcho(new SshProxyServer(minaTimerEx, nettyGroup, nioExec), 10833, dispatcher,
+            AsyncSshHandler.DEFAULT_CLIENT);
+        verify(dispatcher).registerChannel(any(Channel.class), any(NetconfHelloMessageAdditionalHeader.class));
+    }
+
+    @Test
+    public void testOnEventLoop() throws Exception {
+        // Both the client and the server perform their SSH I/O on the Netty event loops
+        final NetconfSshClient sshClient = AsyncSshHandler.createEventLoopClient(nettyGroup);
+        try {
+            testEcho(SshProxyServer.createOnEventLoop(minaTimerEx, nettyGroup, nettyGroup), 10832, echoDispatcher(),
+                sshClient);
+        } finally {
+            sshClient.stop();
+        }
+    }
+
+    private static NetconfServerDispatcher echoDispatcher() {
+        final NetconfServerDispatcher dispatcher = mock(NetconfServerDispatcher.class);
+        doAnswer(invocation -> {
+            final Channel channel = invocation.getArgument(0);
+            channel.pipeline().addLast(new EchoServerHandler());
+            return nettyGroup.register(channel);
+        }).when(dispatcher).registerChannel(any(Channel.class), any(NetconfHelloMessageAdditionalHeader.class));
+        return dispatcher;
+    }
+
+    private void testEcho(final SshProxyServer sshProxyServer, final int port,
+            final NetconfServerDispatcher serverDispatcher, final NetconfSshClient sshClient) throws Exception {
+        File sshKeyPair = Files.createTempFile("sshKeyPair", ".pem").toFile();
+        sshKeyPair.deleteOnExit();
+
+        final InetSocketAddress addr = new InetSocketAddress("127.0.0.1", port);
+        sshProxyServer.bind(new SshProxyServerConfigurationBuilder()
+                .setBindingAddress(addr).setLocalAddress(NetconfConfiguration.NETCONF_LOCAL_ADDRESS)
+                .setAuthenticator((username, password) -> true)
+                .setKeyPairProvider(SecurityUtils.createGeneratorHostKeyProvider(sshKeyPair.toPath()))
+                .setServerDispatcher(serverDispatcher)
+                .setIdleTimeout(Integer.MAX_VALUE).createSshProxyServerConfiguration());
+
+        final EchoClientHandler echoClientHandler = connectClient(addr, sshClient);
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        while (echoClientHandler.isConnected() == false && stopwatch.elapsed(TimeUnit.SECONDS) < 30) {
+            Thread.sleep(500);
+        }
+        assertTrue(echoClientHandler.isConnected());
+        echoClientHandler.write(AHOJ);
+
+        stopwatch = stopwatch.reset().start();
+        while (echoClientHandler.read().endsWith(AHOJ) == false && stopwatch.elapsed(TimeUnit.SECONDS) < 30) {
+            Thread.sleep(500);
+        }
+
+        try {
+            final String read = echoClientHandler.read();
+            assertTrue(read + " should end with " + AHOJ, read.endsWith(AHOJ));
+        } finally {
+            sshProxyServer.close();
+        }
+    }
+
     public EchoClientHandler connectClient(final InetSocketAddress address) {
+        return connectClient(address, AsyncSshHandler.DEFAULT_CLIENT);
+    }
+
+    private EchoClientHandler connectClient(final InetSocketAddress address, final NetconfSshClient sshClient) {
         final EchoClientHandler echoClientHandler = new EchoClientHandler();
         final ChannelInitializer<NioSocketChannel> channelInitializer = new ChannelInitializer<NioSocketChannel>() {
             @Override
             public void initChannel(final NioSocketChannel ch) throws Exception {
-                ch.pipeline().addFirst(AsyncSshHandler.createForNetconfSubsystem(new LoginPasswordHandler("a", "a")));
+                ch.pipeline().addFirst(AsyncSshHandler.createForNetconfSubsystem(new LoginPasswordHandler("a", "a"),
+                    null, sshClient));
                 ch.pipeline().addLast(echoClientHandler);
             }
         };
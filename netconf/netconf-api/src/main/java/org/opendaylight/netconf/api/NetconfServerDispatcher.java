@@ -8,13 +8,26 @@
 
 package org.opendaylight.netconf.api;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.local.LocalAddress;
 import java.net.InetSocketAddress;
+import org.opendaylight.netconf.api.messages.NetconfHelloMessageAdditionalHeader;
 
 public interface NetconfServerDispatcher {
 
     ChannelFuture createServer(InetSocketAddress address);
 
     ChannelFuture createLocalServer(LocalAddress address);
+
+    /**
+     * Attach a NETCONF server session to a channel which has been established by other means, for example to a channel
+     * backed by an SSH subsystem. The channel is registered with this dispatcher's worker group and session
+     * negotiation starts once it is active.
+     *
+     * @param channel Unregistered channel
+     * @param additionalHeader Client information, used instead of any additional header in client's hello message
+     * @return ChannelFuture representing the registration process
+     */
+    ChannelFuture registerChannel(Channel channel, NetconfHelloMessageAdditionalHeader additionalHeader);
 }
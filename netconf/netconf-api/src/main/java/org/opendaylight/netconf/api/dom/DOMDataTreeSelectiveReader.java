@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.api.dom;
+
+import com.google.common.annotations.Beta;
+import com.google.common.util.concurrent.FluentFuture;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataBrokerExtension;
+import org.opendaylight.mdsal.dom.api.DOMServiceExtension;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * A {@link DOMServiceExtension} which allows users of a {@link DOMDataBroker} to read only a selection of data, such
+ * as the one requested by RESTCONF depth and fields parameters. This is useful for brokers backed by a remote device,
+ * which can then avoid transferring data the user is not interested in.
+ *
+ * <p>
+ * The selection is a hint: implementations are free to return more data than selected, up to the complete data, but
+ * never less. Users are therefore expected to apply the selection to the returned data on their own.
+ */
+@Beta
+public interface DOMDataTreeSelectiveReader extends DOMDataBrokerExtension {
+    /**
+     * Read a selection of the data at a path.
+     *
+     * @param store
+     *     datastore to read from
+     * @param path
+     *     path of the data to read
+     * @param fields
+     *     paths of the descendants of the data to select, relative to {@code path}. Lists are traversed via an entry
+     *     identifier without keys. If empty, all descendants are selected
+     * @param depth
+     *     if present, number of data tree levels to select, the data at {@code path} being the first one. Only
+     *     applies if {@code fields} are empty
+     * @return
+     *     a FluentFuture containing the result of the read
+     */
+    FluentFuture<Optional<NormalizedNode<?, ?>>> read(LogicalDatastoreType store, YangInstanceIdentifier path,
+        List<YangInstanceIdentifier> fields, OptionalInt depth);
+}
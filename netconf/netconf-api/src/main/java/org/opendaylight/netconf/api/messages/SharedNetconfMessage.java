@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.api.messages;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.w3c.dom.Document;
+
+/**
+ * A {@link NetconfMessage} which may be sent to multiple sessions, such as a notification. Its document must not be
+ * modified once the message has been constructed, which allows encoders to serialize it only once and share the result
+ * among all sessions using the same encoding.
+ */
+public class SharedNetconfMessage extends NetconfMessage {
+    private final ConcurrentMap<Object, byte[]> encodings = new ConcurrentHashMap<>(2);
+
+    public SharedNetconfMessage(final Document doc) {
+        super(doc);
+    }
+
+    /**
+     * Return the encoded form of this message for a particular encoding. The encoding is performed on first request,
+     * all subsequent requests for the same encoding get the same result. Callers must not modify returned array.
+     *
+     * @param encoding Encoding identifier, must implement {@link Object#equals(Object)} and {@link Object#hashCode()}
+     * @param encoder Function performing the encoding
+     * @return Encoded message
+     */
+    public final byte[] getEncoded(final Object encoding, final Function<Document, byte[]> encoder) {
+        requireNonNull(encoder);
+        return encodings.computeIfAbsent(requireNonNull(encoding), key -> encoder.apply(getDocument()));
+    }
+}
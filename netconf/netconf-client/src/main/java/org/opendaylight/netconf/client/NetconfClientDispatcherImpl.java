@@ -13,9 +13,12 @@ import io.netty.util.concurrent.Future;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.netconf.client.conf.NetconfClientConfiguration;
 import org.opendaylight.netconf.client.conf.NetconfReconnectingClientConfiguration;
 import org.opendaylight.netconf.nettyutil.AbstractNetconfDispatcher;
+import org.opendaylight.netconf.nettyutil.handler.ssh.client.AsyncSshHandler;
+import org.opendaylight.netconf.nettyutil.handler.ssh.client.NetconfSshClient;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Uri;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,17 +30,43 @@ public class NetconfClientDispatcherImpl
     private static final Logger LOG = LoggerFactory.getLogger(NetconfClientDispatcherImpl.class);
 
     private final Timer timer;
+    private final @Nullable NetconfSshClient defaultSshClient;
 
     public NetconfClientDispatcherImpl(final EventLoopGroup bossGroup, final EventLoopGroup workerGroup,
                                        final Timer timer) {
+        this(bossGroup, workerGroup, timer, false);
+    }
+
+    /**
+     * Create a dispatcher, optionally running SSH on the {@code workerGroup}. If requested, SSH configurations which
+     * do not specify their own client use a client created by
+     * {@link AsyncSshHandler#createEventLoopClient(EventLoopGroup)}, so that SSH runs on the same threads as the rest
+     * of the NETCONF client. That client is stopped when this dispatcher is closed.
+     *
+     * @param bossGroup      boss group
+     * @param workerGroup    worker group
+     * @param timer          timer
+     * @param sshOnEventLoop {@code true} to run SSH on the worker group, {@code false} to use the shared NIO2-based
+     *                       client
+     */
+    public NetconfClientDispatcherImpl(final EventLoopGroup bossGroup, final EventLoopGroup workerGroup,
+                                       final Timer timer, final boolean sshOnEventLoop) {
         super(bossGroup, workerGroup);
         this.timer = timer;
+        this.defaultSshClient = sshOnEventLoop ? AsyncSshHandler.createEventLoopClient(workerGroup) : null;
     }
 
     protected Timer getTimer() {
         return timer;
     }
 
+    @Override
+    public void close() {
+        if (defaultSshClient != null) {
+            defaultSshClient.stop();
+        }
+    }
+
     @Override
     public Future<NetconfClientSession> createClient(final NetconfClientConfiguration clientConfiguration) {
         switch (clientConfiguration.getProtocol()) {
@@ -90,7 +119,8 @@ public class NetconfClientDispatcherImpl
         return super.createClient(currentConfiguration.getAddress(), currentConfiguration.getReconnectStrategy(),
             (ch, sessionPromise) -> new SshClientChannelInitializer(currentConfiguration.getAuthHandler(),
                         getNegotiatorFactory(currentConfiguration), currentConfiguration.getSessionListener(),
-                        currentConfiguration.getSshClient()).initialize(ch, sessionPromise));
+                        sshClient(currentConfiguration), currentConfiguration.getSshKeepaliveMillis())
+                    .initialize(ch, sessionPromise));
     }
 
     private Future<Void> createReconnectingSshClient(
@@ -98,13 +128,18 @@ public class NetconfClientDispatcherImpl
         LOG.debug("Creating reconnecting SSH client with configuration: {}", currentConfiguration);
         final SshClientChannelInitializer init = new SshClientChannelInitializer(currentConfiguration.getAuthHandler(),
                 getNegotiatorFactory(currentConfiguration), currentConfiguration.getSessionListener(),
-                currentConfiguration.getSshClient());
+                sshClient(currentConfiguration), currentConfiguration.getSshKeepaliveMillis());
 
         return super.createReconnectingClient(currentConfiguration.getAddress(), currentConfiguration
                 .getConnectStrategyFactory(), currentConfiguration.getReconnectStrategy(),
                 init::initialize);
     }
 
+    private @Nullable NetconfSshClient sshClient(final NetconfClientConfiguration currentConfiguration) {
+        final NetconfSshClient configured = currentConfiguration.getSshClient();
+        return configured != null ? configured : defaultSshClient;
+    }
+
     private Future<NetconfClientSession> createTlsClient(final NetconfClientConfiguration currentConfiguration) {
         LOG.debug("Creating TLS client with configuration: {}", currentConfiguration);
         return super.createClient(currentConfiguration.getAddress(), currentConfiguration.getReconnectStrategy(),
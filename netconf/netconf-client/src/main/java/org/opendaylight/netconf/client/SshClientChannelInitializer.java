@@ -20,14 +20,23 @@ final class SshClientChannelInitializer extends AbstractChannelInitializer<Netco
     private final NetconfClientSessionNegotiatorFactory negotiatorFactory;
     private final NetconfClientSessionListener sessionListener;
     private final NetconfSshClient sshClient;
+    private final long keepaliveMillis;
 
     SshClientChannelInitializer(final AuthenticationHandler authHandler,
             final NetconfClientSessionNegotiatorFactory negotiatorFactory,
-            final NetconfClientSessionListener sessionListener, @Nullable final NetconfSshClient sshClient) {
+            final NetconfClientSessionListener sessionListener, @Nullable final NetconfSshClient sshClient,
+            final long keepaliveMillis) {
         this.authenticationHandler = authHandler;
         this.negotiatorFactory = negotiatorFactory;
         this.sessionListener = sessionListener;
         this.sshClient = sshClient;
+        this.keepaliveMillis = keepaliveMillis;
+    }
+
+    SshClientChannelInitializer(final AuthenticationHandler authHandler,
+            final NetconfClientSessionNegotiatorFactory negotiatorFactory,
+            final NetconfClientSessionListener sessionListener, @Nullable final NetconfSshClient sshClient) {
+        this(authHandler, negotiatorFactory, sessionListener, sshClient, 0);
     }
 
     SshClientChannelInitializer(final AuthenticationHandler authHandler,
@@ -39,7 +48,8 @@ final class SshClientChannelInitializer extends AbstractChannelInitializer<Netco
     @Override
     public void initialize(final Channel ch, final Promise<NetconfClientSession> promise) {
         // ssh handler has to be the first handler in pipeline
-        ch.pipeline().addFirst(AsyncSshHandler.createForNetconfSubsystem(authenticationHandler, promise, sshClient));
+        ch.pipeline().addFirst(AsyncSshHandler.createForNetconfSubsystem(authenticationHandler, promise, sshClient,
+            keepaliveMillis));
         super.initialize(ch, promise);
     }
 
@@ -42,6 +42,7 @@ public class NetconfClientConfiguration {
     private final NetconfSshClient sshClient;
 
     private final List<Uri> odlHelloCapabilities;
+    private final long sshKeepaliveMillis;
 
     NetconfClientConfiguration(final NetconfClientProtocol protocol, final InetSocketAddress address,
                                final Long connectionTimeoutMillis,
@@ -49,7 +50,7 @@ public class NetconfClientConfiguration {
                                final NetconfClientSessionListener sessionListener,
                                final ReconnectStrategy reconnectStrategy, final AuthenticationHandler authHandler,
                                final SslHandlerFactory sslHandlerFactory, final NetconfSshClient sshClient,
-                               final List<Uri> odlHelloCapabilities) {
+                               final List<Uri> odlHelloCapabilities, final long sshKeepaliveMillis) {
         this.address = address;
         this.connectionTimeoutMillis = connectionTimeoutMillis;
         this.additionalHeader = additionalHeader;
@@ -60,6 +61,7 @@ public class NetconfClientConfiguration {
         this.sslHandlerFactory = sslHandlerFactory;
         this.sshClient = sshClient;
         this.odlHelloCapabilities = odlHelloCapabilities;
+        this.sshKeepaliveMillis = sshKeepaliveMillis;
         validateConfiguration();
     }
 
@@ -103,6 +105,15 @@ public class NetconfClientConfiguration {
         return odlHelloCapabilities;
     }
 
+    /**
+     * Return the interval between SSH keepalive requests sent by the SSH transport.
+     *
+     * @return keepalive interval in milliseconds, non-positive value if SSH keepalives are disabled
+     */
+    public long getSshKeepaliveMillis() {
+        return sshKeepaliveMillis;
+    }
+
     private void validateConfiguration() {
         switch (requireNonNull(clientProtocol)) {
             case TLS:
@@ -151,7 +162,8 @@ public class NetconfClientConfiguration {
                 .add("reconnectStrategy", reconnectStrategy)
                 .add("clientProtocol", clientProtocol)
                 .add("authHandler", authHandler)
-                .add("sslHandlerFactory", sslHandlerFactory);
+                .add("sslHandlerFactory", sslHandlerFactory)
+                .add("sshKeepaliveMillis", sshKeepaliveMillis);
     }
 
     public enum NetconfClientProtocol {
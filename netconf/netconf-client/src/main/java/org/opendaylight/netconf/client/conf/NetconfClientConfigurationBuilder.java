@@ -33,6 +33,7 @@ public class NetconfClientConfigurationBuilder {
     private SslHandlerFactory sslHandlerFactory;
     private NetconfSshClient sshClient;
     private List<Uri> odlHelloCapabilities;
+    private long sshKeepaliveMillis;
 
 
     protected NetconfClientConfigurationBuilder() {
@@ -104,6 +105,19 @@ public class NetconfClientConfigurationBuilder {
         return this;
     }
 
+    /**
+     * Enable keepalive requests sent by the SSH transport. Such keepalives are cheaper than NETCONF keepalive RPCs,
+     * as they do not involve the NETCONF layer at all.
+     *
+     * @param sshKeepaliveMillis interval between keepalive requests, non-positive value disables them
+     * @return this builder
+     */
+    @SuppressWarnings("checkstyle:hiddenField")
+    public NetconfClientConfigurationBuilder withSshKeepaliveMillis(final long sshKeepaliveMillis) {
+        this.sshKeepaliveMillis = sshKeepaliveMillis;
+        return this;
+    }
+
     final InetSocketAddress getAddress() {
         return address;
     }
@@ -144,8 +158,13 @@ public class NetconfClientConfigurationBuilder {
         return odlHelloCapabilities;
     }
 
+    final long getSshKeepaliveMillis() {
+        return sshKeepaliveMillis;
+    }
+
     public NetconfClientConfiguration build() {
         return new NetconfClientConfiguration(clientProtocol, address, connectionTimeoutMillis, additionalHeader,
-                sessionListener, reconnectStrategy, authHandler, sslHandlerFactory, sshClient, odlHelloCapabilities);
+                sessionListener, reconnectStrategy, authHandler, sslHandlerFactory, sshClient, odlHelloCapabilities,
+                sshKeepaliveMillis);
     }
 }
@@ -34,9 +34,10 @@ public final class NetconfReconnectingClientConfiguration extends NetconfClientC
                                            final AuthenticationHandler authHandler,
                                            final SslHandlerFactory sslHandlerFactory,
                                            final NetconfSshClient sshClient,
-                                           final List<Uri> odlHelloCapabilities) {
+                                           final List<Uri> odlHelloCapabilities,
+                                           final long sshKeepaliveMillis) {
         super(clientProtocol, address, connectionTimeoutMillis, additionalHeader, sessionListener, reconnectStrategy,
-                authHandler, sslHandlerFactory, sshClient, odlHelloCapabilities);
+                authHandler, sslHandlerFactory, sshClient, odlHelloCapabilities, sshKeepaliveMillis);
         this.connectStrategyFactory = connectStrategyFactory;
         validateReconnectConfiguration();
     }
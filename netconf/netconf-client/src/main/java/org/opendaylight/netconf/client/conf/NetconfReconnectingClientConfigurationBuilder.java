@@ -40,7 +40,8 @@ public final class NetconfReconnectingClientConfigurationBuilder extends Netconf
     public NetconfReconnectingClientConfiguration build() {
         return new NetconfReconnectingClientConfiguration(getProtocol(), getAddress(), getConnectionTimeoutMillis(),
                 getAdditionalHeader(), getSessionListener(), getReconnectStrategy(), connectStrategyFactory,
-                getAuthHandler(), getSslHandlerFactory(), getSshClient(), getOdlHelloCapabilities());
+                getAuthHandler(), getSslHandlerFactory(), getSshClient(), getOdlHelloCapabilities(),
+                getSshKeepaliveMillis());
     }
 
     // Override setter methods to return subtype
@@ -102,4 +103,9 @@ public final class NetconfReconnectingClientConfigurationBuilder extends Netconf
     public NetconfReconnectingClientConfigurationBuilder withOdlHelloCapabilities(List<Uri> odlHelloCapabilities) {
         return (NetconfReconnectingClientConfigurationBuilder) super.withOdlHelloCapabilities(odlHelloCapabilities);
     }
+
+    @Override
+    public NetconfReconnectingClientConfigurationBuilder withSshKeepaliveMillis(final long sshKeepaliveMillis) {
+        return (NetconfReconnectingClientConfigurationBuilder) super.withSshKeepaliveMillis(sshKeepaliveMillis);
+    }
 }
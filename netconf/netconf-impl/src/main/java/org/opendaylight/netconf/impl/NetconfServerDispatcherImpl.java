@@ -7,12 +7,16 @@
  */
 package org.opendaylight.netconf.impl;
 
+import static java.util.Objects.requireNonNull;
+
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.local.LocalAddress;
 import io.netty.channel.local.LocalServerChannel;
 import java.net.InetSocketAddress;
 import org.opendaylight.netconf.api.NetconfServerDispatcher;
+import org.opendaylight.netconf.api.messages.NetconfHelloMessageAdditionalHeader;
 import org.opendaylight.netconf.nettyutil.AbstractNetconfDispatcher;
 
 public class NetconfServerDispatcherImpl extends AbstractNetconfDispatcher<NetconfServerSession,
@@ -35,4 +39,11 @@ public class NetconfServerDispatcherImpl extends AbstractNetconfDispatcher<Netco
     public ChannelFuture createLocalServer(LocalAddress address) {
         return super.createServer(address, LocalServerChannel.class, initializer::initialize);
     }
+
+    @Override
+    public ChannelFuture registerChannel(final Channel channel,
+            final NetconfHelloMessageAdditionalHeader additionalHeader) {
+        channel.attr(NetconfServerSessionNegotiator.ADDITIONAL_HEADER).set(requireNonNull(additionalHeader));
+        return super.registerChannel(channel, initializer::initialize);
+    }
 }
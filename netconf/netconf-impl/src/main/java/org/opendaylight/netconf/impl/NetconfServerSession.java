@@ -21,6 +21,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 import org.opendaylight.netconf.api.NetconfMessage;
 import org.opendaylight.netconf.api.messages.NetconfHelloMessageAdditionalHeader;
@@ -64,11 +65,14 @@ public final class NetconfServerSession extends AbstractNetconfSession<NetconfSe
     private final NetconfHelloMessageAdditionalHeader header;
     private final NetconfServerSessionListener sessionListener;
 
+    // Counters are updated from I/O and notification threads and read by monitoring
+    private final LongAdder inRpcSuccess = new LongAdder();
+    private final LongAdder inRpcFail = new LongAdder();
+    private final LongAdder outRpcError = new LongAdder();
+    private final LongAdder outNotification = new LongAdder();
+    private final SessionRpcStatistics rpcStatistics = new SessionRpcStatistics();
+
     private ZonedDateTime loginTime;
-    private long inRpcSuccess;
-    private long inRpcFail;
-    private long outRpcError;
-    private long outNotification;
     private volatile boolean delayedClose;
 
     public NetconfServerSession(final NetconfServerSessionListener sessionListener, final Channel channel,
@@ -98,7 +102,7 @@ public final class NetconfServerSession extends AbstractNetconfSession<NetconfSe
     public ChannelFuture sendMessage(final NetconfMessage netconfMessage) {
         final ChannelFuture channelFuture = super.sendMessage(netconfMessage);
         if (netconfMessage instanceof NetconfNotification) {
-            outNotification++;
+            outNotification.increment();
             sessionListener.onNotification(this, (NetconfNotification) netconfMessage);
         }
         // delayed close was set, close after the message was sent
@@ -109,15 +113,25 @@ public final class NetconfServerSession extends AbstractNetconfSession<NetconfSe
     }
 
     public void onIncommingRpcSuccess() {
-        inRpcSuccess++;
+        inRpcSuccess.increment();
     }
 
     public void onIncommingRpcFail() {
-        inRpcFail++;
+        inRpcFail.increment();
     }
 
     public void onOutgoingRpcError() {
-        outRpcError++;
+        outRpcError.increment();
+    }
+
+    /**
+     * Record the time it took to process an RPC.
+     *
+     * @param operation operation name
+     * @param elapsedNanos processing time in nanoseconds
+     */
+    public void onRpcCompleted(final String operation, final long elapsedNanos) {
+        rpcStatistics.record(operation, elapsedNanos);
     }
 
     @Override
@@ -139,16 +153,22 @@ public final class NetconfServerSession extends AbstractNetconfSession<NetconfSe
 
         return builder
                 .setLoginTime(new DateAndTime(formattedDateTime))
-                .setInBadRpcs(new ZeroBasedCounter32(Uint32.valueOf(inRpcFail)))
-                .setInRpcs(new ZeroBasedCounter32(Uint32.valueOf(inRpcSuccess)))
-                .setOutRpcErrors(new ZeroBasedCounter32(Uint32.valueOf(outRpcError)))
+                .setInBadRpcs(counter(inRpcFail))
+                .setInRpcs(counter(inRpcSuccess))
+                .setOutRpcErrors(counter(outRpcError))
                 .setUsername(header.getUserName())
                 .setTransport(getTransportForString(header.getTransport()))
-                .setOutNotifications(new ZeroBasedCounter32(Uint32.valueOf(outNotification)))
+                .setOutNotifications(counter(outNotification))
                 .addAugmentation(new Session1Builder().setSessionIdentifier(header.getSessionIdentifier()).build())
+                .addAugmentation(rpcStatistics.toAugmentation())
                 .build();
     }
 
+    private static ZeroBasedCounter32 counter(final LongAdder adder) {
+        // zero-based-counter32 wraps around
+        return new ZeroBasedCounter32(Uint32.valueOf(adder.sum() & 0xFFFFFFFFL));
+    }
+
     private static Class<? extends Transport> getTransportForString(final String transport) {
         switch (transport) {
             case "ssh":
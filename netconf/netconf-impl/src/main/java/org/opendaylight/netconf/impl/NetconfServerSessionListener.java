@@ -32,6 +32,7 @@ import org.w3c.dom.Node;
 public class NetconfServerSessionListener implements NetconfSessionListener<NetconfServerSession> {
 
     private static final Logger LOG = LoggerFactory.getLogger(NetconfServerSessionListener.class);
+    private static final String UNKNOWN_OPERATION = "unknown";
     private final SessionListener monitoringSessionListener;
     private final NetconfOperationRouter operationRouter;
     private final AutoCloseable onSessionDownCloseable;
@@ -82,6 +83,7 @@ public class NetconfServerSessionListener implements NetconfSessionListener<Netc
     @SuppressWarnings("checkstyle:IllegalCatch")
     @Override
     public void onMessage(final NetconfServerSession session, final NetconfMessage netconfMessage) {
+        final long startNanos = System.nanoTime();
         try {
 
             Preconditions.checkState(operationRouter != null, "Cannot handle message, session up was not yet received");
@@ -90,6 +92,7 @@ public class NetconfServerSessionListener implements NetconfSessionListener<Netc
                     session);
             LOG.debug("Responding with message {}", message);
             session.sendMessage(message);
+            session.onRpcCompleted(operationName(netconfMessage), System.nanoTime() - startNanos);
             monitoringSessionListener.onSessionEvent(SessionEvent.inRpcSuccess(session));
         } catch (final RuntimeException e) {
             // TODO: should send generic error or close session?
@@ -104,9 +107,20 @@ public class NetconfServerSessionListener implements NetconfSessionListener<Netc
             monitoringSessionListener.onSessionEvent(SessionEvent.inRpcFail(session));
             monitoringSessionListener.onSessionEvent(SessionEvent.outRpcError(session));
             SendErrorExceptionUtil.sendErrorMessage(session, e, netconfMessage);
+            session.onRpcCompleted(operationName(netconfMessage), System.nanoTime() - startNanos);
         }
     }
 
+    private static String operationName(final NetconfMessage netconfMessage) {
+        for (Node child = netconfMessage.getDocument().getDocumentElement().getFirstChild(); child != null;
+                child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                return child.getLocalName();
+            }
+        }
+        return UNKNOWN_OPERATION;
+    }
+
     public void onNotification(final NetconfServerSession session, final NetconfNotification notification) {
         monitoringSessionListener.onSessionEvent(SessionEvent.notification(session));
     }
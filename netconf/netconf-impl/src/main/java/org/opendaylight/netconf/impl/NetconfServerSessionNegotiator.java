@@ -10,6 +10,7 @@ package org.opendaylight.netconf.impl;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.netty.channel.Channel;
 import io.netty.channel.local.LocalAddress;
+import io.netty.util.AttributeKey;
 import io.netty.util.Timer;
 import io.netty.util.concurrent.Promise;
 import java.net.InetSocketAddress;
@@ -33,6 +34,13 @@ public class NetconfServerSessionNegotiator
 
     private static final String UNKNOWN = "unknown";
 
+    /**
+     * Client information attached to channels registered via
+     * {@link NetconfServerDispatcherImpl#registerChannel(Channel, NetconfHelloMessageAdditionalHeader)}.
+     */
+    static final AttributeKey<NetconfHelloMessageAdditionalHeader> ADDITIONAL_HEADER =
+            AttributeKey.valueOf(NetconfServerSessionNegotiator.class, "additionalHeader");
+
     protected NetconfServerSessionNegotiator(
             NetconfServerSessionPreferences sessionPreferences,
             Promise<NetconfServerSession> promise, Channel channel,
@@ -59,8 +67,10 @@ public class NetconfServerSessionNegotiator
         Optional<NetconfHelloMessageAdditionalHeader> additionalHeader = message
                 .getAdditionalHeader();
 
-        NetconfHelloMessageAdditionalHeader parsedHeader;
-        if (additionalHeader.isPresent()) {
+        NetconfHelloMessageAdditionalHeader parsedHeader = channel.attr(ADDITIONAL_HEADER).get();
+        if (parsedHeader != null) {
+            LOG.debug("Using additional header {} attached to channel {}", parsedHeader, channel);
+        } else if (additionalHeader.isPresent()) {
             parsedHeader = additionalHeader.get();
         } else {
 
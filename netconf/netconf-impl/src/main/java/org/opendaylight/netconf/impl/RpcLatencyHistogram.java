@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.ZeroBasedCounter64;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.session.statistics.rev200601.latency.histogram.Bucket;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.session.statistics.rev200601.latency.histogram.BucketBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.session.statistics.rev200601.latency.histogram.BucketKey;
+import org.opendaylight.yangtools.yang.common.Uint64;
+
+/**
+ * Histogram of RPC processing times with exponentially-growing buckets. Bucket {@code i} counts latencies up to
+ * 2<sup>i</sup> microseconds, the last bucket also counts anything longer. Recording does not take any locks.
+ */
+final class RpcLatencyHistogram {
+    @VisibleForTesting
+    static final int BUCKETS = 32;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    RpcLatencyHistogram() {
+        for (int i = 0; i < BUCKETS; ++i) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(final long elapsedNanos) {
+        final long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        buckets[bucketOf(micros)].increment();
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    @VisibleForTesting
+    static int bucketOf(final long micros) {
+        // ceil(log2(micros))
+        return Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(micros - 1));
+    }
+
+    @VisibleForTesting
+    static long upperBound(final int bucket) {
+        return 1L << bucket;
+    }
+
+    ZeroBasedCounter64 getCount() {
+        return new ZeroBasedCounter64(Uint64.valueOf(count.sum()));
+    }
+
+    Uint64 getTotalTime() {
+        return Uint64.valueOf(totalMicros.sum());
+    }
+
+    Uint64 getMaxTime() {
+        return Uint64.valueOf(maxMicros.get());
+    }
+
+    ImmutableMap<BucketKey, Bucket> getBuckets() {
+        final ImmutableMap.Builder<BucketKey, Bucket> builder = ImmutableMap.builder();
+        for (int i = 0; i < BUCKETS; ++i) {
+            final long value = buckets[i].sum();
+            if (value != 0) {
+                final Bucket bucket = new BucketBuilder()
+                        .setUpperBound(Uint64.valueOf(upperBound(i)))
+                        .setCount(new ZeroBasedCounter64(Uint64.valueOf(value)))
+                        .build();
+                builder.put(bucket.key(), bucket);
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.session.statistics.rev200601.Session1;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.session.statistics.rev200601.Session1Builder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.session.statistics.rev200601.netconf.state.sessions.session.RpcLatencyBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.session.statistics.rev200601.netconf.state.sessions.session.rpc.latency.Operation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.session.statistics.rev200601.netconf.state.sessions.session.rpc.latency.OperationBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.session.statistics.rev200601.netconf.state.sessions.session.rpc.latency.OperationKey;
+
+/**
+ * RPC latency statistics of a single session, both overall and per operation.
+ */
+final class SessionRpcStatistics {
+    // Operations are named by clients, do not let a misbehaving one grow this without bounds
+    @VisibleForTesting
+    static final int MAX_OPERATIONS = 128;
+
+    private final RpcLatencyHistogram total = new RpcLatencyHistogram();
+    private final ConcurrentMap<String, RpcLatencyHistogram> operations = new ConcurrentHashMap<>();
+
+    void record(final String operation, final long elapsedNanos) {
+        total.record(elapsedNanos);
+
+        RpcLatencyHistogram histogram = operations.get(operation);
+        if (histogram == null) {
+            if (operations.size() >= MAX_OPERATIONS) {
+                return;
+            }
+            histogram = operations.computeIfAbsent(operation, key -> new RpcLatencyHistogram());
+        }
+        histogram.record(elapsedNanos);
+    }
+
+    Session1 toAugmentation() {
+        final ImmutableMap.Builder<OperationKey, Operation> builder = ImmutableMap.builder();
+        for (Entry<String, RpcLatencyHistogram> entry : operations.entrySet()) {
+            final RpcLatencyHistogram histogram = entry.getValue();
+            final Operation operation = new OperationBuilder()
+                    .setName(entry.getKey())
+                    .setCount(histogram.getCount())
+                    .setTotalTime(histogram.getTotalTime())
+                    .setMaxTime(histogram.getMaxTime())
+                    .setBucket(histogram.getBuckets())
+                    .build();
+            builder.put(operation.key(), operation);
+        }
+
+        return new Session1Builder()
+                .setRpcLatency(new RpcLatencyBuilder()
+                    .setCount(total.getCount())
+                    .setTotalTime(total.getTotalTime())
+                    .setMaxTime(total.getMaxTime())
+                    .setBucket(total.getBuckets())
+                    .setOperation(builder.build())
+                    .build())
+                .build();
+    }
+}
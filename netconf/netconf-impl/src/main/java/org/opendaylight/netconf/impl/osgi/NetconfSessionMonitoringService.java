@@ -13,12 +13,14 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.opendaylight.controller.config.threadpool.ScheduledThreadPool;
 import org.opendaylight.netconf.api.monitoring.NetconfManagementSession;
 import org.opendaylight.netconf.api.monitoring.NetconfMonitoringService;
@@ -34,12 +36,16 @@ import org.slf4j.LoggerFactory;
  * This class implements {@link SessionListener} to receive updates about Netconf sessions. Instance notifies its
  * listeners about session start and end. It also publishes on regular interval list of sessions,
  * where events like rpc or notification happened.
+ *
+ * <p>
+ * Session events are reported from sessions' I/O threads. They only mark the session as changed, without taking any
+ * locks, and the periodic update task harvests the marks.
  */
 class NetconfSessionMonitoringService implements SessionListener, AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(NetconfSessionMonitoringService.class);
 
-    private final Set<NetconfManagementSession> sessions = new HashSet<>();
-    private final Set<NetconfManagementSession> changedSessions = new HashSet<>();
+    // Sessions along with their 'changed since last update' flag. Modified under lock, read without it.
+    private final ConcurrentMap<NetconfManagementSession, AtomicBoolean> sessions = new ConcurrentHashMap<>();
     private final Set<NetconfMonitoringService.SessionsListener> listeners = new HashSet<>();
     private final ScheduledExecutorService executor;
     private final long updateInterval;
@@ -67,7 +73,7 @@ class NetconfSessionMonitoringService implements SessionListener, AutoCloseable
     }
 
     synchronized Sessions getSessions() {
-        final Collection<Session> managementSessions = Collections2.transform(sessions,
+        final Collection<Session> managementSessions = Collections2.transform(sessions.keySet(),
                 NetconfManagementSession::toManagementSession);
         return new SessionsBuilder()
                 .setSession(Maps.uniqueIndex(managementSessions, Session::key))
@@ -77,23 +83,25 @@ class NetconfSessionMonitoringService implements SessionListener, AutoCloseable
     @Override
     public synchronized void onSessionUp(final NetconfManagementSession session) {
         LOG.debug("Session {} up", session);
-        Preconditions.checkState(!sessions.contains(session), "Session %s was already added", session);
-        sessions.add(session);
+        Preconditions.checkState(sessions.putIfAbsent(session, new AtomicBoolean()) == null,
+            "Session %s was already added", session);
         notifySessionUp(session);
     }
 
     @Override
     public synchronized void onSessionDown(final NetconfManagementSession session) {
         LOG.debug("Session {} down", session);
-        Preconditions.checkState(sessions.contains(session), "Session %s not present", session);
-        sessions.remove(session);
-        changedSessions.remove(session);
+        Preconditions.checkState(sessions.remove(session) != null, "Session %s not present", session);
         notifySessionDown(session);
     }
 
     @Override
-    public synchronized void onSessionEvent(final SessionEvent event) {
-        changedSessions.add(event.getSession());
+    public void onSessionEvent(final SessionEvent event) {
+        final AtomicBoolean changed = sessions.get(event.getSession());
+        // Avoid writing the flag if it is already set, so that frequent events do not keep invalidating its cache line
+        if (changed != null && !changed.get()) {
+            changed.set(true);
+        }
     }
 
     synchronized AutoCloseable registerListener(final NetconfMonitoringService.SessionsListener listener) {
@@ -112,17 +120,23 @@ class NetconfSessionMonitoringService implements SessionListener, AutoCloseable
     }
 
     private synchronized void updateSessionStats() {
-        if (changedSessions.isEmpty()) {
+        final ImmutableList.Builder<Session> builder = ImmutableList.builder();
+        boolean changed = false;
+        for (Entry<NetconfManagementSession, AtomicBoolean> entry : sessions.entrySet()) {
+            // Clear the flag before reading statistics, so that no event is missed
+            if (entry.getValue().get() && entry.getValue().getAndSet(false)) {
+                builder.add(entry.getKey().toManagementSession());
+                changed = true;
+            }
+        }
+        if (!changed) {
             return;
         }
-        final List<Session> changed = changedSessions.stream()
-                .map(NetconfManagementSession::toManagementSession)
-                .collect(Collectors.toList());
-        final ImmutableList<Session> sessionImmutableList = ImmutableList.copyOf(changed);
+
+        final ImmutableList<Session> sessionImmutableList = builder.build();
         for (NetconfMonitoringService.SessionsListener listener : listeners) {
             listener.onSessionsUpdated(sessionImmutableList);
         }
-        changedSessions.clear();
     }
 
     private void notifySessionUp(final NetconfManagementSession managementSession) {
@@ -17,6 +17,7 @@ import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -36,6 +37,9 @@ import org.opendaylight.netconf.notifications.NetconfNotification;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.NetconfTcp;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.NetconfSsh;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.sessions.Session;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.session.statistics.rev200601.Session1;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.session.statistics.rev200601.netconf.state.sessions.session.RpcLatency;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.session.statistics.rev200601.netconf.state.sessions.session.rpc.latency.OperationKey;
 import org.w3c.dom.Document;
 
 public class NetconfServerSessionTest {
@@ -110,6 +114,24 @@ public class NetconfServerSessionTest {
                 afterRpcSuccess.getInRpcs().getValue().longValue());
     }
 
+    @Test
+    public void testOnRpcCompleted() throws Exception {
+        session.sessionUp();
+        session.onRpcCompleted("get", TimeUnit.MILLISECONDS.toNanos(3));
+        session.onRpcCompleted("get", TimeUnit.MILLISECONDS.toNanos(1));
+        session.onRpcCompleted("edit-config", TimeUnit.MILLISECONDS.toNanos(10));
+
+        final RpcLatency latency = session.toManagementSession().augmentation(Session1.class).getRpcLatency();
+        Assert.assertEquals(3, latency.getCount().getValue().longValue());
+        Assert.assertEquals(14000, latency.getTotalTime().longValue());
+        Assert.assertEquals(10000, latency.getMaxTime().longValue());
+        Assert.assertEquals(3, latency.getBucket().size());
+        Assert.assertEquals(2, latency.getOperation().get(new OperationKey("get")).getCount().getValue()
+            .longValue());
+        Assert.assertEquals(1, latency.getOperation().get(new OperationKey("edit-config")).getCount().getValue()
+            .longValue());
+    }
+
     @Test
     public void testOnIncommingRpcFail() throws Exception {
         session.sessionUp();
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.session.statistics.rev200601.latency.histogram.BucketKey;
+import org.opendaylight.yangtools.yang.common.Uint64;
+
+public class RpcLatencyHistogramTest {
+    @Test
+    public void testBucketOf() {
+        assertEquals(0, RpcLatencyHistogram.bucketOf(1));
+        assertEquals(1, RpcLatencyHistogram.bucketOf(2));
+        assertEquals(2, RpcLatencyHistogram.bucketOf(3));
+        assertEquals(2, RpcLatencyHistogram.bucketOf(4));
+        assertEquals(10, RpcLatencyHistogram.bucketOf(1024));
+        assertEquals(11, RpcLatencyHistogram.bucketOf(1025));
+        assertEquals(RpcLatencyHistogram.BUCKETS - 1, RpcLatencyHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testRecord() {
+        final RpcLatencyHistogram histogram = new RpcLatencyHistogram();
+        // Sub-microsecond latencies count as one microsecond
+        histogram.record(10);
+        histogram.record(1_000_000);
+        histogram.record(1_000_000);
+
+        assertEquals(3, histogram.getCount().getValue().longValue());
+        assertEquals(2001, histogram.getTotalTime().longValue());
+        assertEquals(1000, histogram.getMaxTime().longValue());
+        assertEquals(2, histogram.getBuckets().size());
+        assertEquals(2, histogram.getBuckets().get(new BucketKey(Uint64.valueOf(1024))).getCount().getValue()
+            .longValue());
+        assertEquals(1, histogram.getBuckets().get(new BucketKey(Uint64.valueOf(1))).getCount().getValue()
+            .longValue());
+    }
+}
@@ -137,6 +137,26 @@ public abstract class AbstractNetconfDispatcher<S extends NetconfSession, L exte
         return f;
     }
 
+    /**
+     * Registers a channel which was not created by this dispatcher with the worker group. Its pipeline is initialized
+     * once the registration completes.
+     *
+     * @param channel unregistered channel
+     * @param initializer instance of ChannelPipelineInitializer used to initialize the channel pipeline
+     *
+     * @return ChannelFuture representing the registration process
+     */
+    protected <C extends Channel> ChannelFuture registerChannel(final C channel,
+            final ChannelPipelineInitializer<C, S> initializer) {
+        channel.pipeline().addLast(new ChannelInitializer<C>() {
+            @Override
+            protected void initChannel(final C ch) {
+                initializer.initializeChannel(ch, new DefaultPromise<>(executor));
+            }
+        });
+        return workerGroup.register(channel);
+    }
+
     /**
      * Customize a server bootstrap before the server is created. This allows
      * subclasses to assign non-default server options before the server is
@@ -10,8 +10,12 @@ package org.opendaylight.netconf.nettyutil.handler;
 import com.google.common.annotations.VisibleForTesting;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.EncoderException;
 import io.netty.handler.codec.MessageToByteEncoder;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
@@ -22,12 +26,16 @@ import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.api.messages.SharedNetconfMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Comment;
+import org.w3c.dom.Document;
 
 public class NetconfMessageToXMLEncoder extends MessageToByteEncoder<NetconfMessage> {
     private static final Logger LOG = LoggerFactory.getLogger(NetconfMessageToXMLEncoder.class);
+    // Identifies this encoding in SharedNetconfMessage
+    private static final Object SHARED_ENCODING = NetconfMessageToXMLEncoder.class;
 
     private final @Nullable String clientId;
 
@@ -39,6 +47,20 @@ public class NetconfMessageToXMLEncoder extends MessageToByteEncoder<NetconfMess
         this.clientId = clientId.orElse(null);
     }
 
+    @Override
+    public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise)
+            throws Exception {
+        if (clientId == null && msg instanceof SharedNetconfMessage) {
+            // Messages sent to multiple sessions are serialized only once, we just wrap the shared result
+            LOG.trace("Sent to encode shared : {}", msg);
+            final byte[] encoded = ((SharedNetconfMessage) msg).getEncoded(SHARED_ENCODING,
+                NetconfMessageToXMLEncoder::encodeShared);
+            ctx.write(Unpooled.wrappedBuffer(encoded), promise);
+        } else {
+            super.write(ctx, msg, promise);
+        }
+    }
+
     @Override
     @VisibleForTesting
     public void encode(final ChannelHandlerContext ctx, final NetconfMessage msg, final ByteBuf out)
@@ -51,13 +73,29 @@ public class NetconfMessageToXMLEncoder extends MessageToByteEncoder<NetconfMess
         }
 
         try (OutputStream os = new ByteBufOutputStream(out)) {
-            // Wrap OutputStreamWriter with BufferedWriter as suggested in javadoc for OutputStreamWriter
+            serialize(msg.getDocument(), os);
+        }
+    }
+
+    private static byte[] encodeShared(final Document document) {
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try {
+            serialize(document, os);
+        } catch (IOException | TransformerException e) {
+            throw new EncoderException("Failed to encode shared message", e);
+        }
+        return os.toByteArray();
+    }
+
+    private static void serialize(final Document document, final OutputStream os)
+            throws IOException, TransformerException {
+        // Wrap OutputStreamWriter with BufferedWriter as suggested in javadoc for OutputStreamWriter
 
-            // Using custom BufferedWriter that does not provide newLine method as performance improvement
-            // see javadoc for BufferedWriter
-            StreamResult result =
-                    new StreamResult(new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8)));
-            DOMSource source = new DOMSource(msg.getDocument());
+        // Using custom BufferedWriter that does not provide newLine method as performance improvement
+        // see javadoc for BufferedWriter
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8))) {
+            StreamResult result = new StreamResult(writer);
+            DOMSource source = new DOMSource(document);
             ThreadLocalTransformers.getPrettyTransformer().transform(source, result);
         }
     }
@@ -13,8 +13,10 @@ import static java.util.Objects.requireNonNull;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoopGroup;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.concurrent.ScheduledFuture;
 import java.io.IOException;
 import java.net.SocketAddress;
 import java.util.concurrent.TimeUnit;
@@ -26,6 +28,9 @@ import org.opendaylight.netconf.shaded.sshd.client.channel.ClientChannel;
 import org.opendaylight.netconf.shaded.sshd.client.future.AuthFuture;
 import org.opendaylight.netconf.shaded.sshd.client.future.ConnectFuture;
 import org.opendaylight.netconf.shaded.sshd.client.session.ClientSession;
+import org.opendaylight.netconf.shaded.sshd.common.SshConstants;
+import org.opendaylight.netconf.shaded.sshd.common.util.buffer.Buffer;
+import org.opendaylight.netconf.shaded.sshd.netty.NettyIoServiceFactoryFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,15 +45,13 @@ public class AsyncSshHandler extends ChannelOutboundHandlerAdapter {
     public static final int SSH_DEFAULT_NIO_WORKERS = 8;
     // Disable default timeouts from mina sshd
     private static final long DEFAULT_TIMEOUT = -1L;
+    // Global request which servers are expected to answer, even if only with a failure
+    private static final String KEEPALIVE_REQUEST = "keepalive@openssh.com";
 
     public static final NetconfSshClient DEFAULT_CLIENT;
 
     static {
-        final NetconfSshClient c = new NetconfClientBuilder().build();
-        c.getProperties().put(SshClient.AUTH_TIMEOUT, Long.toString(DEFAULT_TIMEOUT));
-        c.getProperties().put(SshClient.IDLE_TIMEOUT, Long.toString(DEFAULT_TIMEOUT));
-
-        // TODO make configurable, or somehow reuse netty threadpool
+        final NetconfSshClient c = newClient();
         c.setNioWorkers(SSH_DEFAULT_NIO_WORKERS);
         c.start();
         DEFAULT_CLIENT = c;
@@ -58,6 +61,7 @@ public class AsyncSshHandler extends ChannelOutboundHandlerAdapter {
     private final AuthenticationHandler authenticationHandler;
     private final Future<?> negotiationFuture;
     private final NetconfSshClient sshClient;
+    private final long keepaliveMillis;
 
     private AsyncSshHandlerWriter sshWriteAsyncHandler;
 
@@ -65,12 +69,56 @@ public class AsyncSshHandler extends ChannelOutboundHandlerAdapter {
     private ClientSession session;
     private ChannelPromise connectPromise;
     private GenericFutureListener negotiationFutureListener;
+    private ScheduledFuture<?> keepaliveFuture;
+    private long keepaliveSentNanos;
+    private boolean keepalivePending;
+
+    /**
+     * Create and start a {@link NetconfSshClient} which performs its I/O on a Netty {@link EventLoopGroup} instead of
+     * a dedicated NIO2 thread pool, as {@link #DEFAULT_CLIENT} does. This avoids extra I/O threads and allows SSH
+     * processing to share threads with the NETCONF pipelines. The client is otherwise configured in the same way as
+     * {@link #DEFAULT_CLIENT} and it is up to the caller to stop it when it is no longer needed. The event loop group
+     * is not shut down when the client is stopped.
+     *
+     * @param group event loop group to use for SSH I/O
+     * @return a started client
+     */
+    public static NetconfSshClient createEventLoopClient(final EventLoopGroup group) {
+        final NetconfSshClient c = newClient();
+        c.setIoServiceFactoryFactory(new NettyIoServiceFactoryFactory(requireNonNull(group)));
+        c.start();
+        return c;
+    }
+
+    private static NetconfSshClient newClient() {
+        final NetconfSshClient c = new NetconfClientBuilder().build();
+        c.getProperties().put(SshClient.AUTH_TIMEOUT, Long.toString(DEFAULT_TIMEOUT));
+        c.getProperties().put(SshClient.IDLE_TIMEOUT, Long.toString(DEFAULT_TIMEOUT));
+        return c;
+    }
 
     public AsyncSshHandler(final AuthenticationHandler authenticationHandler, final NetconfSshClient sshClient,
             final Future<?> negotiationFuture) {
+        this(authenticationHandler, sshClient, negotiationFuture, 0);
+    }
+
+    /**
+     * Constructor of {@code AsyncSshHandler}, which has the SSH session send keepalive requests. A keepalive request
+     * is sent whenever nothing has been received from the peer for {@code keepaliveMillis}. If nothing is received in
+     * the {@code keepaliveMillis} following a keepalive request, the peer is deemed unresponsive and the channel is
+     * disconnected.
+     *
+     * @param authenticationHandler authentication handler
+     * @param sshClient             started SshClient
+     * @param negotiationFuture     negotiation future
+     * @param keepaliveMillis       interval between SSH keepalive requests, non-positive value disables them
+     */
+    public AsyncSshHandler(final AuthenticationHandler authenticationHandler, final NetconfSshClient sshClient,
+            final Future<?> negotiationFuture, final long keepaliveMillis) {
         this.authenticationHandler = requireNonNull(authenticationHandler);
         this.sshClient = requireNonNull(sshClient);
         this.negotiationFuture = negotiationFuture;
+        this.keepaliveMillis = keepaliveMillis;
     }
 
     /**
@@ -97,8 +145,24 @@ public class AsyncSshHandler extends ChannelOutboundHandlerAdapter {
      */
     public static AsyncSshHandler createForNetconfSubsystem(final AuthenticationHandler authenticationHandler,
             final Future<?> negotiationFuture, final @Nullable NetconfSshClient sshClient) {
+        return createForNetconfSubsystem(authenticationHandler, negotiationFuture, sshClient, 0);
+    }
+
+    /**
+     * Create AsyncSshHandler for netconf subsystem, which has the SSH session send keepalive requests. Negotiation
+     * future has to be set to success after successful netconf negotiation.
+     *
+     * @param authenticationHandler authentication handler
+     * @param negotiationFuture     negotiation future
+     * @param sshClient             started SshClient, {@code null} to use the default client
+     * @param keepaliveMillis       interval between SSH keepalive requests, non-positive value disables them
+     * @return                      {@code AsyncSshHandler}
+     */
+    public static AsyncSshHandler createForNetconfSubsystem(final AuthenticationHandler authenticationHandler,
+            final Future<?> negotiationFuture, final @Nullable NetconfSshClient sshClient,
+            final long keepaliveMillis) {
         return new AsyncSshHandler(authenticationHandler, sshClient != null ? sshClient : DEFAULT_CLIENT,
-                negotiationFuture);
+                negotiationFuture, keepaliveMillis);
     }
 
     private void startSsh(final ChannelHandlerContext ctx, final SocketAddress address) throws IOException {
@@ -169,6 +233,48 @@ public class AsyncSshHandler extends ChannelOutboundHandlerAdapter {
         sshWriteAsyncHandler = new AsyncSshHandlerWriter(channel.getAsyncIn());
         ctx.fireChannelActive();
         channel.onClose(() -> disconnect(ctx, ctx.newPromise()));
+        if (keepaliveMillis > 0) {
+            scheduleKeepalive(ctx);
+        }
+    }
+
+    private void scheduleKeepalive(final ChannelHandlerContext ctx) {
+        keepaliveFuture = ctx.channel().eventLoop().schedule(() -> checkKeepalive(ctx), keepaliveMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void checkKeepalive(final ChannelHandlerContext ctx) {
+        if (isDisconnected.get() || session == null) {
+            return;
+        }
+
+        final long lastReadNanos = ((NettyAwareClientSession) session).getLastReadNanos();
+        if (keepalivePending && lastReadNanos - keepaliveSentNanos < 0) {
+            LOG.warn("SSH peer on channel {} did not respond to keepalive within {}ms, disconnecting", ctx.channel(),
+                keepaliveMillis);
+            disconnect(ctx, ctx.newPromise());
+            return;
+        }
+
+        keepalivePending = false;
+        final long now = System.nanoTime();
+        if (now - lastReadNanos >= TimeUnit.MILLISECONDS.toNanos(keepaliveMillis)) {
+            // Ask for a reply, so that an unresponsive peer is detected on the next check
+            final Buffer buf = session.createBuffer(SshConstants.SSH_MSG_GLOBAL_REQUEST);
+            buf.putString(KEEPALIVE_REQUEST);
+            buf.putBoolean(true);
+            try {
+                session.writePacket(buf);
+            } catch (IOException e) {
+                LOG.warn("Failed to send SSH keepalive on channel {}, disconnecting", ctx.channel(), e);
+                disconnect(ctx, ctx.newPromise());
+                return;
+            }
+            keepaliveSentNanos = now;
+            keepalivePending = true;
+        }
+
+        scheduleKeepalive(ctx);
     }
 
     private synchronized void handleSshSetupFailure(final ChannelHandlerContext ctx, final Throwable error) {
@@ -228,6 +334,11 @@ public class AsyncSshHandler extends ChannelOutboundHandlerAdapter {
             ctx.fireChannelInactive();
         }
 
+        if (keepaliveFuture != null) {
+            keepaliveFuture.cancel(false);
+            keepaliveFuture = null;
+        }
+
         if (sshWriteAsyncHandler != null) {
             sshWriteAsyncHandler.close();
         }
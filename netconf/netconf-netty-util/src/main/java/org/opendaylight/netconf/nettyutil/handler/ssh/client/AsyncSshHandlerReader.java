@@ -8,8 +8,11 @@
 
 package org.opendaylight.netconf.nettyutil.handler.ssh.client;
 
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.ByteBufAllocator;
 import org.opendaylight.netconf.shaded.sshd.common.future.SshFutureListener;
 import org.opendaylight.netconf.shaded.sshd.common.io.IoInputStream;
 import org.opendaylight.netconf.shaded.sshd.common.io.IoReadFuture;
@@ -21,28 +24,56 @@ import org.slf4j.LoggerFactory;
 /**
  * Listener on async input stream from SSH session.
  * This listeners schedules reads in a loop until the session is closed or read fails.
+ *
+ * <p>
+ * Data is read into a single staging buffer owned by this reader and handed over in buffers allocated from a
+ * {@link ByteBufAllocator}, hence it is the responsibility of {@link ReadMsgHandler} to release them. The staging
+ * buffer grows when reads fill it up and shrinks when it is repeatedly underutilized, similar to Netty's
+ * {@code AdaptiveRecvByteBufAllocator}.
+ *
+ * <p>
+ * Reading can be suspended by {@link ReadMsgHandler#shouldContinueReading()}, in which case no further data is
+ * requested from SSH until {@link #resume()} is invoked. Unread data accumulates in SSH channel's window, which
+ * eventually stops the remote peer from sending more.
  */
 public final class AsyncSshHandlerReader implements SshFutureListener<IoReadFuture>, AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(AsyncSshHandlerReader.class);
 
-    private static final int BUFFER_SIZE = 2048;
+    @VisibleForTesting
+    static final int MIN_BUFFER_SIZE = 512;
+    @VisibleForTesting
+    static final int INITIAL_BUFFER_SIZE = 2048;
+    @VisibleForTesting
+    static final int MAX_BUFFER_SIZE = 65536;
+    // Number of consecutive underutilized reads after which the staging buffer is shrunk
+    private static final int SHRINK_THRESHOLD = 8;
 
     private final AutoCloseable connectionClosedCallback;
     private final ReadMsgHandler readHandler;
+    private final ByteBufAllocator allocator;
 
     private final String channelId;
     private IoInputStream asyncOut;
     private Buffer buf;
     private IoReadFuture currentReadFuture;
+    private int underutilizedReads;
+    private boolean suspended;
 
     public AsyncSshHandlerReader(final AutoCloseable connectionClosedCallback, final ReadMsgHandler readHandler,
                                  final String channelId, final IoInputStream asyncOut) {
+        this(connectionClosedCallback, readHandler, channelId, asyncOut, ByteBufAllocator.DEFAULT);
+    }
+
+    public AsyncSshHandlerReader(final AutoCloseable connectionClosedCallback, final ReadMsgHandler readHandler,
+                                 final String channelId, final IoInputStream asyncOut,
+                                 final ByteBufAllocator allocator) {
         this.connectionClosedCallback = connectionClosedCallback;
         this.readHandler = readHandler;
         this.channelId = channelId;
         this.asyncOut = asyncOut;
-        buf = new ByteArrayBuffer(BUFFER_SIZE);
+        this.allocator = requireNonNull(allocator);
+        buf = new ByteArrayBuffer(INITIAL_BUFFER_SIZE);
         asyncOut.read(buf).addListener(this);
     }
 
@@ -68,21 +99,80 @@ public final class AsyncSshHandlerReader implements SshFutureListener<IoReadFutu
             }
             return true;
         } else if (future.getRead() > 0) {
-            final ByteBuf msg = Unpooled.wrappedBuffer(buf.array(), 0, future.getRead());
+            //if asyncout is already set to null by close method, do nothing
+            if (asyncOut == null) {
+                return false;
+            }
+
+            final int read = future.getRead();
+            final ByteBuf msg = allocator.buffer(read).writeBytes(buf.array(), 0, read);
             if (LOG.isTraceEnabled()) {
                 LOG.trace("Reading message on channel: {}, message: {}",
                         channelId, AsyncSshHandlerWriter.byteBufToString(msg));
             }
             readHandler.onMessageRead(msg);
+            prepareBuffer(read);
 
-            // Schedule next read
-            buf = new ByteArrayBuffer(BUFFER_SIZE);
-            currentReadFuture = asyncOut.read(buf);
-            currentReadFuture.addListener(this);
+            if (readHandler.shouldContinueReading()) {
+                scheduleRead();
+            } else {
+                LOG.trace("Suspending reads on channel: {}", channelId);
+                currentReadFuture = null;
+                suspended = true;
+            }
         }
         return false;
     }
 
+    /**
+     * Resume reading after it has been suspended by {@link ReadMsgHandler#shouldContinueReading()}. This method does
+     * nothing if reading is not suspended.
+     */
+    public synchronized void resume() {
+        if (suspended && asyncOut != null) {
+            LOG.trace("Resuming reads on channel: {}", channelId);
+            suspended = false;
+            scheduleRead();
+        }
+    }
+
+    private void scheduleRead() {
+        currentReadFuture = asyncOut.read(buf);
+        currentReadFuture.addListener(this);
+    }
+
+    /**
+     * Prepare the staging buffer for next read, adjusting its size based on how much of it was used by last read.
+     */
+    private void prepareBuffer(final int lastRead) {
+        final int capacity = buf.array().length;
+        if (lastRead >= capacity && capacity < MAX_BUFFER_SIZE) {
+            buf = new ByteArrayBuffer(Math.min(capacity << 1, MAX_BUFFER_SIZE));
+            underutilizedReads = 0;
+        } else if (lastRead <= capacity >> 2 && capacity > MIN_BUFFER_SIZE) {
+            if (++underutilizedReads >= SHRINK_THRESHOLD) {
+                buf = new ByteArrayBuffer(Math.max(capacity >> 1, MIN_BUFFER_SIZE));
+                underutilizedReads = 0;
+            } else {
+                resetBuffer();
+            }
+        } else {
+            underutilizedReads = 0;
+            resetBuffer();
+        }
+    }
+
+    private void resetBuffer() {
+        // Do not use Buffer.clear(), as it wipes the contents
+        buf.rpos(0);
+        buf.wpos(0);
+    }
+
+    @VisibleForTesting
+    synchronized int bufferSize() {
+        return buf.array().length;
+    }
+
     /**
      * Closing of the {@link AsyncSshHandlerReader}. This method should never be called with any locks held since
      * call to {@link AutoCloseable#close()} can be a source of ABBA deadlock.
@@ -110,6 +200,22 @@ public final class AsyncSshHandlerReader implements SshFutureListener<IoReadFutu
 
     public interface ReadMsgHandler {
 
+        /**
+         * Invoked when a message has been read. Ownership of the message is transferred to the handler, which is
+         * responsible for releasing it.
+         *
+         * @param msg message read
+         */
         void onMessageRead(ByteBuf msg);
+
+        /**
+         * Invoked after each {@link #onMessageRead(ByteBuf)} to determine whether more data should be read. If this
+         * method returns {@code false}, reading is suspended until {@link AsyncSshHandlerReader#resume()} is invoked.
+         *
+         * @return {@code true} if reading should continue
+         */
+        default boolean shouldContinueReading() {
+            return true;
+        }
     }
 }
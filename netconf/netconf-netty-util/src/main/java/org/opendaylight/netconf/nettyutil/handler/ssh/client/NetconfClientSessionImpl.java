@@ -16,6 +16,7 @@ import org.opendaylight.netconf.shaded.sshd.client.session.ClientSessionImpl;
 import org.opendaylight.netconf.shaded.sshd.common.Factory;
 import org.opendaylight.netconf.shaded.sshd.common.io.IoSession;
 import org.opendaylight.netconf.shaded.sshd.common.session.ConnectionService;
+import org.opendaylight.netconf.shaded.sshd.common.util.Readable;
 
 /**
  * A {@link ClientSessionImpl} which additionally allows creation of NETCONF subsystem channel, which is routed to
@@ -25,8 +26,22 @@ import org.opendaylight.netconf.shaded.sshd.common.session.ConnectionService;
 public class NetconfClientSessionImpl extends ClientSessionImpl implements NettyAwareClientSession {
     public static final Factory<SshClient> DEFAULT_NETCONF_SSH_CLIENT_FACTORY = SshClient::new;
 
+    private volatile long lastReadNanos;
+
     public NetconfClientSessionImpl(final ClientFactoryManager client, final IoSession ioSession) throws Exception {
         super(client, ioSession);
+        lastReadNanos = System.nanoTime();
+    }
+
+    @Override
+    public void messageReceived(final Readable buffer) throws Exception {
+        lastReadNanos = System.nanoTime();
+        super.messageReceived(buffer);
+    }
+
+    @Override
+    public long getLastReadNanos() {
+        return lastReadNanos;
     }
 
     @Override
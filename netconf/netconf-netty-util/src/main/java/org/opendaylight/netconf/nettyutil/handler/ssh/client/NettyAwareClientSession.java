@@ -28,4 +28,12 @@ public interface NettyAwareClientSession extends ClientSession {
      * @throws IOException If failed to create the requested channel
      */
     NettyAwareChannelSubsystem createSubsystemChannel(String subsystem, ChannelHandlerContext ctx) throws IOException;
+
+    /**
+     * Return the time at which the last SSH packet was received from the peer, as reported by
+     * {@link System#nanoTime()}. Any packet counts, including replies to global requests.
+     *
+     * @return time of the last received packet, in nanoseconds
+     */
+    long getLastReadNanos();
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.nettyutil.handler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.api.messages.SharedNetconfMessage;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+
+public class NetconfMessageToXMLEncoderTest {
+    private static final String NOTIFICATION = "<notification xmlns=\"urn:ietf:params:xml:ns:netconf:notification:1.0\">"
+            + "<eventTime>2020-01-01T00:00:00Z</eventTime></notification>";
+
+    @Test
+    public void testSharedMessageIsEncodedOnce() throws Exception {
+        final SharedNetconfMessage shared = new SharedNetconfMessage(XmlUtil.readXmlToDocument(NOTIFICATION));
+
+        final ByteBuf first = writeOutbound(shared);
+        final ByteBuf second = writeOutbound(shared);
+        try {
+            // Both sessions see the same backing array
+            assertSame(first.array(), second.array());
+
+            final ByteBuf plain = writeOutbound(new NetconfMessage(XmlUtil.readXmlToDocument(NOTIFICATION)));
+            try {
+                assertEquals(plain.toString(StandardCharsets.UTF_8), first.toString(StandardCharsets.UTF_8));
+            } finally {
+                plain.release();
+            }
+        } finally {
+            first.release();
+            second.release();
+        }
+    }
+
+    private static ByteBuf writeOutbound(final NetconfMessage msg) {
+        final EmbeddedChannel channel = new EmbeddedChannel(new NetconfMessageToXMLEncoder());
+        channel.writeOutbound(msg);
+        final ByteBuf ret = channel.readOutbound();
+        channel.finish();
+        return ret;
+    }
+}
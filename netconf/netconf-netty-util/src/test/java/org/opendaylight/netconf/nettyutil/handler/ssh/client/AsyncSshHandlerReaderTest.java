@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.nettyutil.handler.ssh.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.netconf.nettyutil.handler.ssh.client.AsyncSshHandlerReader.ReadMsgHandler;
+import org.opendaylight.netconf.shaded.sshd.common.io.IoInputStream;
+import org.opendaylight.netconf.shaded.sshd.common.io.IoReadFuture;
+import org.opendaylight.netconf.shaded.sshd.common.util.buffer.Buffer;
+
+public class AsyncSshHandlerReaderTest {
+    private final List<ByteBuf> messages = new ArrayList<>();
+    private IoInputStream asyncOut;
+    private IoReadFuture readFuture;
+    private Buffer lastBuffer;
+    private boolean continueReading = true;
+    private AsyncSshHandlerReader reader;
+
+    @Before
+    public void setUp() {
+        asyncOut = mock(IoInputStream.class);
+        readFuture = mock(IoReadFuture.class);
+        doReturn(readFuture).when(readFuture).addListener(any());
+        doAnswer(invocation -> {
+            lastBuffer = invocation.getArgument(0);
+            return readFuture;
+        }).when(asyncOut).read(any(Buffer.class));
+
+        reader = new AsyncSshHandlerReader(() -> { }, new ReadMsgHandler() {
+            @Override
+            public void onMessageRead(final ByteBuf msg) {
+                messages.add(msg);
+            }
+
+            @Override
+            public boolean shouldContinueReading() {
+                return continueReading;
+            }
+        }, "test", asyncOut, UnpooledByteBufAllocator.DEFAULT);
+    }
+
+    @After
+    public void tearDown() {
+        messages.forEach(ByteBuf::release);
+    }
+
+    @Test
+    public void testMessageIsCopied() {
+        completeRead("<hello/>".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(1, messages.size());
+        assertEquals("<hello/>", messages.get(0).toString(StandardCharsets.UTF_8));
+        // staging buffer is reused for next read, the message must not be affected by it
+        completeRead("<other/>".getBytes(StandardCharsets.UTF_8));
+        assertEquals("<hello/>", messages.get(0).toString(StandardCharsets.UTF_8));
+        verify(asyncOut, times(3)).read(any(Buffer.class));
+    }
+
+    @Test
+    public void testBufferAdapts() {
+        assertEquals(AsyncSshHandlerReader.INITIAL_BUFFER_SIZE, reader.bufferSize());
+
+        // full reads grow the buffer up to the maximum
+        int expected = AsyncSshHandlerReader.INITIAL_BUFFER_SIZE;
+        while (expected < AsyncSshHandlerReader.MAX_BUFFER_SIZE) {
+            completeRead(new byte[reader.bufferSize()]);
+            expected <<= 1;
+            assertEquals(expected, reader.bufferSize());
+        }
+        completeRead(new byte[reader.bufferSize()]);
+        assertEquals(AsyncSshHandlerReader.MAX_BUFFER_SIZE, reader.bufferSize());
+
+        // repeated small reads shrink it down to the minimum
+        for (int i = 0; i < 1000; ++i) {
+            completeRead(new byte[16]);
+        }
+        assertEquals(AsyncSshHandlerReader.MIN_BUFFER_SIZE, reader.bufferSize());
+    }
+
+    @Test
+    public void testSuspendAndResume() {
+        continueReading = false;
+        completeRead(new byte[16]);
+        verify(asyncOut, times(1)).read(any(Buffer.class));
+
+        continueReading = true;
+        reader.resume();
+        verify(asyncOut, times(2)).read(any(Buffer.class));
+
+        // resume is a no-op when reads are not suspended
+        reader.resume();
+        verify(asyncOut, times(2)).read(any(Buffer.class));
+    }
+
+    private void completeRead(final byte[] data) {
+        lastBuffer.putRawBytes(data);
+        doReturn(null).when(readFuture).getException();
+        doReturn(data.length).when(readFuture).getRead();
+        reader.operationComplete(readFuture);
+    }
+}
@@ -9,12 +9,14 @@ package org.opendaylight.netconf.nettyutil.handler.ssh.client;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -33,6 +35,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.DefaultChannelPromise;
 import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.ScheduledFuture;
 import java.io.IOException;
 import java.net.SocketAddress;
 import java.util.concurrent.TimeUnit;
@@ -40,6 +43,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opendaylight.netconf.nettyutil.handler.ssh.authentication.AuthenticationHandler;
@@ -48,6 +52,7 @@ import org.opendaylight.netconf.shaded.sshd.client.future.AuthFuture;
 import org.opendaylight.netconf.shaded.sshd.client.future.ConnectFuture;
 import org.opendaylight.netconf.shaded.sshd.client.future.OpenFuture;
 import org.opendaylight.netconf.shaded.sshd.client.session.ClientSession;
+import org.opendaylight.netconf.shaded.sshd.common.SshConstants;
 import org.opendaylight.netconf.shaded.sshd.common.future.CloseFuture;
 import org.opendaylight.netconf.shaded.sshd.common.future.SshFuture;
 import org.opendaylight.netconf.shaded.sshd.common.future.SshFutureListener;
@@ -352,6 +357,63 @@ public class AsyncSshHandlerTest {
         //verify(ctx).fireChannelInactive();
     }
 
+    @Test
+    public void testKeepaliveDisconnectsUnresponsivePeer() throws Exception {
+        final NettyAwareClientSession sshSession = connectWithKeepalive();
+        final ArgumentCaptor<Runnable> check = stubKeepaliveSchedule();
+
+        // Nothing has been received for the keepalive interval, a keepalive is sent
+        sshChannelOpenListener.operationComplete(getSuccessOpenFuture());
+        check.getValue().run();
+        verify(sshSession).writePacket(any(Buffer.class));
+        verify(sshSession, never()).close(anyBoolean());
+
+        // The peer has not replied by the next check
+        check.getValue().run();
+        verify(sshSession).close(false);
+        verify(ctx).fireChannelInactive();
+    }
+
+    @Test
+    public void testKeepaliveKeepsRespondingPeer() throws Exception {
+        final NettyAwareClientSession sshSession = connectWithKeepalive();
+        final ArgumentCaptor<Runnable> check = stubKeepaliveSchedule();
+
+        sshChannelOpenListener.operationComplete(getSuccessOpenFuture());
+        check.getValue().run();
+        verify(sshSession).writePacket(any(Buffer.class));
+
+        // The peer replies, hence there is neither a disconnect nor another keepalive
+        doReturn(System.nanoTime()).when(sshSession).getLastReadNanos();
+        check.getValue().run();
+        verify(sshSession).writePacket(any(Buffer.class));
+        verify(sshSession, never()).close(anyBoolean());
+        verify(eventLoop, times(3)).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    private NettyAwareClientSession connectWithKeepalive() throws Exception {
+        asyncSshHandler = new AsyncSshHandler(authHandler, sshClient, null, 1000);
+        asyncSshHandler.connect(ctx, remoteAddress, localAddress, promise);
+
+        final NettyAwareChannelSubsystem subsystemChannel = getMockedSubsystemChannel(getMockedIoInputStream(),
+            getMockedIoOutputStream());
+        final NettyAwareClientSession sshSession = getMockedSshSession(subsystemChannel);
+        doReturn(System.nanoTime() - TimeUnit.SECONDS.toNanos(2)).when(sshSession).getLastReadNanos();
+        doReturn(new ByteArrayBuffer()).when(sshSession).createBuffer(SshConstants.SSH_MSG_GLOBAL_REQUEST);
+        doReturn(mock(IoWriteFuture.class)).when(sshSession).writePacket(any(Buffer.class));
+
+        sshConnectListener.operationComplete(getSuccessConnectFuture(sshSession));
+        sshAuthListener.operationComplete(getSuccessAuthFuture());
+        return sshSession;
+    }
+
+    private ArgumentCaptor<Runnable> stubKeepaliveSchedule() {
+        final ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        doReturn(mock(ScheduledFuture.class)).when(eventLoop).schedule(captor.capture(), anyLong(),
+            any(TimeUnit.class));
+        return captor;
+    }
+
     private static OpenFuture getSuccessOpenFuture() {
         final OpenFuture failedOpenFuture = mock(OpenFuture.class);
         doReturn(true).when(failedOpenFuture).isOpened();
@@ -22,16 +22,17 @@ import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
 import java.util.Date;
 import java.util.function.Function;
-import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.api.messages.SharedNetconfMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
 /**
- * Special kind of netconf message that contains a timestamp.
+ * Special kind of netconf message that contains a timestamp. Notifications are typically sent to multiple sessions,
+ * hence their content must not be modified.
  */
-public final class NetconfNotification extends NetconfMessage {
+public final class NetconfNotification extends SharedNetconfMessage {
 
     private static final Logger LOG = LoggerFactory.getLogger(NetconfNotification.class);
 
@@ -8,6 +8,8 @@
 
 package org.opendaylight.netconf.notifications;
 
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ImmediateEventExecutor;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.StreamNameType;
 
 /**
@@ -20,4 +22,32 @@ public interface NetconfNotificationListener {
      */
     void onNotification(StreamNameType stream, NetconfNotification notification);
 
+    /**
+     * Callback used to deliver a logged notification being replayed. Invoked only on listeners registered with a replay
+     * start time. Replay to this listener does not proceed until the returned future completes, listeners sending
+     * notifications asynchronously should return a future which completes once the notification has been sent.
+     *
+     * @return future completing when the listener is ready to accept further notifications
+     */
+    default Future<Void> onReplayedNotification(final StreamNameType stream, final NetconfNotification notification) {
+        onNotification(stream, notification);
+        return ImmediateEventExecutor.INSTANCE.newSucceededFuture(null);
+    }
+
+    /**
+     * Callback used to notify the listener that all requested logged notifications have been replayed. Invoked only
+     * on listeners registered with a replay start time.
+     */
+    default void onReplayComplete(final StreamNameType stream) {
+        // No-op by default
+    }
+
+    /**
+     * Callback used to notify the listener that the requested stop time has been reached and no more notifications
+     * will be delivered to it. Invoked only on listeners registered with a replay stop time.
+     */
+    default void onNotificationComplete(final StreamNameType stream) {
+        // No-op by default
+    }
+
 }
@@ -8,6 +8,7 @@
 
 package org.opendaylight.netconf.notifications;
 
+import java.util.Date;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.StreamNameType;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.Streams;
 
@@ -19,6 +20,33 @@ public interface NetconfNotificationRegistry {
     NotificationListenerRegistration registerNotificationListener(StreamNameType stream,
                                                                   NetconfNotificationListener listener);
 
+    /**
+     * Add listener for a certain notification type, which first receives logged notifications whose event time is
+     * between {@code startTime} and {@code stopTime}. Once these have been replayed, the listener is notified via
+     * {@link NetconfNotificationListener#onReplayComplete(StreamNameType)} and starts receiving new notifications.
+     * If {@code stopTime} is specified, the listener is notified via
+     * {@link NetconfNotificationListener#onNotificationComplete(StreamNameType)} when it is reached and the
+     * registration is closed.
+     *
+     * @param stream stream name
+     * @param listener listener to register
+     * @param startTime replay start time
+     * @param stopTime replay stop time, {@code null} to keep receiving notifications
+     * @return listener registration
+     * @throws UnsupportedOperationException if the stream does not support replay
+     */
+    default NotificationListenerRegistration registerNotificationListener(final StreamNameType stream,
+            final NetconfNotificationListener listener, final Date startTime, final Date stopTime) {
+        throw new UnsupportedOperationException("Notification replay is not supported");
+    }
+
+    /**
+     * Check whether a stream supports notification replay.
+     */
+    default boolean isReplaySupported(final StreamNameType streamNameType) {
+        return false;
+    }
+
     /**
      * Check stream availability.
      */
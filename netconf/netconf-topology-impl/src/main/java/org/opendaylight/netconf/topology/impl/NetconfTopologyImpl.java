@@ -33,6 +33,7 @@ import org.opendaylight.netconf.sal.connect.netconf.sal.NetconfDeviceSalFacade;
 import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.BaseNetconfSchemas;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
 import org.opendaylight.netconf.topology.spi.AbstractNetconfTopology;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NetworkTopology;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NetworkTopologyBuilder;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
@@ -90,6 +91,7 @@ public class NetconfTopologyImpl extends AbstractNetconfTopology
             datastoreListenerRegistration.close();
             datastoreListenerRegistration = null;
         }
+        keepaliveScheduler.close();
     }
 
     @Override
@@ -97,6 +99,13 @@ public class NetconfTopologyImpl extends AbstractNetconfTopology
         return new NetconfDeviceSalFacade(id, mountPointService, dataBroker, topologyId);
     }
 
+    @Override
+    protected RemoteDeviceHandler<NetconfSessionPreferences> createSalFacade(final RemoteDeviceId id,
+            final NetconfNode node) {
+        return new NetconfDeviceSalFacade(id, mountPointService, dataBroker, topologyId,
+            getConfigCacheMaxAgeMillis(node), getConfigCacheMaxEntries(node));
+    }
+
     /**
      * Invoked by blueprint.
      */
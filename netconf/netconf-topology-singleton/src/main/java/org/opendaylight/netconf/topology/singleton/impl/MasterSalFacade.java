@@ -30,6 +30,7 @@ import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfSessionPrefe
 import org.opendaylight.netconf.sal.connect.netconf.sal.NetconfDeviceDataBroker;
 import org.opendaylight.netconf.sal.connect.netconf.sal.NetconfDeviceNotificationService;
 import org.opendaylight.netconf.sal.connect.netconf.sal.NetconfDeviceSalProvider;
+import org.opendaylight.netconf.sal.connect.netconf.sal.tx.ConfigDataCache;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
 import org.opendaylight.netconf.topology.singleton.messages.CreateInitialMasterActorData;
 import org.opendaylight.yangtools.rfc8528.data.api.MountPointContext;
@@ -49,24 +50,31 @@ class MasterSalFacade implements AutoCloseable, RemoteDeviceHandler<NetconfSessi
     private final NetconfDeviceSalProvider salProvider;
     private final ActorRef masterActorRef;
     private final ActorSystem actorSystem;
+    private final long configCacheMaxAgeMillis;
+    private final long configCacheMaxEntries;
 
     private MountPointContext currentMountContext = null;
     private NetconfSessionPreferences netconfSessionPreferences = null;
     private DOMRpcService deviceRpc = null;
     private DOMDataBroker deviceDataBroker = null;
     private DOMActionService deviceAction = null;
+    private volatile ConfigDataCache configCache = null;
 
     MasterSalFacade(final RemoteDeviceId id,
                     final ActorSystem actorSystem,
                     final ActorRef masterActorRef,
                     final Timeout actorResponseWaitTime,
                     final DOMMountPointService mountService,
-                    final DataBroker dataBroker) {
+                    final DataBroker dataBroker,
+                    final long configCacheMaxAgeMillis,
+                    final long configCacheMaxEntries) {
         this.id = id;
         this.salProvider = new NetconfDeviceSalProvider(id, mountService, dataBroker);
         this.actorSystem = actorSystem;
         this.masterActorRef = masterActorRef;
         this.actorResponseWaitTime = actorResponseWaitTime;
+        this.configCacheMaxAgeMillis = configCacheMaxAgeMillis;
+        this.configCacheMaxEntries = configCacheMaxEntries;
     }
 
     @Override
@@ -120,6 +128,10 @@ class MasterSalFacade implements AutoCloseable, RemoteDeviceHandler<NetconfSessi
 
     @Override
     public void onNotification(final DOMNotification domNotification) {
+        final ConfigDataCache cache = configCache;
+        if (cache != null && ConfigDataCache.isConfigChange(domNotification)) {
+            cache.invalidateAll();
+        }
         salProvider.getMountInstance().publish(domNotification);
     }
 
@@ -135,6 +147,9 @@ class MasterSalFacade implements AutoCloseable, RemoteDeviceHandler<NetconfSessi
         requireNonNull(netconfSessionPreferences, "Device has no capabilities yet. Probably not fully connected.");
 
         final NetconfDeviceNotificationService notificationService = new NetconfDeviceNotificationService();
+        // Data cached during a previous session may be stale
+        configCache = configCacheMaxAgeMillis > 0
+            ? new ConfigDataCache(id, configCacheMaxAgeMillis, configCacheMaxEntries) : null;
         deviceDataBroker = newDeviceDataBroker();
 
         // We need to create ProxyDOMDataBroker so accessing mountpoint
@@ -146,7 +161,8 @@ class MasterSalFacade implements AutoCloseable, RemoteDeviceHandler<NetconfSessi
     }
 
     protected DOMDataBroker newDeviceDataBroker() {
-        return new NetconfDeviceDataBroker(id, currentMountContext, deviceRpc, netconfSessionPreferences);
+        return new NetconfDeviceDataBroker(id, currentMountContext, deviceRpc, netconfSessionPreferences,
+            configCache);
     }
 
     private Future<Object> sendInitialDataToActor() {
@@ -173,6 +189,7 @@ class MasterSalFacade implements AutoCloseable, RemoteDeviceHandler<NetconfSessi
     }
 
     private void unregisterMasterMountPoint() {
+        configCache = null;
         salProvider.getMountInstance().onTopologyDeviceDisconnected();
     }
 
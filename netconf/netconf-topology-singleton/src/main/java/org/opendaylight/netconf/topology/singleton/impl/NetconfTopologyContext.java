@@ -180,7 +180,13 @@ class NetconfTopologyContext implements ClusterSingletonService, AutoCloseable {
     }
 
     protected MasterSalFacade newMasterSalFacade() {
+        final NetconfNode node = netconfTopologyDeviceSetup.getNode().augmentation(NetconfNode.class);
+        final long configCacheMaxAgeMillis = node.getConfigCacheMaxAgeMillis() == null
+                ? NetconfTopologyUtils.DEFAULT_CONFIG_CACHE_MAX_AGE_MILLIS : node.getConfigCacheMaxAgeMillis().toJava();
+        final long configCacheMaxEntries = node.getConfigCacheMaxEntries() == null
+                ? NetconfTopologyUtils.DEFAULT_CONFIG_CACHE_MAX_ENTRIES : node.getConfigCacheMaxEntries().toJava();
         return new MasterSalFacade(remoteDeviceId, netconfTopologyDeviceSetup.getActorSystem(), masterActorRef,
-                actorResponseWaitTime, mountService, netconfTopologyDeviceSetup.getDataBroker());
+                actorResponseWaitTime, mountService, netconfTopologyDeviceSetup.getDataBroker(),
+                configCacheMaxAgeMillis, configCacheMaxEntries);
     }
 }
\ No newline at end of file
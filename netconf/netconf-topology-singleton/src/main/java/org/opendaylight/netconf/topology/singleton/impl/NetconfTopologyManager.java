@@ -42,6 +42,9 @@ import org.opendaylight.mdsal.singleton.common.api.ServiceGroupIdentifier;
 import org.opendaylight.netconf.client.NetconfClientDispatcher;
 import org.opendaylight.netconf.sal.connect.api.DeviceActionFactory;
 import org.opendaylight.netconf.sal.connect.api.SchemaResourceManager;
+import org.opendaylight.netconf.sal.connect.netconf.SchemaSetupScheduler;
+import org.opendaylight.netconf.sal.connect.netconf.sal.KeepaliveScheduler;
+import org.opendaylight.netconf.sal.connect.netconf.schema.YangLibraryClient;
 import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.BaseNetconfSchemas;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
 import org.opendaylight.netconf.topology.singleton.api.NetconfTopologySingletonService;
@@ -79,6 +82,9 @@ public class NetconfTopologyManager
     private final DOMActionProviderService actionProviderRegistry;
     private final ClusterSingletonServiceProvider clusterSingletonServiceProvider;
     private final ScheduledExecutorService keepaliveExecutor;
+    private final KeepaliveScheduler keepaliveScheduler;
+    private final YangLibraryClient yangLibraryClient = new YangLibraryClient();
+    private final SchemaSetupScheduler schemaSetupScheduler = new SchemaSetupScheduler();
     private final ListeningExecutorService processingExecutor;
     private final ActorSystem actorSystem;
     private final EventExecutor eventExecutor;
@@ -112,6 +118,7 @@ public class NetconfTopologyManager
         this.actionProviderRegistry = requireNonNull(actionProviderService);
         this.clusterSingletonServiceProvider = requireNonNull(clusterSingletonServiceProvider);
         this.keepaliveExecutor = keepaliveExecutor.getExecutor();
+        this.keepaliveScheduler = new KeepaliveScheduler(command -> this.keepaliveExecutor.execute(command));
         this.processingExecutor = MoreExecutors.listeningDecorator(processingExecutor.getExecutor());
         this.actorSystem = requireNonNull(actorSystemProvider).getActorSystem();
         this.eventExecutor = requireNonNull(eventExecutor);
@@ -233,6 +240,7 @@ public class NetconfTopologyManager
 
         contexts.clear();
         clusterRegistrations.clear();
+        keepaliveScheduler.close();
     }
 
     @SuppressWarnings("checkstyle:IllegalCatch")
@@ -304,6 +312,9 @@ public class NetconfTopologyManager
                 .setActorSystem(actorSystem)
                 .setEventExecutor(eventExecutor)
                 .setKeepaliveExecutor(keepaliveExecutor)
+                .setKeepaliveScheduler(keepaliveScheduler)
+                .setYangLibraryClient(yangLibraryClient)
+                .setSchemaSetupScheduler(schemaSetupScheduler)
                 .setProcessingExecutor(processingExecutor)
                 .setTopologyId(topologyId)
                 .setNetconfClientDispatcher(clientDispatcher)
@@ -18,11 +18,11 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.math.BigDecimal;
 import java.net.InetSocketAddress;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.aaa.encrypt.AAAEncryptionService;
 import org.opendaylight.netconf.api.NetconfMessage;
 import org.opendaylight.netconf.client.NetconfClientSessionListener;
@@ -46,7 +46,9 @@ import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfDeviceCommun
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfSessionPreferences;
 import org.opendaylight.netconf.sal.connect.netconf.listener.UserPreferences;
 import org.opendaylight.netconf.sal.connect.netconf.sal.KeepaliveSalFacade;
+import org.opendaylight.netconf.sal.connect.netconf.sal.KeepaliveScheduler;
 import org.opendaylight.netconf.sal.connect.netconf.sal.NetconfKeystoreAdapter;
+import org.opendaylight.netconf.sal.connect.netconf.schema.YangLibraryClient;
 import org.opendaylight.netconf.sal.connect.netconf.schema.YangLibrarySchemaYangSourceProvider;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
 import org.opendaylight.netconf.sal.connect.util.SslHandlerFactoryImpl;
@@ -58,6 +60,7 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Uri;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNodeConnectionParameters.KeepaliveMechanism;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.connection.parameters.OdlHelloMessageCapabilities;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.connection.parameters.Protocol;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.connection.status.available.capabilities.AvailableCapability.CapabilityOrigin;
@@ -68,11 +71,13 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev15
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.credentials.credentials.key.auth.KeyBased;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.credentials.credentials.login.pw.LoginPassword;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.credentials.credentials.login.pw.unencrypted.LoginPasswordUnencrypted;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.schema.storage.YangLibrary;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
 import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
 import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
 import org.opendaylight.yangtools.yang.model.repo.spi.PotentialSchemaSource;
 import org.opendaylight.yangtools.yang.model.repo.spi.SchemaSourceRegistration;
+import org.opendaylight.yangtools.yang.model.repo.spi.SchemaSourceRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -119,8 +124,14 @@ public class RemoteDeviceConnectorImpl implements RemoteDeviceConnector {
         final NetconfClientSessionListener netconfClientSessionListener = deviceCommunicatorDTO.getSessionListener();
         final NetconfReconnectingClientConfiguration clientConfig =
                 getClientConfig(netconfClientSessionListener, netconfNode);
-        final ListenableFuture<NetconfDeviceCapabilities> future = deviceCommunicator
-                .initializeRemoteConnection(netconfTopologyDeviceSetup.getNetconfClientDispatcher(), clientConfig);
+        // Yang library sources need to be registered before the device starts setting up its schema
+        final ListenableFuture<NetconfDeviceCapabilities> future = Futures.transformAsync(
+                registerYangLibrarySources(netconfNode),
+                ignored -> deviceCommunicator.initializeRemoteConnection(
+                        netconfTopologyDeviceSetup.getNetconfClientDispatcher(), clientConfig),
+                MoreExecutors.directExecutor());
+        // The connection is cancelled if the device is stopped before it is established
+        deviceCommunicatorDTO.setConnectFuture(future);
 
         Futures.addCallback(future, new FutureCallback<NetconfDeviceCapabilities>() {
             @Override
@@ -130,6 +141,10 @@ public class RemoteDeviceConnectorImpl implements RemoteDeviceConnector {
 
             @Override
             public void onFailure(final Throwable throwable) {
+                if (throwable instanceof CancellationException) {
+                    LOG.debug("{}: Connector cancelled", remoteDeviceId);
+                    return;
+                }
                 LOG.error("{}: Connector failed", remoteDeviceId, throwable);
             }
         }, MoreExecutors.directExecutor());
@@ -147,6 +162,47 @@ public class RemoteDeviceConnectorImpl implements RemoteDeviceConnector {
         }
     }
 
+    private ListenableFuture<?> registerYangLibrarySources(final NetconfNode node) {
+        final YangLibrary yangLibrary = node.getYangLibrary();
+        if (yangLibrary == null || yangLibrary.getYangLibraryUrl() == null
+                || Boolean.TRUE.equals(node.isSchemaless())) {
+            return Futures.immediateFuture(null);
+        }
+
+        final String yangLibURL = yangLibrary.getYangLibraryUrl().getValue();
+        final String yangLibUsername = yangLibrary.getUsername();
+        final String yangLigPassword = yangLibrary.getPassword();
+        final YangLibraryClient yangLibraryClient = netconfTopologyDeviceSetup.getYangLibraryClient();
+
+        final ListenableFuture<LibraryModulesSchemas> schemasFuture;
+        if (yangLibraryClient != null) {
+            schemasFuture = LibraryModulesSchemas.createAsync(yangLibraryClient, yangLibURL, yangLibUsername,
+                yangLigPassword);
+        } else if (yangLibUsername != null && yangLigPassword != null) {
+            schemasFuture = Futures.immediateFuture(
+                LibraryModulesSchemas.create(yangLibURL, yangLibUsername, yangLigPassword));
+        } else {
+            schemasFuture = Futures.immediateFuture(LibraryModulesSchemas.create(yangLibURL));
+        }
+
+        // pre register yang library sources as fallback schemas to schema registry
+        // FIXME: this list not used anywhere. Should it be retained or discarded? (why?)
+        //        it would seem those registrations should be bound to NetconfConnectorDTO
+        final List<SchemaSourceRegistration<YangTextSchemaSource>> registeredYangLibSources = Lists.newArrayList();
+        final SchemaSourceRegistry schemaRegistry = netconfTopologyDeviceSetup.getSchemaResourcesDTO()
+            .getSchemaRegistry();
+        return Futures.transform(schemasFuture, libraryModulesSchemas -> {
+            final YangLibrarySchemaYangSourceProvider provider = new YangLibrarySchemaYangSourceProvider(
+                remoteDeviceId, libraryModulesSchemas.getAvailableModels(), yangLibraryClient);
+            for (final SourceIdentifier sourceId : libraryModulesSchemas.getAvailableModels().keySet()) {
+                registeredYangLibSources.add(schemaRegistry.registerSchemaSource(provider,
+                    PotentialSchemaSource.create(sourceId, YangTextSchemaSource.class,
+                        PotentialSchemaSource.Costs.REMOTE_IO.getValue())));
+            }
+            return libraryModulesSchemas;
+        }, MoreExecutors.directExecutor());
+    }
+
     @VisibleForTesting
     NetconfConnectorDTO createDeviceCommunicator(final NodeId nodeId, final NetconfNode node,
                                                  final RemoteDeviceHandler<NetconfSessionPreferences> deviceHandler) {
@@ -161,43 +217,20 @@ public class RemoteDeviceConnectorImpl implements RemoteDeviceConnector {
         RemoteDeviceHandler<NetconfSessionPreferences> salFacade = requireNonNull(deviceHandler);
         if (keepaliveDelay > 0) {
             LOG.info("{}: Adding keepalive facade.", remoteDeviceId);
-            salFacade = new KeepaliveSalFacade(remoteDeviceId, salFacade,
-                    netconfTopologyDeviceSetup.getKeepaliveExecutor(), keepaliveDelay,
-                    defaultRequestTimeoutMillis);
+            final KeepaliveScheduler keepaliveScheduler = netconfTopologyDeviceSetup.getKeepaliveScheduler();
+            if (keepaliveScheduler != null) {
+                // SSH transport sends keepalives by itself, the facade is left to enforce request timeouts
+                salFacade = new KeepaliveSalFacade(remoteDeviceId, salFacade, keepaliveScheduler,
+                        usesSshKeepalive(node) ? 0 : keepaliveDelay, defaultRequestTimeoutMillis);
+            } else {
+                salFacade = new KeepaliveSalFacade(remoteDeviceId, salFacade,
+                        netconfTopologyDeviceSetup.getKeepaliveExecutor(), keepaliveDelay,
+                        defaultRequestTimeoutMillis);
+            }
         }
 
         final NetconfDevice.SchemaResourcesDTO schemaResourcesDTO = netconfTopologyDeviceSetup.getSchemaResourcesDTO();
 
-        // pre register yang library sources as fallback schemas to schema registry
-        // FIXME: this list not used anywhere. Should it be retained or discarded? (why?)
-        //        it would seem those registrations should be bound to NetconfConnectorDTO
-        final List<SchemaSourceRegistration<YangTextSchemaSource>> registeredYangLibSources = Lists.newArrayList();
-        if (node.getYangLibrary() != null) {
-            final String yangLibURL = node.getYangLibrary().getYangLibraryUrl().getValue();
-            final String yangLibUsername = node.getYangLibrary().getUsername();
-            final String yangLigPassword = node.getYangLibrary().getPassword();
-
-            final LibraryModulesSchemas libraryModulesSchemas;
-            if (yangLibURL != null) {
-                if (yangLibUsername != null && yangLigPassword != null) {
-                    libraryModulesSchemas = LibraryModulesSchemas.create(yangLibURL, yangLibUsername, yangLigPassword);
-                } else {
-                    libraryModulesSchemas = LibraryModulesSchemas.create(yangLibURL);
-                }
-
-                for (final Map.Entry<SourceIdentifier, URL> sourceIdentifierURLEntry :
-                        libraryModulesSchemas.getAvailableModels().entrySet()) {
-                    registeredYangLibSources
-                            .add(schemaResourcesDTO.getSchemaRegistry().registerSchemaSource(
-                                    new YangLibrarySchemaYangSourceProvider(remoteDeviceId,
-                                            libraryModulesSchemas.getAvailableModels()),
-                                    PotentialSchemaSource
-                                            .create(sourceIdentifierURLEntry.getKey(), YangTextSchemaSource.class,
-                                                    PotentialSchemaSource.Costs.REMOTE_IO.getValue())));
-                }
-            }
-        }
-
         final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> device;
         if (node.isSchemaless()) {
             device = new SchemalessNetconfDevice(netconfTopologyDeviceSetup.getBaseSchemas(), remoteDeviceId,
@@ -211,6 +244,7 @@ public class RemoteDeviceConnectorImpl implements RemoteDeviceConnector {
                     .setId(remoteDeviceId)
                     .setDeviceActionFactory(deviceActionFactory)
                     .setSalFacade(salFacade)
+                    .setSchemaSetupScheduler(netconfTopologyDeviceSetup.getSchemaSetupScheduler())
                     .build();
         }
 
@@ -261,6 +295,12 @@ public class RemoteDeviceConnectorImpl implements RemoteDeviceConnector {
     }
 
     //TODO: duplicate code
+    private static boolean usesSshKeepalive(final NetconfNode node) {
+        final Protocol protocol = node.getProtocol();
+        return node.getKeepaliveMechanism() == KeepaliveMechanism.Ssh && !Boolean.TRUE.equals(node.isTcpOnly())
+                && (protocol == null || protocol.getName() == Protocol.Name.SSH);
+    }
+
     private static InetSocketAddress getSocketAddress(final Host host, final int port) {
         if (host.getDomainName() != null) {
             return new InetSocketAddress(host.getDomainName().getValue(), port);
@@ -319,6 +359,12 @@ public class RemoteDeviceConnectorImpl implements RemoteDeviceConnector {
             reconnectingClientConfigurationBuilder.withOdlHelloCapabilities(odlHelloCapabilities);
         }
 
+        if (usesSshKeepalive(node) && netconfTopologyDeviceSetup.getKeepaliveScheduler() != null) {
+            final long keepaliveDelay = node.getKeepaliveDelay() == null
+                    ? NetconfTopologyUtils.DEFAULT_KEEPALIVE_DELAY : node.getKeepaliveDelay().toJava();
+            reconnectingClientConfigurationBuilder.withSshKeepaliveMillis(TimeUnit.SECONDS.toMillis(keepaliveDelay));
+        }
+
         return reconnectingClientConfigurationBuilder
                 .withAddress(socketAddress)
                 .withConnectionTimeoutMillis(clientConnectionTimeoutMillis)
@@ -8,6 +8,7 @@
 
 package org.opendaylight.netconf.topology.singleton.impl.utils;
 
+import java.util.concurrent.Future;
 import org.opendaylight.netconf.client.NetconfClientSessionListener;
 import org.opendaylight.netconf.sal.connect.api.RemoteDeviceHandler;
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfDeviceCommunicator;
@@ -17,6 +18,7 @@ public class NetconfConnectorDTO implements AutoCloseable {
 
     private final NetconfDeviceCommunicator communicator;
     private final RemoteDeviceHandler<NetconfSessionPreferences> facade;
+    private volatile Future<?> connectFuture;
 
     public NetconfConnectorDTO(final NetconfDeviceCommunicator communicator,
                                final RemoteDeviceHandler<NetconfSessionPreferences> facade) {
@@ -36,8 +38,21 @@ public class NetconfConnectorDTO implements AutoCloseable {
         return communicator;
     }
 
+    /**
+     * Set the future of the connection being established, which is cancelled when this connector is closed.
+     *
+     * @param future future completing once the connection is established
+     */
+    public void setConnectFuture(final Future<?> future) {
+        connectFuture = future;
+    }
+
     @Override
     public void close() {
+        final Future<?> future = connectFuture;
+        if (future != null) {
+            future.cancel(false);
+        }
         if (communicator != null) {
             communicator.close();
         }
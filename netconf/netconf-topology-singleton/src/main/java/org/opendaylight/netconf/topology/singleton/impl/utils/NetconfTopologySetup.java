@@ -20,6 +20,9 @@ import org.opendaylight.mdsal.dom.api.DOMRpcProviderService;
 import org.opendaylight.mdsal.singleton.common.api.ClusterSingletonServiceProvider;
 import org.opendaylight.netconf.client.NetconfClientDispatcher;
 import org.opendaylight.netconf.sal.connect.netconf.NetconfDevice;
+import org.opendaylight.netconf.sal.connect.netconf.SchemaSetupScheduler;
+import org.opendaylight.netconf.sal.connect.netconf.sal.KeepaliveScheduler;
+import org.opendaylight.netconf.sal.connect.netconf.schema.YangLibraryClient;
 import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.BaseNetconfSchemas;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
@@ -34,6 +37,9 @@ public class NetconfTopologySetup {
     private final InstanceIdentifier<Node> instanceIdentifier;
     private final Node node;
     private final ScheduledExecutorService keepaliveExecutor;
+    private final KeepaliveScheduler keepaliveScheduler;
+    private final YangLibraryClient yangLibraryClient;
+    private final SchemaSetupScheduler schemaSetupScheduler;
     private final ListeningExecutorService processingExecutor;
     private final ActorSystem actorSystem;
     private final EventExecutor eventExecutor;
@@ -54,6 +60,9 @@ public class NetconfTopologySetup {
         this.instanceIdentifier = builder.getInstanceIdentifier();
         this.node = builder.getNode();
         this.keepaliveExecutor = builder.getKeepaliveExecutor();
+        this.keepaliveScheduler = builder.getKeepaliveScheduler();
+        this.yangLibraryClient = builder.getYangLibraryClient();
+        this.schemaSetupScheduler = builder.getSchemaSetupScheduler();
         this.processingExecutor = builder.getProcessingExecutor();
         this.actorSystem = builder.getActorSystem();
         this.eventExecutor = builder.getEventExecutor();
@@ -99,6 +108,18 @@ public class NetconfTopologySetup {
         return keepaliveExecutor;
     }
 
+    public KeepaliveScheduler getKeepaliveScheduler() {
+        return keepaliveScheduler;
+    }
+
+    public YangLibraryClient getYangLibraryClient() {
+        return yangLibraryClient;
+    }
+
+    public SchemaSetupScheduler getSchemaSetupScheduler() {
+        return schemaSetupScheduler;
+    }
+
     public ActorSystem getActorSystem() {
         return actorSystem;
     }
@@ -147,6 +168,9 @@ public class NetconfTopologySetup {
         private InstanceIdentifier<Node> instanceIdentifier;
         private Node node;
         private ScheduledExecutorService keepaliveExecutor;
+        private KeepaliveScheduler keepaliveScheduler;
+        private YangLibraryClient yangLibraryClient;
+        private SchemaSetupScheduler schemaSetupScheduler;
         private ListeningExecutorService processingExecutor;
         private ActorSystem actorSystem;
         private EventExecutor eventExecutor;
@@ -241,6 +265,33 @@ public class NetconfTopologySetup {
             return this;
         }
 
+        KeepaliveScheduler getKeepaliveScheduler() {
+            return keepaliveScheduler;
+        }
+
+        public NetconfTopologySetupBuilder setKeepaliveScheduler(final KeepaliveScheduler keepaliveScheduler) {
+            this.keepaliveScheduler = keepaliveScheduler;
+            return this;
+        }
+
+        YangLibraryClient getYangLibraryClient() {
+            return yangLibraryClient;
+        }
+
+        public NetconfTopologySetupBuilder setYangLibraryClient(final YangLibraryClient yangLibraryClient) {
+            this.yangLibraryClient = yangLibraryClient;
+            return this;
+        }
+
+        SchemaSetupScheduler getSchemaSetupScheduler() {
+            return schemaSetupScheduler;
+        }
+
+        public NetconfTopologySetupBuilder setSchemaSetupScheduler(final SchemaSetupScheduler schemaSetupScheduler) {
+            this.schemaSetupScheduler = schemaSetupScheduler;
+            return this;
+        }
+
         ListeningExecutorService getProcessingExecutor() {
             return processingExecutor;
         }
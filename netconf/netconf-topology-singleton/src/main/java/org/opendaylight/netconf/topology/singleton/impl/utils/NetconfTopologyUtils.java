@@ -35,6 +35,8 @@ public final class NetconfTopologyUtils {
     public static final boolean DEFAULT_RECONNECT_ON_CHANGED_SCHEMA = false;
     public static final boolean DEFAULT_IS_TCP_ONLY = false;
     public static final int DEFAULT_CONCURRENT_RPC_LIMIT = 0;
+    public static final long DEFAULT_CONFIG_CACHE_MAX_AGE_MILLIS = 0L;
+    public static final long DEFAULT_CONFIG_CACHE_MAX_ENTRIES = 1000L;
     public static final int DEFAULT_MAX_CONNECTION_ATTEMPTS = 0;
     public static final int DEFAULT_BETWEEN_ATTEMPTS_TIMEOUT_MILLIS = 2000;
     public static final long DEFAULT_CONNECTION_TIMEOUT_MILLIS = 20000L;
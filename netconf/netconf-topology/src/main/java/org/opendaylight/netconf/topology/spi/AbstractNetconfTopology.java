@@ -20,12 +20,13 @@ import com.google.common.util.concurrent.MoreExecutors;
 import io.netty.util.concurrent.EventExecutor;
 import java.math.BigDecimal;
 import java.net.InetSocketAddress;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.aaa.encrypt.AAAEncryptionService;
 import org.opendaylight.controller.config.threadpool.ScheduledThreadPool;
 import org.opendaylight.controller.config.threadpool.ThreadPool;
@@ -49,6 +50,7 @@ import org.opendaylight.netconf.sal.connect.netconf.LibraryModulesSchemas;
 import org.opendaylight.netconf.sal.connect.netconf.NetconfDevice;
 import org.opendaylight.netconf.sal.connect.netconf.NetconfDevice.SchemaResourcesDTO;
 import org.opendaylight.netconf.sal.connect.netconf.NetconfDeviceBuilder;
+import org.opendaylight.netconf.sal.connect.netconf.SchemaSetupScheduler;
 import org.opendaylight.netconf.sal.connect.netconf.SchemalessNetconfDevice;
 import org.opendaylight.netconf.sal.connect.netconf.auth.DatastoreBackedPublicKeyAuth;
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfDeviceCapabilities;
@@ -56,7 +58,9 @@ import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfDeviceCommun
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfSessionPreferences;
 import org.opendaylight.netconf.sal.connect.netconf.listener.UserPreferences;
 import org.opendaylight.netconf.sal.connect.netconf.sal.KeepaliveSalFacade;
+import org.opendaylight.netconf.sal.connect.netconf.sal.KeepaliveScheduler;
 import org.opendaylight.netconf.sal.connect.netconf.sal.NetconfKeystoreAdapter;
+import org.opendaylight.netconf.sal.connect.netconf.schema.YangLibraryClient;
 import org.opendaylight.netconf.sal.connect.netconf.schema.YangLibrarySchemaYangSourceProvider;
 import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.BaseNetconfSchemas;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
@@ -64,9 +68,9 @@ import org.opendaylight.netconf.sal.connect.util.SslHandlerFactoryImpl;
 import org.opendaylight.netconf.topology.api.NetconfTopology;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Host;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Uri;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.optional.rev190614.NetconfNodeAugmentedOptional;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.NetconfNodeConnectionParameters.KeepaliveMechanism;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.connection.parameters.Protocol;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.connection.parameters.Protocol.Name;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.topology.rev150114.netconf.node.connection.status.available.capabilities.AvailableCapability.CapabilityOrigin;
@@ -95,6 +99,8 @@ public abstract class AbstractNetconfTopology implements NetconfTopology {
     protected static final int DEFAULT_KEEPALIVE_DELAY = 0;
     protected static final boolean DEFAULT_RECONNECT_ON_CHANGED_SCHEMA = false;
     protected static final int DEFAULT_CONCURRENT_RPC_LIMIT = 0;
+    private static final long DEFAULT_CONFIG_CACHE_MAX_AGE_MILLIS = 0L;
+    private static final long DEFAULT_CONFIG_CACHE_MAX_ENTRIES = 1000L;
     private static final boolean DEFAULT_IS_TCP_ONLY = false;
     private static final int DEFAULT_MAX_CONNECTION_ATTEMPTS = 0;
     private static final int DEFAULT_BETWEEN_ATTEMPTS_TIMEOUT_MILLIS = 2000;
@@ -108,8 +114,12 @@ public abstract class AbstractNetconfTopology implements NetconfTopology {
     private final NetconfKeystoreAdapter keystoreAdapter;
     private final SchemaResourceManager schemaManager;
     private final BaseNetconfSchemas baseSchemas;
+    private final YangLibraryClient yangLibraryClient = new YangLibraryClient();
+    private final SchemaSetupScheduler schemaSetupScheduler = new SchemaSetupScheduler();
 
     protected final ScheduledThreadPool keepaliveExecutor;
+    // Shared by all devices of this topology, subclasses are responsible for closing it
+    protected final KeepaliveScheduler keepaliveScheduler;
     protected final ListeningExecutorService processingExecutor;
     protected final DataBroker dataBroker;
     protected final DOMMountPointService mountPointService;
@@ -131,6 +141,8 @@ public abstract class AbstractNetconfTopology implements NetconfTopology {
         this.clientDispatcher = clientDispatcher;
         this.eventExecutor = eventExecutor;
         this.keepaliveExecutor = keepaliveExecutor;
+        // Keepalive checks run on the configured pool, which is looked up only once there is something to check
+        this.keepaliveScheduler = new KeepaliveScheduler(command -> keepaliveExecutor.getExecutor().execute(command));
         this.processingExecutor = MoreExecutors.listeningDecorator(processingExecutor.getExecutor());
         this.schemaManager = requireNonNull(schemaManager);
         this.deviceActionFactory = deviceActionFactory;
@@ -172,8 +184,7 @@ public abstract class AbstractNetconfTopology implements NetconfTopology {
 
         // retrieve connection, and disconnect it
         final NetconfConnectorDTO connectorDTO = activeConnectors.remove(nodeId);
-        connectorDTO.getCommunicator().close();
-        connectorDTO.getFacade().close();
+        connectorDTO.close();
         return Futures.immediateFuture(null);
     }
 
@@ -190,9 +201,14 @@ public abstract class AbstractNetconfTopology implements NetconfTopology {
         final NetconfClientSessionListener netconfClientSessionListener = deviceCommunicatorDTO.getSessionListener();
         final NetconfReconnectingClientConfiguration clientConfig =
                 getClientConfig(netconfClientSessionListener, netconfNode);
-        final ListenableFuture<NetconfDeviceCapabilities> future =
-                deviceCommunicator.initializeRemoteConnection(clientDispatcher, clientConfig);
-
+        // Yang library sources need to be registered before the device starts setting up its schema
+        final ListenableFuture<NetconfDeviceCapabilities> future = Futures.transformAsync(
+                registerYangLibrarySources(nodeId, netconfNode),
+                ignored -> deviceCommunicator.initializeRemoteConnection(clientDispatcher, clientConfig),
+                MoreExecutors.directExecutor());
+
+        // The connection is cancelled if the node is disconnected before it is established
+        deviceCommunicatorDTO.setConnectFuture(future);
         activeConnectors.put(nodeId, deviceCommunicatorDTO);
 
         Futures.addCallback(future, new FutureCallback<NetconfDeviceCapabilities>() {
@@ -203,6 +219,10 @@ public abstract class AbstractNetconfTopology implements NetconfTopology {
 
             @Override
             public void onFailure(final Throwable throwable) {
+                if (throwable instanceof CancellationException) {
+                    LOG.debug("Connector for {} cancelled", nodeId.getValue());
+                    return;
+                }
                 LOG.error("Connector for {} failed", nodeId.getValue(), throwable);
                 // remove this node from active connectors?
             }
@@ -223,18 +243,15 @@ public abstract class AbstractNetconfTopology implements NetconfTopology {
         final long keepaliveDelay = node.getKeepaliveDelay() == null
                 ? DEFAULT_KEEPALIVE_DELAY : node.getKeepaliveDelay().toJava();
 
-        final IpAddress ipAddress = node.getHost().getIpAddress();
-        final InetSocketAddress address = new InetSocketAddress(ipAddress.getIpv4Address() != null
-                ? ipAddress.getIpv4Address().getValue() : ipAddress.getIpv6Address().getValue(),
-                node.getPort().getValue().toJava());
-        final RemoteDeviceId remoteDeviceId = new RemoteDeviceId(nodeId.getValue(), address);
+        final RemoteDeviceId remoteDeviceId = createRemoteDeviceId(nodeId, node);
 
-        RemoteDeviceHandler<NetconfSessionPreferences> salFacade = createSalFacade(remoteDeviceId);
+        RemoteDeviceHandler<NetconfSessionPreferences> salFacade = createSalFacade(remoteDeviceId, node);
 
         if (keepaliveDelay > 0) {
             LOG.warn("Adding keepalive facade, for device {}", nodeId);
-            salFacade = new KeepaliveSalFacade(remoteDeviceId, salFacade, this.keepaliveExecutor.getExecutor(),
-                    keepaliveDelay, defaultRequestTimeoutMillis);
+            // SSH transport sends keepalives by itself, the facade is left to enforce request timeouts
+            salFacade = new KeepaliveSalFacade(remoteDeviceId, salFacade, keepaliveScheduler,
+                    usesSshKeepalive(node) ? 0 : keepaliveDelay, defaultRequestTimeoutMillis);
         }
 
         final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> device;
@@ -282,45 +299,55 @@ public abstract class AbstractNetconfTopology implements NetconfTopology {
                 .setNodeOptional(nodeOptional)
                 .setDeviceActionFactory(deviceActionFactory)
                 .setBaseSchemas(baseSchemas)
+                .setSchemaSetupScheduler(schemaSetupScheduler)
                 .build();
 
+        return device;
+    }
+
+    private ListenableFuture<?> registerYangLibrarySources(final NodeId nodeId, final NetconfNode node) {
         final YangLibrary yangLibrary = node.getYangLibrary();
-        if (yangLibrary != null) {
-            final Uri uri = yangLibrary.getYangLibraryUrl();
-            if (uri != null) {
-                // FIXME: NETCONF-675: these registrations need to be torn down with the device. This does not look
-                //                     quite right, though, as we can end up adding a lot of registrations on a
-                //                     per-device basis.
-                //                     This leak is also detected by SpotBugs as soon as this initialization is switched
-                //                     to proper "new ArrayList<>" and hence we really need to attach these somewhere
-                //                     else.
-                //                     It seems we should be subclassing NetconfConnectorDTO for this purpose as a
-                //                     first step and then perhaps do some refcounting or similar based on the
-                //                     schemaRegistry instance.
-                final List<SchemaSourceRegistration<?>> registeredYangLibSources = Lists.newArrayList();
-                final String yangLibURL = uri.getValue();
-                final SchemaSourceRegistry schemaRegistry = resources.getSchemaRegistry();
-
-                // pre register yang library sources as fallback schemas to schema registry
-                final LibraryModulesSchemas schemas;
-                final String yangLibUsername = yangLibrary.getUsername();
-                final String yangLigPassword = yangLibrary.getPassword();
-                if (yangLibUsername != null && yangLigPassword != null) {
-                    schemas = LibraryModulesSchemas.create(yangLibURL, yangLibUsername, yangLigPassword);
-                } else {
-                    schemas = LibraryModulesSchemas.create(yangLibURL);
-                }
+        if (yangLibrary == null || yangLibrary.getYangLibraryUrl() == null
+                || Boolean.TRUE.equals(node.isSchemaless())) {
+            return Futures.immediateFuture(null);
+        }
 
-                for (final Map.Entry<SourceIdentifier, URL> entry : schemas.getAvailableModels().entrySet()) {
-                    registeredYangLibSources.add(schemaRegistry.registerSchemaSource(
-                        new YangLibrarySchemaYangSourceProvider(remoteDeviceId, schemas.getAvailableModels()),
-                        PotentialSchemaSource.create(entry.getKey(), YangTextSchemaSource.class,
-                            PotentialSchemaSource.Costs.REMOTE_IO.getValue())));
-                }
+        // FIXME: NETCONF-675: these registrations need to be torn down with the device. This does not look
+        //                     quite right, though, as we can end up adding a lot of registrations on a
+        //                     per-device basis.
+        //                     This leak is also detected by SpotBugs as soon as this initialization is switched
+        //                     to proper "new ArrayList<>" and hence we really need to attach these somewhere
+        //                     else.
+        //                     It seems we should be subclassing NetconfConnectorDTO for this purpose as a
+        //                     first step and then perhaps do some refcounting or similar based on the
+        //                     schemaRegistry instance.
+        final List<SchemaSourceRegistration<?>> registeredYangLibSources = Lists.newArrayList();
+        final RemoteDeviceId remoteDeviceId = createRemoteDeviceId(nodeId, node);
+        final SchemaSourceRegistry schemaRegistry = schemaManager.getSchemaResources(node, nodeId.getValue())
+            .getSchemaRegistry();
+
+        // pre register yang library sources as fallback schemas to schema registry
+        final ListenableFuture<LibraryModulesSchemas> schemasFuture = LibraryModulesSchemas.createAsync(
+            yangLibraryClient, yangLibrary.getYangLibraryUrl().getValue(), yangLibrary.getUsername(),
+            yangLibrary.getPassword());
+        return Futures.transform(schemasFuture, schemas -> {
+            final YangLibrarySchemaYangSourceProvider provider = new YangLibrarySchemaYangSourceProvider(
+                remoteDeviceId, schemas.getAvailableModels(), yangLibraryClient);
+            for (final SourceIdentifier sourceId : schemas.getAvailableModels().keySet()) {
+                registeredYangLibSources.add(schemaRegistry.registerSchemaSource(provider,
+                    PotentialSchemaSource.create(sourceId, YangTextSchemaSource.class,
+                        PotentialSchemaSource.Costs.REMOTE_IO.getValue())));
             }
-        }
+            return schemas;
+        }, MoreExecutors.directExecutor());
+    }
 
-        return device;
+    private static RemoteDeviceId createRemoteDeviceId(final NodeId nodeId, final NetconfNode node) {
+        final IpAddress ipAddress = node.getHost().getIpAddress();
+        final InetSocketAddress address = new InetSocketAddress(ipAddress.getIpv4Address() != null
+                ? ipAddress.getIpv4Address().getValue() : ipAddress.getIpv6Address().getValue(),
+                node.getPort().getValue().toJava());
+        return new RemoteDeviceId(nodeId.getValue(), address);
     }
 
     /**
@@ -378,6 +405,12 @@ public abstract class AbstractNetconfTopology implements NetconfTopology {
                     .withOdlHelloCapabilities(node.getOdlHelloMessageCapabilities().getCapability());
         }
 
+        if (usesSshKeepalive(node)) {
+            final long keepaliveDelay = node.getKeepaliveDelay() == null
+                    ? DEFAULT_KEEPALIVE_DELAY : node.getKeepaliveDelay().toJava();
+            reconnectingClientConfigurationBuilder.withSshKeepaliveMillis(TimeUnit.SECONDS.toMillis(keepaliveDelay));
+        }
+
         return reconnectingClientConfigurationBuilder
                 .withAddress(socketAddress)
                 .withConnectionTimeoutMillis(clientConnectionTimeoutMillis)
@@ -416,6 +449,35 @@ public abstract class AbstractNetconfTopology implements NetconfTopology {
 
     protected abstract RemoteDeviceHandler<NetconfSessionPreferences> createSalFacade(RemoteDeviceId id);
 
+    /**
+     * Create the SAL facade of a device, taking its node configuration into account. The default implementation
+     * ignores the configuration and delegates to {@link #createSalFacade(RemoteDeviceId)}.
+     *
+     * @param id device identifier
+     * @param node device node configuration
+     * @return SAL facade of the device
+     */
+    protected RemoteDeviceHandler<NetconfSessionPreferences> createSalFacade(final RemoteDeviceId id,
+            final NetconfNode node) {
+        return createSalFacade(id);
+    }
+
+    protected static long getConfigCacheMaxAgeMillis(final NetconfNode node) {
+        return node.getConfigCacheMaxAgeMillis() == null
+                ? DEFAULT_CONFIG_CACHE_MAX_AGE_MILLIS : node.getConfigCacheMaxAgeMillis().toJava();
+    }
+
+    protected static long getConfigCacheMaxEntries(final NetconfNode node) {
+        return node.getConfigCacheMaxEntries() == null
+                ? DEFAULT_CONFIG_CACHE_MAX_ENTRIES : node.getConfigCacheMaxEntries().toJava();
+    }
+
+    private static boolean usesSshKeepalive(final NetconfNode node) {
+        final Protocol protocol = node.getProtocol();
+        return node.getKeepaliveMechanism() == KeepaliveMechanism.Ssh && !Boolean.TRUE.equals(node.isTcpOnly())
+                && (protocol == null || protocol.getName() == Name.SSH);
+    }
+
     private static InetSocketAddress getSocketAddress(final Host host, final int port) {
         if (host.getDomainName() != null) {
             return new InetSocketAddress(host.getDomainName().getValue(), port);
@@ -462,6 +524,7 @@ public abstract class AbstractNetconfTopology implements NetconfTopology {
 
         private final NetconfDeviceCommunicator communicator;
         private final RemoteDeviceHandler<NetconfSessionPreferences> facade;
+        private volatile Future<?> connectFuture;
 
         public NetconfConnectorDTO(final NetconfDeviceCommunicator communicator,
                                    final RemoteDeviceHandler<NetconfSessionPreferences> facade) {
@@ -481,8 +544,21 @@ public abstract class AbstractNetconfTopology implements NetconfTopology {
             return communicator;
         }
 
+        /**
+         * Set the future of the connection being established, which is cancelled when this connector is closed.
+         *
+         * @param future future completing once the connection is established
+         */
+        public void setConnectFuture(final Future<?> future) {
+            connectFuture = future;
+        }
+
         @Override
         public void close() {
+            final Future<?> future = connectFuture;
+            if (future != null) {
+                future.cancel(false);
+            }
             communicator.close();
             facade.close();
         }
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.util.messages;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.xml.XMLConstants;
+import org.opendaylight.netconf.api.DocumentedException;
+import org.opendaylight.netconf.api.xml.XmlElement;
+import org.opendaylight.netconf.api.xml.XmlNetconfConstants;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.opendaylight.netconf.util.messages.SubtreeFilter.MatchingResult;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
+
+/**
+ * Subtree filter compiled into a tree of matchers, which is evaluated directly against the source document. Only the
+ * selected nodes are copied into the result, the source document is neither copied nor modified.
+ *
+ * <p>
+ * Compiled filters are immutable and compare equal if they select the same content, hence they can be used to
+ * identify subscriptions which share their results.
+ */
+public final class CompiledSubtreeFilter {
+    private final ImmutableList<Matcher> matchers;
+
+    private CompiledSubtreeFilter(final ImmutableList<Matcher> matchers) {
+        this.matchers = requireNonNull(matchers);
+    }
+
+    /**
+     * Compile a filter element. Filters which are not of type "subtree" do not filter anything, hence nothing is
+     * returned for them.
+     *
+     * @param filter filter element
+     * @return compiled filter, or empty if the filter does not filter anything
+     */
+    public static Optional<CompiledSubtreeFilter> compile(final XmlElement filter) {
+        return SubtreeFilter.isSupported(filter) ? Optional.of(new CompiledSubtreeFilter(compileChildren(filter)))
+            : Optional.empty();
+    }
+
+    /**
+     * Filter notification content. Notification's event time is ignored and is not part of the result.
+     *
+     * @param notification notification document
+     * @return document containing filtered notification content, or empty if the filter does not match
+     * @throws DocumentedException if the notification does not have exactly one content element
+     */
+    public Optional<Document> filterNotification(final Document notification) throws DocumentedException {
+        final Element content = notificationContent(notification.getDocumentElement());
+        final Document result = XmlUtil.newDocument();
+        final Element dst = result.createElementNS(content.getNamespaceURI(), content.getNodeName());
+        for (Matcher matcher : matchers) {
+            matcher.addSubtree(content, dst);
+        }
+
+        final Node first = dst.getFirstChild();
+        if (first == null) {
+            return Optional.empty();
+        }
+        result.appendChild(first);
+        return Optional.of(result);
+    }
+
+    @Override
+    public int hashCode() {
+        return matchers.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || obj instanceof CompiledSubtreeFilter
+            && matchers.equals(((CompiledSubtreeFilter) obj).matchers);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("matchers", matchers).toString();
+    }
+
+    private static Element notificationContent(final Element notification) throws DocumentedException {
+        Element content = null;
+        int count = 0;
+        for (Node child = notification.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element && !isEventTime(child)) {
+                content = (Element) child;
+                count++;
+            }
+        }
+        if (count != 1) {
+            throw new DocumentedException(String.format("One element expected in %s but was %s",
+                XmlElement.fromDomElement(notification), count), DocumentedException.ErrorType.APPLICATION,
+                DocumentedException.ErrorTag.INVALID_VALUE, DocumentedException.ErrorSeverity.ERROR);
+        }
+        return content;
+    }
+
+    private static boolean isEventTime(final Node node) {
+        return XmlNetconfConstants.EVENT_TIME.equals(node.getLocalName())
+            && XmlNetconfConstants.URN_IETF_PARAMS_NETCONF_CAPABILITY_NOTIFICATION_1_0.equals(node.getNamespaceURI());
+    }
+
+    private static ImmutableList<Matcher> compileChildren(final XmlElement filter) {
+        final ImmutableList.Builder<Matcher> builder = ImmutableList.builder();
+        for (XmlElement child : filter.getChildElements()) {
+            builder.add(new Matcher(child));
+        }
+        return builder.build();
+    }
+
+    private static String nameOf(final Element element) {
+        final String localName = element.getLocalName();
+        return Strings.isNullOrEmpty(localName) ? element.getTagName() : localName;
+    }
+
+    private static String namespaceOf(final Node node) {
+        return Strings.emptyToNull(node.getNamespaceURI());
+    }
+
+    private static String onlyText(final Element element) {
+        // Same as XmlElement.getOnlyTextContentOptionally()
+        final Node first = element.getFirstChild();
+        return first instanceof Text && first.getNextSibling() == null ? ((Text) first).getWholeText() : null;
+    }
+
+    /**
+     * A single filter element, see {@link SubtreeFilter} for matching rules.
+     */
+    private static final class Matcher {
+        private final String name;
+        private final String namespace;
+        // Content match node text, null if this is not a content match node
+        private final String text;
+        // Namespace and unprefixed content, if the text is a prefixed identity
+        private final String textNamespace;
+        private final String unprefixedText;
+        private final ImmutableSet<AttributeMatcher> attributes;
+        private final ImmutableList<Matcher> children;
+        private final int hashCode;
+
+        Matcher(final XmlElement filter) {
+            final Element element = filter.getDomElement();
+            name = nameOf(element);
+            namespace = namespaceOf(element);
+            text = onlyText(element);
+            children = compileChildren(filter);
+
+            String prefixedNamespace = null;
+            String prefixedText = null;
+            if (text != null) {
+                try {
+                    final Map.Entry<String, String> prefixToNamespace = filter.findNamespaceOfTextContent();
+                    final String prefix = prefixToNamespace.getKey();
+                    if (!prefix.equals(XmlElement.DEFAULT_NAMESPACE_PREFIX)) {
+                        prefixedNamespace = prefixToNamespace.getValue();
+                        prefixedText = filter.getTextContent().substring(prefix.length() + 1);
+                    }
+                } catch (IllegalArgumentException | DocumentedException e) {
+                    // Not a prefixed value
+                }
+            }
+            textNamespace = prefixedNamespace;
+            unprefixedText = prefixedText;
+
+            final ImmutableSet.Builder<AttributeMatcher> builder = ImmutableSet.builder();
+            final NamedNodeMap attrs = element.getAttributes();
+            for (int i = 0; i < attrs.getLength(); i++) {
+                final Attr attr = (Attr) attrs.item(i);
+                // ignore namespace declarations
+                if (!XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attr.getNamespaceURI())) {
+                    builder.add(new AttributeMatcher(attr));
+                }
+            }
+            attributes = builder.build();
+            hashCode = Objects.hash(name, namespace, text, textNamespace, unprefixedText, attributes, children);
+        }
+
+        /**
+         * Copy the parts of {@code src} selected by this matcher into {@code dstParent}.
+         */
+        MatchingResult addSubtree(final Element src, final Element dstParent) {
+            final MatchingResult matches = matches(src);
+            if (matches == MatchingResult.NO_MATCH || matches == MatchingResult.CONTENT_MISMATCH) {
+                return matches;
+            }
+
+            final Document document = dstParent.getOwnerDocument();
+            if (children.isEmpty()) {
+                // copy to depth if this is leaf of filter tree
+                dstParent.appendChild(document.importNode(src, true));
+                return matches;
+            }
+
+            Element copied = (Element) document.importNode(src, false);
+            boolean shouldAppend = false;
+            int numberOfTextMatchingChildren = 0;
+            for (Node srcChild = src.getFirstChild(); srcChild != null; srcChild = srcChild.getNextSibling()) {
+                if (srcChild instanceof Element) {
+                    for (Matcher child : children) {
+                        final MatchingResult childMatch = child.addSubtree((Element) srcChild, copied);
+                        if (childMatch == MatchingResult.CONTENT_MISMATCH) {
+                            return MatchingResult.NO_MATCH;
+                        }
+                        if (childMatch == MatchingResult.CONTENT_MATCH) {
+                            numberOfTextMatchingChildren++;
+                        }
+                        shouldAppend |= childMatch != MatchingResult.NO_MATCH;
+                    }
+                }
+            }
+            // if only text matching child filters are specified, all children are added
+            if (numberOfTextMatchingChildren == children.size()) {
+                copied = (Element) document.importNode(src, true);
+            }
+            if (shouldAppend) {
+                dstParent.appendChild(copied);
+            }
+            return matches;
+        }
+
+        private MatchingResult matches(final Element src) {
+            if (!name.equals(nameOf(src)) || !Objects.equals(namespace, namespaceOf(src))) {
+                return MatchingResult.NO_MATCH;
+            }
+            if (text != null) {
+                return text.equals(onlyText(src)) || prefixedContentMatches(src) ? MatchingResult.CONTENT_MATCH
+                    : MatchingResult.CONTENT_MISMATCH;
+            }
+            for (AttributeMatcher attribute : attributes) {
+                if (!attribute.matches(src)) {
+                    return MatchingResult.NO_MATCH;
+                }
+            }
+            return MatchingResult.TAG_MATCH;
+        }
+
+        private boolean prefixedContentMatches(final Element src) {
+            if (textNamespace == null) {
+                return false;
+            }
+
+            final XmlElement srcElement = XmlElement.fromDomElement(src);
+            final Map.Entry<String, String> prefixToNamespace;
+            final String srcText;
+            try {
+                prefixToNamespace = srcElement.findNamespaceOfTextContent();
+                srcText = srcElement.getTextContent();
+            } catch (IllegalArgumentException | DocumentedException e) {
+                // if we can't find namespace of prefix - it's not a prefix, so it doesn't match
+                return false;
+            }
+            return textNamespace.equals(prefixToNamespace.getValue())
+                && unprefixedText.equals(srcText.substring(prefixToNamespace.getKey().length() + 1));
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Matcher)) {
+                return false;
+            }
+            final Matcher other = (Matcher) obj;
+            return hashCode == other.hashCode && name.equals(other.name) && Objects.equals(namespace, other.namespace)
+                && Objects.equals(text, other.text) && Objects.equals(textNamespace, other.textNamespace)
+                && Objects.equals(unprefixedText, other.unprefixedText) && attributes.equals(other.attributes)
+                && children.equals(other.children);
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).omitNullValues().add("name", name).add("namespace", namespace)
+                .add("text", text).add("attributes", attributes).add("children", children).toString();
+        }
+    }
+
+    private static final class AttributeMatcher {
+        private final String namespace;
+        private final String localName;
+        private final String value;
+
+        AttributeMatcher(final Attr attr) {
+            namespace = attr.getNamespaceURI();
+            localName = attr.getLocalName();
+            value = attr.getValue();
+        }
+
+        boolean matches(final Element src) {
+            return value.equals(src.getAttributeNS(namespace, localName));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(namespace, localName, value);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof AttributeMatcher)) {
+                return false;
+            }
+            final AttributeMatcher other = (AttributeMatcher) obj;
+            return Objects.equals(namespace, other.namespace) && Objects.equals(localName, other.localName)
+                && value.equals(other.value);
+        }
+
+        @Override
+        public String toString() {
+            return (namespace == null ? "" : "{" + namespace + "}") + localName + "=" + value;
+        }
+    }
+}
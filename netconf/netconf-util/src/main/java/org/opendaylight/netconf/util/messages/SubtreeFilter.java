@@ -59,7 +59,8 @@ public final class SubtreeFilter {
 
     /**
      * Filters notification content. If filter type isn't of type "subtree", returns unchanged notification content.
-     * If no match is found, absent is returned.
+     * If no match is found, absent is returned. Filters which are applied repeatedly should be compiled using
+     * {@link CompiledSubtreeFilter#compile(XmlElement)} instead.
      * @param filter filter
      * @param notification notification
      * @return document containing filtered notification content
@@ -67,10 +68,11 @@ public final class SubtreeFilter {
      */
     public static Optional<Document> applySubtreeNotificationFilter(final XmlElement filter,
             final Document notification) throws DocumentedException {
-        removeEventTimeNode(notification);
-        if (isSupported(filter)) {
-            return Optional.ofNullable(filteredNotification(filter, notification));
+        final Optional<CompiledSubtreeFilter> compiled = CompiledSubtreeFilter.compile(filter);
+        if (compiled.isPresent()) {
+            return compiled.get().filterNotification(notification);
         }
+        removeEventTimeNode(notification);
         return Optional.of(extractNotificationContent(notification));
     }
 
@@ -80,7 +82,7 @@ public final class SubtreeFilter {
         document.getDocumentElement().removeChild(eventTimeNode);
     }
 
-    private static boolean isSupported(final XmlElement filter) {
+    static boolean isSupported(final XmlElement filter) {
         return "subtree".equals(filter.getAttribute("type"))
                 || "subtree".equals(filter.getAttribute("type",
                 XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0));
@@ -94,21 +96,6 @@ public final class SubtreeFilter {
         return notification;
     }
 
-    private static Document filteredNotification(final XmlElement filter,
-                                                 final Document originalNotification) throws DocumentedException {
-        Document result = XmlUtil.newDocument();
-        XmlElement dataSrc = XmlElement.fromDomDocument(originalNotification);
-        Element dataDst = (Element) result.importNode(dataSrc.getDomElement(), false);
-        for (XmlElement filterChild : filter.getChildElements()) {
-            addSubtree2(filterChild, dataSrc.getOnlyChildElement(), XmlElement.fromDomElement(dataDst));
-        }
-        if (dataDst.getFirstChild() != null) {
-            result.appendChild(dataDst.getFirstChild());
-            return result;
-        }
-        return null;
-    }
-
     private static Document filtered(final XmlElement filter, final Document originalReplyDocument)
             throws DocumentedException {
         Document result = XmlUtil.newDocument();
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.util.messages;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Optional;
+import org.junit.Test;
+import org.opendaylight.netconf.api.xml.XmlElement;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.w3c.dom.Document;
+
+public class CompiledSubtreeFilterTest {
+    private static final String NOTIFICATION = "<notification xmlns=\"urn:ietf:params:netconf:capability:"
+            + "notification:1.0\"><eventTime>2020-01-01T00:00:00Z</eventTime>"
+            + "<event xmlns=\"urn:test\"><name>a</name><value>1</value></event></notification>";
+
+    @Test
+    public void testIdenticalFiltersAreEqual() throws Exception {
+        final CompiledSubtreeFilter first = compile("<filter type=\"subtree\"><event xmlns=\"urn:test\">"
+            + "<name>a</name></event></filter>");
+        final CompiledSubtreeFilter second = compile("<filter type=\"subtree\"><t:event xmlns:t=\"urn:test\">"
+            + "<t:name>a</t:name></t:event></filter>");
+        final CompiledSubtreeFilter third = compile("<filter type=\"subtree\"><event xmlns=\"urn:test\">"
+            + "<name>b</name></event></filter>");
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, third);
+    }
+
+    @Test
+    public void testNotificationNotModified() throws Exception {
+        final Document notification = XmlUtil.readXmlToDocument(NOTIFICATION);
+        final String original = XmlUtil.toString(notification);
+
+        final Optional<Document> filtered = compile("<filter type=\"subtree\"><event xmlns=\"urn:test\">"
+            + "<value/></event></filter>").filterNotification(notification);
+        assertTrue(filtered.isPresent());
+        assertEquals("event", filtered.get().getDocumentElement().getLocalName());
+        assertEquals(1, filtered.get().getDocumentElement().getElementsByTagNameNS("urn:test", "value").getLength());
+        assertEquals(0, filtered.get().getDocumentElement().getElementsByTagNameNS("urn:test", "name").getLength());
+        assertEquals(original, XmlUtil.toString(notification));
+
+        assertFalse(compile("<filter type=\"subtree\"><event xmlns=\"urn:test\"><name>b</name></event></filter>")
+            .filterNotification(notification).isPresent());
+    }
+
+    @Test
+    public void testUnsupportedFilterType() throws Exception {
+        assertFalse(CompiledSubtreeFilter.compile(XmlElement.fromString("<filter type=\"xpath\"/>")).isPresent());
+    }
+
+    private static CompiledSubtreeFilter compile(final String filter) throws Exception {
+        return CompiledSubtreeFilter.compile(XmlElement.fromString(filter)).get();
+    }
+}
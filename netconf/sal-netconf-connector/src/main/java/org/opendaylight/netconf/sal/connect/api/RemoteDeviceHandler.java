@@ -40,6 +40,18 @@ public interface RemoteDeviceHandler<PREF> extends AutoCloseable {
         // DO NOTHING
     }
 
+    /**
+     * When the session to the device is up, but setting up its schema has been deferred. The device is not connected
+     * until {@link #onDeviceConnected(MountPointContext, Object, DOMRpcService, DOMActionService)} is invoked once its
+     * schema is set up, but base NETCONF operations can be invoked on it in the meantime.
+     *
+     * @param netconfSessionPreferences - session of device
+     * @param baseRpc - {@link DOMRpcService} of device, supporting only base NETCONF operations
+     */
+    default void onDeviceSetupDeferred(final PREF netconfSessionPreferences, final DOMRpcService baseRpc) {
+        // DO NOTHING
+    }
+
     default void onDeviceReconnected(final PREF netconfSessionPreferences, final NetconfNode node) {
         // DO NOTHING
     }
@@ -17,6 +17,9 @@ import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTr
 
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.gson.stream.JsonReader;
 import java.io.IOException;
 import java.io.InputStream;
@@ -46,6 +49,7 @@ import org.opendaylight.binding.runtime.spi.BindingRuntimeHelpers;
 import org.opendaylight.mdsal.dom.api.DOMRpcResult;
 import org.opendaylight.netconf.sal.connect.api.NetconfDeviceSchemas;
 import org.opendaylight.netconf.sal.connect.netconf.sal.NetconfDeviceRpc;
+import org.opendaylight.netconf.sal.connect.netconf.schema.YangLibraryClient;
 import org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.library.rev160621.ModulesState;
@@ -155,6 +159,34 @@ public final class LibraryModulesSchemas implements NetconfDeviceSchemas {
         }
     }
 
+    /**
+     * Resolves URLs with YANG schema resources from modules-state, without blocking the calling thread. Uses basic
+     * http authentication if both {@code username} and {@code password} are specified.
+     *
+     * @param client client to fetch the yang library with
+     * @param url URL pointing to yang library
+     * @param username username, may be null
+     * @param password password, may be null
+     * @return Future completing with resolved URLs with YANG schema resources for all yang modules from yang library
+     */
+    public static ListenableFuture<LibraryModulesSchemas> createAsync(final YangLibraryClient client,
+            final String url, final @Nullable String username, final @Nullable String password) {
+        final URI uri;
+        try {
+            uri = new URL(requireNonNull(url)).toURI();
+        } catch (final MalformedURLException | URISyntaxException e) {
+            LOG.warn("Unable to download yang library from {}", url, e);
+            return Futures.immediateFuture(new LibraryModulesSchemas(ImmutableMap.of()));
+        }
+
+        return Futures.catching(Futures.transformAsync(client.fetch(uri, "application/xml", username, password),
+            response -> Futures.immediateFuture(createFromResponse(response)), MoreExecutors.directExecutor()),
+            // Malformed content fails with runtime exceptions, which are treated the same as I/O failures
+            Exception.class, e -> {
+                LOG.warn("Unable to download yang library from {}", url, e);
+                return new LibraryModulesSchemas(ImmutableMap.of());
+            }, MoreExecutors.directExecutor());
+    }
 
     public static LibraryModulesSchemas create(final NetconfDeviceRpc deviceRpc, final RemoteDeviceId deviceId) {
         final DOMRpcResult moduleListNodeResult;
@@ -243,25 +275,48 @@ public final class LibraryModulesSchemas implements NetconfDeviceSchemas {
     }
 
     private static LibraryModulesSchemas createFromURLConnection(final URLConnection connection) {
+        final String contentType = resolveContentType(connection.getURL(), connection.getContentType());
+
+        Optional<NormalizedNode<?, ?>> optionalModulesStateNode = Optional.empty();
+        try (InputStream in = connection.getInputStream()) {
+            optionalModulesStateNode = readModulesState(contentType, in);
+        } catch (final IOException e) {
+            LOG.warn("Unable to download yang library from {}", connection.getURL(), e);
+        }
+
+        return createFromModulesState(optionalModulesStateNode);
+    }
+
+    private static LibraryModulesSchemas createFromResponse(final YangLibraryClient.Response response)
+            throws IOException {
+        final String contentType = resolveContentType(response.getUri().toURL(),
+            response.getContentType().orElse(null));
+
+        try (InputStream in = response.getBody().openStream()) {
+            return createFromModulesState(readModulesState(contentType, in));
+        }
+    }
 
-        String contentType = connection.getContentType();
+    private static String resolveContentType(final URL url, final @Nullable String reported) {
+        String contentType = reported;
 
         // TODO try to guess Json also from intput stream
-        if (guessJsonFromFileName(connection.getURL().getFile())) {
+        if (guessJsonFromFileName(url.getFile())) {
             contentType = "application/json";
         }
 
         requireNonNull(contentType, "Content type unknown");
         checkState(contentType.equals("application/json") || contentType.equals("application/xml"),
                 "Only XML and JSON types are supported.");
+        return contentType;
+    }
 
-        Optional<NormalizedNode<?, ?>> optionalModulesStateNode = Optional.empty();
-        try (InputStream in = connection.getInputStream()) {
-            optionalModulesStateNode = contentType.equals("application/json") ? readJson(in) : readXml(in);
-        } catch (final IOException e) {
-            LOG.warn("Unable to download yang library from {}", connection.getURL(), e);
-        }
+    private static Optional<NormalizedNode<?, ?>> readModulesState(final String contentType, final InputStream in) {
+        return contentType.equals("application/json") ? readJson(in) : readXml(in);
+    }
 
+    private static LibraryModulesSchemas createFromModulesState(
+            final Optional<NormalizedNode<?, ?>> optionalModulesStateNode) {
         if (!optionalModulesStateNode.isPresent()) {
             return new LibraryModulesSchemas(ImmutableMap.of());
         }
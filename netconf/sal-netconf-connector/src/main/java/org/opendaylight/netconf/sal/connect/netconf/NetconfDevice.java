@@ -30,7 +30,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.checkerframework.checker.lock.qual.GuardedBy;
@@ -96,11 +95,13 @@ public class NetconfDevice
         SchemaMountConstants.RFC8528_MODULE, "schema-mounts").intern();
     private static final YangInstanceIdentifier RFC8528_SCHEMA_MOUNTS = YangInstanceIdentifier.create(
         NodeIdentifier.create(RFC8528_SCHEMA_MOUNTS_QNAME));
+    private static final int DEFAULT_SCHEMA_DOWNLOAD_CONCURRENCY = 8;
 
     protected final RemoteDeviceId id;
     protected final EffectiveModelContextFactory schemaContextFactory;
     protected final SchemaSourceRegistry schemaRegistry;
     protected final SchemaRepository schemaRepository;
+    private final SchemaSourceFetcher sourceFetcher;
 
     protected final List<SchemaSourceRegistration<?>> sourceRegistrations = new ArrayList<>();
 
@@ -114,9 +115,12 @@ public class NetconfDevice
     private final NetconfNode node;
     private final EventExecutor eventExecutor;
     private final NetconfNodeAugmentedOptional nodeOptional;
+    private final SchemaSetupScheduler setupScheduler;
 
     @GuardedBy("this")
     private boolean connected = false;
+    @GuardedBy("this")
+    private SchemaSetupScheduler.Setup pendingSetup;
 
     // Message transformer is constructed once the schemas are available
     private MessageTransformer<NetconfMessage> messageTransformer;
@@ -133,6 +137,15 @@ public class NetconfDevice
             final ListeningExecutorService globalProcessingExecutor, final boolean reconnectOnSchemasChange,
             final DeviceActionFactory deviceActionFactory, final NetconfNode node, final EventExecutor eventExecutor,
             final NetconfNodeAugmentedOptional nodeOptional) {
+        this(schemaResourcesDTO, baseSchemas, id, salFacade, globalProcessingExecutor, reconnectOnSchemasChange,
+            deviceActionFactory, node, eventExecutor, nodeOptional, null);
+    }
+
+    public NetconfDevice(final SchemaResourcesDTO schemaResourcesDTO, final BaseNetconfSchemas baseSchemas,
+            final RemoteDeviceId id, final RemoteDeviceHandler<NetconfSessionPreferences> salFacade,
+            final ListeningExecutorService globalProcessingExecutor, final boolean reconnectOnSchemasChange,
+            final DeviceActionFactory deviceActionFactory, final NetconfNode node, final EventExecutor eventExecutor,
+            final NetconfNodeAugmentedOptional nodeOptional, final SchemaSetupScheduler setupScheduler) {
         this.baseSchemas = requireNonNull(baseSchemas);
         this.id = id;
         this.reconnectOnSchemasChange = reconnectOnSchemasChange;
@@ -140,8 +153,10 @@ public class NetconfDevice
         this.node = node;
         this.eventExecutor = eventExecutor;
         this.nodeOptional = nodeOptional;
+        this.setupScheduler = setupScheduler;
         this.schemaRegistry = schemaResourcesDTO.getSchemaRegistry();
         this.schemaRepository = schemaResourcesDTO.getSchemaRepository();
+        this.sourceFetcher = schemaResourcesDTO.getSourceFetcher();
         this.schemaContextFactory = schemaResourcesDTO.getSchemaContextFactory();
         this.salFacade = salFacade;
         this.stateSchemasResolver = schemaResourcesDTO.getStateSchemasResolver();
@@ -163,13 +178,35 @@ public class NetconfDevice
         final BaseSchema baseSchema = resolveBaseSchema(remoteSessionCapabilities.isNotificationsSupported());
         final NetconfDeviceRpc initRpc = new NetconfDeviceRpc(baseSchema.getSchemaContext(), listener,
             new NetconfMessageTransformer(baseSchema.getMountPointContext(), false, baseSchema));
-        final ListenableFuture<DeviceSources> sourceResolverFuture = processingExecutor.submit(
-            new DeviceSourcesResolver(id, baseSchema, initRpc, remoteSessionCapabilities, stateSchemasResolver));
 
         if (shouldListenOnSchemaChange(remoteSessionCapabilities)) {
             registerToBaseNetconfStream(initRpc, listener);
         }
 
+        if (isLazySchemaSetup()) {
+            LOG.debug("{}: Deferring schema setup", id);
+            // The session is usable with base schema right away, let the facade check it while the setup is queued
+            salFacade.onDeviceSetupDeferred(remoteSessionCapabilities, initRpc);
+            final SchemaSetupScheduler.Setup setup = setupScheduler.schedule(id,
+                () -> setupSchema(baseSchema, initRpc, remoteSessionCapabilities, listener));
+            synchronized (this) {
+                pendingSetup = setup;
+            }
+        } else {
+            setupSchema(baseSchema, initRpc, remoteSessionCapabilities, listener);
+        }
+    }
+
+    private boolean isLazySchemaSetup() {
+        return setupScheduler != null && node != null && Boolean.TRUE.equals(node.isLazySchemaSetup());
+    }
+
+    private ListenableFuture<MountPointContext> setupSchema(final BaseSchema baseSchema,
+            final NetconfDeviceRpc initRpc, final NetconfSessionPreferences remoteSessionCapabilities,
+            final NetconfDeviceCommunicator listener) {
+        final ListenableFuture<DeviceSources> sourceResolverFuture = processingExecutor.submit(
+            new DeviceSourcesResolver(id, baseSchema, initRpc, remoteSessionCapabilities, stateSchemasResolver));
+
         // Set up the SchemaContext for the device
         final ListenableFuture<EffectiveModelContext> futureSchema = Futures.transformAsync(sourceResolverFuture,
             deviceSources -> assembleSchemaContext(deviceSources, remoteSessionCapabilities), processingExecutor);
@@ -208,6 +245,7 @@ public class NetconfDevice
                 salFacade.onDeviceFailed(cause);
             }
         }, MoreExecutors.directExecutor());
+        return futureContext;
     }
 
     private void registerToBaseNetconfStream(final NetconfDeviceRpc deviceRpc,
@@ -295,6 +333,15 @@ public class NetconfDevice
         this.connected = connected;
     }
 
+    private synchronized void cancelPendingSetup() {
+        if (pendingSetup != null) {
+            if (pendingSetup.cancel()) {
+                LOG.debug("{}: Cancelled deferred schema setup", id);
+            }
+            pendingSetup = null;
+        }
+    }
+
     @SuppressFBWarnings(value = "UPM_UNCALLED_PRIVATE_METHOD",
             justification = "https://github.com/spotbugs/spotbugs/issues/811")
     private ListenableFuture<EffectiveModelContext> assembleSchemaContext(final DeviceSources deviceSources,
@@ -349,6 +396,7 @@ public class NetconfDevice
     @Override
     public void onRemoteSessionDown() {
         setConnected(false);
+        cancelPendingSetup();
         notificationHandler.onRemoteSchemaDown();
 
         salFacade.onDeviceDisconnected();
@@ -360,6 +408,7 @@ public class NetconfDevice
     @Override
     public void onRemoteSessionFailed(final Throwable throwable) {
         setConnected(false);
+        cancelPendingSetup();
         salFacade.onDeviceFailed(throwable);
     }
 
@@ -368,6 +417,20 @@ public class NetconfDevice
         notificationHandler.handleNotification(notification);
     }
 
+    /**
+     * Return the number of get-schema requests which may be outstanding on the device session. It is bounded by
+     * the concurrent RPC limit, as requests exceeding that limit would be rejected.
+     */
+    private int schemaDownloadConcurrency() {
+        if (node == null) {
+            return DEFAULT_SCHEMA_DOWNLOAD_CONCURRENCY;
+        }
+        final int concurrency = node.getSchemaDownloadConcurrency() == null ? DEFAULT_SCHEMA_DOWNLOAD_CONCURRENCY
+            : node.getSchemaDownloadConcurrency().toJava();
+        final int rpcLimit = node.getConcurrentRpcLimit() == null ? 0 : node.getConcurrentRpcLimit().toJava();
+        return rpcLimit > 0 ? Math.max(1, Math.min(concurrency, rpcLimit)) : Math.max(1, concurrency);
+    }
+
     private BaseSchema resolveBaseSchema(final boolean notificationSupport) {
         return notificationSupport ? baseSchemas.getBaseSchemaWithNotifications() : baseSchemas.getBaseSchema();
     }
@@ -386,6 +449,7 @@ public class NetconfDevice
         private final SchemaRepository schemaRepository;
         private final EffectiveModelContextFactory schemaContextFactory;
         private final NetconfDeviceSchemasResolver stateSchemasResolver;
+        private final SchemaSourceFetcher sourceFetcher;
 
         public SchemaResourcesDTO(final SchemaSourceRegistry schemaRegistry,
                                   final SchemaRepository schemaRepository,
@@ -395,6 +459,7 @@ public class NetconfDevice
             this.schemaRepository = requireNonNull(schemaRepository);
             this.schemaContextFactory = requireNonNull(schemaContextFactory);
             this.stateSchemasResolver = requireNonNull(deviceSchemasResolver);
+            this.sourceFetcher = new SchemaSourceFetcher(schemaRepository);
         }
 
         public SchemaSourceRegistry getSchemaRegistry() {
@@ -412,6 +477,10 @@ public class NetconfDevice
         public NetconfDeviceSchemasResolver getStateSchemasResolver() {
             return stateSchemasResolver;
         }
+
+        SchemaSourceFetcher getSourceFetcher() {
+            return sourceFetcher;
+        }
     }
 
     /**
@@ -428,7 +497,9 @@ public class NetconfDevice
     }
 
     /**
-     * Schema builder that tries to build schema context from provided sources or biggest subset of it.
+     * Schema builder that tries to build schema context from provided sources or biggest subset of it. The subset is
+     * determined by dependency analysis before the schema context is built, failures detected only while building it
+     * are handled by retrying without the offending sources.
      */
     private final class SchemaSetup implements FutureCallback<EffectiveModelContext> {
         private final SettableFuture<EffectiveModelContext> resultFuture = SettableFuture.create();
@@ -458,18 +529,53 @@ public class NetconfDevice
             }
 
             requiredSources = deviceSources.getRequiredSources();
-            final Collection<SourceIdentifier> missingSources = filterMissingSources(requiredSources);
-
-            capabilities.addUnresolvedCapabilities(getQNameFromSourceIdentifiers(missingSources),
-                    UnavailableCapability.FailureReason.MissingSource);
-            requiredSources.removeAll(missingSources);
         }
 
         ListenableFuture<EffectiveModelContext> startResolution() {
-            trySetupSchema();
+            // Download all sources up front, pipelining get-schema requests on the session. Dependency analysis
+            // is then dispatched to the processing executor, as the last download completes on a netty thread.
+            final ListenableFuture<SchemaDependencyResolver.Result> resolved = Futures.transformAsync(
+                sourceFetcher.fetchAll(requiredSources, schemaDownloadConcurrency()), missingSources -> {
+                    capabilities.addUnresolvedCapabilities(getQNameFromSourceIdentifiers(missingSources),
+                        UnavailableCapability.FailureReason.MissingSource);
+                    requiredSources.removeAll(missingSources);
+                    return SchemaDependencyResolver.resolve(schemaRepository, requiredSources);
+                }, processingExecutor);
+
+            Futures.addCallback(resolved, new FutureCallback<SchemaDependencyResolver.Result>() {
+                @Override
+                public void onSuccess(final SchemaDependencyResolver.Result result) {
+                    handleResolutionResult(result);
+                    trySetupSchema();
+                }
+
+                @Override
+                public void onFailure(final Throwable cause) {
+                    resultFuture.setException(cause);
+                }
+            }, MoreExecutors.directExecutor());
             return resultFuture;
         }
 
+        private void handleResolutionResult(final SchemaDependencyResolver.Result result) {
+            final Set<SourceIdentifier> failedSources = result.getFailedSources();
+            if (!failedSources.isEmpty()) {
+                LOG.warn("{}: Failed to parse sources {}, will build schema context without them", id, failedSources);
+                capabilities.addUnresolvedCapabilities(getQNameFromSourceIdentifiers(failedSources),
+                    UnavailableCapability.FailureReason.UnableToResolve);
+            }
+
+            final Set<SourceIdentifier> unsatisfiedSources = result.getUnsatisfiedImports().keySet();
+            if (!unsatisfiedSources.isEmpty()) {
+                LOG.warn("{}: Unsatisfied imports {}, will build schema context without importing sources", id,
+                    result.getUnsatisfiedImports());
+                capabilities.addUnresolvedCapabilities(getQNameFromSourceIdentifiers(unsatisfiedSources),
+                    UnavailableCapability.FailureReason.UnableToResolve);
+            }
+
+            requiredSources = result.getResolvedSources();
+        }
+
         @Override
         public void onSuccess(final EffectiveModelContext result) {
             LOG.debug("{}: Schema context built successfully from {}", id, requiredSources);
@@ -521,17 +627,6 @@ public class NetconfDevice
             }
         }
 
-        private Collection<SourceIdentifier> filterMissingSources(final Collection<SourceIdentifier> origSources) {
-            return origSources.parallelStream().filter(sourceIdentifier -> {
-                try {
-                    schemaRepository.getSchemaSource(sourceIdentifier, YangTextSchemaSource.class).get();
-                    return false;
-                } catch (InterruptedException | ExecutionException e) {
-                    return true;
-                }
-            }).collect(Collectors.toList());
-        }
-
         private Collection<SourceIdentifier> handleMissingSchemaSourceException(
                 final MissingSchemaSourceException exception) {
             // In case source missing, try without it
@@ -31,6 +31,7 @@ public class NetconfDeviceBuilder {
     private EventExecutor eventExecutor;
     private NetconfNodeAugmentedOptional nodeOptional;
     private BaseNetconfSchemas baseSchemas;
+    private SchemaSetupScheduler schemaSetupScheduler;
 
     public NetconfDeviceBuilder() {
     }
@@ -85,11 +86,16 @@ public class NetconfDeviceBuilder {
         return this;
     }
 
+    public NetconfDeviceBuilder setSchemaSetupScheduler(final SchemaSetupScheduler schemaSetupScheduler) {
+        this.schemaSetupScheduler = schemaSetupScheduler;
+        return this;
+    }
+
     public NetconfDevice build() {
         validation();
         return new NetconfDevice(this.schemaResourcesDTO, this.baseSchemas, this.id, this.salFacade,
             this.globalProcessingExecutor, this.reconnectOnSchemasChange, this.deviceActionFactory, this.node,
-            this.eventExecutor, this.nodeOptional);
+            this.eventExecutor, this.nodeOptional, this.schemaSetupScheduler);
     }
 
     private void validation() {
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.model.api.ModuleImport;
+import org.opendaylight.yangtools.yang.model.repo.api.MissingSchemaSourceException;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaRepository;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.parser.rfc7950.repo.ASTSchemaSource;
+import org.opendaylight.yangtools.yang.parser.rfc7950.repo.YangModelDependencyInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolver of the largest consistent set of device sources. Each source is parsed on its own and its imports and
+ * includes are matched against the other sources, iteratively excluding sources with unsatisfied dependencies until
+ * the set is closed. This allows the schema context to be assembled once, rather than retrying assembly each time
+ * it reports a single offending source.
+ */
+final class SchemaDependencyResolver {
+    /**
+     * Outcome of dependency resolution.
+     */
+    static final class Result {
+        private final ImmutableList<SourceIdentifier> resolvedSources;
+        private final ImmutableSet<SourceIdentifier> failedSources;
+        private final ImmutableSetMultimap<SourceIdentifier, ModuleImport> unsatisfiedImports;
+
+        Result(final List<SourceIdentifier> resolvedSources, final Set<SourceIdentifier> failedSources,
+                final SetMultimap<SourceIdentifier, ModuleImport> unsatisfiedImports) {
+            this.resolvedSources = ImmutableList.copyOf(resolvedSources);
+            this.failedSources = ImmutableSet.copyOf(failedSources);
+            this.unsatisfiedImports = ImmutableSetMultimap.copyOf(unsatisfiedImports);
+        }
+
+        /**
+         * Return sources forming a consistent set, in the order in which they were requested.
+         *
+         * @return resolved sources
+         */
+        ImmutableList<SourceIdentifier> getResolvedSources() {
+            return resolvedSources;
+        }
+
+        /**
+         * Return sources which failed to parse.
+         *
+         * @return failed sources
+         */
+        ImmutableSet<SourceIdentifier> getFailedSources() {
+            return failedSources;
+        }
+
+        /**
+         * Return sources excluded because their imports or includes could not be satisfied, either directly or
+         * through an excluded source.
+         *
+         * @return unsatisfied imports, keyed by the importing source
+         */
+        ImmutableSetMultimap<SourceIdentifier, ModuleImport> getUnsatisfiedImports() {
+            return unsatisfiedImports;
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaDependencyResolver.class);
+
+    private SchemaDependencyResolver() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Resolve the largest consistent subset of specified sources. Sources for which the repository cannot provide
+     * a parsed representation are assumed to be consistent and are left for the schema context factory to judge.
+     *
+     * @param repository repository to acquire parsed sources from
+     * @param sources sources to resolve
+     * @return future completing with the resolution result
+     */
+    static ListenableFuture<Result> resolve(final SchemaRepository repository,
+            final Collection<SourceIdentifier> sources) {
+        requireNonNull(repository);
+        final List<SourceIdentifier> ids = ImmutableList.copyOf(sources);
+        final List<ListenableFuture<ASTSchemaSource>> asts = new ArrayList<>(ids.size());
+        for (SourceIdentifier id : ids) {
+            asts.add(repository.getSchemaSource(id, ASTSchemaSource.class));
+        }
+        return Futures.whenAllComplete(asts).call(() -> resolve(ids, asts), MoreExecutors.directExecutor());
+    }
+
+    @VisibleForTesting
+    static Result resolve(final List<SourceIdentifier> ids, final List<ListenableFuture<ASTSchemaSource>> asts) {
+        final Map<SourceIdentifier, YangModelDependencyInfo> candidates = new LinkedHashMap<>();
+        final Set<SourceIdentifier> opaque = new HashSet<>();
+        final Set<SourceIdentifier> failed = new HashSet<>();
+
+        for (int i = 0; i < ids.size(); ++i) {
+            final SourceIdentifier id = ids.get(i);
+            try {
+                candidates.put(id, Futures.getDone(asts.get(i)).getDependencyInformation());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof MissingSchemaSourceException) {
+                    LOG.debug("No parsed representation of {} available, not analyzing it", id, e);
+                    opaque.add(id);
+                } else {
+                    LOG.debug("Failed to parse source {}", id, e);
+                    failed.add(id);
+                }
+            } catch (CancellationException e) {
+                LOG.debug("Parsing of source {} was cancelled, not analyzing it", id, e);
+                opaque.add(id);
+            }
+        }
+
+        final SetMultimap<SourceIdentifier, ModuleImport> unsatisfied = HashMultimap.create();
+        boolean changed;
+        do {
+            final SetMultimap<String, Optional<Revision>> available = HashMultimap.create();
+            for (SourceIdentifier id : opaque) {
+                available.put(id.getName(), id.getRevision());
+            }
+            for (YangModelDependencyInfo info : candidates.values()) {
+                available.put(info.getName(), info.getRevision());
+            }
+
+            changed = false;
+            final Iterator<Entry<SourceIdentifier, YangModelDependencyInfo>> it = candidates.entrySet().iterator();
+            while (it.hasNext()) {
+                final Entry<SourceIdentifier, YangModelDependencyInfo> entry = it.next();
+                for (ModuleImport dependency : entry.getValue().getDependencies()) {
+                    if (!isSatisfied(available, dependency)) {
+                        unsatisfied.put(entry.getKey(), dependency);
+                    }
+                }
+                if (unsatisfied.containsKey(entry.getKey())) {
+                    it.remove();
+                    changed = true;
+                }
+            }
+        } while (changed);
+
+        final List<SourceIdentifier> resolved = new ArrayList<>(candidates.size() + opaque.size());
+        for (SourceIdentifier id : ids) {
+            if (candidates.containsKey(id) || opaque.contains(id)) {
+                resolved.add(id);
+            }
+        }
+        return new Result(resolved, failed, unsatisfied);
+    }
+
+    private static boolean isSatisfied(final SetMultimap<String, Optional<Revision>> available,
+            final ModuleImport dependency) {
+        final Set<Optional<Revision>> revisions = available.get(dependency.getModuleName());
+        final Optional<Revision> revision = dependency.getRevision();
+        return revision.isPresent() ? revisions.contains(revision) : !revisions.isEmpty();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Scheduler of deferred device schema setups. Devices configured for lazy schema setup bring up their session
+ * immediately and queue their schema setup here. Queued setups are started in order, with at most a fixed number of
+ * them running at any time, so that a large number of devices connecting at once, for example after a controller
+ * restart, does not compete for resources with devices which are set up eagerly.
+ */
+public final class SchemaSetupScheduler {
+    /**
+     * A scheduled setup.
+     */
+    final class Setup {
+        private final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+        private final Supplier<ListenableFuture<?>> setup;
+        private final RemoteDeviceId id;
+
+        Setup(final RemoteDeviceId id, final Supplier<ListenableFuture<?>> setup) {
+            this.id = requireNonNull(id);
+            this.setup = requireNonNull(setup);
+        }
+
+        /**
+         * Cancel this setup if it has not been started yet.
+         *
+         * @return true if the setup was cancelled, false if it has already been started
+         */
+        boolean cancel() {
+            return state.compareAndSet(State.QUEUED, State.CANCELLED);
+        }
+
+        @SuppressWarnings("checkstyle:IllegalCatch")
+        boolean start() {
+            if (!state.compareAndSet(State.QUEUED, State.STARTED)) {
+                LOG.debug("{}: Schema setup was cancelled", id);
+                return false;
+            }
+
+            LOG.debug("{}: Starting deferred schema setup", id);
+            final ListenableFuture<?> future;
+            try {
+                future = setup.get();
+            } catch (RuntimeException e) {
+                LOG.warn("{}: Failed to start schema setup", id, e);
+                return false;
+            }
+            future.addListener(SchemaSetupScheduler.this::release, MoreExecutors.directExecutor());
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("id", id).add("state", state.get()).toString();
+        }
+    }
+
+    private enum State {
+        QUEUED,
+        STARTED,
+        CANCELLED
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaSetupScheduler.class);
+
+    private final Queue<Setup> queued = new ConcurrentLinkedQueue<>();
+    private final Semaphore permits;
+
+    /**
+     * Create a scheduler running as many setups concurrently as there are processors available.
+     */
+    public SchemaSetupScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a scheduler.
+     *
+     * @param maxConcurrentSetups maximum number of concurrently running setups
+     * @throws IllegalArgumentException if {@code maxConcurrentSetups} is not positive
+     */
+    public SchemaSetupScheduler(final int maxConcurrentSetups) {
+        checkArgument(maxConcurrentSetups > 0, "Invalid number of concurrent setups %s", maxConcurrentSetups);
+        permits = new Semaphore(maxConcurrentSetups);
+    }
+
+    /**
+     * Schedule a setup. The supplier is invoked once the setup is started, the setup is considered finished once
+     * the returned future completes.
+     *
+     * @param id device identifier
+     * @param setup setup to run
+     * @return a handle to the scheduled setup
+     */
+    Setup schedule(final RemoteDeviceId id, final Supplier<ListenableFuture<?>> setup) {
+        final Setup ret = new Setup(id, setup);
+        queued.add(ret);
+        dispatch();
+        return ret;
+    }
+
+    private void release() {
+        permits.release();
+        dispatch();
+    }
+
+    /*
+     * Start queued setups while permits are available. This is invoked whenever a setup is queued or a permit
+     * is released, so a queued setup cannot be left behind.
+     */
+    private void dispatch() {
+        while (!queued.isEmpty() && permits.tryAcquire()) {
+            final Setup setup = queued.poll();
+            if (setup == null || !setup.start()) {
+                permits.release();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("available", permits.availablePermits())
+            .add("queued", queued.size()).toString();
+    }
+}
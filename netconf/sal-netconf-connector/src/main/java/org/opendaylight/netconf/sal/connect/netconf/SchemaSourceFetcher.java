@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaRepository;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fetches YANG text sources from a {@link SchemaRepository} shared by multiple devices. Concurrent requests for the
+ * same source are coalesced, so that a source is downloaded only once even if multiple devices are set up at the same
+ * time. Fetches are fully asynchronous, no thread is blocked waiting for a source to arrive.
+ */
+final class SchemaSourceFetcher {
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaSourceFetcher.class);
+
+    private final ConcurrentMap<SourceIdentifier, ListenableFuture<YangTextSchemaSource>> inflight =
+        new ConcurrentHashMap<>();
+    private final SchemaRepository repository;
+
+    SchemaSourceFetcher(final SchemaRepository repository) {
+        this.repository = requireNonNull(repository);
+    }
+
+    /**
+     * Fetch specified sources, keeping at most {@code window} fetches in flight at any time. The sources are fetched in
+     * iteration order.
+     *
+     * @param sources sources to fetch
+     * @param window maximum number of concurrent fetches
+     * @return future completing with the set of sources which could not be fetched
+     * @throws IllegalArgumentException if {@code window} is not positive
+     */
+    ListenableFuture<Set<SourceIdentifier>> fetchAll(final Collection<SourceIdentifier> sources, final int window) {
+        checkArgument(window > 0, "Invalid fetch window %s", window);
+        final FetchWindow fetch = new FetchWindow(sources);
+        for (int i = 0; i < window; ++i) {
+            fetch.fetchNext();
+        }
+        return fetch.result;
+    }
+
+    /**
+     * Fetch a single source. If the same source is already being fetched, this request waits for that fetch to
+     * complete. Should it fail, the source is requested from the repository again, as it may be available from
+     * a different provider.
+     *
+     * @param sourceId source to fetch
+     * @return future completing with the source
+     */
+    ListenableFuture<YangTextSchemaSource> fetch(final SourceIdentifier sourceId) {
+        final SettableFuture<YangTextSchemaSource> created = SettableFuture.create();
+        final ListenableFuture<YangTextSchemaSource> existing = inflight.putIfAbsent(sourceId, created);
+        if (existing != null) {
+            LOG.trace("Source {} is already being fetched", sourceId);
+            return Futures.catchingAsync(existing, Exception.class,
+                cause -> repository.getSchemaSource(sourceId, YangTextSchemaSource.class),
+                MoreExecutors.directExecutor());
+        }
+
+        created.addListener(() -> inflight.remove(sourceId, created), MoreExecutors.directExecutor());
+        created.setFuture(repository.getSchemaSource(sourceId, YangTextSchemaSource.class));
+        return created;
+    }
+
+    private final class FetchWindow {
+        final SettableFuture<Set<SourceIdentifier>> result = SettableFuture.create();
+
+        private final Set<SourceIdentifier> missing = ConcurrentHashMap.newKeySet();
+        private final Queue<SourceIdentifier> pending;
+        private final AtomicInteger remaining;
+
+        FetchWindow(final Collection<SourceIdentifier> sources) {
+            pending = new ConcurrentLinkedQueue<>(sources);
+            remaining = new AtomicInteger(pending.size());
+            if (pending.isEmpty()) {
+                result.set(missing);
+            }
+        }
+
+        /*
+         * Occupy a slot in the window. Sources which are already available complete immediately, hence we loop here
+         * instead of recursing through listeners, until we hit a fetch which needs to wait.
+         */
+        void fetchNext() {
+            SourceIdentifier sourceId = pending.poll();
+            while (sourceId != null) {
+                final SourceIdentifier current = sourceId;
+                final ListenableFuture<YangTextSchemaSource> future = fetch(current);
+                if (!future.isDone()) {
+                    future.addListener(() -> {
+                        complete(current, future);
+                        fetchNext();
+                    }, MoreExecutors.directExecutor());
+                    return;
+                }
+
+                complete(current, future);
+                sourceId = pending.poll();
+            }
+        }
+
+        private void complete(final SourceIdentifier sourceId, final ListenableFuture<YangTextSchemaSource> future) {
+            try {
+                Futures.getDone(future);
+            } catch (ExecutionException | CancellationException e) {
+                LOG.debug("Failed to fetch source {}", sourceId, e);
+                missing.add(sourceId);
+            }
+            if (remaining.decrementAndGet() == 0) {
+                result.set(missing);
+            }
+        }
+    }
+}
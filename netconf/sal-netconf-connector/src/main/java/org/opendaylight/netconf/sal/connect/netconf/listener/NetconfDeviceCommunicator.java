@@ -8,6 +8,7 @@
 package org.opendaylight.netconf.sal.connect.netconf.listener;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import io.netty.util.concurrent.Future;
@@ -21,6 +22,7 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.opendaylight.netconf.api.FailedNetconfMessage;
 import org.opendaylight.netconf.api.NetconfDocumentedException;
 import org.opendaylight.netconf.api.NetconfMessage;
@@ -62,7 +64,10 @@ public class NetconfDeviceCommunicator
     private NetconfClientSession currentSession;
 
     private final SettableFuture<NetconfDeviceCapabilities> firstConnectionFuture;
+    @GuardedBy("this")
     private Future<?> initFuture;
+    @GuardedBy("this")
+    private boolean closed;
 
     // isSessionClosing indicates a close operation on the session is issued and
     // tearDown will surely be called later to finish the close.
@@ -144,18 +149,27 @@ public class NetconfDeviceCommunicator
      * @param dispatcher {@code NetconfCLientDispatcher}
      * @param config     {@code NetconfClientConfiguration}
      * @return future that returns succes on first succesfull connection and failure when the underlying
-     *     reconnecting strategy runs out of reconnection attempts
+     *     reconnecting strategy runs out of reconnection attempts, cancelled if this communicator has already been
+     *     closed
      */
     public ListenableFuture<NetconfDeviceCapabilities> initializeRemoteConnection(
             final NetconfClientDispatcher dispatcher, final NetconfClientConfiguration config) {
-        if (config instanceof NetconfReconnectingClientConfiguration) {
-            initFuture = dispatcher.createReconnectingClient((NetconfReconnectingClientConfiguration) config);
-        } else {
-            initFuture = dispatcher.createClient(config);
+        final Future<?> connectFuture;
+        synchronized (this) {
+            // Connection may be initialized asynchronously, after the device has already been disconnected
+            if (closed) {
+                LOG.debug("{}: Communicator already closed, not connecting", id);
+                return Futures.immediateCancelledFuture();
+            }
+            if (config instanceof NetconfReconnectingClientConfiguration) {
+                initFuture = dispatcher.createReconnectingClient((NetconfReconnectingClientConfiguration) config);
+            } else {
+                initFuture = dispatcher.createClient(config);
+            }
+            connectFuture = initFuture;
         }
 
-
-        initFuture.addListener(future -> {
+        connectFuture.addListener(future -> {
             if (!future.isSuccess() && !future.isCancelled()) {
                 LOG.debug("{}: Connection failed", id, future.cause());
                 NetconfDeviceCommunicator.this.remoteDevice.onRemoteSessionFailed(future.cause());
@@ -248,9 +262,12 @@ public class NetconfDeviceCommunicator
 
     @Override
     public void close() {
-        // Cancel reconnect if in progress
-        if (initFuture != null) {
-            initFuture.cancel(false);
+        // Cancel reconnect if in progress, prevent it from being started later
+        synchronized (this) {
+            closed = true;
+            if (initFuture != null) {
+                initFuture.cancel(false);
+            }
         }
         // Disconnect from device
         // tear down not necessary, called indirectly by the close in disconnect()
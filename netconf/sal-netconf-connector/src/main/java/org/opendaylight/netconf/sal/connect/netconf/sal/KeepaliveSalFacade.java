@@ -8,6 +8,7 @@
 package org.opendaylight.netconf.sal.connect.netconf.sal;
 
 import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfBaseOps.getSourceNode;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_CONFIG_NODEID;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_CONFIG_PATH;
@@ -18,10 +19,11 @@ import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.opendaylight.mdsal.dom.api.DOMActionService;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.mdsal.dom.api.DOMRpcAvailabilityListener;
@@ -44,6 +46,12 @@ import org.slf4j.LoggerFactory;
  * SalFacade proxy that invokes keepalive RPCs to prevent session shutdown from remote device
  * and to detect incorrect session drops (netconf session is inactive, but TCP/SSH connection is still present).
  * The keepalive RPC is a get-config with empty filter.
+ *
+ * <p>
+ * Keepalives and request timeouts are driven by a {@link KeepaliveScheduler}. RPC responses and notifications only
+ * record the time of last activity, the scheduler then checks whether a keepalive or a request timeout is due. A
+ * keepalive delay of zero disables keepalive RPCs, which is useful when the transport keeps the session alive by
+ * itself, leaving only request timeouts in place.
  */
 public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSessionPreferences> {
 
@@ -57,25 +65,34 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
 
     private final RemoteDeviceId id;
     private final RemoteDeviceHandler<NetconfSessionPreferences> salFacade;
-    private final ScheduledExecutorService executor;
-    private final long keepaliveDelaySeconds;
-    private final ResetKeepalive resetKeepaliveTask;
-    private final long defaultRequestTimeoutMillis;
+    private final KeepaliveScheduler scheduler;
+    private final boolean ownsScheduler;
+    private final long keepaliveDelayNanos;
+    private final long requestTimeoutNanos;
 
     private volatile NetconfDeviceCommunicator listener;
-    private volatile ScheduledFuture<?> currentKeepalive;
-    private volatile DOMRpcService currentDeviceRpc;
-    private final AtomicBoolean lastKeepAliveSucceeded = new AtomicBoolean(false);
+    private volatile Session currentSession;
+
+    /**
+     * Create a facade using a shared scheduler.
+     *
+     * @param id device identifier
+     * @param salFacade facade to which invocations are delegated
+     * @param scheduler keepalive scheduler, typically shared by all devices
+     * @param keepaliveDelaySeconds delay between keepalive RPCs, zero disables them
+     * @param defaultRequestTimeoutMillis timeout after which RPCs are cancelled
+     */
+    public KeepaliveSalFacade(final RemoteDeviceId id, final RemoteDeviceHandler<NetconfSessionPreferences> salFacade,
+                              final KeepaliveScheduler scheduler, final long keepaliveDelaySeconds,
+                              final long defaultRequestTimeoutMillis) {
+        this(id, salFacade, scheduler, false, keepaliveDelaySeconds, defaultRequestTimeoutMillis);
+    }
 
     public KeepaliveSalFacade(final RemoteDeviceId id, final RemoteDeviceHandler<NetconfSessionPreferences> salFacade,
                               final ScheduledExecutorService executor, final long keepaliveDelaySeconds,
                               final long defaultRequestTimeoutMillis) {
-        this.id = id;
-        this.salFacade = salFacade;
-        this.executor = executor;
-        this.keepaliveDelaySeconds = keepaliveDelaySeconds;
-        this.defaultRequestTimeoutMillis = defaultRequestTimeoutMillis;
-        this.resetKeepaliveTask = new ResetKeepalive();
+        this(id, salFacade, new KeepaliveScheduler(executor), true, keepaliveDelaySeconds,
+            defaultRequestTimeoutMillis);
     }
 
     public KeepaliveSalFacade(final RemoteDeviceId id, final RemoteDeviceHandler<NetconfSessionPreferences> salFacade,
@@ -83,6 +100,17 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
         this(id, salFacade, executor, DEFAULT_DELAY, DEFAULT_TRANSACTION_TIMEOUT_MILLI);
     }
 
+    private KeepaliveSalFacade(final RemoteDeviceId id, final RemoteDeviceHandler<NetconfSessionPreferences> salFacade,
+                               final KeepaliveScheduler scheduler, final boolean ownsScheduler,
+                               final long keepaliveDelaySeconds, final long defaultRequestTimeoutMillis) {
+        this.id = id;
+        this.salFacade = salFacade;
+        this.scheduler = requireNonNull(scheduler);
+        this.ownsScheduler = ownsScheduler;
+        this.keepaliveDelayNanos = TimeUnit.SECONDS.toNanos(keepaliveDelaySeconds);
+        this.requestTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(defaultRequestTimeoutMillis);
+    }
+
     /**
      * Set the netconf session listener whenever ready.
      *
@@ -93,28 +121,14 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
     }
 
     /**
-     * Just cancel current keepalive task.
-     * If its already started, let it finish ... not such a big deal.
-     *
-     * <p>
-     * Then schedule next keepalive.
-     */
-    void resetKeepalive() {
-        LOG.trace("{}: Resetting netconf keepalive timer", id);
-        if (currentKeepalive != null) {
-            currentKeepalive.cancel(false);
-        }
-        scheduleKeepalives();
-    }
-
-    /**
-     * Cancel current keepalive and also reset current deviceRpc.
+     * Stop checking current session and also reset current deviceRpc.
      */
     private void stopKeepalives() {
-        if (currentKeepalive != null) {
-            currentKeepalive.cancel(false);
+        final Session session = currentSession;
+        currentSession = null;
+        if (session != null) {
+            session.stop();
         }
-        currentDeviceRpc = null;
     }
 
     void reconnect() {
@@ -134,23 +148,32 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
     public void onDeviceConnected(final MountPointContext remoteSchemaContext,
             final NetconfSessionPreferences netconfSessionPreferences, final DOMRpcService deviceRpc,
             final DOMActionService deviceAction) {
-        this.currentDeviceRpc = deviceRpc;
-        final DOMRpcService deviceRpc1 =
-                new KeepaliveDOMRpcService(deviceRpc, resetKeepaliveTask, defaultRequestTimeoutMillis, executor,
-                        new ResponseWaitingScheduler());
+        stopKeepalives();
+        final Session session = new Session(deviceRpc);
+        currentSession = session;
 
-        salFacade.onDeviceConnected(remoteSchemaContext, netconfSessionPreferences, deviceRpc1, deviceAction);
+        salFacade.onDeviceConnected(remoteSchemaContext, netconfSessionPreferences,
+            new KeepaliveDOMRpcService(deviceRpc, session), deviceAction);
 
         LOG.debug("{}: Netconf session initiated, starting keepalives", id);
-        scheduleKeepalives();
+        session.start();
     }
 
-    private void scheduleKeepalives() {
-        lastKeepAliveSucceeded.set(true);
-        checkState(currentDeviceRpc != null);
-        LOG.trace("{}: Scheduling keepalives every  {} {}", id, keepaliveDelaySeconds, TimeUnit.SECONDS);
-        currentKeepalive = executor.scheduleWithFixedDelay(new Keepalive(),
-          keepaliveDelaySeconds, keepaliveDelaySeconds, TimeUnit.SECONDS);
+    /**
+     * Start keepalives using base NETCONF operations, so that the session is checked while the device waits for its
+     * schema to be set up. They are restarted with the complete device RPC service once the device is connected.
+     */
+    @Override
+    public void onDeviceSetupDeferred(final NetconfSessionPreferences netconfSessionPreferences,
+            final DOMRpcService baseRpc) {
+        stopKeepalives();
+        final Session session = new Session(baseRpc);
+        currentSession = session;
+
+        salFacade.onDeviceSetupDeferred(netconfSessionPreferences, new KeepaliveDOMRpcService(baseRpc, session));
+
+        LOG.debug("{}: Netconf session initiated with deferred schema setup, starting keepalives", id);
+        session.start();
     }
 
     @Override
@@ -167,7 +190,10 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
 
     @Override
     public void onNotification(final DOMNotification domNotification) {
-        resetKeepalive();
+        final Session session = currentSession;
+        if (session != null) {
+            session.touch();
+        }
         salFacade.onNotification(domNotification);
     }
 
@@ -175,6 +201,9 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
     public void close() {
         stopKeepalives();
         salFacade.close();
+        if (ownsScheduler) {
+            scheduler.close();
+        }
     }
 
     // Keepalive RPC static resources
@@ -182,187 +211,210 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
             getSourceNode(NETCONF_RUNNING_QNAME), NetconfMessageTransformUtil.EMPTY_FILTER);
 
     /**
-     * Invoke keepalive RPC and check the response. In case of any received response the keepalive
-     * is considered successful and schedules next keepalive with a fixed delay. If the response is unsuccessful (no
-     * response received, or the rcp could not even be sent) immediate reconnect is triggered as netconf session
-     * is considered inactive/failed.
+     * Activity of a single netconf session. It is checked by the scheduler whenever the earliest deadline it knows
+     * about passes. The check cancels requests which timed out and invokes keepalive RPC if the session has been idle
+     * for the keepalive delay. If the previous keepalive has not been answered by then, the session is considered
+     * inactive/failed and immediate reconnect is triggered.
      */
-    private class Keepalive implements Runnable, FutureCallback<DOMRpcResult> {
+    private final class Session implements KeepaliveScheduler.Check {
+        // Request timeout is constant, hence requests are ordered by their deadlines
+        private final Queue<PendingRequest> pendingRequests = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger outstandingRequests = new AtomicInteger();
+        private final ResetKeepalive resetKeepaliveTask = new ResetKeepalive();
+        private final Keepalive keepaliveTask = new Keepalive();
+        private final KeepaliveScheduler.Task task;
+        private final DOMRpcService deviceRpc;
 
-        @Override
-        public void run() {
-            LOG.trace("{}: Invoking keepalive RPC", id);
+        private volatile long lastActivity = System.nanoTime();
+        private volatile boolean stopped;
 
-            try {
-                final boolean lastJobSucceeded = lastKeepAliveSucceeded.getAndSet(false);
-                if (!lastJobSucceeded) {
-                    onFailure(new IllegalStateException("Previous keepalive timed out"));
-                } else {
-                    Futures.addCallback(currentDeviceRpc.invokeRpc(NETCONF_GET_CONFIG_PATH, KEEPALIVE_PAYLOAD), this,
-                        MoreExecutors.directExecutor());
-                }
-            } catch (final NullPointerException e) {
-                LOG.debug("{}: Skipping keepalive while reconnecting", id);
-                // Empty catch block intentional
-                // Do nothing. The currentDeviceRpc was null and it means we hit the reconnect window and
-                // attempted to send keepalive while we were reconnecting. Next keepalive will be scheduled
-                // after reconnect so no action necessary here.
-            }
-        }
+        // Guarded by this
+        private boolean keepaliveInFlight;
+        private long keepaliveSent;
 
-        @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE",
-                justification = "Unrecognised NullableDecl")
-        @Override
-        public void onSuccess(final DOMRpcResult result) {
-            // No matter what response we got, rpc-reply or rpc-error,
-            // we got it from device so the netconf session is OK
-            if (result == null) {
-                LOG.warn("{} Keepalive RPC returned null with response. Reconnecting netconf session", id);
-                reconnect();
-                return;
-            }
+        Session(final DOMRpcService deviceRpc) {
+            this.deviceRpc = requireNonNull(deviceRpc);
+            task = scheduler.newTask(this);
+        }
 
-            if (result.getResult() != null) {
-                lastKeepAliveSucceeded.set(true);
-            }  else if (result.getErrors() != null) {
-                LOG.warn("{}: Keepalive RPC failed with error: {}", id, result.getErrors());
-                lastKeepAliveSucceeded.set(true);
-            } else {
-                LOG.warn("{} Keepalive RPC returned null with response. Reconnecting netconf session", id);
-                reconnect();
+        void start() {
+            if (keepaliveDelayNanos > 0) {
+                LOG.trace("{}: Scheduling keepalives every {} {}", id, keepaliveDelayNanos, TimeUnit.NANOSECONDS);
+                task.scheduleAt(lastActivity + keepaliveDelayNanos);
             }
         }
 
-        @Override
-        public void onFailure(final Throwable throwable) {
-            LOG.warn("{}: Keepalive RPC failed. Reconnecting netconf session.", id, throwable);
-            reconnect();
+        void stop() {
+            stopped = true;
+            task.cancel();
+            pendingRequests.clear();
         }
-    }
 
-    /**
-     * Reset keepalive after each RPC response received.
-     */
-    private class ResetKeepalive implements FutureCallback<DOMRpcResult> {
-        @Override
-        public void onSuccess(final DOMRpcResult result) {
-            // No matter what response we got,
-            // rpc-reply or rpc-error, we got it from device so the netconf session is OK.
-            resetKeepalive();
+        void touch() {
+            lastActivity = System.nanoTime();
         }
 
-        @Override
-        public void onFailure(final Throwable throwable) {
-            // User/Application RPC failed (The RPC did not reach the remote device or ..
-            // TODO what other reasons could cause this ?)
-            // There is no point in keeping this session. Reconnect.
-            LOG.warn("{}: Rpc failure detected. Reconnecting netconf session", id, throwable);
-            reconnect();
+        void requestStarted(final ListenableFuture<? extends DOMRpcResult> rpcResultFuture) {
+            outstandingRequests.incrementAndGet();
+            Futures.addCallback(rpcResultFuture, resetKeepaliveTask, MoreExecutors.directExecutor());
+            if (!rpcResultFuture.isDone()) {
+                final long deadline = System.nanoTime() + requestTimeoutNanos;
+                pendingRequests.add(new PendingRequest(rpcResultFuture, deadline));
+                task.scheduleAt(deadline);
+            }
         }
-    }
-
-    private final class ResponseWaitingScheduler {
 
-        private ScheduledFuture<?> schedule;
+        @Override
+        public synchronized long run(final long now) {
+            if (stopped) {
+                return Long.MAX_VALUE;
+            }
 
-        public void initScheduler(final Runnable runnable) {
-            if (currentKeepalive != null) {
-                currentKeepalive.cancel(true);
-            } else {
-                LOG.trace("Keepalive does not exist.");
+            long next = expireRequests(now);
+            if (keepaliveDelayNanos > 0 && !stopped) {
+                next = Math.min(next, checkKeepalive(now));
             }
-            scheduleKeepalives();
-            //Listening on the result should be done before the keepalive rpc will be send
-            final long delay = keepaliveDelaySeconds * 1000 - 500;
-            schedule = executor.schedule(runnable, delay, TimeUnit.MILLISECONDS);
+            return stopped ? Long.MAX_VALUE : next;
         }
 
-        public void stopScheduler() {
-            if (schedule != null) {
-                schedule.cancel(true);
-            } else {
-                LOG.trace("Scheduler does not exist.");
+        /*
+         * Cancel requests which are not finished by their deadline and return the deadline of the first request
+         * still pending.
+         */
+        private long expireRequests(final long now) {
+            while (true) {
+                final PendingRequest head = pendingRequests.peek();
+                if (head == null) {
+                    return Long.MAX_VALUE;
+                }
+                if (!head.future.isDone()) {
+                    if (now - head.deadline < 0) {
+                        return head.deadline;
+                    }
+                    LOG.debug("{}: Request timed out, cancelling it", id);
+                    head.future.cancel(true);
+                }
+                pendingRequests.poll();
             }
         }
-    }
 
-    private static final class ResponseWaiting implements Runnable {
+        private long checkKeepalive(final long now) {
+            if (keepaliveInFlight) {
+                final long keepaliveDeadline = keepaliveSent + keepaliveDelayNanos;
+                if (now - keepaliveDeadline < 0) {
+                    return keepaliveDeadline;
+                }
+                keepaliveTask.onFailure(new IllegalStateException("Previous keepalive timed out"));
+                return Long.MAX_VALUE;
+            }
+            if (outstandingRequests.get() > 0) {
+                // The device is still working on our requests, no need to probe it
+                LOG.trace("{}: Waiting for outstanding requests, postponing keepalive", id);
+                return now + keepaliveDelayNanos;
+            }
 
-        private final ListenableFuture<? extends DOMRpcResult> rpcResultFuture;
-        private final ResponseWaitingScheduler responseWaitingScheduler;
+            final long idleDeadline = lastActivity + keepaliveDelayNanos;
+            if (now - idleDeadline < 0) {
+                return idleDeadline;
+            }
 
-        ResponseWaiting(final ResponseWaitingScheduler responseWaitingScheduler,
-                final ListenableFuture<? extends DOMRpcResult> rpcResultFuture) {
-            this.responseWaitingScheduler = responseWaitingScheduler;
-            this.rpcResultFuture = rpcResultFuture;
+            LOG.trace("{}: Invoking keepalive RPC", id);
+            keepaliveInFlight = true;
+            keepaliveSent = now;
+            Futures.addCallback(deviceRpc.invokeRpc(NETCONF_GET_CONFIG_PATH, KEEPALIVE_PAYLOAD), keepaliveTask,
+                MoreExecutors.directExecutor());
+            return now + keepaliveDelayNanos;
         }
 
-        public void start() {
-            LOG.trace("Start to waiting for result.");
-            responseWaitingScheduler.initScheduler(this);
+        synchronized void keepaliveSucceeded() {
+            keepaliveInFlight = false;
+            touch();
         }
 
-        public void stop() {
-            LOG.info("Stop to waiting for result.");
-            responseWaitingScheduler.stopScheduler();
-        }
+        /**
+         * Check the keepalive response. In case of any received response the keepalive is considered successful.
+         * If the response is unsuccessful (no response received, or the rpc could not even be sent) immediate
+         * reconnect is triggered as netconf session is considered inactive/failed.
+         */
+        private final class Keepalive implements FutureCallback<DOMRpcResult> {
+            @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE",
+                    justification = "Unrecognised NullableDecl")
+            @Override
+            public void onSuccess(final DOMRpcResult result) {
+                // No matter what response we got, rpc-reply or rpc-error,
+                // we got it from device so the netconf session is OK
+                if (result == null) {
+                    LOG.warn("{} Keepalive RPC returned null with response. Reconnecting netconf session", id);
+                    reconnect();
+                    return;
+                }
 
-        @Override
-        public void run() {
-            if (!rpcResultFuture.isCancelled() && !rpcResultFuture.isDone()) {
-                LOG.trace("Waiting for result");
-                responseWaitingScheduler.initScheduler(this);
-            } else {
-                LOG.trace("Result has been cancelled or done.");
+                if (result.getResult() != null) {
+                    keepaliveSucceeded();
+                }  else if (result.getErrors() != null) {
+                    LOG.warn("{}: Keepalive RPC failed with error: {}", id, result.getErrors());
+                    keepaliveSucceeded();
+                } else {
+                    LOG.warn("{} Keepalive RPC returned null with response. Reconnecting netconf session", id);
+                    reconnect();
+                }
             }
-        }
-    }
 
-    /*
-     * Request timeout task is called once the defaultRequestTimeoutMillis is
-     * reached. At this moment, if the request is not yet finished, we cancel
-     * it.
-     */
-    private static final class RequestTimeoutTask implements Runnable {
-        private final ListenableFuture<? extends DOMRpcResult> rpcResultFuture;
-        private final ResponseWaiting responseWaiting;
-
-        RequestTimeoutTask(final ListenableFuture<? extends DOMRpcResult> rpcResultFuture,
-                final ResponseWaiting responseWaiting) {
-            this.rpcResultFuture = rpcResultFuture;
-            this.responseWaiting = responseWaiting;
+            @Override
+            public void onFailure(final Throwable throwable) {
+                if (!stopped) {
+                    LOG.warn("{}: Keepalive RPC failed. Reconnecting netconf session.", id, throwable);
+                    reconnect();
+                }
+            }
         }
 
-        @Override
-        public void run() {
-            if (!rpcResultFuture.isDone()) {
-                rpcResultFuture.cancel(true);
+        /**
+         * Record activity after each RPC response received.
+         */
+        private final class ResetKeepalive implements FutureCallback<DOMRpcResult> {
+            @Override
+            public void onSuccess(final DOMRpcResult result) {
+                // No matter what response we got,
+                // rpc-reply or rpc-error, we got it from device so the netconf session is OK.
+                outstandingRequests.decrementAndGet();
+                touch();
             }
-            if (responseWaiting != null) {
-                responseWaiting.stop();
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                outstandingRequests.decrementAndGet();
+                // User/Application RPC failed (The RPC did not reach the remote device or ..
+                // TODO what other reasons could cause this ?)
+                // There is no point in keeping this session. Reconnect.
+                if (!stopped) {
+                    LOG.warn("{}: Rpc failure detected. Reconnecting netconf session", id, throwable);
+                    reconnect();
+                }
             }
         }
     }
 
+    private static final class PendingRequest {
+        final ListenableFuture<? extends DOMRpcResult> future;
+        final long deadline;
+
+        PendingRequest(final ListenableFuture<? extends DOMRpcResult> future, final long deadline) {
+            this.future = future;
+            this.deadline = deadline;
+        }
+    }
+
     /**
-     * DOMRpcService proxy that attaches reset-keepalive-task and schedule
-     * request-timeout-task to each RPC invocation.
+     * DOMRpcService proxy that records activity and request deadlines of each RPC invocation.
      */
     public static final class KeepaliveDOMRpcService implements DOMRpcService {
         private final DOMRpcService deviceRpc;
-        private final ResetKeepalive resetKeepaliveTask;
-        private final long defaultRequestTimeoutMillis;
-        private final ScheduledExecutorService executor;
-        private final ResponseWaitingScheduler responseWaitingScheduler;
-
-        KeepaliveDOMRpcService(final DOMRpcService deviceRpc, final ResetKeepalive resetKeepaliveTask,
-                final long defaultRequestTimeoutMillis, final ScheduledExecutorService executor,
-                final ResponseWaitingScheduler responseWaitingScheduler) {
+        private final Session session;
+
+        KeepaliveDOMRpcService(final DOMRpcService deviceRpc, final Session session) {
             this.deviceRpc = deviceRpc;
-            this.resetKeepaliveTask = resetKeepaliveTask;
-            this.defaultRequestTimeoutMillis = defaultRequestTimeoutMillis;
-            this.executor = executor;
-            this.responseWaitingScheduler = responseWaitingScheduler;
+            this.session = session;
         }
 
         public DOMRpcService getDeviceRpc() {
@@ -373,13 +425,7 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
         public ListenableFuture<? extends DOMRpcResult> invokeRpc(final SchemaPath type,
                 final NormalizedNode<?, ?> input) {
             final ListenableFuture<? extends DOMRpcResult> rpcResultFuture = deviceRpc.invokeRpc(type, input);
-            final ResponseWaiting responseWaiting = new ResponseWaiting(responseWaitingScheduler, rpcResultFuture);
-            responseWaiting.start();
-            Futures.addCallback(rpcResultFuture, resetKeepaliveTask, MoreExecutors.directExecutor());
-
-            final RequestTimeoutTask timeoutTask = new RequestTimeoutTask(rpcResultFuture, responseWaiting);
-            executor.schedule(timeoutTask, defaultRequestTimeoutMillis, TimeUnit.MILLISECONDS);
-
+            session.requestStarted(rpcResultFuture);
             return rpcResultFuture;
         }
 
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.sal;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.netty.util.HashedWheelTimer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Scheduler of keepalive and request timeout checks, backed by a {@link HashedWheelTimer}. It is meant to be shared by
+ * all devices, each of which tracks its activity and request deadlines itself. Devices do not cancel and reschedule
+ * timers on each RPC, instead a device {@link Task} is armed for the earliest deadline it knows about and, once that
+ * deadline passes, the device checks its actual state and tells the task when it should be checked next.
+ */
+public final class KeepaliveScheduler implements AutoCloseable {
+    /**
+     * A device check, invoked once the deadline it asked for has passed.
+     */
+    @FunctionalInterface
+    interface Check {
+        /**
+         * Check the device state.
+         *
+         * @param now current {@link System#nanoTime()}
+         * @return deadline for the next check, or {@link Long#MAX_VALUE} if no further checks are needed
+         */
+        long run(long now);
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(KeepaliveScheduler.class);
+    private static final long DEFAULT_TICK_MILLIS = 100;
+    private static final int TICKS_PER_WHEEL = 512;
+
+    private final HashedWheelTimer timer;
+    private final Executor executor;
+
+    /**
+     * Create a scheduler with the default resolution of 100 milliseconds.
+     *
+     * @param executor executor on which device checks are run
+     */
+    public KeepaliveScheduler(final Executor executor) {
+        this(executor, DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create a scheduler with specified resolution.
+     *
+     * @param executor executor on which device checks are run
+     * @param tickDuration duration of a single timer wheel tick
+     * @param unit time unit of {@code tickDuration}
+     */
+    public KeepaliveScheduler(final Executor executor, final long tickDuration, final TimeUnit unit) {
+        this.executor = requireNonNull(executor);
+        timer = new HashedWheelTimer(new ThreadFactoryBuilder().setNameFormat("netconf-keepalive-%d")
+            .setDaemon(true).build(), tickDuration, unit, TICKS_PER_WHEEL);
+    }
+
+    /**
+     * Create a new task for a device. The task is not armed until {@link Task#scheduleAt(long)} is invoked.
+     *
+     * @param check the check to run
+     * @return a new task
+     */
+    Task newTask(final Check check) {
+        return new Task(check);
+    }
+
+    @Override
+    public void close() {
+        timer.stop();
+    }
+
+    /**
+     * Task of a single device. It has at most one armed deadline: arming an earlier deadline supersedes the current
+     * one, while later deadlines are ignored, as the check will find out about them when it runs.
+     */
+    final class Task {
+        private final AtomicLong armed = new AtomicLong(Long.MAX_VALUE);
+        private final Check check;
+
+        private volatile boolean cancelled;
+
+        Task(final Check check) {
+            this.check = requireNonNull(check);
+        }
+
+        /**
+         * Make sure the check runs no later than specified deadline.
+         *
+         * @param deadline deadline, as a {@link System#nanoTime()} value
+         */
+        void scheduleAt(final long deadline) {
+            long current;
+            do {
+                current = armed.get();
+                if (cancelled || current != Long.MAX_VALUE && current - deadline <= 0) {
+                    return;
+                }
+            } while (!armed.compareAndSet(current, deadline));
+
+            try {
+                timer.newTimeout(timeout -> fire(deadline), Math.max(0, deadline - System.nanoTime()),
+                    TimeUnit.NANOSECONDS);
+            } catch (IllegalStateException e) {
+                LOG.debug("Keepalive scheduler has been shut down, not scheduling {}", this, e);
+            }
+        }
+
+        /**
+         * Cancel this task. Timeouts already in the timer wheel are left to expire, but will not run the check.
+         */
+        void cancel() {
+            cancelled = true;
+        }
+
+        private void runCheck() {
+            if (cancelled) {
+                return;
+            }
+            final long next = check.run(System.nanoTime());
+            if (next != Long.MAX_VALUE) {
+                scheduleAt(next);
+            }
+        }
+
+        private void fire(final long deadline) {
+            // Superseded timeouts do not match and are ignored
+            if (!cancelled && armed.compareAndSet(deadline, Long.MAX_VALUE)) {
+                try {
+                    executor.execute(this::runCheck);
+                } catch (RejectedExecutionException e) {
+                    LOG.debug("Keepalive executor rejected {}", this, e);
+                }
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ package org.opendaylight.netconf.sal.connect.netconf.sal;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ClassToInstanceMap;
 import com.google.common.collect.ImmutableClassToInstanceMap;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.dom.api.DOMDataBrokerExtension;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadWriteTransaction;
@@ -18,9 +19,15 @@ import org.opendaylight.mdsal.dom.api.DOMRpcService;
 import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
 import org.opendaylight.mdsal.dom.api.DOMTransactionChainListener;
 import org.opendaylight.mdsal.dom.spi.PingPongMergingDOMDataBroker;
+import org.opendaylight.netconf.api.dom.DOMDataTreeSelectiveReader;
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfSessionPreferences;
+import org.opendaylight.netconf.sal.connect.netconf.sal.tx.AbstractWriteTx;
+import org.opendaylight.netconf.sal.connect.netconf.sal.tx.ConfigDataCache;
+import org.opendaylight.netconf.sal.connect.netconf.sal.tx.ReadBatcher;
+import org.opendaylight.netconf.sal.connect.netconf.sal.tx.ReadCoalescer;
 import org.opendaylight.netconf.sal.connect.netconf.sal.tx.ReadOnlyTx;
 import org.opendaylight.netconf.sal.connect.netconf.sal.tx.ReadWriteTx;
+import org.opendaylight.netconf.sal.connect.netconf.sal.tx.SelectiveReader;
 import org.opendaylight.netconf.sal.connect.netconf.sal.tx.TxChain;
 import org.opendaylight.netconf.sal.connect.netconf.sal.tx.WriteCandidateRunningTx;
 import org.opendaylight.netconf.sal.connect.netconf.sal.tx.WriteCandidateTx;
@@ -36,13 +43,27 @@ public final class NetconfDeviceDataBroker implements PingPongMergingDOMDataBrok
     private final boolean rollbackSupport;
     private final boolean candidateSupported;
     private final boolean runningWritable;
+    private final @Nullable ConfigDataCache configCache;
+    private final ReadCoalescer coalescer;
+    private final ReadBatcher batcher;
+    private final SelectiveReader selectiveReader;
 
     private boolean isLockAllowed = true;
 
     public NetconfDeviceDataBroker(final RemoteDeviceId id, final MountPointContext mountContext,
                                    final DOMRpcService rpc, final NetconfSessionPreferences netconfSessionPreferences) {
+        this(id, mountContext, rpc, netconfSessionPreferences, null);
+    }
+
+    public NetconfDeviceDataBroker(final RemoteDeviceId id, final MountPointContext mountContext,
+            final DOMRpcService rpc, final NetconfSessionPreferences netconfSessionPreferences,
+            final @Nullable ConfigDataCache configCache) {
         this.id = id;
+        this.configCache = configCache;
+        this.coalescer = new ReadCoalescer(id);
         this.netconfOps = new NetconfBaseOps(rpc, mountContext);
+        this.batcher = new ReadBatcher(id, netconfOps);
+        this.selectiveReader = new SelectiveReader(id, netconfOps, mountContext, this);
         // get specific attributes from netconf preferences and get rid of it
         // no need to keep the entire preferences object, its quite big with all the capability QNames
         candidateSupported = netconfSessionPreferences.isCandidateSupported();
@@ -55,7 +76,7 @@ public final class NetconfDeviceDataBroker implements PingPongMergingDOMDataBrok
 
     @Override
     public DOMDataTreeReadTransaction newReadOnlyTransaction() {
-        return new ReadOnlyTx(netconfOps, id);
+        return new ReadOnlyTx(netconfOps, id, configCache, coalescer, batcher);
     }
 
     @Override
@@ -65,15 +86,21 @@ public final class NetconfDeviceDataBroker implements PingPongMergingDOMDataBrok
 
     @Override
     public DOMDataTreeWriteTransaction newWriteOnlyTransaction() {
+        final AbstractWriteTx tx;
         if (candidateSupported) {
             if (runningWritable) {
-                return new WriteCandidateRunningTx(id, netconfOps, rollbackSupport, isLockAllowed);
+                tx = new WriteCandidateRunningTx(id, netconfOps, rollbackSupport, isLockAllowed);
             } else {
-                return new WriteCandidateTx(id, netconfOps, rollbackSupport, isLockAllowed);
+                tx = new WriteCandidateTx(id, netconfOps, rollbackSupport, isLockAllowed);
             }
         } else {
-            return new WriteRunningTx(id, netconfOps, rollbackSupport, isLockAllowed);
+            tx = new WriteRunningTx(id, netconfOps, rollbackSupport, isLockAllowed);
+        }
+        coalescer.track(tx);
+        if (configCache != null) {
+            configCache.track(tx);
         }
+        return tx;
     }
 
     @Override
@@ -83,7 +110,7 @@ public final class NetconfDeviceDataBroker implements PingPongMergingDOMDataBrok
 
     @Override
     public ClassToInstanceMap<DOMDataBrokerExtension> getExtensions() {
-        return ImmutableClassToInstanceMap.of();
+        return ImmutableClassToInstanceMap.of(DOMDataTreeSelectiveReader.class, selectiveReader);
     }
 
     void setLockAllowed(final boolean isLockAllowedOrig) {
@@ -21,6 +21,7 @@ import org.opendaylight.mdsal.dom.api.DOMRpcService;
 import org.opendaylight.netconf.sal.connect.api.RemoteDeviceHandler;
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfDeviceCapabilities;
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfSessionPreferences;
+import org.opendaylight.netconf.sal.connect.netconf.sal.tx.ConfigDataCache;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.optional.rev190614.NetconfNodeFieldsOptional;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.netconf.node.optional.rev190614.netconf.node.fields.optional.Topology;
@@ -48,25 +49,56 @@ public final class NetconfDeviceSalFacade implements AutoCloseable, RemoteDevice
     private final List<AutoCloseable> salRegistrations = new ArrayList<>();
     private final DataBroker dataBroker;
     private final String topologyId;
+    private final long configCacheMaxAgeMillis;
+    private final long configCacheMaxEntries;
 
     private ListenerRegistration<LockChangeListener> listenerRegistration = null;
+    private ConfigDataCache configCache = null;
 
     public NetconfDeviceSalFacade(final RemoteDeviceId id, final DOMMountPointService mountPointService,
             final DataBroker dataBroker, final String topologyId) {
-        this(id, new NetconfDeviceSalProvider(id, mountPointService, dataBroker), dataBroker, topologyId);
+        this(id, mountPointService, dataBroker, topologyId, 0, 0);
+    }
+
+    /**
+     * Create a facade which caches configuration data read from the device.
+     *
+     * @param id device identifier
+     * @param mountPointService mount point service
+     * @param dataBroker data broker
+     * @param topologyId topology identifier
+     * @param configCacheMaxAgeMillis time for which read configuration is served from cache, 0 disables the cache
+     * @param configCacheMaxEntries maximum number of cached read results
+     */
+    public NetconfDeviceSalFacade(final RemoteDeviceId id, final DOMMountPointService mountPointService,
+            final DataBroker dataBroker, final String topologyId, final long configCacheMaxAgeMillis,
+            final long configCacheMaxEntries) {
+        this(id, new NetconfDeviceSalProvider(id, mountPointService, dataBroker), dataBroker, topologyId,
+            configCacheMaxAgeMillis, configCacheMaxEntries);
     }
 
     @VisibleForTesting
     NetconfDeviceSalFacade(final RemoteDeviceId id, final NetconfDeviceSalProvider salProvider,
             final DataBroker dataBroker, final String topologyId) {
+        this(id, salProvider, dataBroker, topologyId, 0, 0);
+    }
+
+    private NetconfDeviceSalFacade(final RemoteDeviceId id, final NetconfDeviceSalProvider salProvider,
+            final DataBroker dataBroker, final String topologyId, final long configCacheMaxAgeMillis,
+            final long configCacheMaxEntries) {
         this.id = id;
         this.salProvider = salProvider;
         this.dataBroker = dataBroker;
         this.topologyId = topologyId;
+        this.configCacheMaxAgeMillis = configCacheMaxAgeMillis;
+        this.configCacheMaxEntries = configCacheMaxEntries;
     }
 
     @Override
     public synchronized void onNotification(final DOMNotification domNotification) {
+        if (configCache != null && ConfigDataCache.isConfigChange(domNotification)) {
+            configCache.invalidateAll();
+        }
         salProvider.getMountInstance().publish(domNotification);
     }
 
@@ -75,8 +107,11 @@ public final class NetconfDeviceSalFacade implements AutoCloseable, RemoteDevice
                                                final NetconfSessionPreferences netconfSessionPreferences,
                                                final DOMRpcService deviceRpc, final DOMActionService deviceAction) {
         final EffectiveModelContext schemaContext = mountContext.getEffectiveModelContext();
+        // Data cached during a previous session may be stale
+        configCache = configCacheMaxAgeMillis > 0
+            ? new ConfigDataCache(id, configCacheMaxAgeMillis, configCacheMaxEntries) : null;
         final NetconfDeviceDataBroker netconfDeviceDataBroker =
-                new NetconfDeviceDataBroker(id, mountContext, deviceRpc, netconfSessionPreferences);
+                new NetconfDeviceDataBroker(id, mountContext, deviceRpc, netconfSessionPreferences, configCache);
         registerLockListener(netconfDeviceDataBroker);
         final NetconfDeviceNotificationService notificationService = new NetconfDeviceNotificationService();
 
@@ -99,6 +134,7 @@ public final class NetconfDeviceSalFacade implements AutoCloseable, RemoteDevice
         salProvider.getTopologyDatastoreAdapter().updateDeviceData(false, new NetconfDeviceCapabilities());
         salProvider.getMountInstance().onTopologyDeviceDisconnected();
         closeLockChangeListener();
+        configCache = null;
     }
 
     @Override
@@ -106,6 +142,7 @@ public final class NetconfDeviceSalFacade implements AutoCloseable, RemoteDevice
         salProvider.getTopologyDatastoreAdapter().setDeviceAsFailed(throwable);
         salProvider.getMountInstance().onTopologyDeviceDisconnected();
         closeLockChangeListener();
+        configCache = null;
     }
 
     @Override
@@ -10,6 +10,7 @@ package org.opendaylight.netconf.sal.connect.netconf.sal.tx;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
@@ -19,8 +20,10 @@ import com.google.common.util.concurrent.SettableFuture;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
@@ -51,6 +54,7 @@ public abstract class AbstractWriteTx implements DOMDataTreeWriteTransaction {
     protected final boolean rollbackSupport;
     protected final List<ListenableFuture<? extends DOMRpcResult>> resultsFutures = new ArrayList<>();
     private final List<TxListener> listeners = new CopyOnWriteArrayList<>();
+    private final Set<YangInstanceIdentifier> modifiedPaths = new HashSet<>();
     // Allow commit to be called only once
     protected volatile boolean finished = false;
     protected final boolean isLockAllowed;
@@ -110,6 +114,7 @@ public abstract class AbstractWriteTx implements DOMDataTreeWriteTransaction {
 
         final DataContainerChild<?, ?> editStructure = netOps.createEditConfigStrcture(Optional.ofNullable(data),
                         Optional.of(ModifyAction.REPLACE), path);
+        modifiedPaths.add(path);
         editConfig(path, Optional.ofNullable(data), editStructure, Optional.empty(), "put");
     }
 
@@ -127,6 +132,7 @@ public abstract class AbstractWriteTx implements DOMDataTreeWriteTransaction {
 
         final DataContainerChild<?, ?> editStructure =  netOps.createEditConfigStrcture(Optional.ofNullable(data),
             Optional.empty(), path);
+        modifiedPaths.add(path);
         editConfig(path, Optional.ofNullable(data), editStructure, Optional.empty(), "merge");
     }
 
@@ -145,6 +151,7 @@ public abstract class AbstractWriteTx implements DOMDataTreeWriteTransaction {
         checkEditable(store);
         final DataContainerChild<?, ?> editStructure = netOps.createEditConfigStrcture(Optional.empty(),
                         Optional.of(ModifyAction.DELETE), path);
+        modifiedPaths.add(path);
         editConfig(path, Optional.empty(), editStructure, Optional.of(ModifyAction.NONE), "delete");
     }
 
@@ -301,6 +308,15 @@ public abstract class AbstractWriteTx implements DOMDataTreeWriteTransaction {
         transformed.set(RpcResultBuilder.<Void>success().build());
     }
 
+    /**
+     * Return the paths modified by this transaction.
+     *
+     * @return modified paths
+     */
+    synchronized Set<YangInstanceIdentifier> getModifiedPaths() {
+        return ImmutableSet.copyOf(modifiedPaths);
+    }
+
     AutoCloseable addListener(final TxListener listener) {
         listeners.add(listener);
         return () -> listeners.remove(listener);
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.sal.tx;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfConfigChange;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.NormalizedNodes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of running configuration data read from a device. Results of configuration reads are retained for a limited
+ * time and serve subsequent reads of the same subtree or any of its descendants. Cached data is invalidated when
+ * a write transaction touching it is submitted or completes, and wholesale when the device reports a configuration
+ * change.
+ *
+ * <p>
+ * A read which was in flight while data was invalidated does not populate the cache, so that it cannot resurrect data
+ * which is known to be stale.
+ */
+public final class ConfigDataCache {
+    private final class WriteTxListener implements TxListener {
+        @Override
+        public void onTransactionSubmitted(final AbstractWriteTx transaction) {
+            invalidate(transaction.getModifiedPaths());
+        }
+
+        @Override
+        public void onTransactionSuccessful(final AbstractWriteTx transaction) {
+            invalidate(transaction.getModifiedPaths());
+        }
+
+        @Override
+        public void onTransactionFailed(final AbstractWriteTx transaction, final Throwable cause) {
+            // The device may have applied a part of the transaction
+            invalidate(transaction.getModifiedPaths());
+        }
+
+        @Override
+        public void onTransactionCancelled(final AbstractWriteTx transaction) {
+            // Nothing was sent to the device
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigDataCache.class);
+
+    private final TxListener txListener = new WriteTxListener();
+    private final AtomicLong generation = new AtomicLong();
+    private final Cache<YangInstanceIdentifier, Optional<NormalizedNode<?, ?>>> entries;
+    private final RemoteDeviceId id;
+
+    /**
+     * Create a cache.
+     *
+     * @param id device identifier
+     * @param maxAgeMillis time for which read data is considered fresh, in milliseconds
+     * @param maxEntries maximum number of retained read results
+     * @throws IllegalArgumentException if {@code maxAgeMillis} or {@code maxEntries} is not positive
+     */
+    public ConfigDataCache(final RemoteDeviceId id, final long maxAgeMillis, final long maxEntries) {
+        this(id, maxAgeMillis, maxEntries, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    ConfigDataCache(final RemoteDeviceId id, final long maxAgeMillis, final long maxEntries, final Ticker ticker) {
+        checkArgument(maxAgeMillis > 0, "Invalid maximum age %s", maxAgeMillis);
+        checkArgument(maxEntries > 0, "Invalid maximum number of entries %s", maxEntries);
+        this.id = requireNonNull(id);
+        entries = CacheBuilder.newBuilder()
+            .expireAfterWrite(maxAgeMillis, TimeUnit.MILLISECONDS)
+            .maximumSize(maxEntries)
+            .ticker(ticker)
+            .build();
+    }
+
+    /**
+     * Read configuration data, serving it from this cache if possible.
+     *
+     * @param path path to read
+     * @param loader function reading the data from the device on a cache miss
+     * @return future completing with the data
+     */
+    public ListenableFuture<Optional<NormalizedNode<?, ?>>> read(final YangInstanceIdentifier path,
+            final Function<YangInstanceIdentifier, ListenableFuture<Optional<NormalizedNode<?, ?>>>> loader) {
+        final Optional<NormalizedNode<?, ?>> cached = lookup(path);
+        if (cached != null) {
+            LOG.trace("{}: Serving {} from cache", id, path);
+            return Futures.immediateFuture(cached);
+        }
+
+        final long readGeneration = generation.get();
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> future = loader.apply(path);
+        Futures.addCallback(future, new FutureCallback<Optional<NormalizedNode<?, ?>>>() {
+            @Override
+            public void onSuccess(final Optional<NormalizedNode<?, ?>> result) {
+                populate(path, result, readGeneration);
+            }
+
+            @Override
+            public void onFailure(final Throwable cause) {
+                // Nothing to cache
+            }
+        }, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    /**
+     * Check whether a notification reports a change of the device configuration, after which
+     * {@link #invalidateAll()} should be invoked.
+     *
+     * @param notification notification received from the device
+     * @return true if the notification is a netconf-config-change notification
+     */
+    public static boolean isConfigChange(final DOMNotification notification) {
+        return NetconfConfigChange.QNAME.equals(notification.getBody().getNodeType());
+    }
+
+    /**
+     * Invalidate all cached data. Used when the device reports its configuration has changed.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.invalidateAll();
+        LOG.debug("{}: Configuration cache invalidated", id);
+    }
+
+    /**
+     * Start tracking a write transaction, so that data it modifies is invalidated.
+     *
+     * @param transaction transaction to track
+     */
+    public void track(final AbstractWriteTx transaction) {
+        transaction.addListener(txListener);
+    }
+
+    private Optional<NormalizedNode<?, ?>> lookup(final YangInstanceIdentifier path) {
+        // A read result of an ancestor contains the complete subtree of the requested path
+        for (YangInstanceIdentifier current = path; current != null; current = current.getParent()) {
+            final Optional<NormalizedNode<?, ?>> cached = entries.getIfPresent(current);
+            if (cached != null) {
+                return cached.isEmpty() || current.equals(path) ? cached
+                    : NormalizedNodes.findNode(cached.get(), path.relativeTo(current).get().getPathArguments());
+            }
+        }
+        return null;
+    }
+
+    private void populate(final YangInstanceIdentifier path, final Optional<NormalizedNode<?, ?>> data,
+            final long readGeneration) {
+        if (generation.get() != readGeneration) {
+            LOG.trace("{}: Not caching {}, data was invalidated while being read", id, path);
+            return;
+        }
+
+        entries.put(path, data);
+        // Re-check, as an invalidation may have raced with the put above
+        if (generation.get() != readGeneration) {
+            entries.invalidate(path);
+        }
+    }
+
+    private void invalidate(final Collection<YangInstanceIdentifier> paths) {
+        if (paths.isEmpty()) {
+            return;
+        }
+
+        generation.incrementAndGet();
+        entries.asMap().keySet().removeIf(key -> paths.stream().anyMatch(
+            path -> key.contains(path) || path.contains(key)));
+        LOG.debug("{}: Configuration cache invalidated for {}", id, paths);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("id", id).add("size", entries.size()).toString();
+    }
+}
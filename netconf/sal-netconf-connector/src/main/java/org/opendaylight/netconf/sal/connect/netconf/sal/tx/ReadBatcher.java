@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.sal.tx;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.netconf.sal.connect.netconf.util.NetconfBaseOps;
+import org.opendaylight.netconf.sal.connect.netconf.util.NetconfRpcFutureCallback;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Batcher of subtree reads. Reads are sent to the device right away as long as fewer than a fixed number of requests
+ * to the same datastore are outstanding. Once that limit is reached, further reads are queued and, as soon as one of
+ * the outstanding requests completes, all of them are sent as a single get or get-config request with a filter
+ * selecting each of the requested subtrees. The reply is then split back to the individual reads.
+ *
+ * <p>
+ * Batching thus only kicks in when a device is busy, which is when saving round trips matters. Should a batched
+ * request fail, for example because the device rejects one of the paths, its reads are retried one by one, so that
+ * a bad read does not fail the others.
+ */
+public final class ReadBatcher {
+    private static final class PendingRead {
+        final SettableFuture<Optional<NormalizedNode<?, ?>>> future = SettableFuture.create();
+        final YangInstanceIdentifier path;
+
+        PendingRead(final YangInstanceIdentifier path) {
+            this.path = requireNonNull(path);
+        }
+    }
+
+    private final class Datastore {
+        private final LogicalDatastoreType store;
+
+        @GuardedBy("this")
+        private final Deque<PendingRead> queued = new ArrayDeque<>();
+        @GuardedBy("this")
+        private int outstanding;
+
+        Datastore(final LogicalDatastoreType store) {
+            this.store = requireNonNull(store);
+        }
+
+        ListenableFuture<Optional<NormalizedNode<?, ?>>> read(final YangInstanceIdentifier path) {
+            final PendingRead read = new PendingRead(path);
+            synchronized (this) {
+                queued.add(read);
+            }
+            dispatch();
+            return read.future;
+        }
+
+        @SuppressWarnings("checkstyle:IllegalCatch")
+        private void dispatch() {
+            while (true) {
+                final List<PendingRead> batch;
+                synchronized (this) {
+                    if (queued.isEmpty() || outstanding >= maxOutstanding) {
+                        return;
+                    }
+                    batch = new ArrayList<>(Math.min(queued.size(), maxBatchSize));
+                    while (!queued.isEmpty() && batch.size() < maxBatchSize) {
+                        batch.add(queued.poll());
+                    }
+                    outstanding++;
+                }
+                try {
+                    send(batch);
+                } catch (RuntimeException e) {
+                    LOG.warn("{}: Failed to send read of {} subtrees of {}", id, batch.size(), store, e);
+                    for (PendingRead read : batch) {
+                        read.future.setException(e);
+                    }
+                    synchronized (this) {
+                        outstanding--;
+                    }
+                }
+            }
+        }
+
+        private void send(final List<PendingRead> batch) {
+            final ListenableFuture<?> sent;
+            if (batch.size() == 1) {
+                final PendingRead read = batch.get(0);
+                final ListenableFuture<Optional<NormalizedNode<?, ?>>> future = readSingle(store, read.path);
+                read.future.setFuture(future);
+                sent = future;
+            } else {
+                LOG.debug("{}: Reading {} subtrees of {} in a single request", id, batch.size(), store);
+                final ListenableFuture<List<Optional<NormalizedNode<?, ?>>>> future = readBatch(store,
+                    batch.stream().map(read -> read.path).collect(Collectors.toList()));
+                Futures.addCallback(future, new FutureCallback<List<Optional<NormalizedNode<?, ?>>>>() {
+                    @Override
+                    public void onSuccess(final List<Optional<NormalizedNode<?, ?>>> result) {
+                        for (int i = 0; i < batch.size(); ++i) {
+                            batch.get(i).future.set(result.get(i));
+                        }
+                    }
+
+                    @Override
+                    public void onFailure(final Throwable cause) {
+                        LOG.debug("{}: Batched read of {} failed, retrying reads individually", id, store, cause);
+                        for (PendingRead read : batch) {
+                            read.future.setFuture(readSingle(store, read.path));
+                        }
+                    }
+                }, MoreExecutors.directExecutor());
+                sent = future;
+            }
+            sent.addListener(this::complete, MoreExecutors.directExecutor());
+        }
+
+        private void complete() {
+            synchronized (this) {
+                outstanding--;
+            }
+            dispatch();
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReadBatcher.class);
+    private static final int DEFAULT_MAX_OUTSTANDING = 4;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+    private final Datastore config = new Datastore(LogicalDatastoreType.CONFIGURATION);
+    private final Datastore operational = new Datastore(LogicalDatastoreType.OPERATIONAL);
+    private final NetconfBaseOps netconfOps;
+    private final RemoteDeviceId id;
+    private final int maxOutstanding;
+    private final int maxBatchSize;
+
+    public ReadBatcher(final RemoteDeviceId id, final NetconfBaseOps netconfOps) {
+        this(id, netconfOps, DEFAULT_MAX_OUTSTANDING, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    @VisibleForTesting
+    ReadBatcher(final RemoteDeviceId id, final NetconfBaseOps netconfOps, final int maxOutstanding,
+            final int maxBatchSize) {
+        checkArgument(maxOutstanding > 0, "Invalid number of outstanding requests %s", maxOutstanding);
+        checkArgument(maxBatchSize > 0, "Invalid batch size %s", maxBatchSize);
+        this.id = requireNonNull(id);
+        this.netconfOps = requireNonNull(netconfOps);
+        this.maxOutstanding = maxOutstanding;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Read a subtree, possibly as part of a batch.
+     *
+     * @param store datastore to read from
+     * @param path path to read, must not be empty
+     * @return future completing with the data
+     */
+    public ListenableFuture<Optional<NormalizedNode<?, ?>>> read(final LogicalDatastoreType store,
+            final YangInstanceIdentifier path) {
+        checkArgument(!path.isEmpty(), "Cannot batch a read of the whole datastore");
+        return (store == LogicalDatastoreType.CONFIGURATION ? config : operational).read(path);
+    }
+
+    // Requests fail synchronously when a path cannot be serialized, such failures are reported through the future,
+    // so that a failed batch is retried and the request slot is released as for any other failure
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private ListenableFuture<Optional<NormalizedNode<?, ?>>> readSingle(final LogicalDatastoreType store,
+            final YangInstanceIdentifier path) {
+        final NetconfRpcFutureCallback callback = new NetconfRpcFutureCallback("Data read", id);
+        try {
+            return store == LogicalDatastoreType.CONFIGURATION
+                ? netconfOps.getConfigRunningData(callback, Optional.of(path))
+                : netconfOps.getData(callback, Optional.of(path));
+        } catch (RuntimeException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private ListenableFuture<List<Optional<NormalizedNode<?, ?>>>> readBatch(final LogicalDatastoreType store,
+            final List<YangInstanceIdentifier> paths) {
+        final NetconfRpcFutureCallback callback = new NetconfRpcFutureCallback("Batched data read", id);
+        try {
+            return store == LogicalDatastoreType.CONFIGURATION
+                ? netconfOps.getConfigRunningData(callback, paths)
+                : netconfOps.getData(callback, paths);
+        } catch (RuntimeException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("id", id).toString();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.sal.tx;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalescer of concurrent identical reads. A read of a path is joined to a read of the same path from the same
+ * datastore which is already in flight, so that only one request is sent to the device and its result is delivered
+ * to all callers.
+ *
+ * <p>
+ * Once a write transaction is submitted, reads which are in flight are no longer joined, so that a read issued after
+ * a write does not observe data read before it.
+ */
+public final class ReadCoalescer {
+    private final class WriteTxListener implements TxListener {
+        @Override
+        public void onTransactionSubmitted(final AbstractWriteTx transaction) {
+            detachAll();
+        }
+
+        @Override
+        public void onTransactionSuccessful(final AbstractWriteTx transaction) {
+            detachAll();
+        }
+
+        @Override
+        public void onTransactionFailed(final AbstractWriteTx transaction, final Throwable cause) {
+            detachAll();
+        }
+
+        @Override
+        public void onTransactionCancelled(final AbstractWriteTx transaction) {
+            // Nothing was sent to the device
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReadCoalescer.class);
+
+    private final Map<YangInstanceIdentifier, ListenableFuture<Optional<NormalizedNode<?, ?>>>> config =
+        new ConcurrentHashMap<>();
+    private final Map<YangInstanceIdentifier, ListenableFuture<Optional<NormalizedNode<?, ?>>>> operational =
+        new ConcurrentHashMap<>();
+    private final TxListener txListener = new WriteTxListener();
+    private final RemoteDeviceId id;
+
+    public ReadCoalescer(final RemoteDeviceId id) {
+        this.id = requireNonNull(id);
+    }
+
+    /**
+     * Read data, joining an identical read which is already in flight.
+     *
+     * @param store datastore to read from
+     * @param path path to read
+     * @param loader function reading the data from the device if there is no such read in flight
+     * @return future completing with the data
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public ListenableFuture<Optional<NormalizedNode<?, ?>>> read(final LogicalDatastoreType store,
+            final YangInstanceIdentifier path,
+            final Function<YangInstanceIdentifier, ListenableFuture<Optional<NormalizedNode<?, ?>>>> loader) {
+        final Map<YangInstanceIdentifier, ListenableFuture<Optional<NormalizedNode<?, ?>>>> inflight =
+            store == LogicalDatastoreType.CONFIGURATION ? config : operational;
+
+        final SettableFuture<Optional<NormalizedNode<?, ?>>> future = SettableFuture.create();
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> existing = inflight.putIfAbsent(path, future);
+        if (existing != null) {
+            LOG.trace("{}: Joining in-flight read of {} from {}", id, path, store);
+            return Futures.nonCancellationPropagating(existing);
+        }
+
+        // The future is published before the read starts, so that the read completing synchronously cannot leave
+        // it behind
+        future.addListener(() -> inflight.remove(path, future), MoreExecutors.directExecutor());
+        try {
+            future.setFuture(loader.apply(path));
+        } catch (RuntimeException e) {
+            future.setException(e);
+        }
+        return Futures.nonCancellationPropagating(future);
+    }
+
+    /**
+     * Start tracking a write transaction, so that reads in flight are not joined once it is submitted.
+     *
+     * @param transaction transaction to track
+     */
+    public void track(final AbstractWriteTx transaction) {
+        transaction.addListener(txListener);
+    }
+
+    private void detachAll() {
+        config.clear();
+        operational.clear();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("id", id).add("config", config.size())
+            .add("operational", operational.size()).toString();
+    }
+}
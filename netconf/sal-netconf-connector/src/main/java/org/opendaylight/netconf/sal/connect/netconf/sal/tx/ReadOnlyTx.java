@@ -14,6 +14,7 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import java.util.Optional;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
@@ -31,22 +32,59 @@ public final class ReadOnlyTx implements DOMDataTreeReadTransaction {
 
     private final NetconfBaseOps netconfOps;
     private final RemoteDeviceId id;
+    private final @Nullable ConfigDataCache configCache;
+    private final @Nullable ReadCoalescer coalescer;
+    private final @Nullable ReadBatcher batcher;
 
     public ReadOnlyTx(final NetconfBaseOps netconfOps, final RemoteDeviceId id) {
+        this(netconfOps, id, null, null, null);
+    }
+
+    public ReadOnlyTx(final NetconfBaseOps netconfOps, final RemoteDeviceId id,
+            final @Nullable ConfigDataCache configCache, final @Nullable ReadCoalescer coalescer,
+            final @Nullable ReadBatcher batcher) {
         this.netconfOps = netconfOps;
         this.id = id;
+        this.configCache = configCache;
+        this.coalescer = coalescer;
+        this.batcher = batcher;
     }
 
     private FluentFuture<Optional<NormalizedNode<?, ?>>> readConfigurationData(
             final YangInstanceIdentifier path) {
-        return remapException(netconfOps.getConfigRunningData(
-            new NetconfRpcFutureCallback("Data read", id), Optional.ofNullable(path)));
+        return remapException(configCache == null || path == null ? readRunning(path)
+            : configCache.read(path, this::readRunning));
+    }
+
+    private ListenableFuture<Optional<NormalizedNode<?, ?>>> readRunning(final YangInstanceIdentifier path) {
+        return coalescer == null || path == null ? getConfigRunningData(path)
+            : coalescer.read(LogicalDatastoreType.CONFIGURATION, path, this::getConfigRunningData);
+    }
+
+    private ListenableFuture<Optional<NormalizedNode<?, ?>>> getConfigRunningData(final YangInstanceIdentifier path) {
+        if (isBatchable(path)) {
+            return batcher.read(LogicalDatastoreType.CONFIGURATION, path);
+        }
+        return netconfOps.getConfigRunningData(new NetconfRpcFutureCallback("Data read", id),
+            Optional.ofNullable(path));
     }
 
     private FluentFuture<Optional<NormalizedNode<?, ?>>> readOperationalData(
             final YangInstanceIdentifier path) {
-        return remapException(netconfOps.getData(
-            new NetconfRpcFutureCallback("Data read", id), Optional.ofNullable(path)));
+        return remapException(coalescer == null || path == null ? getData(path)
+            : coalescer.read(LogicalDatastoreType.OPERATIONAL, path, this::getData));
+    }
+
+    private ListenableFuture<Optional<NormalizedNode<?, ?>>> getData(final YangInstanceIdentifier path) {
+        if (isBatchable(path)) {
+            return batcher.read(LogicalDatastoreType.OPERATIONAL, path);
+        }
+        return netconfOps.getData(new NetconfRpcFutureCallback("Data read", id), Optional.ofNullable(path));
+    }
+
+    private boolean isBatchable(final YangInstanceIdentifier path) {
+        // Reads of the whole datastore cannot be combined with other reads
+        return batcher != null && path != null && !path.isEmpty();
     }
 
     private static <T> FluentFuture<T> remapException(final ListenableFuture<T> input) {
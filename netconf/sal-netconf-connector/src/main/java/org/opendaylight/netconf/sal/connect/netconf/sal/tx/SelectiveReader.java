@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.sal.tx;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.FluentFuture;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
+import org.opendaylight.netconf.api.dom.DOMDataTreeSelectiveReader;
+import org.opendaylight.netconf.sal.connect.netconf.util.NetconfBaseOps;
+import org.opendaylight.netconf.sal.connect.netconf.util.NetconfRpcFutureCallback;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yangtools.rfc8528.data.api.MountPointContext;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.util.DataSchemaContextNode;
+import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
+import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Selective reader of device data. Selected fields are translated into a subtree filter selecting each of them, so
+ * that the device returns only the selected nodes. Selected depth is translated into get-data max-depth on devices
+ * supporting NMDA, extended by one level so that list entries at the selected depth carry their keys. Entries of
+ * keyed lists at the max-depth level itself would be returned without their keys, hence depth is not pushed down
+ * when the schema allows such entries. Base NETCONF has no means of limiting the depth of a subtree, hence reads
+ * selecting only depth of other devices read the complete data.
+ *
+ * <p>
+ * Selective reads bypass the configuration cache and read coalescing, as their results are not the complete data.
+ */
+public final class SelectiveReader implements DOMDataTreeSelectiveReader {
+    private static final Logger LOG = LoggerFactory.getLogger(SelectiveReader.class);
+
+    private final RemoteDeviceId id;
+    private final NetconfBaseOps netconfOps;
+    private final MountPointContext mountContext;
+    private final DOMDataBroker broker;
+
+    public SelectiveReader(final RemoteDeviceId id, final NetconfBaseOps netconfOps,
+            final MountPointContext mountContext, final DOMDataBroker broker) {
+        this.id = requireNonNull(id);
+        this.netconfOps = requireNonNull(netconfOps);
+        this.mountContext = requireNonNull(mountContext);
+        this.broker = requireNonNull(broker);
+    }
+
+    @Override
+    public FluentFuture<Optional<NormalizedNode<?, ?>>> read(final LogicalDatastoreType store,
+            final YangInstanceIdentifier path, final List<YangInstanceIdentifier> fields, final OptionalInt depth) {
+        // List entries at the last selected level cannot be parsed without their keys, which are one level deeper.
+        // Read that level as well, the reader of the data limits its output to the selected depth.
+        final OptionalInt depthLimit = depth.isPresent() && netconfOps.isNmdaSupported()
+            ? OptionalInt.of(Math.min(depth.getAsInt() + 1, Uint16.MAX_VALUE.toJava())) : OptionalInt.empty();
+        if (fields.isEmpty() && (depthLimit.isEmpty() || hasKeyedEntriesAt(path, depthLimit.getAsInt()))) {
+            try (DOMDataTreeReadTransaction tx = broker.newReadOnlyTransaction()) {
+                return tx.read(store, path);
+            }
+        }
+
+        final List<YangInstanceIdentifier> filterPaths;
+        final OptionalInt maxDepth;
+        if (fields.isEmpty()) {
+            filterPaths = path.isEmpty() ? ImmutableList.of() : ImmutableList.of(path);
+            maxDepth = depthLimit;
+        } else {
+            // Depth counts from the read path, whereas max-depth counts from each of the selected nodes
+            filterPaths = toFilterPaths(path, fields);
+            maxDepth = OptionalInt.empty();
+        }
+
+        LOG.debug("{}: Reading {} from {} selecting {} to depth {}", id, path, store, filterPaths, maxDepth);
+        final NetconfRpcFutureCallback callback = new NetconfRpcFutureCallback("Selective data read", id);
+        return FluentFuture.from(store == LogicalDatastoreType.CONFIGURATION
+            ? netconfOps.getConfigRunningData(callback, path, filterPaths, maxDepth)
+            : netconfOps.getData(callback, path, filterPaths, maxDepth));
+    }
+
+    private List<YangInstanceIdentifier> toFilterPaths(final YangInstanceIdentifier path,
+            final List<YangInstanceIdentifier> fields) {
+        final DataSchemaContextTree contextTree = DataSchemaContextTree.from(mountContext.getSchemaContext());
+        final Set<YangInstanceIdentifier> filterPaths = new LinkedHashSet<>();
+        for (YangInstanceIdentifier field : fields) {
+            YangInstanceIdentifier current = path;
+            for (PathArgument arg : field.getPathArguments()) {
+                current = current.node(arg);
+                if (arg instanceof NodeIdentifierWithPredicates) {
+                    // A subtree filter returns only the nodes it selects, but list entries cannot be parsed without
+                    // their keys
+                    final DataSchemaContextNode<?> entry = contextTree.getChild(current);
+                    if (entry != null && entry.getDataSchemaNode() instanceof ListSchemaNode) {
+                        for (QName key : ((ListSchemaNode) entry.getDataSchemaNode()).getKeyDefinition()) {
+                            filterPaths.add(current.node(NodeIdentifier.create(key)));
+                        }
+                    }
+                }
+            }
+            filterPaths.add(current);
+        }
+        return ImmutableList.copyOf(filterPaths);
+    }
+
+    /**
+     * Check whether entries of a keyed list may appear at the specified level of data read from a path, where the
+     * node identified by the path is at level 1, or the top-level nodes when reading the root.
+     *
+     * @param path read path
+     * @param level level at which entries would lack their keys
+     * @return {@code true} if keyed list entries may appear at the level, or the path is not known to the schema
+     */
+    private boolean hasKeyedEntriesAt(final YangInstanceIdentifier path, final int level) {
+        if (path.isEmpty()) {
+            return hasKeyedEntriesAt(mountContext.getSchemaContext().getChildNodes(), 1, level);
+        }
+        final DataSchemaContextNode<?> node = DataSchemaContextTree.from(mountContext.getSchemaContext())
+            .getChild(path);
+        return node == null || hasKeyedEntriesAt(Collections.singleton(node.getDataSchemaNode()), 1, level);
+    }
+
+    private static boolean hasKeyedEntriesAt(final Collection<? extends DataSchemaNode> nodes, final int current,
+            final int level) {
+        for (DataSchemaNode node : nodes) {
+            if (node instanceof ChoiceSchemaNode) {
+                // Choices and cases do not appear in data, their children are at the same level
+                for (CaseSchemaNode caze : ((ChoiceSchemaNode) node).getCases()) {
+                    if (hasKeyedEntriesAt(caze.getChildNodes(), current, level)) {
+                        return true;
+                    }
+                }
+            } else if (current == level) {
+                if (node instanceof ListSchemaNode && !((ListSchemaNode) node).getKeyDefinition().isEmpty()) {
+                    return true;
+                }
+            } else if (node instanceof DataNodeContainer
+                    && hasKeyedEntriesAt(((DataNodeContainer) node).getChildNodes(), current + 1, level)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("id", id).toString();
+    }
+}
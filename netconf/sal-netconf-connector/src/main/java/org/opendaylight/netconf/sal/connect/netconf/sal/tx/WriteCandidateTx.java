@@ -139,7 +139,9 @@ public class WriteCandidateTx extends AbstractWriteTx {
 
         final NetconfRpcFutureCallback editConfigCallback = new NetconfRpcFutureCallback("Edit candidate", id);
 
-        if (defaultOperation.isPresent()) {
+        if (netOps.isNmdaSupported()) {
+            resultsFutures.add(netOps.editDataCandidate(editConfigCallback, editStructure, defaultOperation));
+        } else if (defaultOperation.isPresent()) {
             resultsFutures.add(netOps.editConfigCandidate(
                     editConfigCallback, editStructure, defaultOperation.get(), rollbackSupport));
         } else {
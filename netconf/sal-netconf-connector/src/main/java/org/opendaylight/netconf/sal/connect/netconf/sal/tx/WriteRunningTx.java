@@ -112,6 +112,10 @@ public class WriteRunningTx extends AbstractWriteTx {
         ListenableFuture<? extends DOMRpcResult> execute(final RemoteDeviceId id, final NetconfBaseOps netOps,
                                                          final boolean rollbackSupport) {
             final NetconfRpcFutureCallback editConfigCallback = new NetconfRpcFutureCallback("Edit running", id);
+            if (netOps.isNmdaSupported()) {
+                // edit-data has no error-option, it always rolls back on error
+                return netOps.editDataRunning(editConfigCallback, editStructure, defaultOperation);
+            }
             if (defaultOperation.isPresent()) {
                 return netOps.editConfigRunning(editConfigCallback, editStructure, defaultOperation.get(),
                     rollbackSupport);
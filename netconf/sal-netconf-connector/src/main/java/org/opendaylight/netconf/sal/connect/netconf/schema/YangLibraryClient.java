@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.schema;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.io.ByteSource;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLConnection;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous client for fetching yang library documents and the YANG sources they point to. It is meant to be shared
+ * by all devices, so that HTTP connections to a yang library server are reused. Responses carrying an ETag or
+ * a Last-Modified header are retained and revalidated with a conditional request when fetched again, hence
+ * reconnecting devices do not download unchanged content. The number of concurrent downloads is capped, requests
+ * exceeding the cap are queued.
+ *
+ * <p>
+ * URIs with a scheme other than http and https are read directly, without caching.
+ */
+public final class YangLibraryClient {
+    /**
+     * A successfully fetched resource.
+     */
+    public static final class Response {
+        private final URI uri;
+        private final @Nullable String contentType;
+        private final byte[] body;
+
+        Response(final URI uri, final @Nullable String contentType, final byte[] body) {
+            this.uri = requireNonNull(uri);
+            this.contentType = contentType;
+            this.body = requireNonNull(body);
+        }
+
+        public URI getUri() {
+            return uri;
+        }
+
+        /**
+         * Return the media type of the resource, without any parameters.
+         *
+         * @return media type, if known
+         */
+        public Optional<String> getContentType() {
+            return Optional.ofNullable(contentType);
+        }
+
+        public ByteSource getBody() {
+            return ByteSource.wrap(body);
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("uri", uri).add("contentType", contentType)
+                .add("length", body.length).toString();
+        }
+    }
+
+    private static final class Validated {
+        final Response response;
+        final @Nullable String etag;
+        final @Nullable String lastModified;
+
+        Validated(final Response response, final @Nullable String etag, final @Nullable String lastModified) {
+            this.response = requireNonNull(response);
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(YangLibraryClient.class);
+    private static final int DEFAULT_MAX_CONCURRENT_DOWNLOADS = 16;
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(20);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    // Validated responses are kept softly, they can always be fetched again
+    private final Cache<URI, Validated> validated = CacheBuilder.newBuilder().softValues().build();
+    private final Queue<Runnable> queued = new ConcurrentLinkedQueue<>();
+    private final Semaphore permits;
+    private final HttpClient client;
+
+    public YangLibraryClient() {
+        this(DEFAULT_MAX_CONCURRENT_DOWNLOADS);
+    }
+
+    public YangLibraryClient(final int maxConcurrentDownloads) {
+        checkArgument(maxConcurrentDownloads > 0, "Invalid number of concurrent downloads %s",
+            maxConcurrentDownloads);
+        permits = new Semaphore(maxConcurrentDownloads);
+        client = HttpClient.newBuilder()
+            .connectTimeout(CONNECT_TIMEOUT)
+            .followRedirects(Redirect.NORMAL)
+            .build();
+    }
+
+    /**
+     * Fetch a resource.
+     *
+     * @param uri resource URI
+     * @param accept media type to request, or null to accept any
+     * @param username username for basic authentication, or null if not authenticating
+     * @param password password for basic authentication, or null if not authenticating
+     * @return future completing with the response, or failing with an {@link IOException}
+     */
+    public ListenableFuture<Response> fetch(final URI uri, final @Nullable String accept,
+            final @Nullable String username, final @Nullable String password) {
+        final String scheme = uri.getScheme();
+        if (!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) {
+            return fetchDirect(uri);
+        }
+
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET();
+        if (accept != null) {
+            builder.header("Accept", accept);
+        }
+        if (username != null && password != null) {
+            builder.header("Authorization", "Basic " + Base64.getEncoder().encodeToString(
+                (username + ":" + password).getBytes(StandardCharsets.UTF_8)));
+        }
+
+        final Validated cached = validated.getIfPresent(uri);
+        if (cached != null) {
+            if (cached.etag != null) {
+                builder.header("If-None-Match", cached.etag);
+            }
+            if (cached.lastModified != null) {
+                builder.header("If-Modified-Since", cached.lastModified);
+            }
+        }
+
+        final SettableFuture<Response> ret = SettableFuture.create();
+        queued.add(() -> send(uri, builder.build(), cached, ret));
+        dispatch();
+        return ret;
+    }
+
+    private void send(final URI uri, final HttpRequest request, final @Nullable Validated cached,
+            final SettableFuture<Response> future) {
+        LOG.debug("Fetching {}", uri);
+        final CompletableFuture<HttpResponse<byte[]>> response;
+        try {
+            response = client.sendAsync(request, BodyHandlers.ofByteArray());
+        } catch (IllegalArgumentException e) {
+            permits.release();
+            dispatch();
+            future.setException(new IOException("Unable to fetch " + uri, e));
+            return;
+        }
+
+        response.whenComplete((result, cause) -> {
+            permits.release();
+            dispatch();
+
+            if (cause != null) {
+                future.setException(cause instanceof CompletionException && cause.getCause() != null
+                    ? cause.getCause() : cause);
+                return;
+            }
+
+            final int status = result.statusCode();
+            if (status == 304 && cached != null) {
+                LOG.debug("{} not modified, using cached content", uri);
+                future.set(cached.response);
+            } else if (status == 200) {
+                future.set(complete(uri, result));
+            } else {
+                future.setException(new IOException("Fetching " + uri + " failed with status " + status));
+            }
+        });
+    }
+
+    private Response complete(final URI uri, final HttpResponse<byte[]> response) {
+        final Response ret = new Response(uri, response.headers().firstValue("Content-Type")
+            .map(YangLibraryClient::mediaType).orElse(null), response.body());
+        final String etag = response.headers().firstValue("ETag").orElse(null);
+        final String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+        if (etag != null || lastModified != null) {
+            validated.put(uri, new Validated(ret, etag, lastModified));
+        } else {
+            validated.invalidate(uri);
+        }
+        return ret;
+    }
+
+    /*
+     * Start queued requests while permits are available. This is invoked whenever a request is queued or a permit
+     * is released, so a queued request cannot be left behind.
+     */
+    private void dispatch() {
+        while (!queued.isEmpty() && permits.tryAcquire()) {
+            final Runnable request = queued.poll();
+            if (request != null) {
+                request.run();
+            } else {
+                permits.release();
+            }
+        }
+    }
+
+    private static ListenableFuture<Response> fetchDirect(final URI uri) {
+        try {
+            final URLConnection connection = uri.toURL().openConnection();
+            try (InputStream in = connection.getInputStream()) {
+                final String contentType = connection.getContentType();
+                return Futures.immediateFuture(new Response(uri, contentType == null ? null : mediaType(contentType),
+                    ByteStreams.toByteArray(in)));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return Futures.immediateFailedFuture(e instanceof IOException ? e
+                : new IOException("Unable to read " + uri, e));
+        }
+    }
+
+    private static String mediaType(final String contentType) {
+        final int semicolon = contentType.indexOf(';');
+        return (semicolon == -1 ? contentType : contentType.substring(0, semicolon)).trim();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("available", permits.availablePermits())
+            .add("queued", queued.size()).toString();
+    }
+}
@@ -14,12 +14,17 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Optional;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.netconf.sal.connect.netconf.schema.NetconfRemoteSchemaYangSourceProvider.NetconfYangTextSchemaSource;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
 import org.opendaylight.yangtools.yang.model.repo.api.SchemaSourceException;
@@ -38,17 +43,35 @@ public final class YangLibrarySchemaYangSourceProvider implements SchemaSourcePr
 
     private final Map<SourceIdentifier, URL> availableSources;
     private final RemoteDeviceId id;
+    private final @Nullable YangLibraryClient client;
 
     public YangLibrarySchemaYangSourceProvider(final RemoteDeviceId id,
             final Map<SourceIdentifier, URL> availableSources) {
+        this(id, availableSources, null);
+    }
+
+    /**
+     * Create a provider which downloads sources asynchronously through specified client.
+     *
+     * @param id device identifier
+     * @param availableSources URLs of available sources
+     * @param client client to download sources with, if null sources are downloaded synchronously
+     */
+    public YangLibrarySchemaYangSourceProvider(final RemoteDeviceId id,
+            final Map<SourceIdentifier, URL> availableSources, final @Nullable YangLibraryClient client) {
         this.id = id;
         this.availableSources = ImmutableMap.copyOf(availableSources);
+        this.client = client;
     }
 
     @Override
     public ListenableFuture<? extends YangTextSchemaSource> getSource(final SourceIdentifier sourceIdentifier) {
         final URL url = availableSources.get(requireNonNull(sourceIdentifier));
         checkArgument(url != null);
+        if (client != null) {
+            return download(client, sourceIdentifier, url);
+        }
+
         try (InputStream in = url.openStream()) {
             // FIXME: defaultCharset() seems to be wrong here
             final String schemaContent = new String(ByteStreams.toByteArray(in), Charset.defaultCharset());
@@ -62,4 +85,29 @@ public final class YangLibrarySchemaYangSourceProvider implements SchemaSourcePr
                 "Unable to download remote schema for " + sourceIdentifier + " from " + url, e));
         }
     }
+
+    private ListenableFuture<YangTextSchemaSource> download(final YangLibraryClient yangLibraryClient,
+            final SourceIdentifier sourceIdentifier, final URL url) {
+        final URI uri;
+        try {
+            uri = url.toURI();
+        } catch (URISyntaxException e) {
+            return Futures.immediateFailedFuture(new SchemaSourceException(
+                "Unable to download remote schema for " + sourceIdentifier + " from " + url, e));
+        }
+
+        final ListenableFuture<YangTextSchemaSource> source = Futures.transformAsync(
+            yangLibraryClient.fetch(uri, null, null, null), response -> {
+                LOG.debug("Source {} downloaded from a yang library's url {}", sourceIdentifier, url);
+                // YANG sources are always UTF-8 encoded, as per RFC7950 section 6
+                return Futures.immediateFuture(new NetconfYangTextSchemaSource(id, sourceIdentifier,
+                    Optional.of(response.getBody().asCharSource(StandardCharsets.UTF_8).read())));
+            }, MoreExecutors.directExecutor());
+
+        return Futures.catchingAsync(source, IOException.class, e -> {
+            LOG.warn("Unable to download source {} from a yang library's url {}", sourceIdentifier, url, e);
+            return Futures.immediateFailedFuture(new SchemaSourceException(
+                "Unable to download remote schema for " + sourceIdentifier + " from " + url, e));
+        }, MoreExecutors.directExecutor());
+    }
 }
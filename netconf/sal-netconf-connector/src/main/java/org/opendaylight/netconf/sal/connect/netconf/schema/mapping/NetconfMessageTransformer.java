@@ -13,21 +13,16 @@ import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTr
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_URI;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.toPath;
 
+import com.google.common.annotations.Beta;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Maps;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import javax.xml.stream.XMLStreamException;
@@ -48,7 +43,6 @@ import org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransform
 import org.opendaylight.netconf.sal.connect.util.MessageCounter;
 import org.opendaylight.yangtools.rfc8528.data.api.MountPointContext;
 import org.opendaylight.yangtools.yang.common.QName;
-import org.opendaylight.yangtools.yang.common.Revision;
 import org.opendaylight.yangtools.yang.common.YangConstants;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -59,17 +53,10 @@ import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeS
 import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
 import org.opendaylight.yangtools.yang.model.api.ActionDefinition;
-import org.opendaylight.yangtools.yang.model.api.ActionNodeContainer;
-import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
-import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
-import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
-import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
-import org.opendaylight.yangtools.yang.model.api.NotificationDefinition;
 import org.opendaylight.yangtools.yang.model.api.OperationDefinition;
 import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
-import org.opendaylight.yangtools.yang.model.api.SchemaNode;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -90,52 +77,47 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
     private final BaseSchema baseSchema;
     private final MessageCounter counter;
     private final ImmutableMap<QName, ? extends RpcDefinition> mappedRpcs;
-    private final Multimap<QName, ? extends NotificationDefinition> mappedNotifications;
+    private final NetconfSchemaIndex schemaIndex;
     private final boolean strictParsing;
     private final ImmutableMap<SchemaPath, ActionDefinition> actions;
 
     public NetconfMessageTransformer(final MountPointContext mountContext, final boolean strictParsing,
                                      final BaseSchema baseSchema) {
-        this.counter = new MessageCounter();
-        this.mountContext = requireNonNull(mountContext);
-
-        final SchemaContext schemaContext = mountContext.getSchemaContext();
-        this.contextTree = DataSchemaContextTree.from(schemaContext);
-
-        this.mappedRpcs = Maps.uniqueIndex(schemaContext.getOperations(), SchemaNode::getQName);
-        this.actions = Maps.uniqueIndex(getActions(schemaContext), ActionDefinition::getPath);
-        this.mappedNotifications = Multimaps.index(schemaContext.getNotifications(),
-            node -> node.getQName().withoutRevision());
-        this.baseSchema = baseSchema;
-        this.strictParsing = strictParsing;
+        // Indexes are shared with all other transformers using the same schema
+        this(mountContext, strictParsing, baseSchema, NetconfSchemaIndex.of(mountContext.getSchemaContext()));
     }
 
+    /**
+     * Create a transformer along with a new schema index, which is not shared with any other transformer. This is
+     * the cost of the first transformer created for a schema, exposed for benchmarking.
+     *
+     * @param mountContext mount point context
+     * @param strictParsing whether strict parsing is enabled
+     * @param baseSchema base NETCONF schema
+     * @return a new transformer
+     */
+    @Beta
     @VisibleForTesting
-    static List<ActionDefinition> getActions(final SchemaContext schemaContext) {
-        final List<ActionDefinition> builder = new ArrayList<>();
-        findAction(schemaContext, builder);
-        return builder;
+    public static NetconfMessageTransformer createUncached(final MountPointContext mountContext,
+            final boolean strictParsing, final BaseSchema baseSchema) {
+        return new NetconfMessageTransformer(mountContext, strictParsing, baseSchema,
+            NetconfSchemaIndex.create(mountContext.getSchemaContext()));
     }
 
-    private static void findAction(final DataSchemaNode dataSchemaNode, final List<ActionDefinition> builder) {
-        if (dataSchemaNode instanceof ActionNodeContainer) {
-            for (ActionDefinition actionDefinition : ((ActionNodeContainer) dataSchemaNode).getActions()) {
-                builder.add(actionDefinition);
-            }
-        }
-        if (dataSchemaNode instanceof DataNodeContainer) {
-            for (DataSchemaNode innerDataSchemaNode : ((DataNodeContainer) dataSchemaNode).getChildNodes()) {
-                findAction(innerDataSchemaNode, builder);
-            }
-        } else if (dataSchemaNode instanceof ChoiceSchemaNode) {
-            for (CaseSchemaNode caze : ((ChoiceSchemaNode) dataSchemaNode).getCases()) {
-                findAction(caze, builder);
-            }
-        }
+    NetconfMessageTransformer(final MountPointContext mountContext, final boolean strictParsing,
+            final BaseSchema baseSchema, final NetconfSchemaIndex schemaIndex) {
+        this.counter = new MessageCounter();
+        this.mountContext = requireNonNull(mountContext);
+        this.schemaIndex = requireNonNull(schemaIndex);
+        this.contextTree = schemaIndex.getContextTree();
+        this.mappedRpcs = schemaIndex.getMappedRpcs();
+        this.actions = schemaIndex.getActions();
+        this.baseSchema = baseSchema;
+        this.strictParsing = strictParsing;
     }
 
     @Override
-    public synchronized DOMNotification toNotification(final NetconfMessage message) {
+    public DOMNotification toNotification(final NetconfMessage message) {
         final Map.Entry<Instant, XmlElement> stripped = NetconfMessageTransformUtil.stripNotification(message);
         final QName notificationNoRev;
         try {
@@ -145,16 +127,11 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
             throw new IllegalArgumentException(
                     "Unable to parse notification " + message + ", cannot find namespace", e);
         }
-        final Collection<? extends NotificationDefinition> notificationDefinitions =
-                mappedNotifications.get(notificationNoRev);
-        Preconditions.checkArgument(notificationDefinitions.size() > 0,
-                "Unable to parse notification %s, unknown notification. Available notifications: %s",
-                notificationDefinitions, mappedNotifications.keySet());
-
-        final NotificationDefinition mostRecentNotification = getMostRecentNotification(notificationDefinitions);
-
         final ContainerSchemaNode notificationAsContainerSchemaNode =
-                NetconfMessageTransformUtil.createSchemaForNotification(mostRecentNotification);
+                schemaIndex.getNotificationSchema(notificationNoRev);
+        Preconditions.checkArgument(notificationAsContainerSchemaNode != null,
+                "Unable to parse notification %s, unknown notification. Available notifications: %s",
+                notificationNoRev, schemaIndex.getNotifications());
 
         final Element element = stripped.getValue().getDomElement();
         final ContainerNode content;
@@ -172,12 +149,6 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
         return new NetconfDeviceNotification(content, stripped.getKey());
     }
 
-    private static NotificationDefinition getMostRecentNotification(
-            final Collection<? extends NotificationDefinition> notificationDefinitions) {
-        return Collections.max(notificationDefinitions, (o1, o2) ->
-            Revision.compare(o1.getQName().getRevision(), o2.getQName().getRevision()));
-    }
-
     @Override
     public NetconfMessage toRpcRequest(final SchemaPath rpc, final NormalizedNode<?, ?> payload) {
         // In case no input for rpc is defined, we can simply construct the payload here
@@ -215,7 +186,11 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
             // This way operations like lock/unlock are supported even if the source for base model was not provided
             final SchemaContext ctx = needToUseBaseCtx ? baseSchema.getSchemaContext()
                     : mountContext.getSchemaContext();
-            NetconfMessageTransformUtil.writeNormalizedRpc((ContainerNode) payload, result, rpcInput, ctx);
+            if (NetconfMessageTransformUtil.isNmdaOperation(rpcQName)) {
+                NetconfMessageTransformUtil.writeNmdaRpc((ContainerNode) payload, result, rpcInput, ctx);
+            } else {
+                NetconfMessageTransformUtil.writeNormalizedRpc((ContainerNode) payload, result, rpcInput, ctx);
+            }
         } catch (final XMLStreamException | IOException | IllegalStateException e) {
             throw new IllegalStateException("Unable to serialize " + rpcInput, e);
         }
@@ -261,7 +236,7 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
     }
 
     @Override
-    public synchronized DOMRpcResult toRpcResult(final NetconfMessage message, final SchemaPath rpc) {
+    public DOMRpcResult toRpcResult(final NetconfMessage message, final SchemaPath rpc) {
         final NormalizedNode<?, ?> normalizedNode;
         final QName rpcQName = rpc.getLastComponent();
         if (NetconfMessageTransformUtil.isDataRetrievalOperation(rpcQName)) {
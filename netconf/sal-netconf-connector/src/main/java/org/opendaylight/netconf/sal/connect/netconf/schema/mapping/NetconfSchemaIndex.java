@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.schema.mapping;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil;
+import org.opendaylight.yangtools.concepts.Immutable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
+import org.opendaylight.yangtools.yang.model.api.ActionDefinition;
+import org.opendaylight.yangtools.yang.model.api.ActionNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.NotificationDefinition;
+import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+/**
+ * Lookup structures used by {@link NetconfMessageTransformer}, derived from a device's {@link SchemaContext}. These are
+ * expensive to build, hence all transformers using the same context share a single instance.
+ */
+final class NetconfSchemaIndex implements Immutable {
+    /**
+     * Indexes are cached for as long as they are in use by some transformer. Values hold their context strongly, hence
+     * weak keys alone would never be released.
+     */
+    private static final LoadingCache<SchemaContext, NetconfSchemaIndex> INDEXES = CacheBuilder.newBuilder()
+            .weakKeys().weakValues().build(new CacheLoader<SchemaContext, NetconfSchemaIndex>() {
+                @Override
+                public NetconfSchemaIndex load(final SchemaContext key) {
+                    return create(key);
+                }
+            });
+
+    private final @NonNull DataSchemaContextTree contextTree;
+    private final @NonNull ImmutableMap<QName, ? extends RpcDefinition> mappedRpcs;
+    private final @NonNull ImmutableMap<SchemaPath, ActionDefinition> actions;
+    private final @NonNull ImmutableMap<QName, ContainerSchemaNode> mappedNotifications;
+
+    private NetconfSchemaIndex(final SchemaContext schemaContext) {
+        contextTree = DataSchemaContextTree.from(schemaContext);
+        mappedRpcs = Maps.uniqueIndex(schemaContext.getOperations(), SchemaNode::getQName);
+        actions = Maps.uniqueIndex(getActions(schemaContext), ActionDefinition::getPath);
+
+        // Notifications are looked up without revision and the most recent revision wins
+        final Map<QName, NotificationDefinition> notifications = new HashMap<>();
+        for (NotificationDefinition notification : schemaContext.getNotifications()) {
+            notifications.merge(notification.getQName().withoutRevision(), notification,
+                (first, second) -> Revision.compare(first.getQName().getRevision(),
+                    second.getQName().getRevision()) >= 0 ? first : second);
+        }
+        mappedNotifications = ImmutableMap.copyOf(Maps.transformValues(notifications,
+            NetconfMessageTransformUtil::createSchemaForNotification));
+    }
+
+    static @NonNull NetconfSchemaIndex of(final SchemaContext schemaContext) {
+        return INDEXES.getUnchecked(schemaContext);
+    }
+
+    /**
+     * Create a new index, bypassing the shared cache. This is the cost incurred by the first mount of a schema.
+     *
+     * @param schemaContext schema context to index
+     * @return a new index
+     */
+    static @NonNull NetconfSchemaIndex create(final SchemaContext schemaContext) {
+        return new NetconfSchemaIndex(schemaContext);
+    }
+
+    @NonNull DataSchemaContextTree getContextTree() {
+        return contextTree;
+    }
+
+    @NonNull ImmutableMap<QName, ? extends RpcDefinition> getMappedRpcs() {
+        return mappedRpcs;
+    }
+
+    @NonNull ImmutableMap<SchemaPath, ActionDefinition> getActions() {
+        return actions;
+    }
+
+    /**
+     * Return the schema of a notification's content.
+     *
+     * @param notification notification name, without revision
+     * @return content schema of the most recent revision of the notification, or null if the notification is unknown
+     */
+    ContainerSchemaNode getNotificationSchema(final QName notification) {
+        return mappedNotifications.get(notification);
+    }
+
+    @NonNull ImmutableSet<QName> getNotifications() {
+        return mappedNotifications.keySet();
+    }
+
+    @VisibleForTesting
+    static List<ActionDefinition> getActions(final SchemaContext schemaContext) {
+        final List<ActionDefinition> builder = new ArrayList<>();
+        findAction(schemaContext, builder);
+        return builder;
+    }
+
+    private static void findAction(final DataSchemaNode dataSchemaNode, final List<ActionDefinition> builder) {
+        if (dataSchemaNode instanceof ActionNodeContainer) {
+            for (ActionDefinition actionDefinition : ((ActionNodeContainer) dataSchemaNode).getActions()) {
+                builder.add(actionDefinition);
+            }
+        }
+        if (dataSchemaNode instanceof DataNodeContainer) {
+            for (DataSchemaNode innerDataSchemaNode : ((DataNodeContainer) dataSchemaNode).getChildNodes()) {
+                findAction(innerDataSchemaNode, builder);
+            }
+        } else if (dataSchemaNode instanceof ChoiceSchemaNode) {
+            for (CaseSchemaNode caze : ((ChoiceSchemaNode) dataSchemaNode).getCases()) {
+                findAction(caze, builder);
+            }
+        }
+    }
+}
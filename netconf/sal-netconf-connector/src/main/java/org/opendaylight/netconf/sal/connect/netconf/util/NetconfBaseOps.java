@@ -11,6 +11,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.COMMIT_RPC_CONTENT;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.EDIT_CONTENT_NODEID;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.IETF_NETCONF_NMDA;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_CANDIDATE_QNAME;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_COMMIT_PATH;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_COPY_CONFIG_NODEID;
@@ -19,9 +20,13 @@ import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTr
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_DISCARD_CHANGES_PATH;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_EDIT_CONFIG_NODEID;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_EDIT_CONFIG_PATH;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_EDIT_DATA_NODEID;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_EDIT_DATA_PATH;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_ERROR_OPTION_NODEID;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_CONFIG_NODEID;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_CONFIG_PATH;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_DATA_NODEID;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_DATA_PATH;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_NODEID;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_PATH;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_LOCK_NODEID;
@@ -33,16 +38,29 @@ import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTr
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_UNLOCK_PATH;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_VALIDATE_NODEID;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_VALIDATE_PATH;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NMDA_CONFIG_FILTER_NODEID;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NMDA_DATASTORE_NODEID;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NMDA_DEFAULT_OPERATION_NODEID;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NMDA_MAX_DEPTH_NODEID;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NMDA_ORIGIN_FILTERS_NODEID;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NMDA_ORIGIN_FILTER_NODEID;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.ROLLBACK_ON_ERROR_OPTION;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.toFilterStructure;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.toId;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.toNmdaEditContent;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.toNmdaFilterStructure;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.OptionalInt;
 import org.opendaylight.mdsal.dom.api.DOMRpcResult;
 import org.opendaylight.mdsal.dom.api.DOMRpcService;
 import org.opendaylight.netconf.api.ModifyAction;
@@ -50,22 +68,30 @@ import org.opendaylight.netconf.sal.connect.netconf.sal.KeepaliveSalFacade.Keepa
 import org.opendaylight.netconf.sal.connect.netconf.sal.SchemalessNetconfDeviceRpc;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.copy.config.input.target.ConfigTarget;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.get.config.input.source.ConfigSource;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.datastores.rev180214.Candidate;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.datastores.rev180214.Operational;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.datastores.rev180214.Running;
 import org.opendaylight.yangtools.rfc8528.data.api.MountPointContext;
 import org.opendaylight.yangtools.yang.common.Empty;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.DataContainerNodeBuilder;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.ListNodeBuilder;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 
 /**
  * Provides base operations for netconf e.g. get, get-config, edit-config, (un)lock, commit etc.
- * According to RFC-6241
+ * According to RFC-6241. Devices implementing NMDA are read using get-data and written using edit-data,
+ * according to RFC-8526.
  */
 public final class NetconfBaseOps {
     private static final NodeIdentifier CONFIG_SOURCE_NODEID = NodeIdentifier.create(ConfigSource.QNAME);
@@ -74,6 +100,7 @@ public final class NetconfBaseOps {
     private final DOMRpcService rpc;
     private final MountPointContext mountContext;
     private final RpcStructureTransformer transformer;
+    private final boolean nmdaSupported;
 
     public NetconfBaseOps(final DOMRpcService rpc, final MountPointContext mountContext) {
         this.rpc = rpc;
@@ -82,11 +109,27 @@ public final class NetconfBaseOps {
         if (rpc instanceof KeepaliveDOMRpcService
                 && ((KeepaliveDOMRpcService) rpc).getDeviceRpc() instanceof SchemalessNetconfDeviceRpc) {
             this.transformer = new SchemalessRpcStructureTransformer();
+            this.nmdaSupported = false;
         } else {
             this.transformer = new NetconfRpcStructureTransformer(mountContext);
+            this.nmdaSupported = isNmdaSupported(mountContext.getSchemaContext());
         }
     }
 
+    private static boolean isNmdaSupported(final SchemaContext schemaContext) {
+        return schemaContext != null && !schemaContext.findModules(IETF_NETCONF_NMDA.getNamespace()).isEmpty();
+    }
+
+    /**
+     * Check whether the device implements NMDA operations, i.e. whether its schema contains ietf-netconf-nmda. If it
+     * does, data is read from the running and operational datastores using get-data instead of get-config and get.
+     *
+     * @return true if the device supports get-data and edit-data
+     */
+    public boolean isNmdaSupported() {
+        return nmdaSupported;
+    }
+
     public ListenableFuture<? extends DOMRpcResult> lock(final FutureCallback<DOMRpcResult> callback,
             final QName datastore) {
         requireNonNull(callback);
@@ -208,12 +251,118 @@ public final class NetconfBaseOps {
 
     public ListenableFuture<Optional<NormalizedNode<?, ?>>> getConfigRunningData(
             final FutureCallback<DOMRpcResult> callback, final Optional<YangInstanceIdentifier> filterPath) {
-        return extractData(filterPath, getConfigRunning(callback, filterPath));
+        return extractData(filterPath, nmdaSupported
+            ? getFromDatastore(callback, Running.QNAME, toFilterPaths(filterPath))
+            : getConfigRunning(callback, filterPath));
     }
 
     public ListenableFuture<Optional<NormalizedNode<?, ?>>> getData(final FutureCallback<DOMRpcResult> callback,
                                                                     final Optional<YangInstanceIdentifier> filterPath) {
-        return extractData(filterPath, get(callback, filterPath));
+        return extractData(filterPath, nmdaSupported
+            ? getFromDatastore(callback, Operational.QNAME, toFilterPaths(filterPath))
+            : get(callback, filterPath));
+    }
+
+    private static List<YangInstanceIdentifier> toFilterPaths(final Optional<YangInstanceIdentifier> filterPath) {
+        return filterPath.map(ImmutableList::of).orElse(ImmutableList.of());
+    }
+
+    /**
+     * Read multiple subtrees of the running datastore using a single get-config, or get-data, request. Paths
+     * within other paths are read as part of them.
+     *
+     * @param callback callback invoked with the result of the request
+     * @param filterPaths paths to read, none of which may be empty
+     * @return future completing with data read for each of the paths, in the same order
+     */
+    public ListenableFuture<List<Optional<NormalizedNode<?, ?>>>> getConfigRunningData(
+            final FutureCallback<DOMRpcResult> callback, final List<YangInstanceIdentifier> filterPaths) {
+        final List<YangInstanceIdentifier> selected = coveringPaths(filterPaths);
+        return extractData(filterPaths, nmdaSupported ? getFromDatastore(callback, Running.QNAME, selected)
+            : getConfig(callback, NETCONF_RUNNING_QNAME, selected));
+    }
+
+    /**
+     * Read multiple subtrees of the device data using a single get, or get-data, request. Paths within
+     * other paths are read as part of them.
+     *
+     * @param callback callback invoked with the result of the request
+     * @param filterPaths paths to read, none of which may be empty
+     * @return future completing with data read for each of the paths, in the same order
+     */
+    public ListenableFuture<List<Optional<NormalizedNode<?, ?>>>> getData(final FutureCallback<DOMRpcResult> callback,
+            final List<YangInstanceIdentifier> filterPaths) {
+        final List<YangInstanceIdentifier> selected = coveringPaths(filterPaths);
+        return extractData(filterPaths, nmdaSupported ? getFromDatastore(callback, Operational.QNAME, selected)
+            : get(callback, selected));
+    }
+
+    // Subtrees of other paths are read along with them, selecting them again would only duplicate filter elements
+    private static List<YangInstanceIdentifier> coveringPaths(final List<YangInstanceIdentifier> paths) {
+        final List<YangInstanceIdentifier> covering = new ArrayList<>(paths.size());
+        for (YangInstanceIdentifier path : paths) {
+            if (!covering.contains(path)
+                    && paths.stream().noneMatch(other -> !other.equals(path) && other.contains(path))) {
+                covering.add(path);
+            }
+        }
+        return covering;
+    }
+
+    /**
+     * Read a selection of the data at a path of the running datastore using a single get-config, or get-data,
+     * request.
+     *
+     * @param callback callback invoked with the result of the request
+     * @param path path to read
+     * @param filterPaths paths of the selected descendants of the data, or the path itself, none of which may be empty
+     *                    unless the device supports NMDA
+     * @param maxDepth if present, number of levels of each selected subtree to read, requires NMDA support
+     * @return future completing with the selection of the data
+     */
+    public ListenableFuture<Optional<NormalizedNode<?, ?>>> getConfigRunningData(
+            final FutureCallback<DOMRpcResult> callback, final YangInstanceIdentifier path,
+            final List<YangInstanceIdentifier> filterPaths, final OptionalInt maxDepth) {
+        checkMaxDepth(maxDepth);
+        return extractData(Optional.of(path), nmdaSupported
+            ? getFromDatastore(callback, Running.QNAME, filterPaths, Optional.empty(), maxDepth, ImmutableList.of())
+            : getConfig(callback, NETCONF_RUNNING_QNAME, filterPaths));
+    }
+
+    /**
+     * Read a selection of the device data at a path using a single get, or get-data, request.
+     *
+     * @param callback callback invoked with the result of the request
+     * @param path path to read
+     * @param filterPaths paths of the selected descendants of the data, or the path itself, none of which may be empty
+     *                    unless the device supports NMDA
+     * @param maxDepth if present, number of levels of each selected subtree to read, requires NMDA support
+     * @return future completing with the selection of the data
+     */
+    public ListenableFuture<Optional<NormalizedNode<?, ?>>> getData(final FutureCallback<DOMRpcResult> callback,
+            final YangInstanceIdentifier path, final List<YangInstanceIdentifier> filterPaths,
+            final OptionalInt maxDepth) {
+        checkMaxDepth(maxDepth);
+        return extractData(Optional.of(path), nmdaSupported
+            ? getFromDatastore(callback, Operational.QNAME, filterPaths, Optional.empty(), maxDepth, ImmutableList.of())
+            : get(callback, filterPaths));
+    }
+
+    private void checkMaxDepth(final OptionalInt maxDepth) {
+        checkArgument(nmdaSupported || maxDepth.isEmpty(), "Depth of data cannot be limited without NMDA support");
+    }
+
+    private ListenableFuture<List<Optional<NormalizedNode<?, ?>>>> extractData(
+            final List<YangInstanceIdentifier> paths, final ListenableFuture<? extends DOMRpcResult> future) {
+        return Futures.transform(future, result -> {
+            checkArgument(result.getErrors().isEmpty(), "Unable to read data: %s, errors: %s", paths,
+                result.getErrors());
+            final DataContainerChild<?, ?> dataNode = ((ContainerNode) result.getResult())
+                    .getChild(NetconfMessageTransformUtil.NETCONF_DATA_NODEID).get();
+            return paths.stream()
+                .map(path -> transformer.selectFromDataStructure(dataNode, path))
+                .collect(ImmutableList.toImmutableList());
+        }, MoreExecutors.directExecutor());
     }
 
     private ListenableFuture<Optional<NormalizedNode<?, ?>>> extractData(
@@ -237,6 +386,98 @@ public final class NetconfBaseOps {
         return getConfig(callback, NETCONF_CANDIDATE_QNAME, filterPath);
     }
 
+    /**
+     * Invoke get-config with a filter selecting multiple subtrees.
+     *
+     * @param callback callback invoked with the result of the request
+     * @param datastore datastore to read
+     * @param filterPaths paths to select, none of which may be empty
+     * @return future completing with the result of the request
+     */
+    public ListenableFuture<? extends DOMRpcResult> getConfig(final FutureCallback<DOMRpcResult> callback,
+            final QName datastore, final List<YangInstanceIdentifier> filterPaths) {
+        requireNonNull(callback);
+        requireNonNull(datastore);
+        checkFilterPaths(filterPaths);
+
+        final ListenableFuture<? extends DOMRpcResult> future = rpc.invokeRpc(NETCONF_GET_CONFIG_PATH,
+            NetconfMessageTransformUtil.wrap(NETCONF_GET_CONFIG_NODEID, getSourceNode(datastore),
+                transformer.toFilterStructure(filterPaths)));
+        Futures.addCallback(future, callback, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    /**
+     * Invoke get with a filter selecting multiple subtrees.
+     *
+     * @param callback callback invoked with the result of the request
+     * @param filterPaths paths to select, none of which may be empty
+     * @return future completing with the result of the request
+     */
+    public ListenableFuture<? extends DOMRpcResult> get(final FutureCallback<DOMRpcResult> callback,
+            final List<YangInstanceIdentifier> filterPaths) {
+        requireNonNull(callback);
+        checkFilterPaths(filterPaths);
+
+        final ListenableFuture<? extends DOMRpcResult> future = rpc.invokeRpc(NETCONF_GET_PATH,
+            NetconfMessageTransformUtil.wrap(NETCONF_GET_NODEID,
+                toFilterStructure(filterPaths, mountContext.getSchemaContext())));
+        Futures.addCallback(future, callback, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    private ListenableFuture<? extends DOMRpcResult> getFromDatastore(final FutureCallback<DOMRpcResult> callback,
+            final QName datastore, final List<YangInstanceIdentifier> filterPaths) {
+        return getFromDatastore(callback, datastore, filterPaths, Optional.empty(), OptionalInt.empty(),
+            ImmutableList.of());
+    }
+
+    /**
+     * Invoke get-data, as defined by RFC8526.
+     *
+     * @param callback callback invoked with the result of the request
+     * @param datastore identity of the datastore to read, for example ds:operational
+     * @param filterPaths paths to select, the whole datastore is selected if there are none or one of them is empty
+     * @param configFilter if present, select only config true nodes if true and only config false nodes if false
+     * @param maxDepth if present, number of levels of each selected subtree to return
+     * @param originFilter identities of origins of configuration to select, only applicable to ds:operational
+     * @return future completing with the result of the request
+     */
+    public ListenableFuture<? extends DOMRpcResult> getFromDatastore(final FutureCallback<DOMRpcResult> callback,
+            final QName datastore, final List<YangInstanceIdentifier> filterPaths, final Optional<Boolean> configFilter,
+            final OptionalInt maxDepth, final Collection<QName> originFilter) {
+        requireNonNull(callback);
+
+        final DataContainerNodeBuilder<NodeIdentifier, ContainerNode> getDataBuilder = Builders.containerBuilder()
+                .withNodeIdentifier(NETCONF_GET_DATA_NODEID)
+                .withChild(ImmutableNodes.leafNode(NMDA_DATASTORE_NODEID, requireNonNull(datastore)));
+        if (!filterPaths.isEmpty() && filterPaths.stream().noneMatch(YangInstanceIdentifier::isEmpty)) {
+            getDataBuilder.withChild(toNmdaFilterStructure(filterPaths, mountContext.getSchemaContext()));
+        }
+        configFilter.ifPresent(
+            value -> getDataBuilder.withChild(ImmutableNodes.leafNode(NMDA_CONFIG_FILTER_NODEID, value)));
+        if (!originFilter.isEmpty()) {
+            final ListNodeBuilder<QName, LeafSetEntryNode<QName>> origins =
+                    Builders.<QName>leafSetBuilder().withNodeIdentifier(NMDA_ORIGIN_FILTER_NODEID);
+            originFilter.forEach(origins::withChildValue);
+            getDataBuilder.withChild(Builders.choiceBuilder().withNodeIdentifier(NMDA_ORIGIN_FILTERS_NODEID)
+                .withChild(origins.build()).build());
+        }
+        maxDepth.ifPresent(depth -> getDataBuilder.withChild(
+            ImmutableNodes.leafNode(NMDA_MAX_DEPTH_NODEID, Uint16.valueOf(depth))));
+
+        final ListenableFuture<? extends DOMRpcResult> future = rpc.invokeRpc(NETCONF_GET_DATA_PATH,
+            getDataBuilder.build());
+        Futures.addCallback(future, callback, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    private static void checkFilterPaths(final List<YangInstanceIdentifier> filterPaths) {
+        // An empty path cannot be expressed as a subtree of a filter
+        checkArgument(!filterPaths.isEmpty(), "No paths to select");
+        filterPaths.forEach(path -> checkArgument(!path.isEmpty(), "Cannot select empty path in %s", filterPaths));
+    }
+
     public ListenableFuture<? extends DOMRpcResult> get(final FutureCallback<DOMRpcResult> callback,
                                                         final Optional<YangInstanceIdentifier> filterPath) {
         requireNonNull(callback);
@@ -291,6 +532,47 @@ public final class NetconfBaseOps {
         return future;
     }
 
+    public ListenableFuture<? extends DOMRpcResult> editDataCandidate(
+            final FutureCallback<? super DOMRpcResult> callback, final DataContainerChild<?, ?> editStructure,
+            final Optional<ModifyAction> defaultOperation) {
+        return editData(callback, Candidate.QNAME, editStructure, defaultOperation);
+    }
+
+    public ListenableFuture<? extends DOMRpcResult> editDataRunning(
+            final FutureCallback<? super DOMRpcResult> callback, final DataContainerChild<?, ?> editStructure,
+            final Optional<ModifyAction> defaultOperation) {
+        return editData(callback, Running.QNAME, editStructure, defaultOperation);
+    }
+
+    /**
+     * Invoke edit-data, as defined by RFC8526. Unlike edit-config, edit-data always restores the datastore should
+     * any of the edits fail.
+     *
+     * @param callback callback invoked with the result of the request
+     * @param datastore identity of the datastore to edit, for example ds:running
+     * @param editStructure edit content, as created by {@link #createEditConfigStrcture(Optional, Optional,
+     *                      YangInstanceIdentifier)}
+     * @param defaultOperation default operation, if present
+     * @return future completing with the result of the request
+     */
+    public ListenableFuture<? extends DOMRpcResult> editData(final FutureCallback<? super DOMRpcResult> callback,
+            final QName datastore, final DataContainerChild<?, ?> editStructure,
+            final Optional<ModifyAction> defaultOperation) {
+        requireNonNull(callback);
+
+        final DataContainerNodeBuilder<NodeIdentifier, ContainerNode> editBuilder = Builders.containerBuilder()
+                .withNodeIdentifier(NETCONF_EDIT_DATA_NODEID)
+                .withChild(ImmutableNodes.leafNode(NMDA_DATASTORE_NODEID, requireNonNull(datastore)));
+        defaultOperation.ifPresent(oper -> editBuilder.withChild(
+            ImmutableNodes.leafNode(NMDA_DEFAULT_OPERATION_NODEID, oper.name().toLowerCase(Locale.ROOT))));
+        editBuilder.withChild(toNmdaEditContent(requireNonNull(editStructure)));
+
+        final ListenableFuture<? extends DOMRpcResult> future = rpc.invokeRpc(NETCONF_EDIT_DATA_PATH,
+            editBuilder.build());
+        Futures.addCallback(future, callback, MoreExecutors.directExecutor());
+        return future;
+    }
+
     public ChoiceNode createEditConfigStrcture(final Optional<NormalizedNode<?, ?>> lastChild,
                                                final Optional<ModifyAction> operation,
                                                final YangInstanceIdentifier dataPath) {
@@ -19,6 +19,7 @@ import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.Iterator;
@@ -47,6 +48,7 @@ import org.opendaylight.netconf.util.messages.NetconfMessageUtil;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.edit.config.input.EditContent;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.CreateSubscriptionInput;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.NetconfState;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.nmda.rev190107.GetDataInput;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange;
 import org.opendaylight.yangtools.rfc7952.data.api.NormalizedMetadata;
 import org.opendaylight.yangtools.rfc7952.data.util.ImmutableNormalizedMetadata;
@@ -61,6 +63,7 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdent
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.DOMSourceAnyxmlNode;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
@@ -70,6 +73,7 @@ import org.opendaylight.yangtools.yang.data.codec.xml.XMLStreamNormalizedNodeStr
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.data.impl.schema.SchemaOrderedNormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.DataContainerNodeBuilder;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextNode;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
 import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
@@ -80,6 +84,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
 
 public final class NetconfMessageTransformUtil {
 
@@ -192,6 +198,36 @@ public final class NetconfMessageTransformUtil {
 
     public static final NodeIdentifier EDIT_CONTENT_NODEID = NodeIdentifier.create(EditContent.QNAME);
 
+    // NMDA operations, as defined by RFC8526
+    public static final QName IETF_NETCONF_NMDA = QName.create(GetDataInput.QNAME, "ietf-netconf-nmda").intern();
+    public static final URI NETCONF_NMDA_URI = IETF_NETCONF_NMDA.getNamespace();
+    public static final QName NETCONF_GET_DATA_QNAME = QName.create(IETF_NETCONF_NMDA, "get-data").intern();
+    public static final NodeIdentifier NETCONF_GET_DATA_NODEID = NodeIdentifier.create(NETCONF_GET_DATA_QNAME);
+    public static final SchemaPath NETCONF_GET_DATA_PATH = toPath(NETCONF_GET_DATA_QNAME);
+    public static final QName NETCONF_EDIT_DATA_QNAME = QName.create(IETF_NETCONF_NMDA, "edit-data").intern();
+    public static final NodeIdentifier NETCONF_EDIT_DATA_NODEID = NodeIdentifier.create(NETCONF_EDIT_DATA_QNAME);
+    public static final SchemaPath NETCONF_EDIT_DATA_PATH = toPath(NETCONF_EDIT_DATA_QNAME);
+    public static final NodeIdentifier NMDA_DATASTORE_NODEID =
+            NodeIdentifier.create(QName.create(IETF_NETCONF_NMDA, "datastore").intern());
+    public static final NodeIdentifier NMDA_FILTER_SPEC_NODEID =
+            NodeIdentifier.create(QName.create(IETF_NETCONF_NMDA, "filter-spec").intern());
+    public static final QName NMDA_SUBTREE_FILTER_QNAME = QName.create(IETF_NETCONF_NMDA, "subtree-filter").intern();
+    public static final NodeIdentifier NMDA_SUBTREE_FILTER_NODEID = NodeIdentifier.create(NMDA_SUBTREE_FILTER_QNAME);
+    public static final NodeIdentifier NMDA_CONFIG_FILTER_NODEID =
+            NodeIdentifier.create(QName.create(IETF_NETCONF_NMDA, "config-filter").intern());
+    public static final NodeIdentifier NMDA_ORIGIN_FILTERS_NODEID =
+            NodeIdentifier.create(QName.create(IETF_NETCONF_NMDA, "origin-filters").intern());
+    public static final QName NMDA_ORIGIN_FILTER_QNAME = QName.create(IETF_NETCONF_NMDA, "origin-filter").intern();
+    public static final NodeIdentifier NMDA_ORIGIN_FILTER_NODEID = NodeIdentifier.create(NMDA_ORIGIN_FILTER_QNAME);
+    public static final NodeIdentifier NMDA_MAX_DEPTH_NODEID =
+            NodeIdentifier.create(QName.create(IETF_NETCONF_NMDA, "max-depth").intern());
+    public static final NodeIdentifier NMDA_DEFAULT_OPERATION_NODEID =
+            NodeIdentifier.create(QName.create(IETF_NETCONF_NMDA, "default-operation").intern());
+    public static final NodeIdentifier NMDA_EDIT_CONTENT_NODEID =
+            NodeIdentifier.create(QName.create(IETF_NETCONF_NMDA, "edit-content").intern());
+    public static final QName NMDA_CONFIG_QNAME = QName.create(IETF_NETCONF_NMDA, "config").intern();
+    public static final NodeIdentifier NMDA_CONFIG_NODEID = NodeIdentifier.create(NMDA_CONFIG_QNAME);
+
     // Discard changes message
     public static final ContainerNode DISCARD_CHANGES_RPC_CONTENT = Builders.containerBuilder()
             .withNodeIdentifier(NodeIdentifier.create(NETCONF_DISCARD_CHANGES_QNAME)).build();
@@ -226,18 +262,84 @@ public final class NetconfMessageTransformUtil {
 
     public static DataContainerChild<?, ?> toFilterStructure(final YangInstanceIdentifier identifier,
                                                              final SchemaContext ctx) {
+        return toFilterStructure(ImmutableList.of(identifier), ctx);
+    }
+
+    /**
+     * Create a subtree filter selecting multiple subtrees. Per RFC6241 section 6.2.5, the device replies with
+     * the union of the selected subtrees.
+     *
+     * @param identifiers paths to select
+     * @param ctx schema context
+     * @return filter structure
+     */
+    public static DataContainerChild<?, ?> toFilterStructure(final Collection<YangInstanceIdentifier> identifiers,
+                                                             final SchemaContext ctx) {
         final Element element = XmlUtil.createElement(BLANK_DOCUMENT, NETCONF_FILTER_QNAME.getLocalName(),
                 Optional.of(NETCONF_FILTER_QNAME.getNamespace().toString()));
         element.setAttributeNS(NETCONF_FILTER_QNAME.getNamespace().toString(), NETCONF_TYPE_QNAME.getLocalName(),
                 SUBTREE);
+        writeFilter(element, identifiers, ctx);
 
-        try {
-            NetconfUtil.writeFilter(identifier, new DOMResult(element), SchemaPath.ROOT, ctx);
-        } catch (IOException | XMLStreamException e) {
-            throw new IllegalStateException("Unable to serialize filter element for path " + identifier, e);
+        return Builders.anyXmlBuilder().withNodeIdentifier(NETCONF_FILTER_NODEID).withValue(new DOMSource(element))
+                .build();
+    }
+
+    /**
+     * Create a get-data subtree filter selecting multiple subtrees. The filter is anydata, which cannot be serialized
+     * from a DOMSource, hence it is passed as anyxml, see {@link #writeNmdaRpc}.
+     *
+     * @param identifiers paths to select
+     * @param ctx schema context
+     * @return filter structure
+     */
+    public static ChoiceNode toNmdaFilterStructure(final Collection<YangInstanceIdentifier> identifiers,
+                                                   final SchemaContext ctx) {
+        final Element element = XmlUtil.createElement(BLANK_DOCUMENT, NMDA_SUBTREE_FILTER_QNAME.getLocalName(),
+                Optional.of(NETCONF_NMDA_URI.toString()));
+        writeFilter(element, identifiers, ctx);
+
+        return Builders.choiceBuilder().withNodeIdentifier(NMDA_FILTER_SPEC_NODEID)
+                .withChild(Builders.anyXmlBuilder().withNodeIdentifier(NMDA_SUBTREE_FILTER_NODEID)
+                    .withValue(new DOMSource(element)).build())
+                .build();
+    }
+
+    private static void writeFilter(final Element element, final Collection<YangInstanceIdentifier> identifiers,
+                                    final SchemaContext ctx) {
+        for (final YangInstanceIdentifier identifier : identifiers) {
+            try {
+                NetconfUtil.writeFilter(identifier, new DOMResult(element), SchemaPath.ROOT, ctx);
+            } catch (IOException | XMLStreamException e) {
+                throw new IllegalStateException("Unable to serialize filter element for path " + identifier, e);
+            }
         }
+    }
 
-        return Builders.anyXmlBuilder().withNodeIdentifier(NETCONF_FILTER_NODEID).withValue(new DOMSource(element))
+    /**
+     * Convert edit-config content, as created by {@link #createEditConfigStructure}, to edit-data content. Both carry
+     * the same data, including operation attributes, edit-data just expects it in its own namespace.
+     *
+     * @param editStructure edit-config content
+     * @return edit-data content
+     */
+    public static ChoiceNode toNmdaEditContent(final DataContainerChild<?, ?> editStructure) {
+        Preconditions.checkArgument(editStructure instanceof ChoiceNode, "Unexpected edit structure %s",
+            editStructure);
+        final DataContainerChild<?, ?> config = ((ChoiceNode) editStructure).getChild(NETCONF_CONFIG_NODEID)
+            .orElseThrow(() -> new IllegalArgumentException("No config in edit structure " + editStructure));
+        Preconditions.checkArgument(config instanceof DOMSourceAnyxmlNode, "Unexpected config %s", config);
+
+        final Element element = XmlUtil.createElement(BLANK_DOCUMENT, NMDA_CONFIG_QNAME.getLocalName(),
+                Optional.of(NETCONF_NMDA_URI.toString()));
+        final NodeList children = ((DOMSourceAnyxmlNode) config).getValue().getNode().getChildNodes();
+        for (int i = 0; i < children.getLength(); ++i) {
+            element.appendChild(BLANK_DOCUMENT.importNode(children.item(i), true));
+        }
+
+        return Builders.choiceBuilder().withNodeIdentifier(NMDA_EDIT_CONTENT_NODEID)
+                .withChild(Builders.anyXmlBuilder().withNodeIdentifier(NMDA_CONFIG_NODEID)
+                    .withValue(new DOMSource(element)).build())
                 .build();
     }
 
@@ -316,13 +418,35 @@ public final class NetconfMessageTransformUtil {
     }
 
     public static Element getDataSubtree(final Document doc) {
-        return (Element) doc.getElementsByTagNameNS(NETCONF_URI.toString(), "data").item(0);
+        final Element data = (Element) doc.getElementsByTagNameNS(NETCONF_URI.toString(), "data").item(0);
+        if (data != null) {
+            return data;
+        }
+
+        // get-data replies carry data in the NMDA namespace, present it the same way as get-config replies do
+        final Element nmdaData = (Element) doc.getElementsByTagNameNS(NETCONF_NMDA_URI.toString(), "data").item(0);
+        if (nmdaData == null) {
+            return null;
+        }
+        final Element ret = doc.createElementNS(NETCONF_URI.toString(), NETCONF_DATA_QNAME.getLocalName());
+        while (nmdaData.hasChildNodes()) {
+            ret.appendChild(nmdaData.getFirstChild());
+        }
+        return ret;
     }
 
     public static boolean isDataRetrievalOperation(final QName rpc) {
         return NETCONF_URI.equals(rpc.getNamespace())
                 && (NETCONF_GET_CONFIG_QNAME.getLocalName().equals(rpc.getLocalName())
-                || NETCONF_GET_QNAME.getLocalName().equals(rpc.getLocalName()));
+                || NETCONF_GET_QNAME.getLocalName().equals(rpc.getLocalName()))
+                || NETCONF_NMDA_URI.equals(rpc.getNamespace())
+                && NETCONF_GET_DATA_QNAME.getLocalName().equals(rpc.getLocalName());
+    }
+
+    public static boolean isNmdaOperation(final QName rpc) {
+        return NETCONF_NMDA_URI.equals(rpc.getNamespace())
+                && (NETCONF_GET_DATA_QNAME.getLocalName().equals(rpc.getLocalName())
+                || NETCONF_EDIT_DATA_QNAME.getLocalName().equals(rpc.getLocalName()));
     }
 
     public static ContainerSchemaNode createSchemaForDataRead(final SchemaContext schemaContext) {
@@ -534,6 +658,53 @@ public final class NetconfMessageTransformUtil {
         }
     }
 
+    /**
+     * Write input of an NMDA get-data or edit-data operation. Their subtree-filter and config parameters are anydata,
+     * which cannot be serialized from a DOMSource, hence they are passed as anyxml and are copied to the request
+     * verbatim.
+     *
+     * @param normalized operation input
+     * @param result result to write to
+     * @param schemaPath path to the operation input
+     * @param ctx schema context
+     * @throws IOException if the input cannot be written
+     * @throws XMLStreamException if the input cannot be written
+     */
+    public static void writeNmdaRpc(final ContainerNode normalized, final DOMResult result,
+                                    final SchemaPath schemaPath, final SchemaContext ctx)
+            throws IOException, XMLStreamException {
+        final DataContainerNodeBuilder<NodeIdentifier, ContainerNode> builder =
+                Builders.containerBuilder().withNodeIdentifier(normalized.getIdentifier());
+        final List<Node> verbatim = new ArrayList<>();
+        for (final DataContainerChild<?, ?> child : normalized.getValue()) {
+            final Optional<DOMSourceAnyxmlNode> anyxml = child instanceof ChoiceNode
+                ? ((ChoiceNode) child).getValue().stream()
+                    .filter(DOMSourceAnyxmlNode.class::isInstance)
+                    .map(DOMSourceAnyxmlNode.class::cast)
+                    .findFirst()
+                : Optional.empty();
+            if (anyxml.isPresent()) {
+                verbatim.add(anyxml.get().getValue().getNode());
+            } else {
+                builder.withChild(child);
+            }
+        }
+
+        writeNormalizedRpc(builder.build(), result, schemaPath, ctx);
+
+        final Node operation = result.getNode();
+        for (final Node node : verbatim) {
+            final Node imported = operation.getOwnerDocument().importNode(node, true);
+            if (NMDA_SUBTREE_FILTER_QNAME.getLocalName().equals(node.getLocalName())) {
+                // subtree-filter follows datastore, which is the first parameter
+                operation.insertBefore(imported, operation.getFirstChild().getNextSibling());
+            } else {
+                // config is the last parameter of edit-data
+                operation.appendChild(imported);
+            }
+        }
+    }
+
     public static RpcResult<NetconfMessage> toRpcResult(final FailedNetconfMessage message) {
         return RpcResultBuilder.<NetconfMessage>failed()
                 .withRpcError(
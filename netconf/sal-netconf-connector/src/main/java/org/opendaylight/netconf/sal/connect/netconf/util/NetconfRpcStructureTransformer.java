@@ -9,6 +9,7 @@ package org.opendaylight.netconf.sal.connect.netconf.util;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.Collection;
 import java.util.Optional;
 import javax.xml.stream.XMLStreamException;
 import org.opendaylight.netconf.api.ModifyAction;
@@ -69,4 +70,10 @@ class NetconfRpcStructureTransformer implements RpcStructureTransformer {
         // FIXME: propagate MountPointContext
         return NetconfMessageTransformUtil.toFilterStructure(path, mountContext.getSchemaContext());
     }
+
+    @Override
+    public DataContainerChild<?, ?> toFilterStructure(final Collection<YangInstanceIdentifier> paths) {
+        // FIXME: propagate MountPointContext
+        return NetconfMessageTransformUtil.toFilterStructure(paths, mountContext.getSchemaContext());
+    }
 }
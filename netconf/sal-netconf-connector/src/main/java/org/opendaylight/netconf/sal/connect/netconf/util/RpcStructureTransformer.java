@@ -7,6 +7,7 @@
  */
 package org.opendaylight.netconf.sal.connect.netconf.util;
 
+import java.util.Collection;
 import java.util.Optional;
 import org.opendaylight.netconf.api.ModifyAction;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -37,6 +38,13 @@ interface RpcStructureTransformer {
      */
     DataContainerChild<?,?> toFilterStructure(YangInstanceIdentifier path);
 
+    /**
+     * Transforms multiple paths to a single filter structure, selecting the union of their subtrees.
+     * @param paths paths
+     * @return filter structure
+     */
+    DataContainerChild<?,?> toFilterStructure(Collection<YangInstanceIdentifier> paths);
+
     /**
      * Selects data specified by path from data node. Data must be product of get-config rpc with filter created by
      * {@link #toFilterStructure(YangInstanceIdentifier)} with same path.
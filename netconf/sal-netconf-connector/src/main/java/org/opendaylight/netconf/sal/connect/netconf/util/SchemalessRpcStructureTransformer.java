@@ -16,6 +16,8 @@ import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTr
 import static org.opendaylight.netconf.util.NetconfUtil.NETCONF_DATA_QNAME;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -123,6 +125,11 @@ class SchemalessRpcStructureTransformer implements RpcStructureTransformer {
      */
     @Override
     public DataContainerChild<?, ?> toFilterStructure(final YangInstanceIdentifier path) {
+        return toFilterStructure(ImmutableList.of(path));
+    }
+
+    @Override
+    public DataContainerChild<?, ?> toFilterStructure(final Collection<YangInstanceIdentifier> paths) {
         final Document document = XmlUtil.newDocument();
         final String filterNs = NETCONF_FILTER_QNAME.getNamespace().toString();
         final Element filter = document.createElementNS(filterNs, NETCONF_FILTER_QNAME.getLocalName());
@@ -130,7 +137,9 @@ class SchemalessRpcStructureTransformer implements RpcStructureTransformer {
         a.setTextContent("subtree");
         filter.setAttributeNode(a);
         document.appendChild(filter);
-        instanceIdToXmlStructure(path.getPathArguments(), filter);
+        for (YangInstanceIdentifier path : paths) {
+            instanceIdToXmlStructure(path.getPathArguments(), filter);
+        }
         return Builders.anyXmlBuilder()
                 .withNodeIdentifier(NETCONF_FILTER_NODEID)
                 .withValue(new DOMSource(document.getDocumentElement()))
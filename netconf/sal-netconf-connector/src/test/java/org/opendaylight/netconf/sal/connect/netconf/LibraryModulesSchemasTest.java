@@ -12,16 +12,22 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collections;
 import java.util.Map;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opendaylight.netconf.sal.connect.netconf.schema.YangLibraryClient;
 import org.opendaylight.yangtools.yang.common.Revision;
 import org.opendaylight.yangtools.yang.model.repo.api.RevisionSourceIdentifier;
 import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
 
 public class LibraryModulesSchemasTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
 
     @Test
     public void testCreate() throws Exception {
@@ -84,4 +90,13 @@ public class LibraryModulesSchemasTest {
 
         // TODO test also fail on json and xml parsing. But can we fail not on runtime exceptions?
     }
+
+    @Test
+    public void testCreateAsyncFromUnsupportedContent() throws Exception {
+        // Neither XML nor JSON, which fails with a runtime exception rather than an IOException
+        final File library = folder.newFile("yang-library.txt");
+        final LibraryModulesSchemas libraryModulesSchemas = LibraryModulesSchemas.createAsync(new YangLibraryClient(),
+            library.toURI().toURL().toString(), null, null).get();
+        assertThat(libraryModulesSchemas.getAvailableModels(), is(Collections.emptyMap()));
+    }
 }
\ No newline at end of file
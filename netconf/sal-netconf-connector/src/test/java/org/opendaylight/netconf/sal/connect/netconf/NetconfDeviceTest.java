@@ -82,6 +82,7 @@ import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
 import org.opendaylight.yangtools.yang.model.repo.spi.PotentialSchemaSource;
 import org.opendaylight.yangtools.yang.model.repo.spi.SchemaSourceRegistration;
 import org.opendaylight.yangtools.yang.model.repo.spi.SchemaSourceRegistry;
+import org.opendaylight.yangtools.yang.parser.rfc7950.repo.ASTSchemaSource;
 import org.xml.sax.SAXException;
 
 public class NetconfDeviceTest extends AbstractTestModelTest {
@@ -271,6 +272,9 @@ public class NetconfDeviceTest extends AbstractTestModelTest {
         final SchemaSourceRepresentation mockRep = mock(SchemaSourceRepresentation.class);
         doReturn(Futures.immediateFuture(mockRep))
                 .when(mock).getSchemaSource(any(SourceIdentifier.class), eq(YangTextSchemaSource.class));
+        doAnswer(invocation -> Futures.immediateFailedFuture(
+            new MissingSchemaSourceException("No parsed source", invocation.getArgument(0))))
+                .when(mock).getSchemaSource(any(SourceIdentifier.class), eq(ASTSchemaSource.class));
         return mock;
     }
 
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteSource;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.netconf.sal.connect.netconf.SchemaDependencyResolver.Result;
+import org.opendaylight.yangtools.yang.model.repo.api.MissingSchemaSourceException;
+import org.opendaylight.yangtools.yang.model.repo.api.RevisionSourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+import org.opendaylight.yangtools.yang.parser.rfc7950.repo.ASTSchemaSource;
+import org.opendaylight.yangtools.yang.parser.rfc7950.repo.TextToASTTransformer;
+
+public class SchemaDependencyResolverTest {
+    private static final SourceIdentifier BASE = RevisionSourceIdentifier.create("base");
+    private static final SourceIdentifier AUGMENT = RevisionSourceIdentifier.create("augment");
+    private static final SourceIdentifier BROKEN = RevisionSourceIdentifier.create("broken");
+    private static final SourceIdentifier DEPENDENT = RevisionSourceIdentifier.create("dependent");
+    private static final SourceIdentifier TRANSITIVE = RevisionSourceIdentifier.create("transitive");
+    private static final SourceIdentifier OPAQUE = RevisionSourceIdentifier.create("opaque");
+
+    @Test
+    public void testLargestConsistentSet() throws Exception {
+        final List<SourceIdentifier> ids = ImmutableList.of(BASE, AUGMENT, BROKEN, DEPENDENT, TRANSITIVE);
+        final Result result = SchemaDependencyResolver.resolve(ids, ImmutableList.of(
+            parse(BASE, "module base { namespace base; prefix b; }"),
+            parse(AUGMENT, "module augment { namespace augment; prefix a; import base { prefix b; } }"),
+            Futures.immediateFailedFuture(new IllegalArgumentException("syntax error")),
+            parse(DEPENDENT, "module dependent { namespace dependent; prefix d; import broken { prefix b; } }"),
+            parse(TRANSITIVE,
+                "module transitive { namespace transitive; prefix t; import dependent { prefix d; } }")));
+
+        assertEquals(ImmutableList.of(BASE, AUGMENT), result.getResolvedSources());
+        assertEquals(ImmutableSet.of(BROKEN), result.getFailedSources());
+        assertEquals(ImmutableSet.of(DEPENDENT, TRANSITIVE), result.getUnsatisfiedImports().keySet());
+    }
+
+    @Test
+    public void testUnparsedSourcesAreKept() throws Exception {
+        final List<SourceIdentifier> ids = ImmutableList.of(OPAQUE, DEPENDENT);
+        final Result result = SchemaDependencyResolver.resolve(ids, ImmutableList.of(
+            Futures.immediateFailedFuture(new MissingSchemaSourceException("No parsed source", OPAQUE)),
+            parse(DEPENDENT, "module dependent { namespace dependent; prefix d; import opaque { prefix o; } }")));
+
+        assertEquals(ids, result.getResolvedSources());
+        assertEquals(ImmutableSet.of(), result.getFailedSources());
+        assertEquals(ImmutableSet.of(), result.getUnsatisfiedImports().keySet());
+    }
+
+    private static ListenableFuture<ASTSchemaSource> parse(final SourceIdentifier id, final String yang)
+            throws Exception {
+        return Futures.immediateFuture(TextToASTTransformer.transformText(YangTextSchemaSource.delegateForByteSource(
+            id, ByteSource.wrap(yang.getBytes(StandardCharsets.UTF_8)))));
+    }
+}
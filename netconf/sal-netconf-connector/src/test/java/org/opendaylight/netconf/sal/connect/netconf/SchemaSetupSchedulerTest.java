@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.util.concurrent.SettableFuture;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+
+public class SchemaSetupSchedulerTest {
+    private static final RemoteDeviceId ID = new RemoteDeviceId("test", new InetSocketAddress("localhost", 22));
+
+    private final SchemaSetupScheduler scheduler = new SchemaSetupScheduler(2);
+    private final List<SettableFuture<Void>> started = new ArrayList<>();
+
+    @Test
+    public void testConcurrencyIsBounded() {
+        for (int i = 0; i < 4; ++i) {
+            schedule();
+        }
+        assertEquals(2, started.size());
+
+        started.get(0).set(null);
+        assertEquals(3, started.size());
+        started.get(1).setException(new IllegalStateException("setup failed"));
+        assertEquals(4, started.size());
+    }
+
+    @Test
+    public void testCancelledSetupIsNotStarted() {
+        schedule();
+        schedule();
+        final SchemaSetupScheduler.Setup cancelled = schedule();
+        final SchemaSetupScheduler.Setup next = schedule();
+        assertTrue(cancelled.cancel());
+
+        started.get(0).set(null);
+        assertEquals(3, started.size());
+        assertFalse(next.cancel());
+    }
+
+    private SchemaSetupScheduler.Setup schedule() {
+        return scheduler.schedule(ID, () -> {
+            final SettableFuture<Void> future = SettableFuture.create();
+            started.add(future);
+            return future;
+        });
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.yangtools.yang.model.repo.api.MissingSchemaSourceException;
+import org.opendaylight.yangtools.yang.model.repo.api.RevisionSourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaRepository;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+
+@RunWith(MockitoJUnitRunner.StrictStubs.class)
+public class SchemaSourceFetcherTest {
+    private static final SourceIdentifier FOO = RevisionSourceIdentifier.create("foo");
+    private static final SourceIdentifier BAR = RevisionSourceIdentifier.create("bar");
+    private static final SourceIdentifier BAZ = RevisionSourceIdentifier.create("baz");
+
+    @Mock
+    private SchemaRepository repository;
+    @Mock
+    private YangTextSchemaSource source;
+
+    private final List<SettableFuture<YangTextSchemaSource>> requests = new ArrayList<>();
+    private SchemaSourceFetcher fetcher;
+
+    private void deferSources() {
+        doAnswer(invocation -> {
+            final SettableFuture<YangTextSchemaSource> future = SettableFuture.create();
+            requests.add(future);
+            return future;
+        }).when(repository).getSchemaSource(any(SourceIdentifier.class), eq(YangTextSchemaSource.class));
+        fetcher = new SchemaSourceFetcher(repository);
+    }
+
+    @Test
+    public void testConcurrentFetchesAreCoalesced() {
+        deferSources();
+        final ListenableFuture<YangTextSchemaSource> first = fetcher.fetch(FOO);
+        final ListenableFuture<YangTextSchemaSource> second = fetcher.fetch(FOO);
+        assertEquals(1, requests.size());
+
+        requests.get(0).set(source);
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+
+        // Completed fetches are not retained
+        fetcher.fetch(FOO);
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    public void testFailedFetchIsRetried() throws Exception {
+        deferSources();
+        final ListenableFuture<YangTextSchemaSource> first = fetcher.fetch(FOO);
+        final ListenableFuture<YangTextSchemaSource> second = fetcher.fetch(FOO);
+
+        requests.get(0).setException(new MissingSchemaSourceException("missing", FOO));
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+        assertEquals(2, requests.size());
+
+        requests.get(1).set(source);
+        assertEquals(source, second.get());
+    }
+
+    @Test
+    public void testFetchWindow() throws Exception {
+        deferSources();
+        final ListenableFuture<Set<SourceIdentifier>> result = fetcher.fetchAll(ImmutableList.of(FOO, BAR, BAZ), 2);
+        assertEquals(2, requests.size());
+
+        requests.get(0).set(source);
+        assertEquals(3, requests.size());
+        requests.get(1).setException(new MissingSchemaSourceException("missing", BAR));
+        assertFalse(result.isDone());
+        requests.get(2).set(source);
+
+        assertEquals(ImmutableSet.of(BAR), result.get());
+    }
+
+    @Test
+    public void testAvailableSourcesDoNotWait() throws Exception {
+        doReturn(Futures.immediateFuture(source)).when(repository)
+            .getSchemaSource(any(SourceIdentifier.class), eq(YangTextSchemaSource.class));
+
+        final ListenableFuture<Set<SourceIdentifier>> result = new SchemaSourceFetcher(repository)
+            .fetchAll(ImmutableList.of(FOO, BAR, BAZ), 1);
+        assertTrue(result.get().isEmpty());
+        verify(repository, times(3)).getSchemaSource(any(SourceIdentifier.class), eq(YangTextSchemaSource.class));
+    }
+}
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.opendaylight.netconf.api.xml.XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0;
 
 import com.google.common.base.CharMatcher;
@@ -53,6 +54,7 @@ import org.mockito.MockitoAnnotations;
 import org.opendaylight.netconf.api.NetconfMessage;
 import org.opendaylight.netconf.api.NetconfTerminationReason;
 import org.opendaylight.netconf.api.xml.XmlNetconfConstants;
+import org.opendaylight.netconf.client.NetconfClientDispatcher;
 import org.opendaylight.netconf.client.NetconfClientDispatcherImpl;
 import org.opendaylight.netconf.client.NetconfClientSession;
 import org.opendaylight.netconf.client.conf.NetconfClientConfiguration;
@@ -204,6 +206,17 @@ public class NetconfDeviceCommunicatorTest {
         verify(mockDevice, never()).onRemoteSessionDown();
     }
 
+    @Test
+    public void testInitializeAfterClose() {
+        communicator.close();
+
+        final NetconfClientDispatcher dispatcher = mock(NetconfClientDispatcher.class);
+        final ListenableFuture<NetconfDeviceCapabilities> future = communicator.initializeRemoteConnection(dispatcher,
+            mock(NetconfReconnectingClientConfiguration.class));
+        assertTrue(future.isCancelled());
+        verifyNoMoreInteractions(dispatcher);
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Test
     public void testSendRequest() throws Exception {
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -116,6 +117,20 @@ public class KeepaliveSalFacadeTest {
         verify(deviceRpc, timeout(15000).times(5)).invokeRpc(any(SchemaPath.class), any(ContainerNode.class));
     }
 
+    @Test
+    public void testKeepaliveDuringDeferredSetup() {
+        final DOMRpcResult result = new DefaultDOMRpcResult(Builders.containerBuilder().withNodeIdentifier(
+                new YangInstanceIdentifier.NodeIdentifier(NetconfMessageTransformUtil.NETCONF_RUNNING_QNAME)).build());
+        doReturn(FluentFutures.immediateFluentFuture(result))
+                .when(deviceRpc).invokeRpc(any(SchemaPath.class), any(ContainerNode.class));
+
+        keepaliveSalFacade.onDeviceSetupDeferred(null, deviceRpc);
+
+        verify(underlyingSalFacade).onDeviceSetupDeferred(isNull(), any(DOMRpcService.class));
+        verify(underlyingSalFacade, never()).onDeviceConnected(any(), any(), any(), any());
+        verify(deviceRpc, timeout(15000).times(2)).invokeRpc(any(SchemaPath.class), any(ContainerNode.class));
+    }
+
     @Test
     public void testKeepaliveRpcFailure() {
 
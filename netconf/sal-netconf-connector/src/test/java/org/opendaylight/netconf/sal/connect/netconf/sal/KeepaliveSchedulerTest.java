@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.sal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class KeepaliveSchedulerTest {
+    private KeepaliveScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new KeepaliveScheduler(MoreExecutors.directExecutor(), 10, TimeUnit.MILLISECONDS);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.close();
+    }
+
+    @Test
+    public void testEarlierDeadlineSupersedes() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final KeepaliveScheduler.Task task = scheduler.newTask(now -> {
+            runs.incrementAndGet();
+            latch.countDown();
+            return Long.MAX_VALUE;
+        });
+
+        final long now = System.nanoTime();
+        task.scheduleAt(now + TimeUnit.SECONDS.toNanos(1));
+        task.scheduleAt(now + TimeUnit.MILLISECONDS.toNanos(50));
+        // Later deadline is ignored
+        task.scheduleAt(now + TimeUnit.SECONDS.toNanos(2));
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        // Superseded timeout expires without running the check
+        Thread.sleep(1500);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void testCheckReschedules() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(3);
+        final KeepaliveScheduler.Task task = scheduler.newTask(now -> {
+            latch.countDown();
+            return latch.getCount() == 0 ? Long.MAX_VALUE : now + TimeUnit.MILLISECONDS.toNanos(20);
+        });
+
+        task.scheduleAt(System.nanoTime());
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCancelledTaskDoesNotRun() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final KeepaliveScheduler.Task task = scheduler.newTask(now -> {
+            latch.countDown();
+            return Long.MAX_VALUE;
+        });
+
+        task.scheduleAt(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50));
+        task.cancel();
+        assertFalse(latch.await(500, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.sal.tx;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.net.InetSocketAddress;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class ConfigDataCacheTest {
+    private static final RemoteDeviceId ID = new RemoteDeviceId("test", new InetSocketAddress("localhost", 22));
+    private static final QName TOP_QNAME = QName.create("urn:test", "top");
+    private static final QName INNER_QNAME = QName.create(TOP_QNAME, "inner");
+    private static final QName LEAF_QNAME = QName.create(TOP_QNAME, "leaf");
+    private static final YangInstanceIdentifier TOP = YangInstanceIdentifier.of(TOP_QNAME);
+    private static final YangInstanceIdentifier INNER = TOP.node(INNER_QNAME);
+    private static final ContainerNode INNER_DATA = Builders.containerBuilder()
+        .withNodeIdentifier(NodeIdentifier.create(INNER_QNAME))
+        .withChild(ImmutableNodes.leafNode(LEAF_QNAME, "value"))
+        .build();
+    private static final ContainerNode TOP_DATA = Builders.containerBuilder()
+        .withNodeIdentifier(NodeIdentifier.create(TOP_QNAME))
+        .withChild(INNER_DATA)
+        .build();
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final ConfigDataCache cache = new ConfigDataCache(ID, 1000, 100, new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    });
+
+    @Test
+    public void testReadsAreServedFromCache() throws Exception {
+        assertEquals(Optional.of(TOP_DATA), read(TOP).get());
+        assertEquals(Optional.of(TOP_DATA), read(TOP).get());
+        assertEquals(Optional.of(INNER_DATA), read(INNER).get());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testEntriesExpire() throws Exception {
+        read(TOP).get();
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        read(TOP).get();
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testWriteInvalidatesAncestors() throws Exception {
+        final AbstractWriteTx tx = mock(AbstractWriteTx.class);
+        doReturn(ImmutableSet.of(INNER)).when(tx).getModifiedPaths();
+        cache.track(tx);
+        final ArgumentCaptor<TxListener> listener = ArgumentCaptor.forClass(TxListener.class);
+        verify(tx).addListener(listener.capture());
+
+        read(TOP).get();
+        listener.getValue().onTransactionSuccessful(tx);
+        read(INNER).get();
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testInvalidatedReadIsNotCached() throws Exception {
+        final SettableFuture<Optional<NormalizedNode<?, ?>>> pending = SettableFuture.create();
+        cache.read(TOP, path -> pending);
+        cache.invalidateAll();
+        pending.set(Optional.of(TOP_DATA));
+
+        read(TOP).get();
+        assertEquals(1, loads.get());
+    }
+
+    private ListenableFuture<Optional<NormalizedNode<?, ?>>> read(final YangInstanceIdentifier path) {
+        return cache.read(path, toRead -> {
+            loads.incrementAndGet();
+            final NormalizedNode<?, ?> data = toRead.equals(TOP) ? TOP_DATA : INNER_DATA;
+            return Futures.immediateFuture(Optional.of(data));
+        });
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.sal.tx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.binding.runtime.spi.BindingRuntimeHelpers;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+import org.opendaylight.mdsal.dom.api.DOMRpcService;
+import org.opendaylight.mdsal.dom.spi.DefaultDOMRpcResult;
+import org.opendaylight.netconf.sal.connect.netconf.AbstractTestModelTest;
+import org.opendaylight.netconf.sal.connect.netconf.util.NetconfBaseOps;
+import org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.IetfNetconfService;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.NetconfState;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.Schemas;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.Sessions;
+import org.opendaylight.yangtools.rcf8528.data.util.EmptyMountPointContext;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DOMSourceAnyxmlNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+@RunWith(MockitoJUnitRunner.StrictStubs.class)
+public class ReadBatcherTest extends AbstractTestModelTest {
+    private static final RemoteDeviceId ID = new RemoteDeviceId("test", new InetSocketAddress("localhost", 22));
+    private static final QName C_QNAME = QName.create("test:namespace", "2013-07-22", "c");
+    private static final QName A_QNAME = QName.create(C_QNAME, "a");
+    private static final YangInstanceIdentifier C = YangInstanceIdentifier.of(C_QNAME);
+    private static final YangInstanceIdentifier A = C.node(A_QNAME);
+    private static final LeafNode<String> A_DATA = ImmutableNodes.leafNode(A_QNAME, "value");
+    private static final ContainerNode C_DATA = Builders.containerBuilder()
+        .withNodeIdentifier(NodeIdentifier.create(C_QNAME))
+        .withChild(A_DATA)
+        .build();
+    private static final DOMRpcResult REPLY = new DefaultDOMRpcResult(Builders.containerBuilder()
+        .withNodeIdentifier(NodeIdentifier.create(NetconfMessageTransformUtil.NETCONF_RPC_REPLY_QNAME))
+        .withChild(Builders.containerBuilder()
+            .withNodeIdentifier(NetconfMessageTransformUtil.NETCONF_DATA_NODEID)
+            .withChild(C_DATA)
+            .build())
+        .build());
+
+    @Mock
+    private DOMRpcService rpc;
+
+    private final List<SettableFuture<DOMRpcResult>> requests = new ArrayList<>();
+    private final List<ContainerNode> inputs = new ArrayList<>();
+    private RuntimeException sendFailure;
+    private ReadBatcher batcher;
+
+    @Before
+    public void setUp() {
+        doAnswer(invocation -> {
+            if (sendFailure != null) {
+                throw sendFailure;
+            }
+            final SettableFuture<DOMRpcResult> future = SettableFuture.create();
+            requests.add(future);
+            inputs.add(invocation.getArgument(1));
+            return future;
+        }).when(rpc).invokeRpc(any(SchemaPath.class), any(ContainerNode.class));
+        batcher = new ReadBatcher(ID, new NetconfBaseOps(rpc, new EmptyMountPointContext(SCHEMA_CONTEXT)), 1, 64);
+    }
+
+    @Test
+    public void testQueuedReadsAreBatched() throws Exception {
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> first = read(C);
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> second = read(C);
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> third = read(A);
+        assertEquals(1, requests.size());
+
+        requests.get(0).set(REPLY);
+        assertEquals(Optional.of(C_DATA), first.get());
+        assertFalse(second.isDone());
+        assertEquals(2, requests.size());
+
+        requests.get(1).set(REPLY);
+        assertEquals(Optional.of(C_DATA), second.get());
+        assertEquals(Optional.of(A_DATA), third.get());
+    }
+
+    @Test
+    public void testFailedBatchIsRetriedIndividually() throws Exception {
+        read(C);
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> second = read(C);
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> third = read(A);
+        requests.get(0).set(REPLY);
+
+        requests.get(1).setException(new IllegalStateException("Rejected filter"));
+        assertEquals(4, requests.size());
+        requests.get(2).set(REPLY);
+        requests.get(3).set(REPLY);
+        assertEquals(Optional.of(C_DATA), second.get());
+        assertEquals(Optional.of(A_DATA), third.get());
+    }
+
+    @Test
+    public void testOverlappingPathsAreSelectedOnce() {
+        read(C);
+        read(C);
+        read(A);
+        requests.get(0).set(REPLY);
+
+        final List<Element> subtrees = childElements(filterOf(inputs.get(1)));
+        assertEquals(1, subtrees.size());
+        assertEquals(C_QNAME.getNamespace().toString(), subtrees.get(0).getNamespaceURI());
+        assertEquals(C_QNAME.getLocalName(), subtrees.get(0).getLocalName());
+        assertTrue(childElements(subtrees.get(0)).isEmpty());
+    }
+
+    @Test
+    public void testBatchSelectsEachSubtree() {
+        batcher = new ReadBatcher(ID, new NetconfBaseOps(rpc, new EmptyMountPointContext(
+            BindingRuntimeHelpers.createEffectiveModel(IetfNetconfService.class, NetconfState.class))), 1, 64);
+        final YangInstanceIdentifier state = YangInstanceIdentifier.of(NetconfState.QNAME);
+        read(state);
+        read(state.node(Schemas.QNAME));
+        read(state.node(Sessions.QNAME));
+        requests.get(0).set(REPLY);
+
+        final List<Element> subtrees = childElements(filterOf(inputs.get(1)));
+        assertEquals(2, subtrees.size());
+        assertSelects(subtrees.get(0), NetconfState.QNAME, Schemas.QNAME);
+        assertSelects(subtrees.get(1), NetconfState.QNAME, Sessions.QNAME);
+    }
+
+    @Test
+    public void testSynchronousFailureReleasesRequest() throws Exception {
+        final IllegalStateException failure = new IllegalStateException("Unserializable path");
+        sendFailure = failure;
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> first = read(C);
+        final ExecutionException ex = assertThrows(ExecutionException.class, first::get);
+        assertSame(failure, ex.getCause());
+
+        sendFailure = null;
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> second = read(C);
+        assertEquals(1, requests.size());
+        requests.get(0).set(REPLY);
+        assertEquals(Optional.of(C_DATA), second.get());
+    }
+
+    @Test
+    public void testSynchronousBatchFailureReleasesRequest() {
+        read(C);
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> second = read(C);
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> third = read(A);
+        sendFailure = new IllegalStateException("Unserializable path");
+        requests.get(0).set(REPLY);
+
+        assertTrue(second.isDone());
+        assertTrue(third.isDone());
+        sendFailure = null;
+        read(C);
+        assertEquals(2, requests.size());
+    }
+
+    private static Element filterOf(final ContainerNode input) {
+        return (Element) ((DOMSourceAnyxmlNode) input.getChild(NetconfMessageTransformUtil.NETCONF_FILTER_NODEID)
+            .get()).getValue().getNode();
+    }
+
+    private static List<Element> childElements(final Element element) {
+        final List<Element> children = new ArrayList<>();
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element) {
+                children.add((Element) child);
+            }
+        }
+        return children;
+    }
+
+    private static void assertSelects(final Element subtree, final QName parent, final QName child) {
+        assertEquals(parent.getLocalName(), subtree.getLocalName());
+        final List<Element> children = childElements(subtree);
+        assertEquals(1, children.size());
+        assertEquals(child.getLocalName(), children.get(0).getLocalName());
+        assertEquals(child.getNamespace().toString(), children.get(0).getNamespaceURI());
+    }
+
+    private ListenableFuture<Optional<NormalizedNode<?, ?>>> read(final YangInstanceIdentifier path) {
+        return batcher.read(LogicalDatastoreType.OPERATIONAL, path);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.sal.tx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+public class ReadCoalescerTest {
+    private static final RemoteDeviceId ID = new RemoteDeviceId("test", new InetSocketAddress("localhost", 22));
+    private static final YangInstanceIdentifier PATH = YangInstanceIdentifier.of(QName.create("urn:test", "top"));
+
+    private final ReadCoalescer coalescer = new ReadCoalescer(ID);
+    private final List<SettableFuture<Optional<NormalizedNode<?, ?>>>> loads = new ArrayList<>();
+
+    @Test
+    public void testConcurrentReadsAreJoined() throws Exception {
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> first = read(LogicalDatastoreType.OPERATIONAL);
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> second = read(LogicalDatastoreType.OPERATIONAL);
+        read(LogicalDatastoreType.CONFIGURATION);
+        assertEquals(2, loads.size());
+
+        loads.get(0).set(Optional.empty());
+        assertEquals(Optional.empty(), first.get());
+        assertEquals(Optional.empty(), second.get());
+
+        read(LogicalDatastoreType.OPERATIONAL);
+        assertEquals(3, loads.size());
+    }
+
+    @Test
+    public void testCancelDoesNotPropagate() {
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> first = read(LogicalDatastoreType.OPERATIONAL);
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> second = read(LogicalDatastoreType.OPERATIONAL);
+        first.cancel(false);
+        assertFalse(second.isDone());
+        assertFalse(loads.get(0).isCancelled());
+    }
+
+    @Test
+    public void testWriteDetachesInflightReads() {
+        final AbstractWriteTx tx = mock(AbstractWriteTx.class);
+        coalescer.track(tx);
+        final ArgumentCaptor<TxListener> listener = ArgumentCaptor.forClass(TxListener.class);
+        verify(tx).addListener(listener.capture());
+
+        read(LogicalDatastoreType.CONFIGURATION);
+        listener.getValue().onTransactionSubmitted(tx);
+        read(LogicalDatastoreType.CONFIGURATION);
+        assertEquals(2, loads.size());
+    }
+
+    private ListenableFuture<Optional<NormalizedNode<?, ?>>> read(final LogicalDatastoreType store) {
+        return coalescer.read(store, PATH, path -> {
+            final SettableFuture<Optional<NormalizedNode<?, ?>>> future = SettableFuture.create();
+            loads.add(future);
+            return future;
+        });
+    }
+}
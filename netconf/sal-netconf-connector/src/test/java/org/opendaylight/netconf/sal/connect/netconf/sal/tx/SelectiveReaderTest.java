@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.sal.tx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.net.InetSocketAddress;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import javax.xml.transform.dom.DOMSource;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.binding.runtime.spi.BindingRuntimeHelpers;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+import org.opendaylight.mdsal.dom.api.DOMRpcService;
+import org.opendaylight.mdsal.dom.spi.DefaultDOMRpcResult;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.opendaylight.netconf.sal.connect.netconf.util.NetconfBaseOps;
+import org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.IetfNetconfService;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.NetconfState;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.Schemas;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.schemas.Schema;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.nmda.rev190107.IetfNetconfNmdaService;
+import org.opendaylight.yangtools.rcf8528.data.util.EmptyMountPointContext;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DOMSourceAnyxmlNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.w3c.dom.Element;
+
+@RunWith(MockitoJUnitRunner.StrictStubs.class)
+public class SelectiveReaderTest {
+    private static final RemoteDeviceId ID = new RemoteDeviceId("test", new InetSocketAddress("localhost", 22));
+    private static final YangInstanceIdentifier STATE = YangInstanceIdentifier.of(NetconfState.QNAME);
+    private static final String MONITORING_NS = NetconfState.QNAME.getNamespace().toString();
+
+    private static EffectiveModelContext SCHEMA;
+    private static EffectiveModelContext NMDA_SCHEMA;
+
+    @Mock
+    private DOMRpcService rpc;
+    @Mock
+    private DOMDataBroker broker;
+
+    @BeforeClass
+    public static void beforeClass() {
+        SCHEMA = BindingRuntimeHelpers.createEffectiveModel(IetfNetconfService.class, NetconfState.class);
+        NMDA_SCHEMA = BindingRuntimeHelpers.createEffectiveModel(IetfNetconfNmdaService.class, NetconfState.class);
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        SCHEMA = null;
+        NMDA_SCHEMA = null;
+    }
+
+    private final SettableFuture<DOMRpcResult> rpcResult = SettableFuture.create();
+
+    @Before
+    public void setUp() {
+        lenient().doReturn(rpcResult).when(rpc).invokeRpc(any(SchemaPath.class), any(ContainerNode.class));
+    }
+
+    @Test
+    public void testFieldsSelectListKeys() {
+        final YangInstanceIdentifier field = YangInstanceIdentifier.create(NodeIdentifier.create(Schemas.QNAME),
+            NodeIdentifier.create(Schema.QNAME), NodeIdentifierWithPredicates.of(Schema.QNAME),
+            NodeIdentifier.create(QName.create(Schema.QNAME, "namespace")));
+        newReader(SCHEMA).read(LogicalDatastoreType.OPERATIONAL, STATE, ImmutableList.of(field), OptionalInt.empty());
+
+        final ContainerNode request = captureRequest(NetconfMessageTransformUtil.NETCONF_GET_PATH);
+        final Element filter = (Element) ((DOMSourceAnyxmlNode) request.getChild(
+            NetconfMessageTransformUtil.NETCONF_FILTER_NODEID).get()).getValue().getNode();
+        assertEquals(1, filter.getElementsByTagNameNS(MONITORING_NS, "namespace").getLength());
+        assertEquals(1, filter.getElementsByTagNameNS(MONITORING_NS, "identifier").getLength());
+        assertEquals(1, filter.getElementsByTagNameNS(MONITORING_NS, "version").getLength());
+        assertEquals(1, filter.getElementsByTagNameNS(MONITORING_NS, "format").getLength());
+        assertEquals(0, filter.getElementsByTagNameNS(MONITORING_NS, "location").getLength());
+    }
+
+    @Test
+    public void testDepthIsReadWithMaxDepth() {
+        newReader(NMDA_SCHEMA).read(LogicalDatastoreType.OPERATIONAL, STATE, ImmutableList.of(), OptionalInt.of(1));
+
+        final ContainerNode request = captureRequest(NetconfMessageTransformUtil.NETCONF_GET_DATA_PATH);
+        assertEquals(Uint16.valueOf(2),
+            request.getChild(NetconfMessageTransformUtil.NMDA_MAX_DEPTH_NODEID).get().getValue());
+        assertFalse(request.getChild(NetconfMessageTransformUtil.NMDA_FILTER_SPEC_NODEID).isEmpty());
+    }
+
+    @Test
+    public void testDepthEndingAboveListKeysReadsCompleteData() {
+        // Depth 2 would be read with max-depth 3, where schema entries would lack their keys
+        final DOMDataTreeReadTransaction tx = mock(DOMDataTreeReadTransaction.class);
+        doReturn(tx).when(broker).newReadOnlyTransaction();
+        doReturn(FluentFutures.immediateFluentFuture(Optional.empty())).when(tx)
+            .read(LogicalDatastoreType.OPERATIONAL, STATE);
+
+        newReader(NMDA_SCHEMA).read(LogicalDatastoreType.OPERATIONAL, STATE, ImmutableList.of(), OptionalInt.of(2));
+
+        verify(tx).read(LogicalDatastoreType.OPERATIONAL, STATE);
+        verify(rpc, never()).invokeRpc(any(SchemaPath.class), any(ContainerNode.class));
+    }
+
+    @Test
+    public void testDepthReadsListKeys() throws Exception {
+        // Depth 3 ends at schema entries, the device is asked for one more level so that they carry their keys
+        final FluentFuture<Optional<NormalizedNode<?, ?>>> read = newReader(NMDA_SCHEMA).read(
+            LogicalDatastoreType.OPERATIONAL, STATE, ImmutableList.of(), OptionalInt.of(3));
+        assertEquals(Uint16.valueOf(4), captureRequest(NetconfMessageTransformUtil.NETCONF_GET_DATA_PATH)
+            .getChild(NetconfMessageTransformUtil.NMDA_MAX_DEPTH_NODEID).get().getValue());
+
+        rpcResult.set(new DefaultDOMRpcResult(Builders.containerBuilder()
+            .withNodeIdentifier(NetconfMessageTransformUtil.NETCONF_RPC_REPLY_NODEID)
+            .withChild(Builders.anyXmlBuilder()
+                .withNodeIdentifier(NetconfMessageTransformUtil.NETCONF_DATA_NODEID)
+                .withValue(new DOMSource(XmlUtil.readXmlToElement(
+                    "<data xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">"
+                        + "<netconf-state xmlns=\"" + MONITORING_NS + "\"><schemas><schema>"
+                        + "<identifier>module</identifier><version>2012-12-12</version>"
+                        + "<format xmlns:x=\"" + MONITORING_NS + "\">x:yang</format>"
+                        + "<namespace>urn:module</namespace>"
+                        + "</schema></schemas></netconf-state></data>")))
+                .build())
+            .build()));
+
+        final ContainerNode state = (ContainerNode) read.get(5, TimeUnit.SECONDS).get();
+        final MapNode schemas = (MapNode) ((ContainerNode) state.getChild(NodeIdentifier.create(Schemas.QNAME)).get())
+            .getChild(NodeIdentifier.create(Schema.QNAME)).get();
+        final MapEntryNode schema = Iterables.getOnlyElement(schemas.getValue());
+        assertEquals(3, schema.getIdentifier().size());
+        assertEquals("module", schema.getIdentifier().getValue(QName.create(Schema.QNAME, "identifier")));
+    }
+
+    private SelectiveReader newReader(final EffectiveModelContext schema) {
+        final EmptyMountPointContext mountContext = new EmptyMountPointContext(schema);
+        return new SelectiveReader(ID, new NetconfBaseOps(rpc, mountContext), mountContext, broker);
+    }
+
+    private ContainerNode captureRequest(final SchemaPath operation) {
+        final ArgumentCaptor<ContainerNode> captor = ArgumentCaptor.forClass(ContainerNode.class);
+        verify(rpc).invokeRpc(eq(operation), captor.capture());
+        return captor.getValue();
+    }
+}
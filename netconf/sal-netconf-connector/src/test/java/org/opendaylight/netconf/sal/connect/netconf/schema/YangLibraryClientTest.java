@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.schema;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class YangLibraryClientTest {
+    private static final String ETAG = "\"v1\"";
+    private static final byte[] CONTENT = "module test { }".getBytes(StandardCharsets.UTF_8);
+
+    private final List<String> conditions = new ArrayList<>();
+    private final YangLibraryClient client = new YangLibraryClient(2);
+    private HttpServer server;
+    private URI base;
+
+    @Before
+    public void before() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/test.yang", exchange -> {
+            final String condition = exchange.getRequestHeaders().getFirst("If-None-Match");
+            synchronized (conditions) {
+                conditions.add(condition);
+            }
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            exchange.getResponseHeaders().add("Content-Type", "application/yang; charset=utf-8");
+            if (ETAG.equals(condition)) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                exchange.sendResponseHeaders(200, CONTENT.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(CONTENT);
+                }
+            }
+            exchange.close();
+        });
+        server.createContext("/missing.yang", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+        base = URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    @After
+    public void after() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testConditionalRequest() throws Exception {
+        final YangLibraryClient.Response first = client.fetch(base.resolve("/test.yang"), null, null, null)
+            .get(10, TimeUnit.SECONDS);
+        assertEquals("application/yang", first.getContentType().get());
+        assertEquals("module test { }", first.getBody().asCharSource(StandardCharsets.UTF_8).read());
+
+        final YangLibraryClient.Response second = client.fetch(base.resolve("/test.yang"), null, null, null)
+            .get(10, TimeUnit.SECONDS);
+        assertEquals("module test { }", second.getBody().asCharSource(StandardCharsets.UTF_8).read());
+
+        synchronized (conditions) {
+            assertEquals(2, conditions.size());
+            assertNull(conditions.get(0));
+            assertEquals(ETAG, conditions.get(1));
+        }
+    }
+
+    @Test
+    public void testFailedRequest() {
+        final ExecutionException ex = assertThrows(ExecutionException.class,
+            () -> client.fetch(base.resolve("/missing.yang"), null, null, null).get(10, TimeUnit.SECONDS));
+        assertThat(ex.getCause(), instanceOf(IOException.class));
+    }
+
+    @Test
+    public void testRequestsAreQueued() throws Exception {
+        final List<ListenableFuture<YangLibraryClient.Response>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            futures.add(client.fetch(base.resolve("/test.yang"), null, null, null));
+        }
+        for (ListenableFuture<YangLibraryClient.Response> future : futures) {
+            assertEquals(CONTENT.length, future.get(10, TimeUnit.SECONDS).getBody().size());
+        }
+    }
+}
@@ -10,7 +10,9 @@ package org.opendaylight.netconf.sal.connect.netconf.schema.mapping;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.CREATE_SUBSCRIPTION_RPC_CONTENT;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.CREATE_SUBSCRIPTION_RPC_QNAME;
@@ -19,16 +21,26 @@ import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTr
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_COMMIT_QNAME;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_DISCARD_CHANGES_QNAME;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_EDIT_CONFIG_QNAME;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_EDIT_DATA_NODEID;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_EDIT_DATA_QNAME;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_CONFIG_QNAME;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_DATA_NODEID;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_DATA_QNAME;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_QNAME;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_LOCK_QNAME;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_NMDA_URI;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_RUNNING_QNAME;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NMDA_DATASTORE_NODEID;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NMDA_MAX_DEPTH_NODEID;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.createEditConfigStructure;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.toFilterStructure;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.toId;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.toNmdaEditContent;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.toNmdaFilterStructure;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.toPath;
 import static org.opendaylight.netconf.util.NetconfUtil.NETCONF_DATA_QNAME;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import java.io.IOException;
@@ -61,12 +73,16 @@ import org.opendaylight.netconf.sal.connect.netconf.util.NetconfBaseOps;
 import org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil;
 import org.opendaylight.netconf.util.NetconfUtil;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.IetfNetconfService;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.datastores.rev180214.Operational;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.datastores.rev180214.Running;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.nmda.rev190107.IetfNetconfNmdaService;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.NetconfState;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.Capabilities;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.Schemas;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.schemas.Schema;
 import org.opendaylight.yangtools.rcf8528.data.util.EmptyMountPointContext;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.AugmentationIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
@@ -81,6 +97,7 @@ import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableContainerNodeBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableLeafNodeBuilder;
@@ -88,6 +105,7 @@ import org.opendaylight.yangtools.yang.model.api.ActionDefinition;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.xml.sax.SAXException;
 
@@ -164,6 +182,7 @@ public class NetconfMessageTransformerTest extends AbstractBaseSchemasTest {
     private static EffectiveModelContext PARTIAL_SCHEMA;
     private static EffectiveModelContext SCHEMA;
     private static EffectiveModelContext ACTION_SCHEMA;
+    private static EffectiveModelContext NMDA_SCHEMA;
 
     private NetconfMessageTransformer actionNetconfMessageTransformer;
     private NetconfMessageTransformer netconfMessageTransformer;
@@ -176,6 +195,7 @@ public class NetconfMessageTransformerTest extends AbstractBaseSchemasTest {
             "/schemas/example-server-farm.yang","/schemas/example-server-farm-2.yang",
             "/schemas/conflicting-actions.yang", "/schemas/augmented-action.yang",
             "/schemas/rpcs-actions-outputs.yang");
+        NMDA_SCHEMA = BindingRuntimeHelpers.createEffectiveModel(IetfNetconfNmdaService.class, NetconfState.class);
     }
 
     @AfterClass
@@ -183,6 +203,7 @@ public class NetconfMessageTransformerTest extends AbstractBaseSchemasTest {
         PARTIAL_SCHEMA = null;
         SCHEMA = null;
         ACTION_SCHEMA = null;
+        NMDA_SCHEMA = null;
     }
 
     @Before
@@ -478,6 +499,94 @@ public class NetconfMessageTransformerTest extends AbstractBaseSchemasTest {
                 + "</rpc>");
     }
 
+    @Test
+    public void testGetDataRequest() throws Exception {
+        final ContainerNode getData = Builders.containerBuilder()
+                .withNodeIdentifier(NETCONF_GET_DATA_NODEID)
+                .withChild(ImmutableNodes.leafNode(NMDA_DATASTORE_NODEID, Operational.QNAME))
+                .withChild(toNmdaFilterStructure(ImmutableList.of(
+                    YangInstanceIdentifier.create(toId(NetconfState.QNAME), toId(Schemas.QNAME))), NMDA_SCHEMA))
+                .withChild(ImmutableNodes.leafNode(NMDA_MAX_DEPTH_NODEID, Uint16.valueOf(2)))
+                .build();
+
+        final NetconfMessage netconfMessage = getTransformer(NMDA_SCHEMA).toRpcRequest(
+                toPath(NETCONF_GET_DATA_QNAME), getData);
+
+        final Element operation = getNmdaOperation(netconfMessage, NETCONF_GET_DATA_QNAME);
+        final List<String> children = new ArrayList<>();
+        for (Node child = operation.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element) {
+                children.add(child.getLocalName());
+            }
+        }
+        assertEquals(ImmutableList.of("datastore", "subtree-filter", "max-depth"), children);
+
+        final Element datastore = (Element) operation.getElementsByTagNameNS(NETCONF_NMDA_URI.toString(), "datastore")
+                .item(0);
+        assertTrue(datastore.getTextContent().endsWith(":operational"));
+
+        final Element filter = (Element) operation.getElementsByTagNameNS(NETCONF_NMDA_URI.toString(),
+            "subtree-filter").item(0);
+        final Element state = (Element) filter.getFirstChild();
+        assertEquals(NetconfState.QNAME.getNamespace().toString(), state.getNamespaceURI());
+        assertEquals("schemas", state.getFirstChild().getLocalName());
+
+        assertEquals("2", operation.getElementsByTagNameNS(NETCONF_NMDA_URI.toString(), "max-depth").item(0)
+            .getTextContent());
+    }
+
+    @Test
+    public void testEditDataRequest() throws Exception {
+        final YangInstanceIdentifier id = YangInstanceIdentifier.create(toId(NetconfState.QNAME), toId(Schemas.QNAME));
+        final DataContainerChild<?, ?> editConfigStructure = createEditConfigStructure(NMDA_SCHEMA, id,
+            Optional.empty(), Optional.of(Builders.containerBuilder().withNodeIdentifier(toId(Schemas.QNAME)).build()));
+        final ContainerNode editData = Builders.containerBuilder()
+                .withNodeIdentifier(NETCONF_EDIT_DATA_NODEID)
+                .withChild(ImmutableNodes.leafNode(NMDA_DATASTORE_NODEID, Running.QNAME))
+                .withChild(toNmdaEditContent(editConfigStructure))
+                .build();
+
+        final NetconfMessage netconfMessage = getTransformer(NMDA_SCHEMA).toRpcRequest(
+                toPath(NETCONF_EDIT_DATA_QNAME), editData);
+
+        final Element operation = getNmdaOperation(netconfMessage, NETCONF_EDIT_DATA_QNAME);
+        final Element config = (Element) operation.getElementsByTagNameNS(NETCONF_NMDA_URI.toString(), "config")
+                .item(0);
+        assertNotNull(config);
+        final Element state = (Element) config.getFirstChild();
+        assertEquals(NetconfState.QNAME.getNamespace().toString(), state.getNamespaceURI());
+        assertEquals(NetconfState.QNAME.getLocalName(), state.getLocalName());
+    }
+
+    private static Element getNmdaOperation(final NetconfMessage netconfMessage, final QName operation) {
+        final Element ret = (Element) netconfMessage.getDocument().getElementsByTagNameNS(NETCONF_NMDA_URI.toString(),
+            operation.getLocalName()).item(0);
+        assertNotNull(ret);
+        return ret;
+    }
+
+    @Test
+    public void testGetDataResponse() throws Exception {
+        final NetconfMessage response = new NetconfMessage(XmlUtil.readXmlToDocument("<rpc-reply message-id=\"101\"\n"
+                + "xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">\n"
+                + "<data xmlns=\"urn:ietf:params:xml:ns:yang:ietf-netconf-nmda\">\n"
+                + "<netconf-state xmlns=\"urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring\">\n"
+                + "<schemas/>\n"
+                + "</netconf-state>\n"
+                + "</data>\n"
+                + "</rpc-reply>"));
+
+        final DOMRpcResult result = getTransformer(NMDA_SCHEMA).toRpcResult(response, toPath(NETCONF_GET_DATA_QNAME));
+        assertTrue(result.getErrors().isEmpty());
+
+        final DOMSourceAnyxmlNode data = (DOMSourceAnyxmlNode) ((ContainerNode) result.getResult())
+                .getChild(toId(NETCONF_DATA_QNAME)).get();
+        final ContainerNode root = (ContainerNode) NetconfUtil.transformDOMSourceToNormalizedNode(NMDA_SCHEMA,
+            data.getValue()).getResult();
+        final ContainerNode state = (ContainerNode) root.getChild(toId(NetconfState.QNAME)).get();
+        assertTrue(state.getChild(toId(Schemas.QNAME)).isPresent());
+    }
+
     private static NetconfMessageTransformer getTransformer(final EffectiveModelContext schema) {
         return new NetconfMessageTransformer(new EmptyMountPointContext(schema), true, BASE_SCHEMAS.getBaseSchema());
     }
@@ -508,7 +617,7 @@ public class NetconfMessageTransformerTest extends AbstractBaseSchemasTest {
         schemaPaths.add(CHECK_WITH_OUTPUT_INTERFACE_PATH);
         schemaPaths.add(CHECK_WITHOUT_OUTPUT_INTERFACE_PATH);
 
-        List<ActionDefinition> actions = NetconfMessageTransformer.getActions(ACTION_SCHEMA);
+        List<ActionDefinition> actions = NetconfSchemaIndex.getActions(ACTION_SCHEMA);
         assertEquals(schemaPaths.size(), actions.size());
         for (ActionDefinition actionDefinition : actions) {
             SchemaPath path = actionDefinition.getPath();
@@ -516,6 +625,13 @@ public class NetconfMessageTransformerTest extends AbstractBaseSchemasTest {
         }
     }
 
+    @Test
+    public void testSchemaIndexIsShared() {
+        final NetconfSchemaIndex index = NetconfSchemaIndex.of(ACTION_SCHEMA);
+        assertSame(index, NetconfSchemaIndex.of(ACTION_SCHEMA));
+        assertNotSame(index, NetconfSchemaIndex.of(SCHEMA));
+    }
+
     @Test
     public void toActionRequestListTopLevelTest() {
         QName nameQname = QName.create(SERVER_QNAME, "name");
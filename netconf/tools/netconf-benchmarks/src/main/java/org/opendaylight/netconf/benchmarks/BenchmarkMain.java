@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Accepts the usual JMH command line options, but always attaches the GC profiler
+ * and writes results in JSON format, so that runs against different releases can be compared, for example:
+ * <pre>
+ *   java -jar benchmarks.jar -rff netconf-1.9.0.json Framing
+ * </pre>
+ */
+public final class BenchmarkMain {
+    private BenchmarkMain() {
+        // Hidden on purpose
+    }
+
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        final CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+            .parent(cmdOptions)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(cmdOptions.getResultFormat().orElse(ResultFormatType.JSON))
+            .build()).run();
+    }
+}
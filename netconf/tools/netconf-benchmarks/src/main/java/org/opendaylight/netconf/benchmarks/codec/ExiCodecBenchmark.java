@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.benchmarks.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.opendaylight.netconf.nettyutil.handler.NetconfEXICodec;
+import org.opendaylight.netconf.nettyutil.handler.NetconfEXIToMessageDecoder;
+import org.opendaylight.netconf.nettyutil.handler.NetconfMessageToEXIEncoder;
+import org.opendaylight.netconf.nettyutil.handler.exi.EXIParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+
+/**
+ * Benchmarks of EXI message encoding and decoding with default (schema-less) parameters. Decoder input is a complete
+ * message, as produced by the encoder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ExiCodecBenchmark {
+    @Param({ Payloads.SIZE_1K, Payloads.SIZE_64K, Payloads.SIZE_1M, Payloads.SIZE_16M, Payloads.SIZE_100M })
+    public int size;
+
+    private byte[] exi;
+    private Document document;
+    private EmbeddedChannel encoder;
+    private EmbeddedChannel decoder;
+
+    @Setup
+    public void setup() throws Exception {
+        document = XmlUtil.readXmlToDocument(new ByteArrayInputStream(Payloads.xml(size)));
+        final NetconfEXICodec codec = NetconfEXICodec.forParameters(EXIParameters.empty());
+        encoder = new EmbeddedChannel(NetconfMessageToEXIEncoder.create(codec));
+        decoder = new EmbeddedChannel(NetconfEXIToMessageDecoder.create(codec));
+        exi = Payloads.encode(encoder, new NetconfMessage(document));
+    }
+
+    @TearDown
+    public void tearDown() {
+        encoder.finishAndReleaseAll();
+        decoder.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public int encode() {
+        encoder.writeOutbound(new NetconfMessage(document));
+        final ByteBuf buf = encoder.readOutbound();
+        final int ret = buf.readableBytes();
+        buf.release();
+        return ret;
+    }
+
+    @Benchmark
+    public NetconfMessage decode() {
+        decoder.writeInbound(Unpooled.wrappedBuffer(exi));
+        return decoder.readInbound();
+    }
+}
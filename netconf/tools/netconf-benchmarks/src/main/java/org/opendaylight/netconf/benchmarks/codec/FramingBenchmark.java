@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.benchmarks.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.netconf.nettyutil.handler.ChunkedFramingMechanismEncoder;
+import org.opendaylight.netconf.nettyutil.handler.EOMFramingMechanismEncoder;
+import org.opendaylight.netconf.nettyutil.handler.NetconfChunkAggregator;
+import org.opendaylight.netconf.nettyutil.handler.NetconfEOMAggregator;
+import org.opendaylight.netconf.util.messages.NetconfMessageConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of NETCONF 1.0 (end-of-message) and 1.1 (chunked) framing, both directions. Framed input is delivered in
+ * slices, as it would be read from the transport.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class FramingBenchmark {
+    private static final byte[] END_OF_MESSAGE = NetconfMessageConstants.END_OF_MESSAGE.getBytes(StandardCharsets.UTF_8);
+
+    @Param({ Payloads.SIZE_1K, Payloads.SIZE_64K, Payloads.SIZE_1M, Payloads.SIZE_16M, Payloads.SIZE_100M })
+    public int size;
+
+    private byte[] payload;
+    private byte[] chunked;
+    private byte[] eom;
+    private EmbeddedChannel chunkEncoder;
+    private EmbeddedChannel eomEncoder;
+    private EmbeddedChannel chunkAggregator;
+    private EmbeddedChannel eomAggregator;
+
+    @Setup
+    public void setup() {
+        payload = Payloads.xml(size);
+        chunkEncoder = new EmbeddedChannel(new ChunkedFramingMechanismEncoder());
+        eomEncoder = new EmbeddedChannel(new EOMFramingMechanismEncoder());
+        chunkAggregator = new EmbeddedChannel(new NetconfChunkAggregator());
+        eomAggregator = new EmbeddedChannel(new NetconfEOMAggregator());
+
+        chunked = Payloads.encode(chunkEncoder, Unpooled.wrappedBuffer(payload));
+        eom = new byte[payload.length + END_OF_MESSAGE.length];
+        System.arraycopy(payload, 0, eom, 0, payload.length);
+        System.arraycopy(END_OF_MESSAGE, 0, eom, payload.length, END_OF_MESSAGE.length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        chunkEncoder.finishAndReleaseAll();
+        eomEncoder.finishAndReleaseAll();
+        chunkAggregator.finishAndReleaseAll();
+        eomAggregator.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public int chunkEncode() {
+        chunkEncoder.writeOutbound(Unpooled.wrappedBuffer(payload));
+        return release(chunkEncoder.readOutbound());
+    }
+
+    @Benchmark
+    public int chunkDecode() {
+        return release(Payloads.decode(chunkAggregator, chunked));
+    }
+
+    @Benchmark
+    public int eomEncode() {
+        eomEncoder.writeOutbound(Unpooled.wrappedBuffer(payload));
+        return release(eomEncoder.readOutbound());
+    }
+
+    @Benchmark
+    public int eomDecode() {
+        return release(Payloads.decode(eomAggregator, eom));
+    }
+
+    private static int release(final Object msg) {
+        final ByteBuf buf = (ByteBuf) msg;
+        final int ret = buf.readableBytes();
+        buf.release();
+        return ret;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.benchmarks.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Generator of realistic NETCONF payloads: an rpc-reply to a get-config of interface configuration, which is the most
+ * common kind of large message seen on production sessions.
+ */
+final class Payloads {
+    /**
+     * Payload sizes used by benchmarks: 1 KiB, 64 KiB, 1 MiB, 16 MiB and 100 MiB.
+     */
+    static final String SIZE_1K = "1024";
+    static final String SIZE_64K = "65536";
+    static final String SIZE_1M = "1048576";
+    static final String SIZE_16M = "16777216";
+    static final String SIZE_100M = "104857600";
+
+    /**
+     * Size of input slices handed to decoders, mimicking reads from an SSH channel.
+     */
+    static final int READ_SIZE = 32 * 1024;
+
+    private static final String HEADER = "<rpc-reply message-id=\"101\" "
+        + "xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"><data>"
+        + "<interfaces xmlns=\"urn:ietf:params:xml:ns:yang:ietf-interfaces\">";
+    private static final String FOOTER = "</interfaces></data></rpc-reply>";
+
+    private Payloads() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Generate an XML payload of at least the specified size. Generated content is deterministic, so that results are
+     * comparable across runs.
+     *
+     * @param size requested size in bytes
+     * @return UTF-8 encoded XML document
+     */
+    static byte[] xml(final int size) {
+        final StringBuilder sb = new StringBuilder(size + 512).append(HEADER);
+        for (int i = 0; sb.length() + FOOTER.length() < size; ++i) {
+            sb.append("<interface><name>ge-0/0/").append(i).append("</name>")
+                .append("<description>Uplink to access switch ").append(i % 1000).append("</description>")
+                .append("<type xmlns:ianaift=\"urn:ietf:params:xml:ns:yang:iana-if-type\">")
+                .append("ianaift:ethernetCsmacd</type>")
+                .append("<enabled>").append(i % 3 != 0).append("</enabled>")
+                .append("</interface>");
+        }
+        return sb.append(FOOTER).toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Run data through a channel and concatenate its outbound output.
+     */
+    static byte[] encode(final EmbeddedChannel channel, final Object msg) {
+        channel.writeOutbound(msg);
+        final ByteBuf out = Unpooled.buffer();
+        for (ByteBuf buf = channel.readOutbound(); buf != null; buf = channel.readOutbound()) {
+            out.writeBytes(buf);
+            buf.release();
+        }
+        final byte[] ret = new byte[out.readableBytes()];
+        out.readBytes(ret);
+        return ret;
+    }
+
+    /**
+     * Feed input to a channel in {@link #READ_SIZE} slices and return the first decoded message.
+     */
+    static Object decode(final EmbeddedChannel channel, final byte[] input) {
+        for (int offset = 0; offset < input.length; offset += READ_SIZE) {
+            channel.writeInbound(Unpooled.wrappedBuffer(input, offset, Math.min(READ_SIZE, input.length - offset)));
+        }
+        return channel.readInbound();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.benchmarks.transform;
+
+import static org.opendaylight.netconf.benchmarks.transform.DeviceSchemas.DESCRIPTION;
+import static org.opendaylight.netconf.benchmarks.transform.DeviceSchemas.ENABLED;
+import static org.opendaylight.netconf.benchmarks.transform.DeviceSchemas.INDEX;
+import static org.opendaylight.netconf.benchmarks.transform.DeviceSchemas.INTERFACE;
+import static org.opendaylight.netconf.benchmarks.transform.DeviceSchemas.INTERFACES;
+import static org.opendaylight.netconf.benchmarks.transform.DeviceSchemas.MTU;
+import static org.opendaylight.netconf.benchmarks.transform.DeviceSchemas.NAME;
+import static org.opendaylight.netconf.benchmarks.transform.DeviceSchemas.NAMESPACE;
+import static org.opendaylight.netconf.benchmarks.transform.DeviceSchemas.SUBINTERFACE;
+import static org.opendaylight.netconf.benchmarks.transform.DeviceSchemas.SUBINTERFACES;
+import static org.opendaylight.netconf.benchmarks.transform.DeviceSchemas.TYPE;
+
+import java.io.IOException;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+/**
+ * Generator of messages conforming to {@link DeviceSchemas}. Generated content is deterministic, so that results are
+ * comparable across runs.
+ */
+final class DevicePayloads {
+    private static final int SUBINTERFACES_PER_INTERFACE = 4;
+
+    private DevicePayloads() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Generate interface configuration, as it would be written by an application.
+     *
+     * @param count number of interfaces
+     * @return interfaces container
+     */
+    static ContainerNode interfaces(final int count) {
+        final CollectionNodeBuilder<MapEntryNode, MapNode> list = Builders.mapBuilder()
+            .withNodeIdentifier(NodeIdentifier.create(INTERFACE));
+        for (int i = 0; i < count; ++i) {
+            final CollectionNodeBuilder<MapEntryNode, MapNode> subinterfaces = Builders.mapBuilder()
+                .withNodeIdentifier(NodeIdentifier.create(SUBINTERFACE));
+            for (int j = 0; j < SUBINTERFACES_PER_INTERFACE; ++j) {
+                final Uint32 index = Uint32.valueOf(j);
+                subinterfaces.withChild(Builders.mapEntryBuilder()
+                    .withNodeIdentifier(NodeIdentifierWithPredicates.of(SUBINTERFACE, INDEX, index))
+                    .withChild(ImmutableNodes.leafNode(INDEX, index))
+                    .withChild(ImmutableNodes.leafNode(DESCRIPTION, "VLAN " + (100 + j)))
+                    .build());
+            }
+
+            final String name = interfaceName(i);
+            list.withChild(Builders.mapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(INTERFACE, NAME, name))
+                .withChild(ImmutableNodes.leafNode(NAME, name))
+                .withChild(ImmutableNodes.leafNode(DESCRIPTION, "Uplink to access switch " + i % 1000))
+                .withChild(ImmutableNodes.leafNode(ENABLED, i % 3 != 0))
+                .withChild(ImmutableNodes.leafNode(MTU, Uint16.valueOf(1500)))
+                .withChild(ImmutableNodes.leafNode(TYPE, "ethernet"))
+                .withChild(Builders.containerBuilder()
+                    .withNodeIdentifier(NodeIdentifier.create(SUBINTERFACES))
+                    .withChild(subinterfaces.build())
+                    .build())
+                .build());
+        }
+
+        return Builders.containerBuilder()
+            .withNodeIdentifier(NodeIdentifier.create(INTERFACES))
+            .withChild(list.build())
+            .build();
+    }
+
+    /**
+     * Generate a get-statistics reply.
+     *
+     * @param count number of interfaces
+     * @return rpc-reply message
+     */
+    static NetconfMessage statisticsReply(final int count) throws SAXException, IOException {
+        final StringBuilder sb = new StringBuilder()
+            .append("<rpc-reply message-id=\"m-1\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">");
+        for (int i = 0; i < count; ++i) {
+            sb.append("<interface xmlns=\"").append(NAMESPACE).append("\">")
+                .append("<name>").append(interfaceName(i)).append("</name>")
+                .append("<oper-status>").append(i % 3 != 0 ? "up" : "down").append("</oper-status>")
+                .append("<in-octets>").append(i * 1500L).append("</in-octets>")
+                .append("<in-unicast-pkts>").append(i * 3L).append("</in-unicast-pkts>")
+                .append("<in-errors>").append(i % 7).append("</in-errors>")
+                .append("<out-octets>").append(i * 1200L).append("</out-octets>")
+                .append("<out-unicast-pkts>").append(i * 2L).append("</out-unicast-pkts>")
+                .append("<out-errors>").append(i % 5).append("</out-errors>")
+                .append("</interface>");
+        }
+        return new NetconfMessage(XmlUtil.readXmlToDocument(sb.append("</rpc-reply>").toString()));
+    }
+
+    /**
+     * Generate a get-config reply containing interface configuration.
+     *
+     * @param count number of interfaces
+     * @return rpc-reply message
+     */
+    static NetconfMessage configReply(final int count) throws SAXException, IOException {
+        final StringBuilder sb = new StringBuilder()
+            .append("<rpc-reply message-id=\"m-1\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"><data>")
+            .append("<interfaces xmlns=\"").append(NAMESPACE).append("\">");
+        appendInterfaces(sb, count);
+        return new NetconfMessage(XmlUtil.readXmlToDocument(
+            sb.append("</interfaces></data></rpc-reply>").toString()));
+    }
+
+    /**
+     * Generate an edit-config request body, as it would be passed to a schemaless device.
+     *
+     * @param count number of interfaces
+     * @return edit-config document
+     */
+    static Document editConfig(final int count) throws SAXException, IOException {
+        final StringBuilder sb = new StringBuilder()
+            .append("<edit-config xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">")
+            .append("<target><candidate/></target><error-option>rollback-on-error</error-option><config>")
+            .append("<interfaces xmlns=\"").append(NAMESPACE).append("\">");
+        appendInterfaces(sb, count);
+        return XmlUtil.readXmlToDocument(sb.append("</interfaces></config></edit-config>").toString());
+    }
+
+    /**
+     * Generate a link-state-changed notification.
+     *
+     * @param count number of subinterfaces reported in the notification
+     * @return notification message
+     */
+    static NetconfMessage notification(final int count) throws SAXException, IOException {
+        final StringBuilder sb = new StringBuilder()
+            .append("<notification xmlns=\"urn:ietf:params:xml:ns:netconf:notification:1.0\">")
+            .append("<eventTime>2020-06-01T12:00:00Z</eventTime>")
+            .append("<link-state-changed xmlns=\"").append(NAMESPACE).append("\">")
+            .append("<name>").append(interfaceName(0)).append("</name>")
+            .append("<oper-status>down</oper-status>");
+        for (int i = 0; i < count; ++i) {
+            sb.append("<subinterface>")
+                .append("<index>").append(i).append("</index>")
+                .append("<oper-status>down</oper-status>")
+                .append("</subinterface>");
+        }
+        return new NetconfMessage(XmlUtil.readXmlToDocument(
+            sb.append("</link-state-changed></notification>").toString()));
+    }
+
+    private static void appendInterfaces(final StringBuilder sb, final int count) {
+        for (int i = 0; i < count; ++i) {
+            sb.append("<interface>")
+                .append("<name>").append(interfaceName(i)).append("</name>")
+                .append("<description>Uplink to access switch ").append(i % 1000).append("</description>")
+                .append("<enabled>").append(i % 3 != 0).append("</enabled>")
+                .append("<mtu>1500</mtu>")
+                .append("<type>ethernet</type>")
+                .append("</interface>");
+        }
+    }
+
+    private static String interfaceName(final int index) {
+        return "ge-" + index / 4096 + "/" + index / 64 % 64 + "/" + index % 64;
+    }
+}
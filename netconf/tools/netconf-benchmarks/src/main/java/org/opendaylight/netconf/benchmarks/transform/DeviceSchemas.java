@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.benchmarks.transform;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+/**
+ * Generator of device schemas. Each generated module mirrors the structure of openconfig-interfaces: a keyed list of
+ * interfaces with configuration, operational state with counters, nested subinterfaces and an action, accompanied by an
+ * RPC with a sizeable output and a notification. Large devices are modeled by generating many such modules.
+ */
+final class DeviceSchemas {
+    static final String NAMESPACE = "urn:opendaylight:netconf:benchmarks:device-0";
+    static final Revision REVISION = Revision.of("2020-06-01");
+
+    static final QName INTERFACES = QName.create(NAMESPACE, REVISION.toString(), "interfaces").intern();
+    static final QName INTERFACE = QName.create(INTERFACES, "interface").intern();
+    static final QName NAME = QName.create(INTERFACES, "name").intern();
+    static final QName DESCRIPTION = QName.create(INTERFACES, "description").intern();
+    static final QName ENABLED = QName.create(INTERFACES, "enabled").intern();
+    static final QName MTU = QName.create(INTERFACES, "mtu").intern();
+    static final QName TYPE = QName.create(INTERFACES, "type").intern();
+    static final QName SUBINTERFACES = QName.create(INTERFACES, "subinterfaces").intern();
+    static final QName SUBINTERFACE = QName.create(INTERFACES, "subinterface").intern();
+    static final QName INDEX = QName.create(INTERFACES, "index").intern();
+    static final QName GET_STATISTICS = QName.create(INTERFACES, "get-statistics").intern();
+    static final QName GET_STATISTICS_INPUT = QName.create(INTERFACES, "input").intern();
+    static final QName LINK_STATE_CHANGED = QName.create(INTERFACES, "link-state-changed").intern();
+
+    private DeviceSchemas() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Generate and parse a device schema.
+     *
+     * @param modules number of modules in the schema
+     * @return effective model context
+     */
+    static EffectiveModelContext generate(final int modules) {
+        final File[] files = new File[modules];
+        try {
+            // Files are deleted in reverse order of registration, hence the directory goes last
+            final Path dir = Files.createTempDirectory("netconf-benchmarks");
+            dir.toFile().deleteOnExit();
+            for (int i = 0; i < modules; ++i) {
+                final Path file = dir.resolve("bench-device-" + i + "@" + REVISION + ".yang");
+                Files.write(file, module(i).getBytes(StandardCharsets.UTF_8));
+                files[i] = file.toFile();
+                files[i].deleteOnExit();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write schema sources", e);
+        }
+        return YangParserTestUtils.parseYangFiles(files);
+    }
+
+    private static String module(final int index) {
+        return "module bench-device-" + index + " {\n"
+            + "  yang-version 1.1;\n"
+            + "  namespace \"urn:opendaylight:netconf:benchmarks:device-" + index + "\";\n"
+            + "  prefix dev" + index + ";\n"
+            + "  revision " + REVISION + ";\n"
+            + "\n"
+            + "  typedef counter {\n"
+            + "    type uint64;\n"
+            + "  }\n"
+            + "  typedef oper-status {\n"
+            + "    type enumeration {\n"
+            + "      enum up;\n"
+            + "      enum down;\n"
+            + "      enum testing;\n"
+            + "    }\n"
+            + "  }\n"
+            + "\n"
+            + "  grouping counters {\n"
+            + "    leaf in-octets { type counter; }\n"
+            + "    leaf in-unicast-pkts { type counter; }\n"
+            + "    leaf in-errors { type counter; }\n"
+            + "    leaf out-octets { type counter; }\n"
+            + "    leaf out-unicast-pkts { type counter; }\n"
+            + "    leaf out-errors { type counter; }\n"
+            + "  }\n"
+            + "  grouping interface-config {\n"
+            + "    leaf name { type string; }\n"
+            + "    leaf description { type string; }\n"
+            + "    leaf enabled { type boolean; default true; }\n"
+            + "    leaf mtu { type uint16; }\n"
+            + "    leaf type {\n"
+            + "      type enumeration {\n"
+            + "        enum ethernet;\n"
+            + "        enum loopback;\n"
+            + "        enum tunnel;\n"
+            + "      }\n"
+            + "    }\n"
+            + "  }\n"
+            + "\n"
+            + "  container interfaces {\n"
+            + "    list interface {\n"
+            + "      key name;\n"
+            + "      uses interface-config;\n"
+            + "      container state {\n"
+            + "        config false;\n"
+            + "        leaf oper-status { type oper-status; }\n"
+            + "        container counters { uses counters; }\n"
+            + "      }\n"
+            + "      container subinterfaces {\n"
+            + "        list subinterface {\n"
+            + "          key index;\n"
+            + "          leaf index { type uint32; }\n"
+            + "          leaf description { type string; }\n"
+            + "          leaf enabled { type boolean; default true; }\n"
+            + "        }\n"
+            + "      }\n"
+            + "      action reset-counters {\n"
+            + "        input {\n"
+            + "          leaf reason { type string; }\n"
+            + "        }\n"
+            + "      }\n"
+            + "    }\n"
+            + "  }\n"
+            + "\n"
+            + "  rpc get-statistics {\n"
+            + "    input {\n"
+            + "      leaf name { type string; }\n"
+            + "    }\n"
+            + "    output {\n"
+            + "      list interface {\n"
+            + "        key name;\n"
+            + "        leaf name { type string; }\n"
+            + "        leaf oper-status { type oper-status; }\n"
+            + "        uses counters;\n"
+            + "      }\n"
+            + "    }\n"
+            + "  }\n"
+            + "\n"
+            + "  notification link-state-changed {\n"
+            + "    leaf name { type string; }\n"
+            + "    leaf oper-status { type oper-status; }\n"
+            + "    list subinterface {\n"
+            + "      key index;\n"
+            + "      leaf index { type uint32; }\n"
+            + "      leaf oper-status { type oper-status; }\n"
+            + "    }\n"
+            + "  }\n"
+            + "}\n";
+    }
+}
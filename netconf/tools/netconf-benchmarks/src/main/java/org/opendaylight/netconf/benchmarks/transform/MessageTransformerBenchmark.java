@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.benchmarks.transform;
+
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_CONFIG_PATH;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.toPath;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.mdsal.dom.api.DOMRpcAvailabilityListener;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+import org.opendaylight.mdsal.dom.api.DOMRpcService;
+import org.opendaylight.mdsal.dom.spi.DefaultDOMRpcResult;
+import org.opendaylight.netconf.api.ModifyAction;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.DefaultBaseNetconfSchemas;
+import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.NetconfMessageTransformer;
+import org.opendaylight.netconf.sal.connect.netconf.util.NetconfBaseOps;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.rcf8528.data.util.EmptyMountPointContext;
+import org.opendaylight.yangtools.rfc8528.data.api.MountPointContext;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.opendaylight.yangtools.yang.parser.impl.YangParserFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of per-message costs of {@link NetconfMessageTransformer} on a device with a large schema. Edit-config is
+ * benchmarked end-to-end, from {@link NetconfBaseOps} structure construction to the serialized request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class MessageTransformerBenchmark {
+    private static final int MODULES = 50;
+    private static final SchemaPath GET_STATISTICS_PATH = toPath(DeviceSchemas.GET_STATISTICS);
+    private static final YangInstanceIdentifier INTERFACES_PATH = YangInstanceIdentifier.of(DeviceSchemas.INTERFACES);
+    private static final DOMRpcResult EMPTY_RESULT = new DefaultDOMRpcResult();
+    private static final FutureCallback<DOMRpcResult> NOOP_CALLBACK = new FutureCallback<DOMRpcResult>() {
+        @Override
+        public void onSuccess(final DOMRpcResult result) {
+            // No-op
+        }
+
+        @Override
+        public void onFailure(final Throwable cause) {
+            throw new IllegalStateException("Unexpected failure", cause);
+        }
+    };
+
+    @Param({ "10", "1000", "10000" })
+    public int size;
+
+    private NetconfMessageTransformer transformer;
+    private TransformingRpcService rpc;
+    private NetconfBaseOps baseOps;
+    private ContainerNode interfaces;
+    private ContainerNode statisticsInput;
+    private NetconfMessage statisticsReply;
+    private NetconfMessage configReply;
+    private NetconfMessage notification;
+
+    @Setup
+    public void setup() throws Exception {
+        final MountPointContext mountContext = new EmptyMountPointContext(DeviceSchemas.generate(MODULES));
+        transformer = new NetconfMessageTransformer(mountContext, true,
+            new DefaultBaseNetconfSchemas(new YangParserFactoryImpl()).getBaseSchema());
+        rpc = new TransformingRpcService(transformer);
+        baseOps = new NetconfBaseOps(rpc, mountContext);
+
+        interfaces = DevicePayloads.interfaces(size);
+        statisticsInput = Builders.containerBuilder()
+            .withNodeIdentifier(NodeIdentifier.create(DeviceSchemas.GET_STATISTICS_INPUT))
+            .withChild(ImmutableNodes.leafNode(DeviceSchemas.NAME, "ge-0/0/0"))
+            .build();
+        statisticsReply = DevicePayloads.statisticsReply(size);
+        configReply = DevicePayloads.configReply(size);
+        notification = DevicePayloads.notification(size);
+    }
+
+    @Benchmark
+    public NetconfMessage editConfig() {
+        final ChoiceNode editStructure = baseOps.createEditConfigStrcture(Optional.of(interfaces),
+            Optional.of(ModifyAction.MERGE), INTERFACES_PATH);
+        baseOps.editConfigCandidate(NOOP_CALLBACK, editStructure, true);
+        return rpc.lastRequest;
+    }
+
+    @Benchmark
+    public NetconfMessage toRpcRequest() {
+        return transformer.toRpcRequest(GET_STATISTICS_PATH, statisticsInput);
+    }
+
+    @Benchmark
+    public DOMRpcResult toRpcResult() {
+        return transformer.toRpcResult(statisticsReply, GET_STATISTICS_PATH);
+    }
+
+    @Benchmark
+    public DOMRpcResult toRpcResultGetConfig() {
+        return transformer.toRpcResult(configReply, NETCONF_GET_CONFIG_PATH);
+    }
+
+    @Benchmark
+    public DOMNotification toNotification() {
+        return transformer.toNotification(notification);
+    }
+
+    /**
+     * An RPC service which stops at request serialization, completing every request immediately.
+     */
+    private static final class TransformingRpcService implements DOMRpcService {
+        private final NetconfMessageTransformer transformer;
+
+        NetconfMessage lastRequest;
+
+        TransformingRpcService(final NetconfMessageTransformer transformer) {
+            this.transformer = transformer;
+        }
+
+        @Override
+        public ListenableFuture<DOMRpcResult> invokeRpc(final SchemaPath type, final NormalizedNode<?, ?> input) {
+            lastRequest = transformer.toRpcRequest(type, input);
+            return Futures.immediateFuture(EMPTY_RESULT);
+        }
+
+        @Override
+        public <T extends DOMRpcAvailabilityListener> ListenerRegistration<T> registerRpcListener(final T listener) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.benchmarks.transform;
+
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_EDIT_CONFIG_NODEID;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_EDIT_CONFIG_PATH;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_CONFIG_PATH;
+
+import java.util.concurrent.TimeUnit;
+import javax.xml.transform.dom.DOMSource;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.SchemalessMessageTransformer;
+import org.opendaylight.netconf.sal.connect.util.MessageCounter;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+
+/**
+ * Benchmarks of per-message costs of {@link SchemalessMessageTransformer}. Since requests are modified in place, each
+ * request operates on a copy of a template document and the cost of copying is included in the results.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class SchemalessTransformerBenchmark {
+    @Param({ "10", "1000", "10000" })
+    public int size;
+
+    private SchemalessMessageTransformer transformer;
+    private Document editConfig;
+    private NetconfMessage configReply;
+    private NetconfMessage notification;
+
+    @Setup
+    public void setup() throws Exception {
+        transformer = new SchemalessMessageTransformer(new MessageCounter());
+        editConfig = DevicePayloads.editConfig(size);
+        configReply = DevicePayloads.configReply(size);
+        notification = DevicePayloads.notification(size);
+    }
+
+    @Benchmark
+    public NetconfMessage toRpcRequest() {
+        return transformer.toRpcRequest(NETCONF_EDIT_CONFIG_PATH, Builders.anyXmlBuilder()
+            .withNodeIdentifier(NETCONF_EDIT_CONFIG_NODEID)
+            .withValue(new DOMSource(editConfig.cloneNode(true)))
+            .build());
+    }
+
+    @Benchmark
+    public DOMRpcResult toRpcResult() {
+        return transformer.toRpcResult(configReply, NETCONF_GET_CONFIG_PATH);
+    }
+
+    @Benchmark
+    public DOMNotification toNotification() {
+        return transformer.toNotification(notification);
+    }
+}
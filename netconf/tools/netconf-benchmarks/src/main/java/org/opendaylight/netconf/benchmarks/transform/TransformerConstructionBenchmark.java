@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.benchmarks.transform;
+
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.BaseSchema;
+import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.DefaultBaseNetconfSchemas;
+import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.NetconfMessageTransformer;
+import org.opendaylight.yangtools.rcf8528.data.util.EmptyMountPointContext;
+import org.opendaylight.yangtools.rfc8528.data.api.MountPointContext;
+import org.opendaylight.yangtools.yang.parser.impl.YangParserFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link NetconfMessageTransformer} construction, which is incurred by each device mount. Transformers
+ * share schema indexes, hence {@link #construct()} measures construction with an index already built for the same
+ * schema, as is the case for all but the first device using it. {@link #constructUncached()} builds the index as well,
+ * as is the case for the first device using a schema.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class TransformerConstructionBenchmark {
+    @Param({ "1", "50", "400" })
+    public int modules;
+
+    private MountPointContext mountContext;
+    private BaseSchema baseSchema;
+
+    @Setup
+    public void setup() {
+        mountContext = new EmptyMountPointContext(DeviceSchemas.generate(modules));
+        baseSchema = new DefaultBaseNetconfSchemas(new YangParserFactoryImpl()).getBaseSchema();
+    }
+
+    @Benchmark
+    public NetconfMessageTransformer construct() {
+        return new NetconfMessageTransformer(mountContext, true, baseSchema);
+    }
+
+    @Benchmark
+    public NetconfMessageTransformer constructUncached() {
+        return NetconfMessageTransformer.createUncached(mountContext, true, baseSchema);
+    }
+}
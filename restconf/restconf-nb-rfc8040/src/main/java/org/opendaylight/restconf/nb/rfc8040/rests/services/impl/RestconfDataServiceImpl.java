@@ -15,12 +15,14 @@ import static org.opendaylight.restconf.nb.rfc8040.rests.utils.RestconfStreamsCo
 import static org.opendaylight.restconf.nb.rfc8040.rests.utils.RestconfStreamsConstants.STREAM_LOCATION_PATH_PART;
 import static org.opendaylight.restconf.nb.rfc8040.rests.utils.RestconfStreamsConstants.STREAM_PATH;
 
+import com.google.common.collect.ImmutableList;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.OptionalInt;
 import javax.ws.rs.Path;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
@@ -30,6 +32,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.dom.api.DOMActionResult;
 import org.opendaylight.mdsal.dom.api.DOMDataBroker;
 import org.opendaylight.mdsal.dom.api.DOMMountPoint;
+import org.opendaylight.netconf.api.dom.DOMDataTreeSelectiveReader;
 import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
 import org.opendaylight.restconf.common.context.NormalizedNodeContext;
 import org.opendaylight.restconf.common.context.WriterParameters;
@@ -56,6 +59,7 @@ import org.opendaylight.restconf.nb.rfc8040.rests.utils.ReadDataTransactionUtil;
 import org.opendaylight.restconf.nb.rfc8040.rests.utils.RestconfDataServiceConstant;
 import org.opendaylight.restconf.nb.rfc8040.rests.utils.RestconfInvokeOperationsUtil;
 import org.opendaylight.restconf.nb.rfc8040.utils.RestconfConstants;
+import org.opendaylight.restconf.nb.rfc8040.utils.parser.ParserFieldsParameter;
 import org.opendaylight.restconf.nb.rfc8040.utils.parser.ParserIdentifier;
 import org.opendaylight.yangtools.concepts.Immutable;
 import org.opendaylight.yangtools.yang.common.QName;
@@ -137,6 +141,9 @@ public class RestconfDataServiceImpl implements RestconfDataService {
         final DOMMountPoint mountPoint = instanceIdentifier.getMountPoint();
         final TransactionVarsWrapper transactionNode = new TransactionVarsWrapper(
                 instanceIdentifier, mountPoint, getTransactionChainHandler(mountPoint));
+        if (mountPoint != null) {
+            prepareSelectiveRead(mountPoint, parameters, transactionNode);
+        }
         final NormalizedNode<?, ?> node = ReadDataTransactionUtil.readData(identifier, parameters.getContent(),
                 transactionNode, parameters.getWithDefault(), schemaContextRef, uriInfo);
         if (identifier != null && identifier.contains(STREAM_PATH) && identifier.contains(STREAM_ACCESS_PATH_PART)
@@ -334,6 +341,32 @@ public class RestconfDataServiceImpl implements RestconfDataService {
                 : new SchemaContextRef(mountPoint.getEffectiveModelContext());
     }
 
+    /**
+     * Let the mount point read only the data selected by depth and fields parameters, if it is able to.
+     * @param mountPoint
+     *            mount point reference
+     * @param parameters
+     *            parsed query parameters
+     * @param transactionNode
+     *            {@link TransactionVarsWrapper} of the read
+     */
+    private static void prepareSelectiveRead(final @NonNull DOMMountPoint mountPoint,
+            final @NonNull WriterParameters parameters, final @NonNull TransactionVarsWrapper transactionNode) {
+        if (parameters.getFields() == null && parameters.getDepth() == null) {
+            return;
+        }
+
+        final Optional<DOMDataBroker> domDataBrokerService = mountPoint.getService(DOMDataBroker.class);
+        final DOMDataTreeSelectiveReader selectiveReader = domDataBrokerService.isPresent()
+                ? domDataBrokerService.get().getExtensions().getInstance(DOMDataTreeSelectiveReader.class) : null;
+        if (selectiveReader != null) {
+            transactionNode.setSelectiveRead(selectiveReader, parameters.getFields() == null ? ImmutableList.of()
+                    : ParserFieldsParameter.fieldsToPaths(transactionNode.getInstanceIdentifier(),
+                        parameters.getFields()),
+                    parameters.getDepth() == null ? OptionalInt.empty() : OptionalInt.of(parameters.getDepth()));
+        }
+    }
+
     /**
      * Prepare transaction chain to access data of mount point.
      * @param mountPoint
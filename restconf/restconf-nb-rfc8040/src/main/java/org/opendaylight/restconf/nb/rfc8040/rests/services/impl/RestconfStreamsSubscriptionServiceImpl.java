@@ -173,11 +173,14 @@ public class RestconfStreamsSubscriptionServiceImpl implements RestconfStreamsSu
         private final Instant start;
         private final Instant stop;
         private final String filter;
+        private final String fields;
 
-        private NotificationQueryParams(final Instant start, final Instant stop, final String filter) {
+        private NotificationQueryParams(final Instant start, final Instant stop, final String filter,
+                final String fields) {
             this.start = start == null ? Instant.now() : start;
             this.stop = stop;
             this.filter = filter;
+            this.fields = fields;
         }
 
         static NotificationQueryParams fromUriInfo(final UriInfo uriInfo) {
@@ -187,6 +190,8 @@ public class RestconfStreamsSubscriptionServiceImpl implements RestconfStreamsSu
             boolean stopTimeUsed = false;
             String filter = null;
             boolean filterUsed = false;
+            String fields = null;
+            boolean fieldsUsed = false;
 
             for (final Entry<String, List<String>> entry : uriInfo.getQueryParameters().entrySet()) {
                 switch (entry.getKey()) {
@@ -212,6 +217,14 @@ public class RestconfStreamsSubscriptionServiceImpl implements RestconfStreamsSu
                             filter = entry.getValue().iterator().next();
                         }
                         break;
+                    case "fields":
+                        if (!fieldsUsed) {
+                            fieldsUsed = true;
+                            fields = entry.getValue().iterator().next();
+                        } else {
+                            throw new RestconfDocumentedException("Fields parameter can be used only once.");
+                        }
+                        break;
                     default:
                         throw new RestconfDocumentedException(
                                 "Bad parameter used with notifications: " + entry.getKey());
@@ -221,7 +234,7 @@ public class RestconfStreamsSubscriptionServiceImpl implements RestconfStreamsSu
                 throw new RestconfDocumentedException("Stop-time parameter has to be used with start-time parameter.");
             }
 
-            return new NotificationQueryParams(start, stop, filter);
+            return new NotificationQueryParams(start, stop, filter, fields);
         }
 
         /**
@@ -250,5 +263,14 @@ public class RestconfStreamsSubscriptionServiceImpl implements RestconfStreamsSu
         public Optional<String> getFilter() {
             return Optional.ofNullable(filter);
         }
+
+        /**
+         * Get fields query parameter.
+         *
+         * @return fields
+         */
+        public Optional<String> getFields() {
+            return Optional.ofNullable(fields);
+        }
     }
 }
\ No newline at end of file
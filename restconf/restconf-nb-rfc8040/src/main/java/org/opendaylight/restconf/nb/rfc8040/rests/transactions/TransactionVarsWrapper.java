@@ -7,11 +7,18 @@
  */
 package org.opendaylight.restconf.nb.rfc8040.rests.transactions;
 
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.OptionalInt;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMMountPoint;
 import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
+import org.opendaylight.netconf.api.dom.DOMDataTreeSelectiveReader;
 import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
 import org.opendaylight.restconf.nb.rfc8040.handlers.TransactionChainHandler;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 
 /**
  * This class represent delegation wrapper for transaction variables.
@@ -24,6 +31,9 @@ public final class TransactionVarsWrapper {
     private LogicalDatastoreType configuration = null;
     private final DOMTransactionChain transactionChain;
     private final TransactionChainHandler transactionChainHandler;
+    private DOMDataTreeSelectiveReader selectiveReader = null;
+    private List<YangInstanceIdentifier> selectedFields = ImmutableList.of();
+    private OptionalInt selectedDepth = OptionalInt.empty();
 
     /**
      * Set base type of variables, which ones we need for transaction.
@@ -93,6 +103,51 @@ public final class TransactionVarsWrapper {
         return this.transactionChain;
     }
 
+    /**
+     * Set selective reader of mount point data together with the data to select. Reads are then done through it,
+     * so that only the selected data is read from the mount point.
+     *
+     * @param reader
+     *             {@link DOMDataTreeSelectiveReader} of mount point
+     * @param fields
+     *             paths of selected nodes relative to the read data
+     * @param depth
+     *             selected depth of the read data
+     */
+    public void setSelectiveRead(final DOMDataTreeSelectiveReader reader, final List<YangInstanceIdentifier> fields,
+            final OptionalInt depth) {
+        this.selectiveReader = requireNonNull(reader);
+        this.selectedFields = ImmutableList.copyOf(fields);
+        this.selectedDepth = requireNonNull(depth);
+    }
+
+    /**
+     * Get selective reader of mount point data.
+     *
+     * @return {@link DOMDataTreeSelectiveReader}, or null if data is read via transaction
+     */
+    public DOMDataTreeSelectiveReader getSelectiveReader() {
+        return this.selectiveReader;
+    }
+
+    /**
+     * Get paths of selected nodes relative to the read data.
+     *
+     * @return paths of selected nodes, empty if all nodes are selected
+     */
+    public List<YangInstanceIdentifier> getSelectedFields() {
+        return this.selectedFields;
+    }
+
+    /**
+     * Get selected depth of the read data.
+     *
+     * @return selected depth, empty if unbounded
+     */
+    public OptionalInt getSelectedDepth() {
+        return this.selectedDepth;
+    }
+
     public TransactionChainHandler getTransactionChainHandler() {
         return transactionChainHandler;
     }
@@ -27,6 +27,7 @@ import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeReadWriteTransaction;
 import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
+import org.opendaylight.netconf.api.dom.DOMDataTreeSelectiveReader;
 import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
 import org.opendaylight.restconf.common.context.WriterParameters;
 import org.opendaylight.restconf.common.context.WriterParameters.WriterParametersBuilder;
@@ -456,22 +457,37 @@ public final class ReadDataTransactionUtil {
     private static @Nullable NormalizedNode<?, ?> readDataViaTransaction(
             final @NonNull TransactionVarsWrapper transactionNode, final boolean closeTransactionChain) {
         final NormalizedNodeFactory dataFactory = new NormalizedNodeFactory();
+        final DOMDataTreeSelectiveReader selectiveReader = transactionNode.getSelectiveReader();
+        if (selectiveReader != null) {
+            // mount point reads only the selected data, anything more it returns is trimmed when writing the data
+            addReadCallback(selectiveReader.read(transactionNode.getLogicalDatastoreType(),
+                transactionNode.getInstanceIdentifier().getInstanceIdentifier(), transactionNode.getSelectedFields(),
+                transactionNode.getSelectedDepth()), transactionNode, dataFactory, closeTransactionChain);
+            return dataFactory.build();
+        }
+
         try (DOMDataTreeReadTransaction tx = transactionNode.getTransactionChain().newReadOnlyTransaction()) {
             final FluentFuture<Optional<NormalizedNode<?, ?>>> listenableFuture = tx.read(
                 transactionNode.getLogicalDatastoreType(),
                 transactionNode.getInstanceIdentifier().getInstanceIdentifier());
-            if (closeTransactionChain) {
-                //Method close transactionChain inside of TransactionVarsWrapper, if is provide as a parameter.
-                FutureCallbackTx.addCallback(listenableFuture, RestconfDataServiceConstant.ReadData.READ_TYPE_TX,
-                        dataFactory, transactionNode.getTransactionChain());
-            } else {
-                FutureCallbackTx.addCallback(listenableFuture, RestconfDataServiceConstant.ReadData.READ_TYPE_TX,
-                        dataFactory);
-            }
+            addReadCallback(listenableFuture, transactionNode, dataFactory, closeTransactionChain);
         }
         return dataFactory.build();
     }
 
+    private static void addReadCallback(final FluentFuture<Optional<NormalizedNode<?, ?>>> listenableFuture,
+            final TransactionVarsWrapper transactionNode, final NormalizedNodeFactory dataFactory,
+            final boolean closeTransactionChain) {
+        if (closeTransactionChain) {
+            //Method close transactionChain inside of TransactionVarsWrapper, if is provide as a parameter.
+            FutureCallbackTx.addCallback(listenableFuture, RestconfDataServiceConstant.ReadData.READ_TYPE_TX,
+                    dataFactory, transactionNode.getTransactionChain());
+        } else {
+            FutureCallbackTx.addCallback(listenableFuture, RestconfDataServiceConstant.ReadData.READ_TYPE_TX,
+                    dataFactory);
+        }
+    }
+
     /**
      * Read config and state data, then map them. Close {@link DOMTransactionChain} inside of object
      * {@link TransactionVarsWrapper} provided as a parameter.
@@ -111,6 +111,10 @@ public final class SubscribeToStreamUtil {
                     ErrorType.PROTOCOL,
                     ErrorTag.UNKNOWN_ELEMENT);
         }
+        if (notificationQueryParams.getFields().isPresent()) {
+            throw new RestconfDocumentedException("Fields parameter can be used only with data-change-event streams.",
+                    ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE);
+        }
 
         final DOMTransactionChain transactionChain = handlersHolder.getTransactionChainHandler().get();
         final DOMDataTreeReadWriteTransaction writeTransaction = transactionChain.newReadWriteTransaction();
@@ -205,13 +209,18 @@ public final class SubscribeToStreamUtil {
                 notificationQueryParams.getStop().orElse(null),
                 notificationQueryParams.getFilter().orElse(null),
                 false);
+        final EffectiveModelContext schemaContext = handlersHolder.getSchemaHandler().get();
         listener.get().setCloseVars(handlersHolder.getTransactionChainHandler(), handlersHolder.getSchemaHandler());
+        final Optional<String> fields = notificationQueryParams.getFields();
+        if (fields.isPresent()) {
+            // validate now, the selection itself applies to the web-socket session opened at the returned location
+            listener.get().parseFields(fields.get());
+        }
         registration(datastoreType, listener.get(), handlersHolder.getDomDataBrokerHandler().get());
 
         final URI uri = prepareUriByStreamName(uriInfo, streamName);
         final DOMTransactionChain transactionChain = handlersHolder.getTransactionChainHandler().get();
         final DOMDataTreeReadWriteTransaction writeTransaction = transactionChain.newReadWriteTransaction();
-        final EffectiveModelContext schemaContext = handlersHolder.getSchemaHandler().get();
         final boolean exist = checkExist(schemaContext, writeTransaction);
 
         final NormalizedNode mapToStreams = RestconfMappingNodeUtil
@@ -222,7 +231,9 @@ public final class SubscribeToStreamUtil {
                 writeTransaction, exist, mapToStreams);
         submitData(writeTransaction);
         transactionChain.close();
-        return uri;
+        return fields.isPresent()
+            ? UriBuilder.fromUri(uri).queryParam(RestconfDataServiceConstant.ReadData.FIELDS, fields.get()).build()
+            : uri;
     }
 
     static Module getMonitoringModule(final SchemaContext schemaContext) {
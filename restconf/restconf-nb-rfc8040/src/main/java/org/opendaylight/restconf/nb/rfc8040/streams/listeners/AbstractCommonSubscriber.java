@@ -13,6 +13,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import org.opendaylight.restconf.nb.rfc8040.streams.websockets.WebSocketSessionHandler;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.slf4j.Logger;
@@ -83,13 +84,25 @@ abstract class AbstractCommonSubscriber extends AbstractQueryParams implements B
      * @param data Data of incoming notifications.
      */
     synchronized void post(final String data) {
+        post(subscriber -> data);
+    }
+
+    /**
+     * Post data specific to each subscribed web-socket session handler.
+     *
+     * @param dataFor Function providing data for a subscriber, or {@code null} if there is nothing to send to it.
+     */
+    synchronized void post(final Function<WebSocketSessionHandler, String> dataFor) {
         final Iterator<WebSocketSessionHandler> iterator = subscribers.iterator();
         while (iterator.hasNext()) {
             final WebSocketSessionHandler subscriber = iterator.next();
             final Optional<InetSocketAddress> remoteEndpointAddress = subscriber.getRemoteEndpointAddress();
             if (remoteEndpointAddress.isPresent()) {
-                subscriber.sendDataMessage(data);
-                LOG.debug("Data was sent to subscriber {} on address {}:", this, remoteEndpointAddress.get());
+                final String data = dataFor.apply(subscriber);
+                if (data != null) {
+                    subscriber.sendDataMessage(data);
+                    LOG.debug("Data was sent to subscriber {} on address {}:", this, remoteEndpointAddress.get());
+                }
             } else {
                 // removal is probably not necessary, because it will be removed explicitly soon after invocation of
                 // onWebSocketClosed(..) in handler; but just to be sure ...
@@ -15,12 +15,21 @@ import com.google.common.base.MoreObjects;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.dom.DOMResult;
 import org.json.XML;
 import org.opendaylight.mdsal.dom.api.ClusteredDOMDataTreeChangeListener;
+import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.opendaylight.restconf.common.errors.RestconfError.ErrorTag;
+import org.opendaylight.restconf.common.errors.RestconfError.ErrorType;
+import org.opendaylight.restconf.nb.rfc8040.utils.parser.ParserFieldsParameter;
 import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping.NotificationOutputType;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -35,6 +44,7 @@ import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidate;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeCandidateNode;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextNode;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.Module;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
@@ -79,10 +89,31 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
             return;
         }
 
-        final String xml = prepareXml(dataTreeCandidates);
-        if (checkFilter(xml)) {
-            prepareAndPostData(xml);
+        // Each subscriber has its own selection of fields, subscribers with the same selection share the message
+        final Map<List<Set<QName>>, Optional<String>> messages = new HashMap<>();
+        post(subscriber -> messages.computeIfAbsent(subscriber.getFields(),
+            fields -> Optional.ofNullable(prepareData(dataTreeCandidates, fields))).orElse(null));
+    }
+
+    /**
+     * Parse value of the {@code fields} query parameter relative to the path of this listener. The result selects
+     * changed nodes which should be reported to a subscriber. Nodes which are not selected are skipped together with
+     * their subtree before they are serialized. Nodes above the last selected level are reported only if they are
+     * leaves, as data of any other such node include nodes which are not selected.
+     *
+     * @param fields Value of fields query parameter.
+     * @return Selected nodes organized into levels.
+     * @throws RestconfDocumentedException if the value is not valid
+     */
+    public List<Set<QName>> parseFields(final String fields) {
+        final EffectiveModelContext schemaContext = schemaHandler.get();
+        final Optional<DataSchemaContextNode<?>> node = DataSchemaContextTree.from(schemaContext).findChild(path);
+        if (!node.isPresent()) {
+            throw new RestconfDocumentedException("Schema node for path " + path + " was not found.",
+                    ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE);
         }
+        return ParserFieldsParameter.parseFieldsParameter(
+                new InstanceIdentifierContext<>(path, node.get().getDataSchemaNode(), null, schemaContext), fields);
     }
 
     /**
@@ -110,25 +141,30 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
     }
 
     /**
-     * Prepare data of notification and data to client.
+     * Prepare data of notification for a selection of fields.
      *
-     * @param xml XML-formatted data.
+     * @param dataTreeCandidates Data-tree candidates to be transformed.
+     * @param selectedFields     Selected nodes organized into levels, {@code null} if all nodes should be reported.
+     * @return Data in the output type of this listener, {@code null} if there is nothing to report.
      */
-    private void prepareAndPostData(final String xml) {
-        if (this.outputType.equals(NotificationOutputType.JSON)) {
-            post(XML.toJSONObject(xml).toString());
-        } else {
-            post(xml);
+    private String prepareData(final Collection<DataTreeCandidate> dataTreeCandidates,
+            final List<Set<QName>> selectedFields) {
+        final String xml = prepareXml(dataTreeCandidates, selectedFields);
+        if (xml == null || !checkFilter(xml)) {
+            return null;
         }
+        return this.outputType.equals(NotificationOutputType.JSON) ? XML.toJSONObject(xml).toString() : xml;
     }
 
     /**
      * Prepare data in printable form and transform it to String.
      *
      * @param dataTreeCandidates Data-tree candidates to be transformed.
-     * @return Data in printable form.
+     * @param selectedFields     Selected nodes organized into levels, {@code null} if all nodes should be reported.
+     * @return Data in printable form, {@code null} if fields are set and none of the changed nodes has been selected.
      */
-    private String prepareXml(final Collection<DataTreeCandidate> dataTreeCandidates) {
+    private String prepareXml(final Collection<DataTreeCandidate> dataTreeCandidates,
+            final List<Set<QName>> selectedFields) {
         final SchemaContext schemaContext = schemaHandler.get();
         final DataSchemaContextTree dataContextTree = DataSchemaContextTree.from(schemaContext);
         final Document doc = createDocument();
@@ -138,7 +174,10 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
                 "urn:opendaylight:params:xml:ns:yang:controller:md:sal:remote", "data-changed-notification");
 
         addValuesToDataChangedNotificationEventElement(doc, dataChangedNotificationEventElement, dataTreeCandidates,
-                schemaContext, dataContextTree);
+                schemaContext, dataContextTree, selectedFields);
+        if (selectedFields != null && !dataChangedNotificationEventElement.hasChildNodes()) {
+            return null;
+        }
         notificationElement.appendChild(dataChangedNotificationEventElement);
         return transformDoc(doc);
     }
@@ -149,7 +188,8 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
     @SuppressWarnings("checkstyle:hiddenField")
     private void addValuesToDataChangedNotificationEventElement(final Document doc,
             final Element dataChangedNotificationEventElement, final Collection<DataTreeCandidate> dataTreeCandidates,
-            final SchemaContext schemaContext, final DataSchemaContextTree dataSchemaContextTree) {
+            final SchemaContext schemaContext, final DataSchemaContextTree dataSchemaContextTree,
+            final List<Set<QName>> selectedFields) {
 
         for (DataTreeCandidate dataTreeCandidate : dataTreeCandidates) {
             DataTreeCandidateNode candidateNode = dataTreeCandidate.getRootNode();
@@ -157,15 +197,17 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
                 continue;
             }
             YangInstanceIdentifier yiid = dataTreeCandidate.getRootPath();
+            // candidates are rooted at the listener path, hence the root node itself is at depth 0
             addNodeToDataChangeNotificationEventElement(doc, dataChangedNotificationEventElement, candidateNode,
-                    yiid.getParent(), schemaContext, dataSchemaContextTree);
+                    yiid.getParent(), schemaContext, dataSchemaContextTree, selectedFields, -1);
         }
     }
 
     private void addNodeToDataChangeNotificationEventElement(final Document doc,
             final Element dataChangedNotificationEventElement, final DataTreeCandidateNode candidateNode,
             final YangInstanceIdentifier parentYiid, final SchemaContext schemaContext,
-            final DataSchemaContextTree dataSchemaContextTree) {
+            final DataSchemaContextTree dataSchemaContextTree, final List<Set<QName>> selectedFields,
+            final int parentDepth) {
 
         Optional<NormalizedNode<?, ?>> optionalNormalizedNode = Optional.empty();
         switch (candidateNode.getModificationType()) {
@@ -195,7 +237,14 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
         final Optional<DataSchemaContextNode<?>> childrenSchemaNode = dataSchemaContextTree.findChild(yiid);
         checkState(childrenSchemaNode.isPresent());
         boolean isNodeMixin = childrenSchemaNode.get().isMixin();
-        boolean isSkippedNonLeaf = getLeafNodesOnly() && !(normalizedNode instanceof LeafNode);
+        final int depth = isNodeMixin ? parentDepth : parentDepth + 1;
+        if (!isNodeMixin && !isSelectedByFields(selectedFields, normalizedNode.getNodeType(), depth)) {
+            // neither this node nor any of its children are reported, do not bother encoding them
+            return;
+        }
+
+        boolean isSkippedNonLeaf = (getLeafNodesOnly() || isAboveSelectedLevels(selectedFields, depth))
+                && !(normalizedNode instanceof LeafNode);
         if (!isNodeMixin && !isSkippedNonLeaf) {
             Node node = null;
             switch (candidateNode.getModificationType()) {
@@ -220,11 +269,40 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements Cluster
         }
 
         for (DataTreeCandidateNode childNode : candidateNode.getChildNodes()) {
-            addNodeToDataChangeNotificationEventElement(
-                    doc, dataChangedNotificationEventElement, childNode, yiid, schemaContext, dataSchemaContextTree);
+            addNodeToDataChangeNotificationEventElement(doc, dataChangedNotificationEventElement, childNode, yiid,
+                    schemaContext, dataSchemaContextTree, selectedFields, depth);
         }
     }
 
+    /**
+     * Check if node at specified depth is selected by fields. Nodes deeper than the last selected level are part of
+     * a selected subtree and are always reported.
+     *
+     * @param selectedFields Selected nodes organized into levels, may be {@code null}.
+     * @param nodeType       QName of the node.
+     * @param depth          Depth of the node relative to the listener path.
+     * @return {@code true} if the node should be reported, {@code false} otherwise.
+     */
+    private static boolean isSelectedByFields(final List<Set<QName>> selectedFields, final QName nodeType,
+            final int depth) {
+        if (selectedFields == null || depth <= 0 || depth > selectedFields.size()) {
+            return true;
+        }
+        return selectedFields.get(depth - 1).contains(nodeType);
+    }
+
+    /**
+     * Check if a node at specified depth lies above the last selected level. Data of such a node include nodes which
+     * are not selected, hence the node is only traversed to reach the selected nodes, but it is not reported itself.
+     *
+     * @param selectedFields Selected nodes organized into levels, may be {@code null}.
+     * @param depth          Depth of the node relative to the listener path.
+     * @return {@code true} if the node must not be reported with its data, {@code false} otherwise.
+     */
+    private static boolean isAboveSelectedLevels(final List<Set<QName>> selectedFields, final int depth) {
+        return selectedFields != null && depth < selectedFields.size();
+    }
+
     /**
      * Creates data-changed event element from data.
      *
@@ -8,14 +8,20 @@
 
 package org.opendaylight.restconf.nb.rfc8040.streams.websockets;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.servlet.http.HttpServletResponse;
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeRequest;
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeResponse;
 import org.eclipse.jetty.websocket.servlet.WebSocketCreator;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.opendaylight.restconf.nb.rfc8040.rests.utils.RestconfDataServiceConstant.ReadData;
 import org.opendaylight.restconf.nb.rfc8040.streams.listeners.BaseListenerInterface;
+import org.opendaylight.restconf.nb.rfc8040.streams.listeners.ListenerAdapter;
 import org.opendaylight.restconf.nb.rfc8040.streams.listeners.ListenersBroker;
+import org.opendaylight.yangtools.yang.common.QName;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,7 +55,7 @@ class WebSocketFactory implements WebSocketCreator {
     /**
      * Creation of the new web-socket based on input HTTP/HTTPS upgrade request. Web-socket is created only if the
      * data listener for input URI can be found (results in status code 101); otherwise status code 404 is set
-     * in upgrade response.
+     * in upgrade response. An invalid {@code fields} query parameter results in status code 400.
      *
      * @param servletUpgradeRequest  Upgrade request.
      * @param servletUpgradeResponse Upgrade response.
@@ -65,12 +71,21 @@ class WebSocketFactory implements WebSocketCreator {
         if (listener.isPresent()) {
             LOG.debug("Listener for stream with name {} has been found, web-socket session handler will be created.",
                     streamName);
+            final List<Set<QName>> fields;
+            try {
+                fields = parseFields(listener.get(), servletUpgradeRequest.getParameterMap().get(ReadData.FIELDS));
+            } catch (RestconfDocumentedException e) {
+                LOG.debug("Invalid fields requested for stream with name {}.", streamName, e);
+                servletUpgradeResponse.setSuccess(false);
+                servletUpgradeResponse.setStatusCode(HttpServletResponse.SC_BAD_REQUEST);
+                return null;
+            }
             servletUpgradeResponse.setSuccess(true);
             servletUpgradeResponse.setStatusCode(HttpServletResponse.SC_SWITCHING_PROTOCOLS);
             // note: every web-socket manages PING process individually because this approach scales better than sending
             // of PING frames at once over all web-socket sessions
             return new WebSocketSessionHandler(executorService, listener.get(), maximumFragmentLength,
-                    heartbeatInterval);
+                    heartbeatInterval, fields);
         } else {
             LOG.debug("Listener for stream with name {} was not found.", streamName);
             servletUpgradeResponse.setSuccess(false);
@@ -78,4 +93,19 @@ class WebSocketFactory implements WebSocketCreator {
             return null;
         }
     }
+
+    /**
+     * Parse selection of fields of data-change events requested by the web-socket session. Selection of fields is
+     * not supported for YANG notification streams, where the parameter is ignored.
+     *
+     * @param listener Listener of the stream.
+     * @param values   Values of the fields query parameter, may be {@code null}.
+     * @return Selected nodes organized into levels, {@code null} if all nodes should be reported.
+     */
+    private static List<Set<QName>> parseFields(final BaseListenerInterface listener, final List<String> values) {
+        if (values == null || values.isEmpty() || !(listener instanceof ListenerAdapter)) {
+            return null;
+        }
+        return ((ListenerAdapter) listener).parseFields(values.get(0));
+    }
 }
\ No newline at end of file
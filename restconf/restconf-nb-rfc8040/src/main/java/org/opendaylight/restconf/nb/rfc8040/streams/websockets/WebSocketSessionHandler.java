@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -27,6 +28,7 @@ import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketError;
 import org.eclipse.jetty.websocket.api.annotations.WebSocket;
 import org.opendaylight.restconf.nb.rfc8040.streams.listeners.BaseListenerInterface;
+import org.opendaylight.yangtools.yang.common.QName;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,6 +46,7 @@ public class WebSocketSessionHandler {
     private final BaseListenerInterface listener;
     private final int maximumFragmentLength;
     private final int heartbeatInterval;
+    private final List<Set<QName>> fields;
 
     private Session session;
     private ScheduledFuture<?> pingProcess;
@@ -66,10 +69,35 @@ public class WebSocketSessionHandler {
      */
     WebSocketSessionHandler(final ScheduledExecutorService executorService, final BaseListenerInterface listener,
             final int maximumFragmentLength, final int heartbeatInterval) {
+        this(executorService, listener, maximumFragmentLength, heartbeatInterval, null);
+    }
+
+    /**
+     * Creation of the new web-socket session handler, which reports only selected fields of data-change events.
+     *
+     * @param executorService       Executor that is used for periodical sending of web-socket ping messages.
+     * @param listener              YANG notification or data-change event listener to which client on this web-socket
+     *                              session subscribes to.
+     * @param maximumFragmentLength Maximum fragment length in number of Unicode code units (characters).
+     * @param heartbeatInterval     Interval in milliseconds of sending of ping control frames to remote endpoint.
+     * @param fields                Selected nodes organized into levels, {@code null} if all nodes should be reported.
+     */
+    WebSocketSessionHandler(final ScheduledExecutorService executorService, final BaseListenerInterface listener,
+            final int maximumFragmentLength, final int heartbeatInterval, final List<Set<QName>> fields) {
         this.executorService = executorService;
         this.listener = listener;
         this.maximumFragmentLength = maximumFragmentLength;
         this.heartbeatInterval = heartbeatInterval;
+        this.fields = fields;
+    }
+
+    /**
+     * Get selection of data-change event fields which should be sent over this web-socket session.
+     *
+     * @return Selected nodes organized into levels, {@code null} if all nodes should be reported.
+     */
+    public List<Set<QName>> getFields() {
+        return fields;
     }
 
     /**
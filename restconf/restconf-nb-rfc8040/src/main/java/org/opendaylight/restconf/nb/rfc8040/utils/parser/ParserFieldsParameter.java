@@ -21,8 +21,11 @@ import org.opendaylight.restconf.common.errors.RestconfError.ErrorType;
 import org.opendaylight.restconf.nb.rfc8040.utils.parser.builder.ParserBuilderConstants.Deserializer;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextNode;
+import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 
 public final class ParserFieldsParameter {
@@ -59,6 +62,73 @@ public final class ParserFieldsParameter {
         return parsed;
     }
 
+    /**
+     * Translate parsed fields parameter to paths of the selected nodes, relative to the request target. Paths are
+     * descended through all nodes selected on each level, hence they cover at least the nodes written out for
+     * the same fields. Mixin nodes are traversed with list entries identified without keys.
+     * @param identifier identifier context created from request URI
+     * @param fields parsed fields parameter
+     * @return {@link List} of selected paths
+     */
+    public static @NonNull List<YangInstanceIdentifier> fieldsToPaths(
+            final @NonNull InstanceIdentifierContext<?> identifier, final @NonNull List<Set<QName>> fields) {
+        DataSchemaContextNode<?> startNode = DataSchemaContextTree.from(identifier.getSchemaContext())
+                .getChild(identifier.getInstanceIdentifier());
+        if (startNode == null) {
+            throw new RestconfDocumentedException(
+                    "Start node missing in " + identifier.getInstanceIdentifier(),
+                    ErrorType.PROTOCOL, ErrorTag.INVALID_VALUE);
+        }
+
+        // resolve target list to its entries
+        YangInstanceIdentifier startPath = YangInstanceIdentifier.empty();
+        while (startNode.isMixin() && !(startNode.getDataSchemaNode() instanceof LeafListSchemaNode)) {
+            startNode = startNode.getChild(startNode.getIdentifier().getNodeType());
+            startPath = startPath.node(startNode.getIdentifier());
+        }
+
+        final List<YangInstanceIdentifier> paths = new ArrayList<>();
+        collectPaths(startNode, startPath, fields, 0, paths);
+        return paths;
+    }
+
+    /**
+     * Collect paths of nodes selected on given level and below.
+     * @param node current node
+     * @param path path of current node
+     * @param fields parsed fields parameter
+     * @param level current nodes level
+     * @param paths list of results
+     */
+    private static void collectPaths(final @NonNull DataSchemaContextNode<?> node,
+            final @NonNull YangInstanceIdentifier path, final @NonNull List<Set<QName>> fields, final int level,
+            final @NonNull List<YangInstanceIdentifier> paths) {
+        boolean selected = false;
+        if (level < fields.size() && !node.isMixin()) {
+            for (final QName qname : fields.get(level)) {
+                DataSchemaContextNode<?> child = node.getChild(qname);
+                if (child == null) {
+                    // selected in another parent on the same level
+                    continue;
+                }
+
+                YangInstanceIdentifier childPath = path.node(child.getIdentifier());
+                while (child.isMixin() && !(child.getDataSchemaNode() instanceof LeafListSchemaNode)) {
+                    child = child.getChild(qname);
+                    childPath = childPath.node(child.getIdentifier());
+                }
+
+                collectPaths(child, childPath, fields, level + 1, paths);
+                selected = true;
+            }
+        }
+
+        // no more nodes selected, whole subtree is read
+        if (!selected) {
+            paths.add(path);
+        }
+    }
+
     /**
      * Parse input value of fields parameter and create list of sets. Each set represents one level of child nodes.
      * @param input input value of fields parameter
@@ -9,14 +9,25 @@ package org.opendaylight.restconf.nb.rfc8040.streams.listeners;
 
 import static java.time.Instant.EPOCH;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.util.concurrent.Uninterruptibles;
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import org.json.JSONObject;
@@ -35,12 +46,14 @@ import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
 import org.opendaylight.restconf.nb.rfc8040.handlers.SchemaContextHandler;
 import org.opendaylight.restconf.nb.rfc8040.handlers.TransactionChainHandler;
+import org.opendaylight.restconf.nb.rfc8040.streams.websockets.WebSocketSessionHandler;
 import org.opendaylight.yang.gen.v1.instance.identifier.patch.module.rev151121.PatchCont;
 import org.opendaylight.yang.gen.v1.instance.identifier.patch.module.rev151121.patch.cont.MyList1;
 import org.opendaylight.yang.gen.v1.instance.identifier.patch.module.rev151121.patch.cont.MyList1Builder;
 import org.opendaylight.yang.gen.v1.instance.identifier.patch.module.rev151121.patch.cont.MyList1Key;
 import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
@@ -57,6 +70,10 @@ public class ListenerAdapterTest extends AbstractConcurrentDataBrokerTest {
     private static final String JSON_NOTIF_CREATE = "/listener-adapter-test/notif-create.json";
     private static final String JSON_NOTIF_UPDATE = "/listener-adapter-test/notif-update.json";
     private static final String JSON_NOTIF_DEL = "/listener-adapter-test/notif-del.json";
+    private static final String JSON_NOTIF_FIELDS_CREATE = "/listener-adapter-test/notif-fields-create.json";
+    private static final String JSON_NOTIF_FIELDS_DEL = "/listener-adapter-test/notif-fields-del.json";
+    private static final String JSON_NOTIF_FIELDS_ENTRY_CREATE =
+            "/listener-adapter-test/notif-fields-entry-create.json";
 
     private static final YangInstanceIdentifier PATCH_CONT_YIID =
             YangInstanceIdentifier.create(new YangInstanceIdentifier.NodeIdentifier(PatchCont.QNAME));
@@ -91,20 +108,43 @@ public class ListenerAdapterTest extends AbstractConcurrentDataBrokerTest {
 
     class ListenerAdapterTester extends ListenerAdapter {
 
-        private volatile String lastNotification;
-        private CountDownLatch notificationLatch = new CountDownLatch(1);
+        private final TestSubscriber subscriber;
 
         ListenerAdapterTester(final YangInstanceIdentifier path, final String streamName,
                               final NotificationOutputTypeGrouping.NotificationOutputType outputType,
                               final boolean leafNodesOnly) {
             super(path, streamName, outputType);
             setQueryParams(EPOCH, null, null, leafNodesOnly);
+            subscriber = subscribe(null);
+        }
+
+        TestSubscriber subscribe(final List<Set<QName>> fields) {
+            final TestSubscriber ret = new TestSubscriber(fields);
+            addSubscriber(ret.handler);
+            return ret;
         }
 
-        @Override
-        protected void post(final String data) {
-            this.lastNotification = data;
-            notificationLatch.countDown();
+        public void assertGot(final String json) {
+            subscriber.assertGot(json);
+        }
+    }
+
+    static class TestSubscriber {
+
+        final WebSocketSessionHandler handler = mock(WebSocketSessionHandler.class);
+
+        private volatile String lastNotification;
+        private volatile CountDownLatch notificationLatch = new CountDownLatch(1);
+
+        TestSubscriber(final List<Set<QName>> fields) {
+            doReturn(Optional.of(InetSocketAddress.createUnresolved("subscriber", 0))).when(handler)
+                    .getRemoteEndpointAddress();
+            doReturn(fields).when(handler).getFields();
+            doAnswer(invocation -> {
+                this.lastNotification = invocation.getArgument(0);
+                notificationLatch.countDown();
+                return null;
+            }).when(handler).sendDataMessage(anyString());
         }
 
         public void assertGot(final String json) {
@@ -199,4 +239,83 @@ public class ListenerAdapterTest extends AbstractConcurrentDataBrokerTest {
         writeTransaction.commit();
         adapter.assertGot(getNotifJson(JSON_NOTIF_DEL));
     }
+
+    @Test
+    public void testJsonNotifsFields() throws Exception {
+        // the default subscriber does not select any fields, unlike the second subscriber of the same listener
+        ListenerAdapterTester adapter = new ListenerAdapterTester(PATCH_CONT_YIID, "Casey",
+                NotificationOutputTypeGrouping.NotificationOutputType.JSON, true);
+        TestSubscriber selected = adapter.subscribe(
+                List.of(Set.of(MyList1.QNAME), Set.of(QName.create(MyList1.QNAME, "my-leaf11"))));
+        adapter.setCloseVars(transactionChainHandler, schemaContextHandler);
+
+        DOMDataTreeChangeService changeService = domDataBroker.getExtensions()
+                .getInstance(DOMDataTreeChangeService.class);
+        DOMDataTreeIdentifier root = new DOMDataTreeIdentifier(LogicalDatastoreType.CONFIGURATION, PATCH_CONT_YIID);
+        changeService.registerDataTreeChangeListener(root, adapter);
+
+        WriteTransaction writeTransaction = dataBroker.newWriteOnlyTransaction();
+        MyList1Builder builder = new MyList1Builder().setMyLeaf11("Jed").setName("Althea");
+        InstanceIdentifier<MyList1> iid = InstanceIdentifier.create(PatchCont.class)
+                .child(MyList1.class, new MyList1Key("Althea"));
+        writeTransaction.mergeParentStructurePut(LogicalDatastoreType.CONFIGURATION, iid, builder.build());
+        writeTransaction.commit();
+        adapter.assertGot(getNotifJson(JSON_NOTIF_LEAVES_CREATE));
+        selected.assertGot(getNotifJson(JSON_NOTIF_FIELDS_CREATE));
+
+        // change of a leaf which is not selected must not be reported to the second subscriber at all
+        writeTransaction = dataBroker.newWriteOnlyTransaction();
+        builder = new MyList1Builder().withKey(new MyList1Key("Althea")).setMyLeaf12("Bertha");
+        writeTransaction.mergeParentStructureMerge(LogicalDatastoreType.CONFIGURATION, iid, builder.build());
+        writeTransaction.commit();
+        adapter.assertGot(getNotifJson(JSON_NOTIF_LEAVES_UPDATE));
+
+        writeTransaction = dataBroker.newWriteOnlyTransaction();
+        writeTransaction.delete(LogicalDatastoreType.CONFIGURATION, iid);
+        writeTransaction.commit();
+        adapter.assertGot(getNotifJson(JSON_NOTIF_LEAVES_DEL));
+        selected.assertGot(getNotifJson(JSON_NOTIF_FIELDS_DEL));
+        verify(selected.handler, times(2)).sendDataMessage(anyString());
+    }
+
+    @Test
+    public void testJsonNotifsFieldsNonLeaves() throws Exception {
+        ListenerAdapterTester adapter = new ListenerAdapterTester(PATCH_CONT_YIID, "Casey",
+                NotificationOutputTypeGrouping.NotificationOutputType.JSON, false);
+        TestSubscriber leaf = adapter.subscribe(
+                List.of(Set.of(MyList1.QNAME), Set.of(QName.create(MyList1.QNAME, "my-leaf11"))));
+        TestSubscriber entry = adapter.subscribe(List.of(Set.of(MyList1.QNAME)));
+        adapter.setCloseVars(transactionChainHandler, schemaContextHandler);
+
+        DOMDataTreeChangeService changeService = domDataBroker.getExtensions()
+                .getInstance(DOMDataTreeChangeService.class);
+        DOMDataTreeIdentifier root = new DOMDataTreeIdentifier(LogicalDatastoreType.CONFIGURATION, PATCH_CONT_YIID);
+        changeService.registerDataTreeChangeListener(root, adapter);
+
+        // ancestors of the selected nodes are not reported, as their data include nodes which are not selected
+        WriteTransaction writeTransaction = dataBroker.newWriteOnlyTransaction();
+        MyList1Builder builder = new MyList1Builder().setMyLeaf11("Jed").setName("Althea");
+        InstanceIdentifier<MyList1> iid = InstanceIdentifier.create(PatchCont.class)
+                .child(MyList1.class, new MyList1Key("Althea"));
+        writeTransaction.mergeParentStructurePut(LogicalDatastoreType.CONFIGURATION, iid, builder.build());
+        writeTransaction.commit();
+        adapter.assertGot(getNotifJson(JSON_NOTIF_CREATE));
+        leaf.assertGot(getNotifJson(JSON_NOTIF_FIELDS_CREATE));
+        entry.assertGot(getNotifJson(JSON_NOTIF_FIELDS_ENTRY_CREATE));
+
+        // change of a leaf which is not selected must not be reported to the first selecting subscriber at all
+        writeTransaction = dataBroker.newWriteOnlyTransaction();
+        builder = new MyList1Builder().withKey(new MyList1Key("Althea")).setMyLeaf12("Bertha");
+        writeTransaction.mergeParentStructureMerge(LogicalDatastoreType.CONFIGURATION, iid, builder.build());
+        writeTransaction.commit();
+        adapter.assertGot(getNotifJson(JSON_NOTIF_UPDATE));
+        verify(entry.handler, timeout(5000).times(2)).sendDataMessage(anyString());
+
+        writeTransaction = dataBroker.newWriteOnlyTransaction();
+        writeTransaction.delete(LogicalDatastoreType.CONFIGURATION, iid);
+        writeTransaction.commit();
+        adapter.assertGot(getNotifJson(JSON_NOTIF_DEL));
+        leaf.assertGot(getNotifJson(JSON_NOTIF_FIELDS_DEL));
+        verify(leaf.handler, times(2)).sendDataMessage(anyString());
+    }
 }
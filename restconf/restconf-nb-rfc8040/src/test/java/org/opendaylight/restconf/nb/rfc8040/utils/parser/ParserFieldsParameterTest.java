@@ -31,6 +31,9 @@ import org.opendaylight.restconf.nb.rfc8040.TestRestconfUtils;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
@@ -344,6 +347,29 @@ public class ParserFieldsParameterTest {
                 Sets.newHashSet(INSTANCE_NAME_Q_NAME, NEXT_SERVICE_Q_NAME)));
     }
 
+    /**
+     * Test translation of parsed fields parameter to paths of selected nodes. Nodes without selected children are
+     * selected as a whole.
+     */
+    @Test
+    public void fieldsToPathsTest() {
+        Mockito.when(identifierTestServices.getInstanceIdentifier())
+                .thenReturn(YangInstanceIdentifier.of(TEST_DATA_Q_NAME));
+        final List<Set<QName>> parsedFields = ParserFieldsParameter.parseFieldsParameter(identifierTestServices,
+                "services(type-of-service;instance/provider;next-data)");
+        final List<YangInstanceIdentifier> paths = ParserFieldsParameter.fieldsToPaths(identifierTestServices,
+                parsedFields);
+
+        final YangInstanceIdentifier services = YangInstanceIdentifier.create(NodeIdentifier.create(SERVICES_Q_NAME),
+                NodeIdentifierWithPredicates.of(SERVICES_Q_NAME));
+        assertEquals(Sets.newHashSet(
+                services.node(TYPE_OF_SERVICE_Q_NAME),
+                services.node(INSTANCE_Q_NAME).node(NodeIdentifierWithPredicates.of(INSTANCE_Q_NAME))
+                        .node(PROVIDER_Q_NAME),
+                services.node(NEXT_DATA_Q_NAME)), Sets.newHashSet(paths));
+        assertEquals(3, paths.size());
+    }
+
     /**
      * Test parse fields parameter containing not expected character.
      */
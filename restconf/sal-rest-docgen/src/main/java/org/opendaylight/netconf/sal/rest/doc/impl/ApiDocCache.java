@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.rest.doc.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.net.URI;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.OAversion;
+import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.URIType;
+import org.opendaylight.netconf.sal.rest.doc.swagger.CommonApiObject;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of generated documents. Documents are grouped by the identity of the {@link SchemaContext} they were generated
+ * from, which is held weakly, so all documents of a schema context are dropped once that context is replaced and
+ * garbage-collected. Cached documents are shared between requests and must not be modified.
+ *
+ * <p>
+ * Cache hits are served without any locking. Generation of missing documents is serialized, because generators are
+ * not safe to be used concurrently.
+ */
+public final class ApiDocCache {
+    private static final Logger LOG = LoggerFactory.getLogger(ApiDocCache.class);
+    private static final int MAX_DOCUMENTS_PER_CONTEXT = 512;
+
+    private final LoadingCache<SchemaContext, Cache<DocKey, CommonApiObject>> documents = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(CacheLoader.from(() -> CacheBuilder.newBuilder().maximumSize(MAX_DOCUMENTS_PER_CONTEXT).build()));
+    private final Object generationLock = new Object();
+
+    /**
+     * Return cached document or generate and cache a new one.
+     *
+     * @param context   schema context the document is generated from
+     * @param key       identification of the document within the schema context
+     * @param generator generator of the document, may return {@code null} if the document cannot be generated
+     * @return cached or freshly generated document, {@code null} if it cannot be generated
+     */
+    public CommonApiObject get(final SchemaContext context, final DocKey key,
+            final Supplier<CommonApiObject> generator) {
+        final Cache<DocKey, CommonApiObject> contextDocuments = documents.getUnchecked(requireNonNull(context));
+        final CommonApiObject cached = contextDocuments.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        synchronized (generationLock) {
+            // another thread may have generated the document while we were waiting
+            final CommonApiObject concurrent = contextDocuments.getIfPresent(key);
+            if (concurrent != null) {
+                return concurrent;
+            }
+
+            LOG.debug("Generating document {}", key);
+            final CommonApiObject generated = generator.get();
+            if (generated != null) {
+                contextDocuments.put(key, generated);
+            }
+            return generated;
+        }
+    }
+
+    /**
+     * Invalidate all documents generated for a particular mount point.
+     *
+     * @param mountContext URL prefix of the mount point
+     */
+    public void invalidateMount(final String mountContext) {
+        for (final Cache<DocKey, CommonApiObject> contextDocuments : documents.asMap().values()) {
+            contextDocuments.asMap().keySet().removeIf(key -> mountContext.equals(key.context));
+        }
+    }
+
+    /**
+     * Invalidate all documents generated for a particular schema context.
+     *
+     * @param context schema context
+     */
+    public void invalidate(final SchemaContext context) {
+        documents.invalidate(context);
+    }
+
+    /**
+     * Invalidate all cached documents.
+     */
+    public void invalidateAll() {
+        documents.invalidateAll();
+    }
+
+    /**
+     * Identification of a document within a single schema context.
+     */
+    public static final class DocKey {
+        private final URI baseUri;
+        private final String context;
+        private final URIType uriType;
+        private final OAversion oaversion;
+        private final String module;
+        private final String revision;
+        private final Integer pageNum;
+
+        private DocKey(final URI baseUri, final String context, final URIType uriType, final OAversion oaversion,
+                final String module, final String revision, final Integer pageNum) {
+            this.baseUri = requireNonNull(baseUri);
+            this.context = requireNonNull(context);
+            this.uriType = requireNonNull(uriType);
+            this.oaversion = requireNonNull(oaversion);
+            this.module = module;
+            this.revision = revision;
+            this.pageNum = pageNum;
+        }
+
+        /**
+         * Create key of a document describing all modules.
+         *
+         * @param baseUri   base URI of the request, documents refer to scheme and host of it
+         * @param context   URL prefix of the mount point, empty for controller documents
+         * @param uriType   RESTCONF version
+         * @param oaversion OpenAPI version
+         * @param pageNum   requested page, empty if all modules are requested
+         * @return document key
+         */
+        public static DocKey allModules(final URI baseUri, final String context, final URIType uriType,
+                final OAversion oaversion, final Optional<Integer> pageNum) {
+            return new DocKey(baseUri, context, uriType, oaversion, null, null, pageNum.orElse(null));
+        }
+
+        /**
+         * Create key of a document describing single module.
+         *
+         * @param baseUri   base URI of the request, documents refer to scheme and host of it
+         * @param context   URL prefix of the mount point, empty for controller documents
+         * @param uriType   RESTCONF version
+         * @param oaversion OpenAPI version
+         * @param module    module name
+         * @param revision  module revision, may be {@code null}
+         * @return document key
+         */
+        public static DocKey module(final URI baseUri, final String context, final URIType uriType,
+                final OAversion oaversion, final String module, final String revision) {
+            return new DocKey(baseUri, context, uriType, oaversion, requireNonNull(module), revision, null);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(baseUri, context, uriType, oaversion, module, revision, pageNum);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DocKey)) {
+                return false;
+            }
+            final DocKey other = (DocKey) obj;
+            return baseUri.equals(other.baseUri) && context.equals(other.context) && uriType == other.uriType
+                    && oaversion == other.oaversion && Objects.equals(module, other.module)
+                    && Objects.equals(revision, other.revision) && Objects.equals(pageNum, other.pageNum);
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).omitNullValues()
+                    .add("baseUri", baseUri)
+                    .add("context", context)
+                    .add("uriType", uriType)
+                    .add("oaversion", oaversion)
+                    .add("module", module)
+                    .add("revision", revision)
+                    .add("pageNum", pageNum)
+                    .toString();
+        }
+    }
+}
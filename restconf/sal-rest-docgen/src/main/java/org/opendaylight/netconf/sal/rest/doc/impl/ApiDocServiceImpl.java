@@ -10,13 +10,16 @@ package org.opendaylight.netconf.sal.rest.doc.impl;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import org.opendaylight.netconf.sal.rest.doc.api.ApiDocService;
+import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocCache.DocKey;
 import org.opendaylight.netconf.sal.rest.doc.mountpoints.MountPointSwagger;
 import org.opendaylight.netconf.sal.rest.doc.swagger.CommonApiObject;
 import org.opendaylight.netconf.sal.rest.doc.swagger.MountPointInstance;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 
 
 /**
@@ -26,11 +29,11 @@ import org.opendaylight.netconf.sal.rest.doc.swagger.MountPointInstance;
  * RESTCONF APIs. The output of this is used by embedded Swagger UI.
  *
  * <p>
- * NOTE: These API's need to be synchronized due to bug 1198. Thread access to
- * the SchemaContext is not synchronized properly and thus you can end up with
- * missing definitions without this synchronization. There are likely otherways
- * to work around this limitation, but given that this API is a dev only tool
- * and not dependent UI, this was the fastest work around.
+ * NOTE: Generation of documents needs to be synchronized due to bug 1198. Thread
+ * access to the SchemaContext is not synchronized properly and thus you can end
+ * up with missing definitions without this synchronization. Generated documents
+ * are cached in {@link ApiDocCache}, which serializes generation and serves
+ * already generated documents without locking.
  */
 public class ApiDocServiceImpl implements ApiDocService {
 
@@ -47,6 +50,7 @@ public class ApiDocServiceImpl implements ApiDocService {
     private final ApiDocGeneratorDraftO2 apiDocGeneratorDraft02;
     private final ApiDocGeneratorRFC8040 apiDocGeneratorRFC8040;
     private final AllModulesDocGenerator allModulesDocGenerator;
+    private final ApiDocCache cache = new ApiDocCache();
 
     public ApiDocServiceImpl(final MountPointSwaggerGeneratorDraft02 mountPointSwaggerGeneratorDraft02,
                              final MountPointSwaggerGeneratorRFC8040 mountPointSwaggerGeneratorRFC8040,
@@ -63,9 +67,12 @@ public class ApiDocServiceImpl implements ApiDocService {
     }
 
     @Override
-    public synchronized Response getAllModulesDoc(final UriInfo uriInfo) {
-        final CommonApiObject allModulesDoc = allModulesDocGenerator.getAllModulesDoc(uriInfo, identifyUriType(uriInfo),
-                identifyOpenApiVersion(uriInfo));
+    public Response getAllModulesDoc(final UriInfo uriInfo) {
+        final URIType uriType = identifyUriType(uriInfo);
+        final OAversion oaversion = identifyOpenApiVersion(uriInfo);
+        final CommonApiObject allModulesDoc = getCached(
+                DocKey.allModules(uriInfo.getBaseUri(), "", uriType, oaversion, Optional.empty()),
+                () -> allModulesDocGenerator.getAllModulesDoc(uriInfo, uriType, oaversion));
         return Response.ok(allModulesDoc).build();
     }
 
@@ -73,28 +80,34 @@ public class ApiDocServiceImpl implements ApiDocService {
      * Generates Swagger compliant document listing APIs for module.
      */
     @Override
-    public synchronized Response getDocByModule(final String module, final String revision, final UriInfo uriInfo) {
-        final CommonApiObject doc;
+    public Response getDocByModule(final String module, final String revision, final UriInfo uriInfo) {
         final OAversion oaversion = identifyOpenApiVersion(uriInfo);
-        if (identifyUriType(uriInfo).equals(URIType.RFC8040)) {
-            doc = apiDocGeneratorRFC8040.getApiDeclaration(module, revision, uriInfo, URIType.RFC8040, oaversion);
-        } else {
-            doc = apiDocGeneratorDraft02.getApiDeclaration(module, revision, uriInfo, URIType.DRAFT02, oaversion);
-        }
+        final URIType uriType = identifyUriType(uriInfo);
+        final CommonApiObject doc = getCached(
+                DocKey.module(uriInfo.getBaseUri(), "", uriType, oaversion, module, revision),
+                () -> generateDocByModule(module, revision, uriInfo, uriType, oaversion));
 
         return Response.ok(doc).build();
     }
 
+    private CommonApiObject generateDocByModule(final String module, final String revision, final UriInfo uriInfo,
+                                                final URIType uriType, final OAversion oaversion) {
+        if (uriType.equals(URIType.RFC8040)) {
+            return apiDocGeneratorRFC8040.getApiDeclaration(module, revision, uriInfo, URIType.RFC8040, oaversion);
+        }
+        return apiDocGeneratorDraft02.getApiDeclaration(module, revision, uriInfo, URIType.DRAFT02, oaversion);
+    }
+
     /**
      * Redirects to embedded swagger ui.
      */
     @Override
-    public synchronized Response getApiExplorer(final UriInfo uriInfo) {
+    public Response getApiExplorer(final UriInfo uriInfo) {
         return Response.seeOther(uriInfo.getBaseUriBuilder().path("../explorer/index.html").build()).build();
     }
 
     @Override
-    public synchronized Response getListOfMounts(final UriInfo uriInfo) {
+    public Response getListOfMounts(final UriInfo uriInfo) {
         final MountPointSwagger mountPointSwagger;
         if (identifyUriType(uriInfo).equals(URIType.RFC8040)) {
             mountPointSwagger = mountPointSwaggerRFC8040;
@@ -108,7 +121,7 @@ public class ApiDocServiceImpl implements ApiDocService {
     }
 
     @Override
-    public synchronized Response getMountDocByModule(final String instanceNum, final String module,
+    public Response getMountDocByModule(final String instanceNum, final String module,
                                                      final String revision, final UriInfo uriInfo) {
         final CommonApiObject api;
         final OAversion oaversion = identifyOpenApiVersion(uriInfo);
@@ -125,7 +138,7 @@ public class ApiDocServiceImpl implements ApiDocService {
     }
 
     @Override
-    public synchronized Response getMountDoc(final String instanceNum, final UriInfo uriInfo) {
+    public Response getMountDoc(final String instanceNum, final UriInfo uriInfo) {
         final CommonApiObject api;
         final OAversion oaversion = identifyOpenApiVersion(uriInfo);
         final String stringPageNum = uriInfo.getQueryParameters().getFirst(PAGE_NUM);
@@ -143,6 +156,15 @@ public class ApiDocServiceImpl implements ApiDocService {
         return Response.ok(api).build();
     }
 
+    private CommonApiObject getCached(final DocKey key, final Supplier<CommonApiObject> generator) {
+        final SchemaContext context = apiDocGeneratorRFC8040.getSchemaService().getGlobalContext();
+        if (context == null) {
+            // let the generator report missing schema context
+            return generator.get();
+        }
+        return cache.get(context, key, generator);
+    }
+
     private static URIType identifyUriType(final UriInfo uriInfo) {
         if (uriInfo.getBaseUri().toString().contains("/18/")) {
             return URIType.RFC8040;
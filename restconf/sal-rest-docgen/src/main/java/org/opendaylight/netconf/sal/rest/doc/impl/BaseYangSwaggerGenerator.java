@@ -44,6 +44,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.UriInfo;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
 import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.OAversion;
@@ -187,13 +188,22 @@ public abstract class BaseYangSwaggerGenerator {
             filteredModules = modules;
         }
 
+        // Definition names are picked in module order, hence definitions need to be generated sequentially. Paths only
+        // look up picked names, so they are generated concurrently and merged back in module order.
         for (final Module module : filteredModules) {
             final String revisionString = module.getQNameModule().getRevision().map(Revision::toString).orElse(null);
 
             LOG.debug("Working on [{},{}]...", module.getName(), revisionString);
 
-            getSwaggerDocSpec(module, context, deviceName, schemaContext, uriType, oaversion, definitionNames, doc,
-                    false);
+            addDefinitions(module, schemaContext, oaversion, definitionNames, doc, false);
+        }
+
+        final List<ObjectNode> modulePaths = filteredModules.parallelStream()
+                .map(module -> createPaths(module, context, deviceName, schemaContext, uriType, oaversion,
+                        definitionNames, false))
+                .collect(Collectors.toList());
+        for (final ObjectNode paths : modulePaths) {
+            addFields(doc.getPaths(), paths.fields());
         }
     }
 
@@ -298,6 +308,22 @@ public abstract class BaseYangSwaggerGenerator {
                                            final SchemaContext schemaContext, final URIType uriType,
                                            final OAversion oaversion, final DefinitionNames definitionNames,
                                            final SwaggerObject doc, final boolean isForSingleModule) {
+        addDefinitions(module, schemaContext, oaversion, definitionNames, doc, isForSingleModule);
+
+        final ObjectNode paths = createPaths(module, context, deviceName, schemaContext, uriType, oaversion,
+                definitionNames, isForSingleModule);
+        if (isForSingleModule) {
+            doc.setPaths(paths);
+        } else {
+            addFields(doc.getPaths(), paths.fields());
+        }
+
+        return doc;
+    }
+
+    private void addDefinitions(final Module module, final SchemaContext schemaContext, final OAversion oaversion,
+                                final DefinitionNames definitionNames, final SwaggerObject doc,
+                                final boolean isForSingleModule) {
         final ObjectNode definitions;
 
         try {
@@ -316,7 +342,16 @@ public abstract class BaseYangSwaggerGenerator {
         } catch (final IOException e) {
             LOG.error("Exception occured in DefinitionGenerator", e);
         }
+    }
 
+    /**
+     * Create paths of a single module. Definitions of the module have to be already processed, as their names are
+     * only looked up in {@code definitionNames}, which makes this method safe to be invoked concurrently.
+     */
+    private ObjectNode createPaths(final Module module, final String context, final Optional<String> deviceName,
+                                   final SchemaContext schemaContext, final URIType uriType,
+                                   final OAversion oaversion, final DefinitionNames definitionNames,
+                                   final boolean isForSingleModule) {
         final ObjectNode paths = JsonNodeFactory.instance.objectNode();
         final String moduleName = module.getName();
 
@@ -369,13 +404,7 @@ public abstract class BaseYangSwaggerGenerator {
 
         LOG.debug("Number of Paths found [{}]", paths.size());
 
-        if (isForSingleModule) {
-            doc.setPaths(paths);
-        } else {
-            addFields(doc.getPaths(), paths.fields());
-        }
-
-        return doc;
+        return paths;
     }
 
     private void addRootPostLink(final Module module, final Optional<String> deviceName, final ArrayNode pathParams,
@@ -35,6 +35,8 @@ import org.opendaylight.mdsal.dom.api.DOMMountPoint;
 import org.opendaylight.mdsal.dom.api.DOMMountPointListener;
 import org.opendaylight.mdsal.dom.api.DOMMountPointService;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
+import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocCache;
+import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocCache.DocKey;
 import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.OAversion;
 import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.URIType;
 import org.opendaylight.netconf.sal.rest.doc.impl.BaseYangSwaggerGenerator;
@@ -67,6 +69,8 @@ public class MountPointSwagger implements DOMMountPointListener, AutoCloseable {
 
     private final AtomicLong idKey = new AtomicLong(0);
 
+    private final ApiDocCache cache = new ApiDocCache();
+
     private ListenerRegistration<DOMMountPointListener> registration;
 
     public MountPointSwagger(final DOMSchemaService globalSchema, final DOMMountPointService mountService,
@@ -85,6 +89,7 @@ public class MountPointSwagger implements DOMMountPointListener, AutoCloseable {
         if (registration != null) {
             registration.close();
         }
+        cache.invalidateAll();
     }
 
     public Map<String, Long> getInstanceIdentifiers() {
@@ -152,9 +157,10 @@ public class MountPointSwagger implements DOMMountPointListener, AutoCloseable {
         if (DATASTORES_LABEL.equals(module) && DATASTORES_REVISION.equals(revision)) {
             return generateDataStoreApiDoc(uriInfo, urlPrefix, deviceName);
         }
-        final SwaggerObject swaggerObject = swaggerGenerator.getApiDeclaration(module, revision, uriInfo, context,
-                urlPrefix, uriType, oaversion);
-        return BaseYangSwaggerGenerator.getAppropriateDoc(swaggerObject, oaversion);
+        final DocKey key = DocKey.module(uriInfo.getBaseUri(), urlPrefix, uriType, oaversion, module, revision);
+        return cache.get(context, key, () -> BaseYangSwaggerGenerator.getAppropriateDoc(
+            swaggerGenerator.getApiDeclaration(module, revision, uriInfo, context, urlPrefix, uriType, oaversion),
+            oaversion));
     }
 
     public CommonApiObject getMountPointApi(final UriInfo uriInfo, final Long id, final Optional<Integer> pageNum,
@@ -167,6 +173,14 @@ public class MountPointSwagger implements DOMMountPointListener, AutoCloseable {
         if (context == null) {
             return null;
         }
+        return cache.get(context, DocKey.allModules(uriInfo.getBaseUri(), urlPrefix, uriType, oaversion, pageNum),
+            () -> generateMountPointApi(uriInfo, context, urlPrefix, deviceName, pageNum, uriType, oaversion));
+    }
+
+    private CommonApiObject generateMountPointApi(final UriInfo uriInfo, final SchemaContext context,
+                                                  final String urlPrefix, final String deviceName,
+                                                  final Optional<Integer> pageNum, final URIType uriType,
+                                                  final OAversion oaversion) {
         final DefinitionNames definitionNames = new DefinitionNames();
 
         boolean includeDataStore = true;
@@ -247,6 +261,7 @@ public class MountPointSwagger implements DOMMountPointListener, AutoCloseable {
 
     @Override
     public void onMountPointCreated(final YangInstanceIdentifier path) {
+        cache.invalidateMount(getYangMountUrl(path));
         synchronized (this.lock) {
             LOG.debug("Mount point {} created", path);
             final Long idLong = this.idKey.incrementAndGet();
@@ -262,5 +277,6 @@ public class MountPointSwagger implements DOMMountPointListener, AutoCloseable {
             final Long id = this.instanceIdToLongId.remove(path);
             this.longIdToInstanceId.remove(id);
         }
+        cache.invalidateMount(getYangMountUrl(path));
     }
 }
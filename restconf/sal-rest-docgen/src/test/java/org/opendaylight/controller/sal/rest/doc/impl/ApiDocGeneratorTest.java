@@ -22,12 +22,14 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.TreeSet;
+import javax.ws.rs.core.UriInfo;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocGeneratorDraftO2;
 import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl;
 import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.URIType;
+import org.opendaylight.netconf.sal.rest.doc.impl.DefinitionNames;
 import org.opendaylight.netconf.sal.rest.doc.swagger.SwaggerObject;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.Module;
@@ -189,6 +191,22 @@ public class ApiDocGeneratorTest {
         }
     }
 
+    /**
+     * Paths of all modules are generated concurrently, the resulting document still has to be stable.
+     */
+    @Test
+    public void testAllModulesDocIsStable() throws Exception {
+        final UriInfo uriInfo = this.helper.createMockUriInfo("http://localhost:8181/path");
+        final SwaggerObject first = this.generator.getAllModulesDoc(uriInfo, new DefinitionNames(),
+                URIType.DRAFT02, ApiDocServiceImpl.OAversion.V2_0);
+        final SwaggerObject second = this.generator.getAllModulesDoc(uriInfo, new DefinitionNames(),
+                URIType.DRAFT02, ApiDocServiceImpl.OAversion.V2_0);
+
+        assertTrue(first.getPaths().size() > 0);
+        assertEquals(first.getPaths().toString(), second.getPaths().toString());
+        assertEquals(first.getDefinitions().toString(), second.getDefinitions().toString());
+    }
+
     /**
      * Tests whether from yang files are generated all required paths for HTTP operations (GET, DELETE, PUT, POST)
      *
@@ -10,6 +10,8 @@ package org.opendaylight.controller.sal.rest.doc.impl;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +33,7 @@ import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.OAversion;
 import org.opendaylight.netconf.sal.rest.doc.impl.ApiDocServiceImpl.URIType;
 import org.opendaylight.netconf.sal.rest.doc.impl.MountPointSwaggerGeneratorDraft02;
 import org.opendaylight.netconf.sal.rest.doc.mountpoints.MountPointSwagger;
+import org.opendaylight.netconf.sal.rest.doc.swagger.CommonApiObject;
 import org.opendaylight.netconf.sal.rest.doc.swagger.SwaggerObject;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -121,4 +124,22 @@ public class MountPointSwaggerTest {
                 "/restconf/operations" + INSTANCE_URL + "yang-ext:mount"));
         assertEquals(expectedUrls, actualUrls);
     }
+
+    @Test
+    public void testMountPointApiCache() throws Exception {
+        final UriInfo mockInfo = this.helper.createMockUriInfo(HTTP_URL);
+        this.swagger.onMountPointCreated(INSTANCE_ID);
+
+        final CommonApiObject first = this.swagger.getMountPointApi(mockInfo, 1L, Optional.empty(),
+                URIType.DRAFT02, OAversion.V2_0);
+        assertNotNull(first);
+        assertSame(first, this.swagger.getMountPointApi(mockInfo, 1L, Optional.empty(), URIType.DRAFT02,
+                OAversion.V2_0));
+
+        // re-created mount point has to be documented from scratch
+        this.swagger.onMountPointRemoved(INSTANCE_ID);
+        this.swagger.onMountPointCreated(INSTANCE_ID);
+        assertNotSame(first, this.swagger.getMountPointApi(mockInfo, 2L, Optional.empty(), URIType.DRAFT02,
+                OAversion.V2_0));
+    }
 }